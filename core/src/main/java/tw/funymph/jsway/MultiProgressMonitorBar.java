@@ -11,25 +11,32 @@
  */
 package tw.funymph.jsway;
 
+import static javax.swing.SwingUtilities.invokeLater;
+
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.util.LinkedList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.swing.BoundedRangeModel;
 import javax.swing.JProgressBar;
-import javax.swing.Timer;
 import javax.swing.event.ChangeEvent;
 import javax.swing.event.ChangeListener;
 
+import tw.funymph.jsway.utils.HashedTimerWheel;
+import tw.funymph.jsway.utils.TickHandle;
+
 /**
  * A progress monitor bar that shows different progresses. There are two modes to display
  * the progresses: cyclically or on-update. In the cyclically mode, the monitor bar will
  * start up a timer and display one progress per specified period (default is 1 second).
  * In the on-update mode (the default mode), the monitor bar displays the latest-updated
- * progress.
+ * progress. Since 1.2, the cyclical display is timed by the shared {@link HashedTimerWheel}
+ * instead of a timer per bar, and the progresses are switched on the event dispatch thread.
  * 
  * @author Pin-Ying Tu
- * @version 1.0
+ * @version 1.2
  * @since 1.0
  */
 public class MultiProgressMonitorBar extends JProgressBar implements ChangeListener, ActionListener {
@@ -40,10 +47,22 @@ public class MultiProgressMonitorBar extends JProgressBar implements ChangeListe
 
 	private static final boolean DEFAULT_CYCLE_DISPLAY = false;
 
+	private static final String TICK_NAME_FORMAT = "MultiProgressMonitorBar-%d";
+	private static final AtomicInteger barCount = new AtomicInteger();
+
+	private static final Executor EVENT_DISPATCH_EXECUTOR = new Executor() {
+
+		@Override
+		public void execute(Runnable command) {
+			invokeLater(command);
+		}
+	};
+
 	private int displayIndex;
 	private boolean cyclicallyDisplay;
 
-	private Timer timer;
+	private String tickName;
+	private transient TickHandle timer;
 	private LinkedList<BoundedRangeModel> progresses;
 
 	/**
@@ -58,6 +77,7 @@ public class MultiProgressMonitorBar extends JProgressBar implements ChangeListe
 	 */
 	public MultiProgressMonitorBar(boolean cyclicallyDisplay) {
 		progresses = new LinkedList<BoundedRangeModel>();
+		tickName = String.format(TICK_NAME_FORMAT, barCount.incrementAndGet());
 		setCyclicallyDisplay(cyclicallyDisplay);
 		setStringPainted(true);
 	}
@@ -95,8 +115,13 @@ public class MultiProgressMonitorBar extends JProgressBar implements ChangeListe
 	public void setCyclicalPeriod(int period) {
 		cancelTimer();
 		if(cyclicallyDisplay) {
-			timer = new Timer(period, this);
-			timer.start();
+			timer = HashedTimerWheel.getInstance().schedule(tickName, new Runnable() {
+
+				@Override
+				public void run() {
+					actionPerformed(null);
+				}
+			}, period, EVENT_DISPATCH_EXECUTOR);
 		}
 	}
 
@@ -143,8 +168,8 @@ public class MultiProgressMonitorBar extends JProgressBar implements ChangeListe
 	 * Cancel the running timer if it exists.
 	 */
 	private void cancelTimer() {
-		if(timer != null && timer.isRunning()) {
-			timer.stop();
+		if(timer != null) {
+			timer.cancel();
 			timer = null;
 		}
 	}
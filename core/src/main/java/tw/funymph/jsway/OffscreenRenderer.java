@@ -0,0 +1,174 @@
+/* OffscreenRenderer.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway;
+
+import static java.awt.image.BufferedImage.TYPE_INT_ARGB;
+import static javax.swing.SwingUtilities.invokeAndWait;
+import static javax.swing.SwingUtilities.isEventDispatchThread;
+import static tw.funymph.jsway.utils.ObjectUtilities.requireNonNull;
+
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.lang.reflect.InvocationTargetException;
+
+import javax.swing.Icon;
+import javax.swing.JComponent;
+
+/**
+ * A helper class that paints the Swing components and icons into images without
+ * any realized window. The components do not need to be added to a window, so
+ * the rendering also works with <code>java.awt.headless=true</code>, e.g., to
+ * export the monitoring widgets on a server node, or to measure the paint paths.
+ * <p>
+ * The painting is always done on the event dispatch thread because the widgets
+ * are updated there; if the caller is on another thread, the caller waits until
+ * the painting is done.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class OffscreenRenderer {
+
+	private static final String NULL_COMPONENT_EXCEPTION = "Cannot render a null component";
+	private static final String NULL_ICON_EXCEPTION = "Cannot render a null icon";
+
+	/**
+	 * Disable creation
+	 */
+	private OffscreenRenderer() { }
+
+	/**
+	 * Paint the component with the specified size into a new image.
+	 * 
+	 * @param component the component to be painted
+	 * @param width the width of the image
+	 * @param height the height of the image
+	 * @return the painted image
+	 * @throws NullPointerException if the component is null
+	 */
+	public static BufferedImage render(JComponent component, int width, int height) {
+		return render(component, new BufferedImage(Math.max(1, width), Math.max(1, height), TYPE_INT_ARGB));
+	}
+
+	/**
+	 * Paint the component into the image. The component is resized to the size
+	 * of the image, so the same image can be reused for the following renderings.
+	 * 
+	 * @param component the component to be painted
+	 * @param target the image to paint on
+	 * @return the given image
+	 * @throws NullPointerException if the component is null
+	 */
+	public static BufferedImage render(final JComponent component, final BufferedImage target) {
+		requireNonNull(component, NULL_COMPONENT_EXCEPTION);
+		runOnEventDispatchThread(new Runnable() {
+
+			@Override
+			public void run() {
+				component.setSize(target.getWidth(), target.getHeight());
+				layout(component);
+				Graphics2D g2d = target.createGraphics();
+				try {
+					g2d.setBackground(component.getBackground());
+					g2d.clearRect(0, 0, target.getWidth(), target.getHeight());
+					component.paint(g2d);
+				}
+				finally {
+					g2d.dispose();
+				}
+			}
+		});
+		return target;
+	}
+
+	/**
+	 * Paint the icon into a new image of the icon size.
+	 * 
+	 * @param icon the icon to be painted
+	 * @return the painted image
+	 * @throws NullPointerException if the icon is null
+	 */
+	public static BufferedImage render(Icon icon) {
+		requireNonNull(icon, NULL_ICON_EXCEPTION);
+		return render(icon, new BufferedImage(Math.max(1, icon.getIconWidth()), Math.max(1, icon.getIconHeight()), TYPE_INT_ARGB));
+	}
+
+	/**
+	 * Paint the icon at the top-left corner of the image.
+	 * 
+	 * @param icon the icon to be painted
+	 * @param target the image to paint on
+	 * @return the given image
+	 * @throws NullPointerException if the icon is null
+	 */
+	public static BufferedImage render(final Icon icon, final BufferedImage target) {
+		requireNonNull(icon, NULL_ICON_EXCEPTION);
+		runOnEventDispatchThread(new Runnable() {
+
+			@Override
+			public void run() {
+				Graphics2D g2d = target.createGraphics();
+				try {
+					icon.paintIcon(null, g2d, 0, 0);
+				}
+				finally {
+					g2d.dispose();
+				}
+			}
+		});
+		return target;
+	}
+
+	/**
+	 * Lay out the component and its children recursively. The components that
+	 * are not added to a window are never validated by Swing.
+	 * 
+	 * @param component the component to be laid out
+	 */
+	private static void layout(Component component) {
+		if(component instanceof Container) {
+			Container container = (Container)component;
+			container.doLayout();
+			for(Component child : container.getComponents()) {
+				layout(child);
+			}
+		}
+	}
+
+	/**
+	 * Run the task on the event dispatch thread and wait for the completion.
+	 * 
+	 * @param task the task to be run
+	 */
+	private static void runOnEventDispatchThread(Runnable task) {
+		if(isEventDispatchThread()) {
+			task.run();
+			return;
+		}
+		try {
+			invokeAndWait(task);
+		}
+		catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		catch(InvocationTargetException e) {
+			Throwable cause = e.getCause();
+			if(cause instanceof RuntimeException) {
+				throw (RuntimeException)cause;
+			}
+			throw new IllegalStateException(cause);
+		}
+	}
+}
@@ -0,0 +1,155 @@
+/* AutoHeapDumpPolicy.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static tw.funymph.jsway.memory.HeapDumper.DUMP_STARTED;
+import static tw.funymph.jsway.memory.HeapDumper.REJECTED_LIMIT;
+import static tw.funymph.jsway.memory.HeapDumper.REJECTED_UNSUPPORTED;
+import static tw.funymph.jsway.utils.ObjectUtilities.requireNonNull;
+
+/**
+ * A policy that requests a heap dump when the memory usage ratio stays at or
+ * above the threshold for the specified duration, so that an incident leaves
+ * the evidence even if nobody is watching. The policy listens to a memory
+ * usage monitor and dumps at most once per episode, i.e., the usage must fall
+ * below the threshold before the next dump; a request rejected by the cooldown,
+ * the dump in progress, or the disk space of the {@link HeapDumper} is retried
+ * on the next sample of the same episode.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class AutoHeapDumpPolicy implements MemoryUsageListener {
+
+	public static final double DEFAULT_THRESHOLD = 0.9;
+	public static final long DEFAULT_DURATION = 30000;
+
+	private static final long NOT_ABOVE = -1;
+
+	private static final String NULL_DUMPER_EXCEPTION = "Cannot set a null heap dumper";
+	private static final String INVALID_THRESHOLD_EXCEPTION = "The threshold must be between 0 and 1: %f";
+
+	private HeapDumper dumper;
+	private double threshold;
+	private long duration;
+
+	private long aboveSince;
+	private boolean dumped;
+
+	/**
+	 * Construct an <code>AutoHeapDumpPolicy</code> instance with the default
+	 * threshold and duration.
+	 * 
+	 * @param heapDumper the dumper to request the dumps
+	 * @throws NullPointerException if the dumper is null
+	 */
+	public AutoHeapDumpPolicy(HeapDumper heapDumper) {
+		this(heapDumper, DEFAULT_THRESHOLD, DEFAULT_DURATION);
+	}
+
+	/**
+	 * Construct an <code>AutoHeapDumpPolicy</code> instance by specifying the
+	 * threshold and the duration.
+	 * 
+	 * @param heapDumper the dumper to request the dumps
+	 * @param ratio the memory usage ratio threshold
+	 * @param time the duration in milliseconds that the usage stays above the threshold
+	 * @throws NullPointerException if the dumper is null
+	 */
+	public AutoHeapDumpPolicy(HeapDumper heapDumper, double ratio, long time) {
+		dumper = requireNonNull(heapDumper, NULL_DUMPER_EXCEPTION);
+		setThreshold(ratio);
+		setDuration(time);
+		aboveSince = NOT_ABOVE;
+	}
+
+	/**
+	 * Get the dumper to request the dumps.
+	 * 
+	 * @return the heap dumper
+	 */
+	public HeapDumper getHeapDumper() {
+		return dumper;
+	}
+
+	/**
+	 * Set the memory usage ratio threshold.
+	 * 
+	 * @param ratio the threshold between 0 and 1
+	 */
+	public synchronized void setThreshold(double ratio) {
+		if(!(ratio >= 0 && ratio <= 1)) {
+			throw new IllegalArgumentException(String.format(INVALID_THRESHOLD_EXCEPTION, ratio));
+		}
+		threshold = ratio;
+	}
+
+	/**
+	 * Get the memory usage ratio threshold.
+	 * 
+	 * @return the threshold
+	 */
+	public synchronized double getThreshold() {
+		return threshold;
+	}
+
+	/**
+	 * Set the duration that the usage stays above the threshold to dump.
+	 * 
+	 * @param time the duration in milliseconds
+	 */
+	public synchronized void setDuration(long time) {
+		duration = Math.max(0, time);
+	}
+
+	/**
+	 * Get the duration that the usage stays above the threshold to dump.
+	 * 
+	 * @return the duration in milliseconds
+	 */
+	public synchronized long getDuration() {
+		return duration;
+	}
+
+	@Override
+	public void memoryUsageUpdated(MemoryUsageEvent event) {
+		if(event == null || !shouldDump(event.getTimeStamp(), event.getMemoryUsageRatio())) {
+			return;
+		}
+		int result = dumper.requestDump();
+		if(result == DUMP_STARTED || result == REJECTED_LIMIT || result == REJECTED_UNSUPPORTED) {
+			synchronized(this) {
+				dumped = true;
+			}
+		}
+	}
+
+	/**
+	 * Track the episode above the threshold and decide whether to dump.
+	 * 
+	 * @param time the time stamp of the sample
+	 * @param ratio the memory usage ratio of the sample
+	 * @return true if a dump should be requested
+	 */
+	private synchronized boolean shouldDump(long time, double ratio) {
+		if(ratio < threshold) {
+			aboveSince = NOT_ABOVE;
+			dumped = false;
+			return false;
+		}
+		if(aboveSince == NOT_ABOVE) {
+			aboveSince = time;
+		}
+		return !dumped && time - aboveSince >= duration;
+	}
+}
@@ -0,0 +1,180 @@
+/* CachedLayer.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static java.awt.AlphaComposite.Clear;
+import static java.awt.AlphaComposite.Src;
+import static java.awt.Transparency.OPAQUE;
+import static java.awt.Transparency.TRANSLUCENT;
+import static java.awt.image.BufferedImage.TYPE_INT_ARGB;
+import static java.awt.image.BufferedImage.TYPE_INT_RGB;
+import static java.awt.image.VolatileImage.IMAGE_INCOMPATIBLE;
+import static java.awt.image.VolatileImage.IMAGE_RESTORED;
+
+import java.awt.Component;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+
+/**
+ * A cached image layer of a chart. The layer is kept in a {@link VolatileImage}
+ * when the owner component is on a screen, or in a {@link BufferedImage}
+ * otherwise. The layer tells its owner when the contents must be redrawn,
+ * i.e., the layer is resized, invalidated, or its accelerated contents are
+ * lost.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+class CachedLayer {
+
+	private boolean valid;
+	private boolean translucent;
+
+	private int width;
+	private int height;
+	private Image image;
+
+	/**
+	 * Construct an empty layer.
+	 * 
+	 * @param transparent true if the layer has transparent pixels
+	 */
+	CachedLayer(boolean transparent) {
+		translucent = transparent;
+	}
+
+	/**
+	 * Prepare the layer with the specified size for the owner component.
+	 * 
+	 * @param owner the component that draws the layer
+	 * @param newWidth the width of the layer
+	 * @param newHeight the height of the layer
+	 * @return true if the contents must be redrawn
+	 */
+	boolean prepare(Component owner, int newWidth, int newHeight) {
+		GraphicsConfiguration configuration = owner.getGraphicsConfiguration();
+		if(image == null || width != newWidth || height != newHeight || (image instanceof VolatileImage) != (configuration != null)) {
+			create(configuration, newWidth, newHeight);
+		}
+		else if(image instanceof VolatileImage) {
+			int status = ((VolatileImage)image).validate(configuration);
+			if(status == IMAGE_INCOMPATIBLE) {
+				create(configuration, newWidth, newHeight);
+			}
+			else if(status == IMAGE_RESTORED) {
+				valid = false;
+			}
+		}
+		boolean redraw = !valid;
+		valid = true;
+		return redraw;
+	}
+
+	/**
+	 * Create the graphics to draw the contents. The caller should dispose
+	 * the graphics after drawing.
+	 * 
+	 * @return the graphics to draw the contents
+	 */
+	Graphics2D createGraphics() {
+		return (Graphics2D)image.getGraphics();
+	}
+
+	/**
+	 * Clear the specified area to be transparent, or to be black for an
+	 * opaque layer.
+	 * 
+	 * @param g2d the graphics of the layer
+	 * @param x the x of the area
+	 * @param y the y of the area
+	 * @param areaWidth the width of the area
+	 * @param areaHeight the height of the area
+	 */
+	void clear(Graphics2D g2d, int x, int y, int areaWidth, int areaHeight) {
+		Graphics2D cleaner = (Graphics2D)g2d.create();
+		cleaner.setComposite(Clear);
+		cleaner.fillRect(x, y, areaWidth, areaHeight);
+		cleaner.dispose();
+	}
+
+	/**
+	 * Shift the contents to the left and clear the uncovered area on the right.
+	 * 
+	 * @param distance the distance in pixels
+	 */
+	void shiftLeft(int distance) {
+		Graphics2D g2d = createGraphics();
+		if(distance < width) {
+			// Copy the transparent pixels as they are instead of blending them
+			g2d.setComposite(Src);
+			g2d.copyArea(distance, 0, width - distance, height, -distance, 0);
+		}
+		clear(g2d, Math.max(0, width - distance), 0, Math.min(width, distance), height);
+		g2d.dispose();
+	}
+
+	/**
+	 * Draw the layer onto the graphics.
+	 * 
+	 * @param g the graphics to draw
+	 * @param x the x of the layer
+	 * @param y the y of the layer
+	 */
+	void draw(Graphics g, int x, int y) {
+		g.drawImage(image, x, y, null);
+		if(image instanceof VolatileImage && ((VolatileImage)image).contentsLost()) {
+			valid = false;
+		}
+	}
+
+	/**
+	 * Mark the contents to be redrawn on the next preparation.
+	 */
+	void invalidate() {
+		valid = false;
+	}
+
+	/**
+	 * Release the image of the layer.
+	 */
+	void flush() {
+		if(image != null) {
+			image.flush();
+			image = null;
+		}
+		valid = false;
+	}
+
+	/**
+	 * Create the image of the layer.
+	 * 
+	 * @param configuration the graphics configuration of the owner, or null
+	 * @param newWidth the width of the layer
+	 * @param newHeight the height of the layer
+	 */
+	private void create(GraphicsConfiguration configuration, int newWidth, int newHeight) {
+		flush();
+		width = newWidth;
+		height = newHeight;
+		if(configuration != null) {
+			image = configuration.createCompatibleVolatileImage(width, height, translucent? TRANSLUCENT : OPAQUE);
+		}
+		else {
+			image = new BufferedImage(width, height, translucent? TYPE_INT_ARGB : TYPE_INT_RGB);
+		}
+	}
+}
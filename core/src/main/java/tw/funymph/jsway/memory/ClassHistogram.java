@@ -0,0 +1,439 @@
+/* ClassHistogram.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A snapshot of the class histogram, i.e., the amount of the instances and the
+ * bytes of every class in the heap, and the growths from the previous snapshot.
+ * The entries are ordered by the growth of the bytes in the descending order,
+ * so the top growers come first; the entries of the first snapshot are ordered
+ * by the bytes. The snapshot is immutable and can be shared between threads.
+ * <p>
+ * The snapshot is parsed from the output of the <code>GC.class_histogram</code>
+ * diagnostic command in one pass over the characters, without splitting the
+ * output into lines or using regular expressions; only the class names are
+ * copied out of the output.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class ClassHistogram {
+
+	private static final int INITIAL_CAPACITY = 1024;
+
+	private static final String INDEX_OUT_OF_BOUNDS_EXCEPTION = "Index: %d, Size: %d";
+
+	private long timeStamp;
+	private long duration;
+	private boolean first;
+	private int classCount;
+
+	private String[] classNames;
+	private long[] instances;
+	private long[] bytes;
+	private long[] instanceGrowths;
+	private long[] byteGrowths;
+
+	private long totalInstances;
+	private long totalBytes;
+	private long totalByteGrowth;
+
+	private Map<String, Integer> indices;
+
+	/**
+	 * Construct a snapshot with the parsed entries.
+	 * 
+	 * @param time the time stamp when the histogram is taken
+	 * @param elapsed the time spent in taking the histogram in milliseconds
+	 * @param count the amount of the entries
+	 * @param names the class names
+	 * @param instanceCounts the amount of the instances
+	 * @param sizes the bytes
+	 */
+	private ClassHistogram(long time, long elapsed, int count, String[] names, long[] instanceCounts, long[] sizes) {
+		timeStamp = time;
+		duration = elapsed;
+		classCount = count;
+		classNames = names;
+		instances = instanceCounts;
+		bytes = sizes;
+		instanceGrowths = new long[count];
+		byteGrowths = new long[count];
+		for(int i = 0; i < count; i++) {
+			totalInstances += instances[i];
+			totalBytes += bytes[i];
+		}
+	}
+
+	/**
+	 * Parse the output of the <code>GC.class_histogram</code> diagnostic command
+	 * and compute the growths from the previous snapshot.
+	 * 
+	 * @param output the output of the diagnostic command
+	 * @param time the time stamp when the histogram is taken
+	 * @param elapsed the time spent in taking the histogram in milliseconds
+	 * @param previous the previous snapshot, or null if this is the first one
+	 * @return the parsed snapshot
+	 */
+	public static ClassHistogram parse(CharSequence output, long time, long elapsed, ClassHistogram previous) {
+		HistogramParser parser = new HistogramParser(output);
+		parser.parse();
+		ClassHistogram histogram = new ClassHistogram(time, elapsed, parser.count, parser.names, parser.instances, parser.bytes);
+		histogram.diff(previous);
+		histogram.sort();
+		return histogram;
+	}
+
+	/**
+	 * Get the time when the histogram is taken.
+	 * 
+	 * @return the time stamp
+	 */
+	public long getTimeStamp() {
+		return timeStamp;
+	}
+
+	/**
+	 * Get the time spent in taking the histogram, most of which the
+	 * application threads are stopped.
+	 * 
+	 * @return the duration in milliseconds
+	 */
+	public long getDuration() {
+		return duration;
+	}
+
+	/**
+	 * Check whether this is the first snapshot, i.e., no growth is computed.
+	 * 
+	 * @return true if there is no previous snapshot
+	 */
+	public boolean isFirst() {
+		return first;
+	}
+
+	/**
+	 * Get the amount of the classes.
+	 * 
+	 * @return the amount of the classes
+	 */
+	public int getClassCount() {
+		return classCount;
+	}
+
+	/**
+	 * Get the name of the class on the index.
+	 * 
+	 * @param index the index in the growth order
+	 * @return the class name, e.g., "[B" or "java.lang.String"
+	 */
+	public String getClassName(int index) {
+		return classNames[checkIndex(index)];
+	}
+
+	/**
+	 * Get the amount of the instances of the class on the index.
+	 * 
+	 * @param index the index in the growth order
+	 * @return the amount of the instances
+	 */
+	public long getInstanceCount(int index) {
+		return instances[checkIndex(index)];
+	}
+
+	/**
+	 * Get the bytes of the instances of the class on the index.
+	 * 
+	 * @param index the index in the growth order
+	 * @return the size in bytes
+	 */
+	public long getSize(int index) {
+		return bytes[checkIndex(index)];
+	}
+
+	/**
+	 * Get the growth of the instances of the class on the index from the
+	 * previous snapshot. The growth of a new class is its amount.
+	 * 
+	 * @param index the index in the growth order
+	 * @return the growth of the instances, or 0 for the first snapshot
+	 */
+	public long getInstanceGrowth(int index) {
+		return instanceGrowths[checkIndex(index)];
+	}
+
+	/**
+	 * Get the growth of the bytes of the class on the index from the
+	 * previous snapshot. The growth of a new class is its size.
+	 * 
+	 * @param index the index in the growth order
+	 * @return the growth in bytes, or 0 for the first snapshot
+	 */
+	public long getSizeGrowth(int index) {
+		return byteGrowths[checkIndex(index)];
+	}
+
+	/**
+	 * Get the index of the class.
+	 * 
+	 * @param className the class name
+	 * @return the index in the growth order, or -1 if not found
+	 */
+	public int indexOf(String className) {
+		Integer index = getIndices().get(className);
+		return (index != null)? index : -1;
+	}
+
+	/**
+	 * Get the amount of the instances of all classes.
+	 * 
+	 * @return the amount of the instances
+	 */
+	public long getTotalInstanceCount() {
+		return totalInstances;
+	}
+
+	/**
+	 * Get the bytes of the instances of all classes.
+	 * 
+	 * @return the size in bytes
+	 */
+	public long getTotalSize() {
+		return totalBytes;
+	}
+
+	/**
+	 * Get the growth of the bytes of all classes from the previous snapshot.
+	 * 
+	 * @return the growth in bytes, or 0 for the first snapshot
+	 */
+	public long getTotalSizeGrowth() {
+		return totalByteGrowth;
+	}
+
+	/**
+	 * Compute the growths from the previous snapshot.
+	 * 
+	 * @param previous the previous snapshot, or null if this is the first one
+	 */
+	private void diff(ClassHistogram previous) {
+		first = (previous == null);
+		if(first) {
+			return;
+		}
+		for(int i = 0; i < classCount; i++) {
+			int index = previous.indexOf(classNames[i]);
+			instanceGrowths[i] = instances[i] - ((index >= 0)? previous.instances[index] : 0);
+			byteGrowths[i] = bytes[i] - ((index >= 0)? previous.bytes[index] : 0);
+		}
+		totalByteGrowth = totalBytes - previous.totalBytes;
+	}
+
+	/**
+	 * Sort the entries by the growth of the bytes, and then the bytes, in the
+	 * descending order.
+	 */
+	private void sort() {
+		Integer[] order = new Integer[classCount];
+		for(int i = 0; i < classCount; i++) {
+			order[i] = i;
+		}
+		Arrays.sort(order, new Comparator<Integer>() {
+
+			@Override
+			public int compare(Integer index1, Integer index2) {
+				int result = compareDescending(byteGrowths[index1], byteGrowths[index2]);
+				return (result != 0)? result : compareDescending(bytes[index1], bytes[index2]);
+			}
+		});
+		String[] sortedNames = new String[classCount];
+		long[][] columns = { instances, bytes, instanceGrowths, byteGrowths };
+		long[][] sortedColumns = new long[columns.length][classCount];
+		for(int i = 0; i < classCount; i++) {
+			sortedNames[i] = classNames[order[i]];
+			for(int column = 0; column < columns.length; column++) {
+				sortedColumns[column][i] = columns[column][order[i]];
+			}
+		}
+		classNames = sortedNames;
+		instances = sortedColumns[0];
+		bytes = sortedColumns[1];
+		instanceGrowths = sortedColumns[2];
+		byteGrowths = sortedColumns[3];
+	}
+
+	/**
+	 * Get the map from the class names to the indices. The map is built on the
+	 * first lookup, usually by the next snapshot.
+	 * 
+	 * @return the map from the class names to the indices
+	 */
+	private synchronized Map<String, Integer> getIndices() {
+		if(indices == null) {
+			indices = new HashMap<String, Integer>(classCount * 2);
+			for(int i = 0; i < classCount; i++) {
+				indices.put(classNames[i], i);
+			}
+		}
+		return indices;
+	}
+
+	/**
+	 * Check the index.
+	 * 
+	 * @param index the index
+	 * @return the given index
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	private int checkIndex(int index) {
+		if(index < 0 || index >= classCount) {
+			throw new IndexOutOfBoundsException(String.format(INDEX_OUT_OF_BOUNDS_EXCEPTION, index, classCount));
+		}
+		return index;
+	}
+
+	/**
+	 * Compare two values in the descending order.
+	 * 
+	 * @param value1 the first value
+	 * @param value2 the second value
+	 * @return the comparison result
+	 */
+	private static int compareDescending(long value1, long value2) {
+		return (value1 > value2)? -1 : ((value1 == value2)? 0 : 1);
+	}
+
+	/**
+	 * The parser that walks through the output once. An entry line looks like
+	 * <code>"   1:   12345   678900  [B"</code>, optionally followed by the
+	 * module, e.g., <code>" (java.base@11)"</code>; any other line, e.g., the
+	 * header and the total, is skipped.
+	 * 
+	 * @author Pin-Ying Tu
+	 * @version 1.2
+	 * @since 1.2
+	 */
+	private static class HistogramParser {
+
+		private CharSequence text;
+		private int position;
+		private int length;
+
+		private int count;
+		private String[] names;
+		private long[] instances;
+		private long[] bytes;
+
+		/**
+		 * Construct a parser for the output.
+		 * 
+		 * @param output the output of the diagnostic command
+		 */
+		HistogramParser(CharSequence output) {
+			text = output;
+			length = output.length();
+			names = new String[INITIAL_CAPACITY];
+			instances = new long[INITIAL_CAPACITY];
+			bytes = new long[INITIAL_CAPACITY];
+		}
+
+		/**
+		 * Parse all lines of the output.
+		 */
+		void parse() {
+			while(position < length) {
+				parseLine();
+				while(position < length && text.charAt(position++) != '\n') {
+					// Skip the rest of the line
+				}
+			}
+		}
+
+		/**
+		 * Parse the entry on the current line, and leave the position inside
+		 * the line.
+		 */
+		private void parseLine() {
+			skipSpaces();
+			if(parseNumber() < 0 || position >= length || text.charAt(position) != ':') {
+				return;
+			}
+			position++;
+			skipSpaces();
+			long instanceCount = parseNumber();
+			skipSpaces();
+			long size = parseNumber();
+			skipSpaces();
+			int start = position;
+			while(position < length && !Character.isWhitespace(text.charAt(position))) {
+				position++;
+			}
+			if(instanceCount < 0 || size < 0 || position == start) {
+				return;
+			}
+			add(text.subSequence(start, position).toString(), instanceCount, size);
+		}
+
+		/**
+		 * Skip the spaces and tabs but not the line breaks.
+		 */
+		private void skipSpaces() {
+			while(position < length && (text.charAt(position) == ' ' || text.charAt(position) == '\t')) {
+				position++;
+			}
+		}
+
+		/**
+		 * Parse the decimal number on the position.
+		 * 
+		 * @return the number, or -1 if there is no digit
+		 */
+		private long parseNumber() {
+			long value = -1;
+			while(position < length) {
+				char digit = text.charAt(position);
+				if(digit < '0' || digit > '9') {
+					break;
+				}
+				value = Math.max(0, value) * 10 + (digit - '0');
+				position++;
+			}
+			return value;
+		}
+
+		/**
+		 * Add the entry.
+		 * 
+		 * @param name the class name
+		 * @param instanceCount the amount of the instances
+		 * @param size the bytes
+		 */
+		private void add(String name, long instanceCount, long size) {
+			if(count == names.length) {
+				int capacity = count * 2;
+				names = Arrays.copyOf(names, capacity);
+				instances = Arrays.copyOf(instances, capacity);
+				bytes = Arrays.copyOf(bytes, capacity);
+			}
+			names[count] = name;
+			instances[count] = instanceCount;
+			bytes[count] = size;
+			count++;
+		}
+	}
+}
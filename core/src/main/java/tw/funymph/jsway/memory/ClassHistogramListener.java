@@ -0,0 +1,30 @@
+/* ClassHistogramListener.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+/**
+ * A class can implement this interface to receive the class histograms
+ * taken by {@link ClassHistogramSampler}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public interface ClassHistogramListener {
+
+	/**
+	 * Invoke when a new class histogram is taken.
+	 * 
+	 * @param histogram the new class histogram
+	 */
+	void classHistogramUpdated(ClassHistogram histogram);
+}
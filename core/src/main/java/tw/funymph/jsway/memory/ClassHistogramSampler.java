@@ -0,0 +1,357 @@
+/* ClassHistogramSampler.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static java.lang.System.currentTimeMillis;
+import static java.lang.System.nanoTime;
+import static java.lang.management.ManagementFactory.getPlatformMBeanServer;
+import static tw.funymph.jsway.memory.MemoryUsageMonitor.DEFAULT_DELIVERY_MODE;
+import static tw.funymph.jsway.memory.MemoryUsageMonitor.DELIVER_ON_SAMPLING_THREAD;
+import static tw.funymph.jsway.utils.ErrorReporter.report;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import tw.funymph.jsway.utils.ListenerRegistry;
+
+/**
+ * A timing monitor that takes the class histograms of the heap by invoking the
+ * <code>gcClassHistogram</code> operation of the HotSpot DiagnosticCommand
+ * MBean, and diffs every histogram with the previous one so that the growing
+ * classes can be found. The operation is invoked through the platform MBean
+ * server, so the sampler can be loaded on any virtual machine; without the
+ * MBean, {@link #isSupported()} returns false and the sampler never runs.
+ * <p>
+ * Taking a histogram stops the application threads (and by default forces a
+ * full collection to count only the live objects), so the sampler runs on its
+ * own sampling engine to keep the other monitors on time, is not started by
+ * the constructor, and limits its rate. A histogram is skipped unless both the
+ * minimum interval and the pause budget have passed since the previous one;
+ * the pause budget is the duration of the previous histogram divided by the
+ * maximum pause ratio, e.g., a histogram that takes 200 ms with the ratio 1%
+ * defers the next one by 20 seconds. Besides the periodic samples, a histogram
+ * can be requested on demand by {@link #requestHistogram()}, or by registering
+ * the sampler to a {@link MemoryThresholdAlertService} so that a histogram is
+ * taken when the memory usage crosses the thresholds.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class ClassHistogramSampler extends TimingMonitor implements MemoryThresholdListener {
+
+	public static final int DEFAULT_MONITOR_PERIOD = 300000;
+	public static final long DEFAULT_MINIMUM_INTERVAL = 30000;
+	public static final double DEFAULT_MAXIMUM_PAUSE_RATIO = 0.01;
+
+	private static final String THREAD_NAME = "JavaSway Class Histogram Sampler";
+	private static final String DIAGNOSTIC_COMMAND_NAME = "com.sun.management:type=DiagnosticCommand";
+	private static final String HISTOGRAM_OPERATION = "gcClassHistogram";
+	private static final String ALL_OBJECTS_OPTION = "-all";
+	private static final String[] OPERATION_SIGNATURE = { String[].class.getName() };
+	private static final double NANOSECONDS_PER_MILLISECOND = 1000000.0;
+
+	private static final String NEGATIVE_INTERVAL_EXCEPTION = "The minimum interval cannot be negative: %d";
+	private static final String INVALID_RATIO_EXCEPTION = "The maximum pause ratio must be between 0 (exclusive) and 1: %f";
+
+	private MBeanServer server;
+	private ObjectName diagnosticCommand;
+	private volatile int deliveryMode;
+
+	private boolean liveObjectsOnly;
+	private long minimumInterval;
+	private double maximumPauseRatio;
+	private long lastEndTime;
+	private long lastDuration;
+	private long skippedCount;
+	private volatile ClassHistogram latestHistogram;
+
+	private ListenerRegistry<ClassHistogramListener, ClassHistogram> listeners;
+	private CoalescingDispatcher<ClassHistogram> dispatcher;
+
+	/**
+	 * Construct a <code>ClassHistogramSampler</code> instance with the default
+	 * monitor period and delivery mode. Call {@link #startMonitor()} to take
+	 * the histograms periodically.
+	 */
+	public ClassHistogramSampler() {
+		this(DEFAULT_MONITOR_PERIOD, DEFAULT_DELIVERY_MODE);
+	}
+
+	/**
+	 * Construct a <code>ClassHistogramSampler</code> instance by specifying the
+	 * monitor period and the delivery mode. The sampler runs on its own sampling
+	 * engine. Call {@link #startMonitor()} to take the histograms periodically.
+	 * 
+	 * @param period the period to take the histograms
+	 * @param delivery the delivery mode
+	 */
+	public ClassHistogramSampler(int period, int delivery) {
+		this(period, delivery, new SamplingEngine(THREAD_NAME));
+	}
+
+	/**
+	 * Construct a <code>ClassHistogramSampler</code> instance by specifying the
+	 * monitor period, the delivery mode, and the sampling engine to take the
+	 * histograms. Call {@link #startMonitor()} to take the histograms periodically.
+	 * 
+	 * @param period the period to take the histograms
+	 * @param delivery the delivery mode
+	 * @param engine the engine to take the histograms
+	 */
+	public ClassHistogramSampler(int period, int delivery, SamplingEngine engine) {
+		super(engine);
+		deliveryMode = delivery;
+		liveObjectsOnly = true;
+		minimumInterval = DEFAULT_MINIMUM_INTERVAL;
+		maximumPauseRatio = DEFAULT_MAXIMUM_PAUSE_RATIO;
+		listeners = new ListenerRegistry<ClassHistogramListener, ClassHistogram>() {
+
+			@Override
+			protected void deliver(ClassHistogramListener listener, ClassHistogram histogram) {
+				listener.classHistogramUpdated(histogram);
+			}
+		};
+		dispatcher = new CoalescingDispatcher<ClassHistogram>() {
+
+			@Override
+			protected void dispatch(ClassHistogram histogram) {
+				listeners.fire(histogram);
+			}
+		};
+		try {
+			server = getPlatformMBeanServer();
+			ObjectName name = new ObjectName(DIAGNOSTIC_COMMAND_NAME);
+			if(server.isRegistered(name)) {
+				diagnosticCommand = name;
+			}
+		} catch (JMException e) {
+			diagnosticCommand = null;
+		} catch (SecurityException e) {
+			diagnosticCommand = null;
+		}
+		setMonitorPeriod(period);
+	}
+
+	/**
+	 * Get whether the virtual machine supports the class histogram.
+	 * 
+	 * @return true if supported
+	 */
+	public boolean isSupported() {
+		return diagnosticCommand != null;
+	}
+
+	/**
+	 * Start taking the histograms periodically if the class histogram is
+	 * supported.
+	 */
+	@Override
+	public synchronized void startMonitor() {
+		if(isSupported()) {
+			super.startMonitor();
+		}
+	}
+
+	/**
+	 * Set the delivery mode.
+	 * 
+	 * @param mode the new delivery mode
+	 */
+	public void setDeliveryMode(int mode) {
+		deliveryMode = mode;
+	}
+
+	/**
+	 * Get the delivery mode.
+	 * 
+	 * @return the delivery mode
+	 */
+	public int getDeliveryMode() {
+		return deliveryMode;
+	}
+
+	/**
+	 * Set whether to count only the live objects. If true (the default), a full
+	 * collection is forced before counting; otherwise, all objects including
+	 * the unreachable ones are counted without a collection, which is faster
+	 * but noisier.
+	 * 
+	 * @param liveOnly true to count only the live objects
+	 */
+	public synchronized void setLiveObjectsOnly(boolean liveOnly) {
+		liveObjectsOnly = liveOnly;
+	}
+
+	/**
+	 * Get whether to count only the live objects.
+	 * 
+	 * @return true if only the live objects are counted
+	 */
+	public synchronized boolean isLiveObjectsOnly() {
+		return liveObjectsOnly;
+	}
+
+	/**
+	 * Set the minimum interval between the end of a histogram and the start of
+	 * the next one.
+	 * 
+	 * @param interval the minimum interval in milliseconds
+	 */
+	public synchronized void setMinimumInterval(long interval) {
+		if(interval < 0) {
+			throw new IllegalArgumentException(String.format(NEGATIVE_INTERVAL_EXCEPTION, interval));
+		}
+		minimumInterval = interval;
+	}
+
+	/**
+	 * Get the minimum interval between two histograms.
+	 * 
+	 * @return the minimum interval in milliseconds
+	 */
+	public synchronized long getMinimumInterval() {
+		return minimumInterval;
+	}
+
+	/**
+	 * Set the maximum ratio of the time spent in taking the histograms, which
+	 * bounds the pauses caused by the sampler.
+	 * 
+	 * @param ratio the maximum pause ratio between 0 (exclusive) and 1
+	 */
+	public synchronized void setMaximumPauseRatio(double ratio) {
+		if(!(ratio > 0 && ratio <= 1)) {
+			throw new IllegalArgumentException(String.format(INVALID_RATIO_EXCEPTION, ratio));
+		}
+		maximumPauseRatio = ratio;
+	}
+
+	/**
+	 * Get the maximum ratio of the time spent in taking the histograms.
+	 * 
+	 * @return the maximum pause ratio
+	 */
+	public synchronized double getMaximumPauseRatio() {
+		return maximumPauseRatio;
+	}
+
+	/**
+	 * Get the earliest time when the next histogram is allowed.
+	 * 
+	 * @return the time stamp, or 0 if no histogram is taken yet
+	 */
+	public synchronized long getNextAllowedTime() {
+		if(lastEndTime == 0) {
+			return 0;
+		}
+		return lastEndTime + Math.max(minimumInterval, (long)(lastDuration / maximumPauseRatio));
+	}
+
+	/**
+	 * Get the amount of the histograms skipped by the rate limits.
+	 * 
+	 * @return the amount of the skipped histograms
+	 */
+	public synchronized long getSkippedCount() {
+		return skippedCount;
+	}
+
+	/**
+	 * Get the latest histogram.
+	 * 
+	 * @return the latest histogram, or null if no histogram is taken yet
+	 */
+	public ClassHistogram getLatestHistogram() {
+		return latestHistogram;
+	}
+
+	/**
+	 * Request a histogram on the sampling thread as soon as possible. The
+	 * request is ignored if the class histogram is not supported or the
+	 * rate limits do not allow a histogram now.
+	 * 
+	 * @return true if the histogram is requested
+	 */
+	public boolean requestHistogram() {
+		if(!isSupported() || currentTimeMillis() < getNextAllowedTime()) {
+			return false;
+		}
+		sampleNow();
+		return true;
+	}
+
+	@Override
+	public void memoryThresholdExceeded(MemoryThresholdEvent event) {
+		requestHistogram();
+	}
+
+	/**
+	 * Add the listener to receive the histograms.
+	 * 
+	 * @param listener the listener to be added
+	 */
+	public void addClassHistogramListener(ClassHistogramListener listener) {
+		listeners.add(listener);
+	}
+
+	/**
+	 * Remove the listener.
+	 * 
+	 * @param listener the listener to be removed
+	 */
+	public void removeClassHistogramListener(ClassHistogramListener listener) {
+		listeners.remove(listener);
+	}
+
+	@Override
+	protected void monitor() {
+		if(!isSupported()) {
+			return;
+		}
+		long now = currentTimeMillis();
+		boolean liveOnly;
+		synchronized(this) {
+			if(now < getNextAllowedTime()) {
+				skippedCount++;
+				return;
+			}
+			liveOnly = liveObjectsOnly;
+		}
+		String[] options = liveOnly? new String[0] : new String[] { ALL_OBJECTS_OPTION };
+		long start = nanoTime();
+		Object output;
+		try {
+			output = server.invoke(diagnosticCommand, HISTOGRAM_OPERATION, new Object[] { options }, OPERATION_SIGNATURE);
+		} catch (JMException e) {
+			report(this, e);
+			return;
+		}
+		long duration = (long)((nanoTime() - start) / NANOSECONDS_PER_MILLISECOND);
+		synchronized(this) {
+			lastEndTime = currentTimeMillis();
+			lastDuration = duration;
+		}
+		if(!(output instanceof String)) {
+			return;
+		}
+		ClassHistogram histogram = ClassHistogram.parse((String)output, now, duration, latestHistogram);
+		latestHistogram = histogram;
+		if(deliveryMode == DELIVER_ON_SAMPLING_THREAD) {
+			listeners.fire(histogram);
+		}
+		else {
+			dispatcher.post(histogram);
+		}
+	}
+}
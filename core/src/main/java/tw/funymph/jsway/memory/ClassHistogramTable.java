@@ -0,0 +1,148 @@
+/* ClassHistogramTable.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static javax.swing.SwingConstants.RIGHT;
+import static tw.funymph.jsway.memory.ClassHistogramTableModel.INSTANCE_GROWTH_COLUMN_INDEX;
+import static tw.funymph.jsway.memory.ClassHistogramTableModel.SIZE_COLUMN_INDEX;
+import static tw.funymph.jsway.memory.ClassHistogramTableModel.SIZE_GROWTH_COLUMN_INDEX;
+import static tw.funymph.jsway.memory.ThreadAllocationTable.formatSize;
+
+import javax.swing.JTable;
+import javax.swing.table.DefaultTableCellRenderer;
+
+/**
+ * A table that shows the class histograms taken by a {@link ClassHistogramSampler}
+ * with the top growers on the top. Unlike {@link ThreadAllocationTable}, the
+ * table has no row sorter: the histogram is already sorted on the sampling
+ * thread, and sorting thousands of classes on every update would cost the
+ * event dispatch thread more than rendering the visible rows.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class ClassHistogramTable extends JTable {
+
+	private static final long serialVersionUID = 2870143587096412713L;
+
+	private static final String POSITIVE_SIGN = "+";
+	private static final String NEGATIVE_SIGN = "-";
+
+	private ClassHistogramTableModel histogramModel;
+
+	/**
+	 * Construct a <code>ClassHistogramTable</code> instance that shows the
+	 * histograms taken by the specified sampler.
+	 * 
+	 * @param sampler the sampler
+	 */
+	public ClassHistogramTable(ClassHistogramSampler sampler) {
+		this(new ClassHistogramTableModel());
+		sampler.addClassHistogramListener(histogramModel);
+	}
+
+	/**
+	 * Construct a <code>ClassHistogramTable</code> instance with the specified model.
+	 * 
+	 * @param model the model to be shown
+	 */
+	public ClassHistogramTable(ClassHistogramTableModel model) {
+		super(model);
+		histogramModel = model;
+		getColumnModel().getColumn(SIZE_COLUMN_INDEX).setCellRenderer(new SizeRenderer(false));
+		getColumnModel().getColumn(INSTANCE_GROWTH_COLUMN_INDEX).setCellRenderer(new GrowthRenderer());
+		getColumnModel().getColumn(SIZE_GROWTH_COLUMN_INDEX).setCellRenderer(new SizeRenderer(true));
+	}
+
+	/**
+	 * Get the model that holds the latest histogram.
+	 * 
+	 * @return the model
+	 */
+	public ClassHistogramTableModel getHistogramModel() {
+		return histogramModel;
+	}
+
+	/**
+	 * Get the sign of the growth.
+	 * 
+	 * @param growth the growth
+	 * @return the sign, or an empty string for zero
+	 */
+	static String getSign(long growth) {
+		return (growth > 0)? POSITIVE_SIGN : ((growth < 0)? NEGATIVE_SIGN : "");
+	}
+
+	/**
+	 * The renderer that formats the sizes with the suitable units.
+	 * 
+	 * @author Pin-Ying Tu
+	 * @version 1.2
+	 * @since 1.2
+	 */
+	private static class SizeRenderer extends DefaultTableCellRenderer {
+
+		private static final long serialVersionUID = -5412283769513760316L;
+
+		private boolean signed;
+
+		/**
+		 * Construct a renderer.
+		 * 
+		 * @param showSign true to show the sign of the growth
+		 */
+		SizeRenderer(boolean showSign) {
+			signed = showSign;
+			setHorizontalAlignment(RIGHT);
+		}
+
+		@Override
+		protected void setValue(Object value) {
+			if(!(value instanceof Number)) {
+				setText("");
+				return;
+			}
+			long size = ((Number)value).longValue();
+			setText((signed? getSign(size) : "") + formatSize(Math.abs(size), ""));
+		}
+	}
+
+	/**
+	 * The renderer that shows the sign of the growth of the instances.
+	 * 
+	 * @author Pin-Ying Tu
+	 * @version 1.2
+	 * @since 1.2
+	 */
+	private static class GrowthRenderer extends DefaultTableCellRenderer {
+
+		private static final long serialVersionUID = 7756318230498351274L;
+
+		/**
+		 * Construct a renderer.
+		 */
+		GrowthRenderer() {
+			setHorizontalAlignment(RIGHT);
+		}
+
+		@Override
+		protected void setValue(Object value) {
+			if(!(value instanceof Number)) {
+				setText("");
+				return;
+			}
+			long growth = ((Number)value).longValue();
+			setText(getSign(growth) + Math.abs(growth));
+		}
+	}
+}
@@ -0,0 +1,103 @@
+/* ClassHistogramTableModel.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import javax.swing.table.AbstractTableModel;
+import javax.swing.table.TableModel;
+
+/**
+ * A class that transforms the latest {@link ClassHistogram} into a
+ * {@link TableModel}. The rows are in the order of the histogram, i.e., the
+ * top growers come first, and the values are read from the histogram on
+ * demand, so only the visible rows cost anything even if there are thousands
+ * of classes. The model must be notified on the event dispatch thread.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class ClassHistogramTableModel extends AbstractTableModel implements ClassHistogramListener {
+
+	private static final long serialVersionUID = -6417386325048135702L;
+
+	public static final int COLUMNS = 5;
+	public static final int NAME_COLUMN_INDEX = 0;
+	public static final int INSTANCES_COLUMN_INDEX = 1;
+	public static final int SIZE_COLUMN_INDEX = 2;
+	public static final int INSTANCE_GROWTH_COLUMN_INDEX = 3;
+	public static final int SIZE_GROWTH_COLUMN_INDEX = 4;
+
+	private static final String[] COLUMN_NAMES = { "Class", "Instances", "Size", "Instance Growth", "Size Growth" };
+
+	private transient ClassHistogram histogram;
+
+	/**
+	 * Construct an empty <code>ClassHistogramTableModel</code> instance.
+	 */
+	public ClassHistogramTableModel() {
+		// No histogram until the first update
+	}
+
+	@Override
+	public void classHistogramUpdated(ClassHistogram update) {
+		histogram = update;
+		fireTableDataChanged();
+	}
+
+	/**
+	 * Get the histogram shown by the model.
+	 * 
+	 * @return the histogram, or null if no histogram is taken yet
+	 */
+	public ClassHistogram getHistogram() {
+		return histogram;
+	}
+
+	@Override
+	public int getRowCount() {
+		return (histogram != null)? histogram.getClassCount() : 0;
+	}
+
+	@Override
+	public int getColumnCount() {
+		return COLUMNS;
+	}
+
+	@Override
+	public String getColumnName(int column) {
+		return COLUMN_NAMES[column];
+	}
+
+	@Override
+	public Class<?> getColumnClass(int column) {
+		return (column == NAME_COLUMN_INDEX)? String.class : Long.class;
+	}
+
+	@Override
+	public Object getValueAt(int rowIndex, int columnIndex) {
+		if(rowIndex < getRowCount()) {
+			switch(columnIndex) {
+			case NAME_COLUMN_INDEX:
+				return histogram.getClassName(rowIndex);
+			case INSTANCES_COLUMN_INDEX:
+				return histogram.getInstanceCount(rowIndex);
+			case SIZE_COLUMN_INDEX:
+				return histogram.getSize(rowIndex);
+			case INSTANCE_GROWTH_COLUMN_INDEX:
+				return histogram.getInstanceGrowth(rowIndex);
+			case SIZE_GROWTH_COLUMN_INDEX:
+				return histogram.getSizeGrowth(rowIndex);
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,80 @@
+/* CoalescingDispatcher.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static javax.swing.SwingUtilities.invokeLater;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A dispatcher that hands the events posted from any thread over to the
+ * event dispatch thread. At most one dispatching task is queued at any time;
+ * if several events are posted before the queued task runs, only the latest
+ * one is dispatched.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public abstract class CoalescingDispatcher<E> implements Runnable {
+
+	private AtomicReference<E> pending;
+
+	/**
+	 * Initialize the dispatcher called by its concrete children.
+	 */
+	protected CoalescingDispatcher() {
+		pending = new AtomicReference<E>();
+	}
+
+	/**
+	 * Post the event to be dispatched on the event dispatch thread.
+	 * 
+	 * @param event the event to be dispatched
+	 */
+	public void post(E event) {
+		E replaced = pending.getAndSet(event);
+		if(replaced == null) {
+			invokeLater(this);
+		}
+		else {
+			discard(replaced);
+		}
+	}
+
+	@Override
+	public void run() {
+		E event = pending.getAndSet(null);
+		if(event != null) {
+			dispatch(event);
+		}
+	}
+
+	/**
+	 * Dispatch the latest posted event. This method is always invoked on
+	 * the event dispatch thread.
+	 * 
+	 * @param event the latest posted event
+	 */
+	protected abstract void dispatch(E event);
+
+	/**
+	 * Invoked on the posting thread when a pending event is replaced by a
+	 * newer one and will never be dispatched. The children can override this
+	 * method to recycle the event; the default implementation does nothing.
+	 * 
+	 * @param event the replaced event
+	 */
+	protected void discard(E event) {
+		// Nothing to recycle by default.
+	}
+}
@@ -20,6 +20,11 @@ import tw.funymph.jsway.property.ColorProperty;
  * A default implementation of {@link LeveledColors} that offers three
  * colors for the three levels: NORMAL, WARNING, and ALARM. Note that the total
  * level count is unable to change, but the color can be changed.
+ * <p>
+ * The level boundaries are compared with the memory usage ratio of the
+ * samples, so they are relative to the ratio base of the samples, e.g., 80%
+ * of the maximum heap when {@link MemoryUsageMonitor} uses the maximum heap
+ * size as the base.
  * 
  * @author Pin-Ying Tu
  * @version 1.2
@@ -73,6 +78,27 @@ public class DefaultMemoryUsageColors extends LeveledColors {
 		alarmRatio = ratioToAlerm;
 	}
 
+	/**
+	 * Get the lower boundary of the level, i.e., the level is used when the
+	 * usage is greater than the boundary. The boundary of the normal level
+	 * is 0.
+	 * 
+	 * @param level the level
+	 * @return the lower boundary of the level
+	 * @since 1.2
+	 */
+	public double getLevelBoundary(int level) {
+		switch(level) {
+		case WARNING_LEVEL:
+			return warningRatio;
+		case ALARM_LEVEL:
+			return alarmRatio;
+		case NORMAL_LEVEL:
+		default:
+			return 0;
+		}
+	}
+
 	@Override
 	public int getColorCount() {
 		return DEFAULT_LEVEL_COUNT;
@@ -13,9 +13,6 @@ package tw.funymph.jsway.memory;
 
 import java.util.LinkedList;
 
-import tw.funymph.jsway.utils.LinkedRecentHistory;
-import tw.funymph.jsway.utils.RecentHistory;
-
 /**
  * A default {@link RecentMemoryUsageEventHistory} implementation.
  * 
@@ -27,7 +24,7 @@ public class DefaultMemoryUsageEventHistory implements RecentMemoryUsageHistory
 
 	public static final int DEFAULT_EVENT_CAPCAITY = 20;
 
-	private LinkedRecentHistory<MemoryUsageEvent> events;
+	private MemoryUsageEventColumns events;
 	private LinkedList<RecentMemoryUsageHistoryListener> listeners;
 
 	/**
@@ -40,11 +37,13 @@ public class DefaultMemoryUsageEventHistory implements RecentMemoryUsageHistory
 
 	/**
 	 * Construct a <code>DefaultMemoryUsageEventHistory</code> by specifying
-	 * the default capacity.
+	 * the default capacity. The events are kept in a {@link MemoryUsageEventColumns}.
+	 * 
+	 * @param capacity the maximum amount of the events to be kept
 	 */
 	public DefaultMemoryUsageEventHistory(int capacity) {
 		listeners = new LinkedList<RecentMemoryUsageHistoryListener>();
-		events = new LinkedRecentHistory<MemoryUsageEvent>(capacity);
+		events = new MemoryUsageEventColumns(capacity);
 	}
 
 	@Override
@@ -53,8 +52,14 @@ public class DefaultMemoryUsageEventHistory implements RecentMemoryUsageHistory
 		notifyRecentHistoryChangeListeners();
 	}
 
+	/**
+	 * Get the recent memory usage event history. Note that the returned
+	 * events are flyweights; see {@link MemoryUsageEventColumns} for details.
+	 * 
+	 * @return the recent memory usage event history
+	 */
 	@Override
-	public RecentHistory<MemoryUsageEvent> getEvents() {
+	public MemoryUsageEventColumns getEvents() {
 		return events;
 	}
 
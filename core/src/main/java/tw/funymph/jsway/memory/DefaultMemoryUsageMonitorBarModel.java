@@ -47,6 +47,7 @@ public class DefaultMemoryUsageMonitorBarModel extends MemoryUsageMonitorBarMode
 	private NumberFormat numberFormatter;
 	private MemoryUsageNotifier eventSource;
 	private MemoryUsageTextFormatter textFormatter;
+	private MemoryUsageStatistics usageStatistics;
 
 	private double memoryUsageRatio;
 
@@ -149,6 +150,22 @@ public class DefaultMemoryUsageMonitorBarModel extends MemoryUsageMonitorBarMode
 		}		
 	}
 
+	/**
+	 * Set the statistics of the recent memory usage, e.g., the statistics of the
+	 * history displayed by a {@link RecentMemoryUsageLineChart}.
+	 * 
+	 * @param statistics the statistics, or null to hide the statistics
+	 * @since 1.2
+	 */
+	public void setStatistics(MemoryUsageStatistics statistics) {
+		usageStatistics = statistics;
+	}
+
+	@Override
+	public MemoryUsageStatistics getStatistics() {
+		return usageStatistics;
+	}
+
 	@Override
 	public void memoryUsageUpdated(MemoryUsageEvent event) {
 		memoryUsageRatio = event.getMemoryUsageRatio();
@@ -200,7 +217,7 @@ public class DefaultMemoryUsageMonitorBarModel extends MemoryUsageMonitorBarMode
 		@Override
 		public String format(MemoryUsageEvent event) {
 			String used = numberFormatter.format(getKBSize(event.getUsedMemorySize()));
-			String total = numberFormatter.format(getKBSize(event.getTotalMemorySize()));
+			String total = numberFormatter.format(getKBSize(event.getBaseMemorySize()));
 			return String.format(USAGE_FORMATE, used, UNIT_KB, total, UNIT_KB);
 		}
 	}
@@ -218,7 +235,7 @@ public class DefaultMemoryUsageMonitorBarModel extends MemoryUsageMonitorBarMode
 		@Override
 		public String format(MemoryUsageEvent event) {
 			String used = numberFormatter.format(getMBSize(event.getUsedMemorySize()));
-			String total = numberFormatter.format(getMBSize(event.getTotalMemorySize()));
+			String total = numberFormatter.format(getMBSize(event.getBaseMemorySize()));
 			return String.format(USAGE_FORMATE, used, UNIT_MB, total, UNIT_MB);
 		}
 	}
@@ -236,7 +253,7 @@ public class DefaultMemoryUsageMonitorBarModel extends MemoryUsageMonitorBarMode
 		@Override
 		public String format(MemoryUsageEvent event) {
 			String used = numberFormatter.format(getGBSize(event.getUsedMemorySize()));
-			String total = numberFormatter.format(getGBSize(event.getTotalMemorySize()));
+			String total = numberFormatter.format(getGBSize(event.getBaseMemorySize()));
 			return String.format(USAGE_FORMATE, used, UNIT_GB, total, UNIT_GB);
 		}
 	}
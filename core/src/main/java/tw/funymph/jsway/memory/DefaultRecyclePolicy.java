@@ -0,0 +1,193 @@
+/* DefaultRecyclePolicy.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static tw.funymph.jsway.utils.ObjectUtilities.requireNonNull;
+
+import tw.funymph.jsway.property.NumberProperty;
+
+/**
+ * The default {@link RecyclePolicy} that limits the forced garbage collections
+ * under a steady high memory usage:
+ * <ol>
+ * <li>A collection is only forced when the ratio is above the high boundary.</li>
+ * <li>After a collection, the next one waits for the current interval, which
+ * starts from the minimum interval and is multiplied by the backoff factor
+ * after every collection, up to the maximum interval.</li>
+ * <li>If a collection reclaimed less than the minimum reclaimed ratio of the
+ * used size, no more collections are forced until the ratio drops below the
+ * low boundary.</li>
+ * <li>When the ratio drops below the low boundary (the hysteresis band), the
+ * interval is reset to the minimum and the policy is re-armed.</li>
+ * </ol>
+ * The low boundary never exceeds the high boundary; if the high boundary is
+ * set below the low one, the policy re-arms below the high boundary instead.
+ * All parameters are exposed as properties and can be changed at any time.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class DefaultRecyclePolicy implements RecyclePolicy {
+
+	public static final double DEFAULT_HIGH_BOUNDARY = 0.75;
+	public static final double DEFAULT_LOW_BOUNDARY = 0.6;
+	public static final long DEFAULT_MINIMUM_INTERVAL = 5000;
+	public static final long DEFAULT_MAXIMUM_INTERVAL = 300000;
+	public static final double DEFAULT_BACKOFF_FACTOR = 2.0;
+	public static final double DEFAULT_MINIMUM_RECLAIMED_RATIO = 0.05;
+
+	private static final String HIGH_BOUNDARY_PROPERTY_NAME = "Recycle Boundary";
+	private static final String LOW_BOUNDARY_PROPERTY_NAME = "Re-arm Boundary";
+	private static final String MINIMUM_INTERVAL_PROPERTY_NAME = "Minimum Recycle Interval";
+	private static final String MAXIMUM_INTERVAL_PROPERTY_NAME = "Maximum Recycle Interval";
+	private static final String BACKOFF_FACTOR_PROPERTY_NAME = "Recycle Backoff Factor";
+	private static final String MINIMUM_RECLAIMED_PROPERTY_NAME = "Minimum Reclaimed Ratio";
+
+	private static final String INTERVAL_UNIT = "ms";
+	private static final String NULL_PROPERTY_EXCEPTION = "The boundary property cannot be null";
+
+	private NumberProperty<Double> highBoundary;
+	private NumberProperty<Double> lowBoundary;
+	private NumberProperty<Long> minimumInterval;
+	private NumberProperty<Long> maximumInterval;
+	private NumberProperty<Double> backoffFactor;
+	private NumberProperty<Double> minimumReclaimedRatio;
+
+	private long lastRecycleTime;
+	private long nextRecycleTime;
+	private long currentInterval;
+	private boolean ineffective;
+
+	/**
+	 * Construct a <code>DefaultRecyclePolicy</code> instance with the default
+	 * parameters.
+	 */
+	public DefaultRecyclePolicy() {
+		this(new NumberProperty<Double>(HIGH_BOUNDARY_PROPERTY_NAME, DEFAULT_HIGH_BOUNDARY, 0.0, 1.0, 0.01));
+	}
+
+	/**
+	 * Construct a <code>DefaultRecyclePolicy</code> instance that uses the
+	 * specified property as the high boundary, e.g., the recycle boundary
+	 * property of {@link MemoryUsageMonitor}.
+	 * 
+	 * @param boundary the high boundary property
+	 * @throws NullPointerException if the property is null
+	 */
+	public DefaultRecyclePolicy(NumberProperty<Double> boundary) {
+		highBoundary = requireNonNull(boundary, NULL_PROPERTY_EXCEPTION);
+		lowBoundary = new NumberProperty<Double>(LOW_BOUNDARY_PROPERTY_NAME, DEFAULT_LOW_BOUNDARY, 0.0, 1.0, 0.01);
+		minimumInterval = new NumberProperty<Long>(MINIMUM_INTERVAL_PROPERTY_NAME, DEFAULT_MINIMUM_INTERVAL, 0L, null, 1000L, INTERVAL_UNIT);
+		maximumInterval = new NumberProperty<Long>(MAXIMUM_INTERVAL_PROPERTY_NAME, DEFAULT_MAXIMUM_INTERVAL, 0L, null, 1000L, INTERVAL_UNIT);
+		backoffFactor = new NumberProperty<Double>(BACKOFF_FACTOR_PROPERTY_NAME, DEFAULT_BACKOFF_FACTOR, 1.0, null, 0.5);
+		minimumReclaimedRatio = new NumberProperty<Double>(MINIMUM_RECLAIMED_PROPERTY_NAME, DEFAULT_MINIMUM_RECLAIMED_RATIO, 0.0, 1.0, 0.01);
+		lastRecycleTime = Long.MIN_VALUE / 2;
+		nextRecycleTime = Long.MIN_VALUE;
+	}
+
+	/**
+	 * Get the high boundary property. A collection is only forced when the ratio
+	 * is above the boundary.
+	 * 
+	 * @return the high boundary property
+	 */
+	public NumberProperty<Double> getHighBoundaryProperty() {
+		return highBoundary;
+	}
+
+	/**
+	 * Get the low boundary property. The policy is re-armed when the ratio drops
+	 * below the boundary, or below the high boundary if it is lower.
+	 * 
+	 * @return the low boundary property
+	 */
+	public NumberProperty<Double> getLowBoundaryProperty() {
+		return lowBoundary;
+	}
+
+	/**
+	 * Get the minimum interval property in milliseconds.
+	 * 
+	 * @return the minimum interval property
+	 */
+	public NumberProperty<Long> getMinimumIntervalProperty() {
+		return minimumInterval;
+	}
+
+	/**
+	 * Get the maximum interval property in milliseconds. The backoff stops
+	 * growing at the maximum interval.
+	 * 
+	 * @return the maximum interval property
+	 */
+	public NumberProperty<Long> getMaximumIntervalProperty() {
+		return maximumInterval;
+	}
+
+	/**
+	 * Get the backoff factor property. The interval is multiplied by the factor
+	 * after every collection until the policy is re-armed.
+	 * 
+	 * @return the backoff factor property
+	 */
+	public NumberProperty<Double> getBackoffFactorProperty() {
+		return backoffFactor;
+	}
+
+	/**
+	 * Get the minimum reclaimed ratio property. If a collection reclaimed less
+	 * than the ratio of the used size, the following collections are skipped
+	 * until the policy is re-armed.
+	 * 
+	 * @return the minimum reclaimed ratio property
+	 */
+	public NumberProperty<Double> getMinimumReclaimedRatioProperty() {
+		return minimumReclaimedRatio;
+	}
+
+	/**
+	 * Get the interval to wait after the next forced collection.
+	 * 
+	 * @return the current interval in milliseconds
+	 */
+	public synchronized long getCurrentInterval() {
+		return Math.max(currentInterval, minimumInterval.getNumber().longValue());
+	}
+
+	@Override
+	public synchronized boolean shouldRecycle(long time, double ratio) {
+		long minimum = minimumInterval.getNumber().longValue();
+		double high = highBoundary.getNumber().doubleValue();
+		if(ratio < Math.min(lowBoundary.getNumber().doubleValue(), high)) {
+			// Re-arm: forget the backoff, but keep the minimum interval
+			ineffective = false;
+			currentInterval = 0;
+			nextRecycleTime = Math.min(nextRecycleTime, lastRecycleTime + minimum);
+			return false;
+		}
+		if(ratio <= high || ineffective) {
+			return false;
+		}
+		return time >= nextRecycleTime;
+	}
+
+	@Override
+	public synchronized void recycled(long time, long reclaimedSize, long usedSize) {
+		long interval = getCurrentInterval();
+		lastRecycleTime = time;
+		nextRecycleTime = time + interval;
+		ineffective = usedSize > 0 && (double)reclaimedSize / usedSize < minimumReclaimedRatio.getNumber().doubleValue();
+		long next = (long)(interval * backoffFactor.getNumber().doubleValue());
+		currentInterval = Math.min(next, maximumInterval.getNumber().longValue());
+	}
+}
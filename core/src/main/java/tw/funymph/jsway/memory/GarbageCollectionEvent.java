@@ -0,0 +1,172 @@
+/* GarbageCollectionEvent.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+/**
+ * A {@link MemoryUsageEvent} that describes one garbage collection. The free,
+ * used, total sizes and the ratio describe the heap after the collection, and
+ * the time stamp is the time when the collection started. The pool usage after
+ * the collection is offered through {@link MemoryPoolUsages}, and the pool usage
+ * before the collection through the <code>...BeforeCollection</code> methods.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class GarbageCollectionEvent extends MemoryUsageEvent implements MemoryPoolUsages {
+
+	private long id;
+	private long duration;
+
+	private String cause;
+	private String action;
+	private String collectorName;
+
+	private long usedBefore;
+
+	private MemoryPoolLayout layout;
+	private long[] usedBeforeSizes;
+	private long[] usedAfterSizes;
+	private long[] committedAfterSizes;
+	private long[] maximumSizes;
+
+	/**
+	 * Construct a <code>GarbageCollectionEvent</code> instance. Note that the
+	 * arrays are not copied.
+	 * 
+	 * @param time the time stamp when the collection started
+	 * @param free the free heap size after the collection
+	 * @param used the used heap size after the collection
+	 * @param total the total heap size after the collection
+	 * @param ratio the heap usage ratio after the collection
+	 * @param collector the name of the collector
+	 * @param gcAction the action of the collection, e.g., "end of minor GC"
+	 * @param gcCause the cause of the collection, e.g., "Allocation Failure"
+	 * @param gcId the identifier of the collection of the collector
+	 * @param gcDuration the duration of the collection in milliseconds
+	 * @param heapUsedBefore the used heap size before the collection
+	 * @param poolLayout the layout of the pools
+	 * @param poolUsedBefore the used sizes of the pools before the collection
+	 * @param poolUsedAfter the used sizes of the pools after the collection
+	 * @param poolCommittedAfter the committed sizes of the pools after the collection
+	 * @param poolMaximum the maximum sizes of the pools
+	 */
+	public GarbageCollectionEvent(long time, long free, long used, long total, double ratio,
+			String collector, String gcAction, String gcCause, long gcId, long gcDuration, long heapUsedBefore,
+			MemoryPoolLayout poolLayout, long[] poolUsedBefore, long[] poolUsedAfter, long[] poolCommittedAfter, long[] poolMaximum) {
+		super(time, free, used, total, ratio);
+		collectorName = collector;
+		action = gcAction;
+		cause = gcCause;
+		id = gcId;
+		duration = gcDuration;
+		usedBefore = heapUsedBefore;
+		layout = poolLayout;
+		usedBeforeSizes = poolUsedBefore;
+		usedAfterSizes = poolUsedAfter;
+		committedAfterSizes = poolCommittedAfter;
+		maximumSizes = poolMaximum;
+	}
+
+	/**
+	 * Get the name of the collector, e.g., "G1 Young Generation".
+	 * 
+	 * @return the name of the collector
+	 */
+	public String getCollectorName() {
+		return collectorName;
+	}
+
+	/**
+	 * Get the action of the collection, e.g., "end of minor GC".
+	 * 
+	 * @return the action of the collection
+	 */
+	public String getAction() {
+		return action;
+	}
+
+	/**
+	 * Get the cause of the collection, e.g., "Allocation Failure".
+	 * 
+	 * @return the cause of the collection
+	 */
+	public String getCause() {
+		return cause;
+	}
+
+	/**
+	 * Get the identifier of the collection of the collector.
+	 * 
+	 * @return the identifier
+	 */
+	public long getId() {
+		return id;
+	}
+
+	/**
+	 * Get the duration of the collection.
+	 * 
+	 * @return the duration in milliseconds
+	 */
+	public long getDuration() {
+		return duration;
+	}
+
+	/**
+	 * Get the used heap size before the collection.
+	 * 
+	 * @return the used heap size before the collection
+	 */
+	public long getUsedMemorySizeBeforeCollection() {
+		return usedBefore;
+	}
+
+	/**
+	 * Get the heap size reclaimed by the collection.
+	 * 
+	 * @return the reclaimed heap size
+	 */
+	public long getReclaimedMemorySize() {
+		return usedBefore - getUsedMemorySize();
+	}
+
+	/**
+	 * Get the used size of the pool before the collection.
+	 * 
+	 * @param pool the index of the pool in the layout
+	 * @return the used size of the pool, or -1 if not available
+	 */
+	public long getPoolUsedSizeBeforeCollection(int pool) {
+		return usedBeforeSizes[pool];
+	}
+
+	@Override
+	public MemoryPoolLayout getPoolLayout() {
+		return layout;
+	}
+
+	@Override
+	public long getPoolUsedSize(int pool) {
+		return usedAfterSizes[pool];
+	}
+
+	@Override
+	public long getPoolCommittedSize(int pool) {
+		return committedAfterSizes[pool];
+	}
+
+	@Override
+	public long getPoolMaximumSize(int pool) {
+		return maximumSizes[pool];
+	}
+}
@@ -0,0 +1,161 @@
+/* GarbageCollectionHistory.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import java.util.LinkedList;
+
+import tw.funymph.jsway.utils.ArrayRecentHistory;
+import tw.funymph.jsway.utils.RecentHistory;
+
+/**
+ * A bounded {@link RecentMemoryUsageHistory} of the {@link GarbageCollectionEvent}s
+ * notified by a {@link GarbageCollectionMonitor}. The history also maintains a
+ * pause-time histogram of the kept collections; the histogram is updated when a
+ * collection is added or evicted, so reading it costs nothing. Events that are
+ * not garbage collection events are ignored.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class GarbageCollectionHistory implements RecentMemoryUsageHistory {
+
+	public static final int DEFAULT_EVENT_CAPACITY = 256;
+
+	private static final long[] BUCKET_UPPER_BOUNDS = { 1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, Long.MAX_VALUE };
+
+	private long[] bucketCounts;
+	private long totalPauseTime;
+	private long maximumPauseTime;
+
+	private ArrayRecentHistory<MemoryUsageEvent> events;
+	private LinkedList<RecentMemoryUsageHistoryListener> listeners;
+
+	/**
+	 * Construct a <code>GarbageCollectionHistory</code> with the default capacity.
+	 */
+	public GarbageCollectionHistory() {
+		this(DEFAULT_EVENT_CAPACITY);
+	}
+
+	/**
+	 * Construct a <code>GarbageCollectionHistory</code> by specifying the capacity.
+	 * 
+	 * @param capacity the maximum amount of the collections to be kept
+	 */
+	public GarbageCollectionHistory(int capacity) {
+		bucketCounts = new long[BUCKET_UPPER_BOUNDS.length];
+		events = new ArrayRecentHistory<MemoryUsageEvent>(capacity);
+		listeners = new LinkedList<RecentMemoryUsageHistoryListener>();
+	}
+
+	@Override
+	public void memoryUsageUpdated(MemoryUsageEvent event) {
+		if(event instanceof GarbageCollectionEvent) {
+			if(events.size() == events.getMaximumRecentEventCapacity() && !events.isEmpty()) {
+				updateHistogram((GarbageCollectionEvent)events.getFirst(), -1);
+			}
+			if(events.add(event)) {
+				updateHistogram((GarbageCollectionEvent)event, 1);
+				maximumPauseTime = Math.max(maximumPauseTime, ((GarbageCollectionEvent)event).getDuration());
+			}
+			notifyRecentHistoryChangeListeners();
+		}
+	}
+
+	@Override
+	public RecentHistory<MemoryUsageEvent> getEvents() {
+		return events;
+	}
+
+	/**
+	 * Get the amount of the buckets of the pause-time histogram.
+	 * 
+	 * @return the amount of the buckets
+	 */
+	public int getBucketCount() {
+		return BUCKET_UPPER_BOUNDS.length;
+	}
+
+	/**
+	 * Get the inclusive upper bound of the bucket. The upper bound of the
+	 * last bucket is {@link Long#MAX_VALUE}.
+	 * 
+	 * @param bucket the index of the bucket
+	 * @return the upper bound in milliseconds
+	 */
+	public long getBucketUpperBound(int bucket) {
+		return BUCKET_UPPER_BOUNDS[bucket];
+	}
+
+	/**
+	 * Get the amount of the kept collections whose pause time falls into the bucket.
+	 * 
+	 * @param bucket the index of the bucket
+	 * @return the amount of the collections
+	 */
+	public long getBucketCount(int bucket) {
+		return bucketCounts[bucket];
+	}
+
+	/**
+	 * Get the total pause time of the kept collections.
+	 * 
+	 * @return the total pause time in milliseconds
+	 */
+	public long getTotalPauseTime() {
+		return totalPauseTime;
+	}
+
+	/**
+	 * Get the maximum pause time since the history is created. Note that the
+	 * maximum is not reduced when the longest collection is evicted.
+	 * 
+	 * @return the maximum pause time in milliseconds
+	 */
+	public long getMaximumPauseTime() {
+		return maximumPauseTime;
+	}
+
+	@Override
+	public void addRecentHistoryChangeListener(RecentMemoryUsageHistoryListener listener) {
+		listeners.add(listener);
+	}
+
+	@Override
+	public void removeRecentHistoryChangeListener(RecentMemoryUsageHistoryListener listener) {
+		listeners.remove(listener);
+	}
+
+	@Override
+	public void notifyRecentHistoryChangeListeners() {
+		for(RecentMemoryUsageHistoryListener listener : listeners) {
+			listener.historyChanged(this);
+		}
+	}
+
+	/**
+	 * Update the histogram with the collection.
+	 * 
+	 * @param event the collection
+	 * @param delta 1 if the collection is added, -1 if it is evicted
+	 */
+	private void updateHistogram(GarbageCollectionEvent event, int delta) {
+		long duration = event.getDuration();
+		int bucket = 0;
+		while(duration > BUCKET_UPPER_BOUNDS[bucket]) {
+			bucket++;
+		}
+		bucketCounts[bucket] += delta;
+		totalPauseTime += delta * duration;
+	}
+}
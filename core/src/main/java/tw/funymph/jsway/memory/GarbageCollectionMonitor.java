@@ -0,0 +1,291 @@
+/* GarbageCollectionMonitor.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static com.sun.management.GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION;
+import static java.lang.Runtime.getRuntime;
+import static java.lang.management.ManagementFactory.getGarbageCollectorMXBeans;
+import static java.lang.management.ManagementFactory.getMemoryPoolMXBeans;
+import static java.lang.management.ManagementFactory.getRuntimeMXBean;
+import static java.lang.management.MemoryType.HEAP;
+import static tw.funymph.jsway.memory.MemoryPoolLayout.HEAP_POOL;
+import static tw.funymph.jsway.memory.MemoryPoolLayout.NON_HEAP_POOL;
+import static tw.funymph.jsway.memory.MemoryUsageMonitor.DEFAULT_DELIVERY_MODE;
+import static tw.funymph.jsway.memory.MemoryUsageMonitor.DELIVER_ON_SAMPLING_THREAD;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryUsage;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationFilterSupport;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.GcInfo;
+
+import tw.funymph.jsway.utils.ListenerRegistry;
+
+/**
+ * A {@link MemoryUsageNotifier} that is driven by the garbage collection
+ * notifications of the virtual machine instead of polling. Every collection is
+ * notified as a {@link GarbageCollectionEvent} with the collector name, the
+ * cause, the duration, and the pool usage before and after the collection.
+ * <p>
+ * The notifications arrive on an internal thread of the virtual machine. By
+ * default, the listeners are notified on the event dispatch thread without
+ * dropping any collection; use {@link MemoryUsageMonitor#DELIVER_ON_SAMPLING_THREAD}
+ * to notify the listeners directly on the notification thread.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class GarbageCollectionMonitor implements MemoryUsageNotifier, NotificationListener {
+
+	private static final long UNAVAILABLE = -1;
+
+	private boolean started;
+	private volatile int deliveryMode;
+	private volatile MemoryUsageEvent lastEvent;
+
+	private long startTime;
+	private MemoryPoolLayout layout;
+
+	private ListenerRegistry<MemoryUsageListener, MemoryUsageEvent> listeners;
+	private List<NotificationEmitter> emitters;
+	private NotificationFilterSupport filter;
+	private QueuedDispatcher<MemoryUsageEvent> dispatcher;
+
+	/**
+	 * Construct a <code>GarbageCollectionMonitor</code> instance that notifies
+	 * the listeners on the event dispatch thread, and start listening to the
+	 * garbage collection notifications.
+	 */
+	public GarbageCollectionMonitor() {
+		this(DEFAULT_DELIVERY_MODE);
+	}
+
+	/**
+	 * Construct a <code>GarbageCollectionMonitor</code> instance with the specified
+	 * delivery mode, and start listening to the garbage collection notifications.
+	 * The available delivery modes are the ones of {@link MemoryUsageMonitor}.
+	 * 
+	 * @param delivery the delivery mode
+	 */
+	public GarbageCollectionMonitor(int delivery) {
+		deliveryMode = delivery;
+		startTime = getRuntimeMXBean().getStartTime();
+		listeners = new ListenerRegistry<MemoryUsageListener, MemoryUsageEvent>() {
+
+			@Override
+			protected void deliver(MemoryUsageListener listener, MemoryUsageEvent event) {
+				listener.memoryUsageUpdated(event);
+			}
+		};
+		emitters = new LinkedList<NotificationEmitter>();
+		filter = new NotificationFilterSupport();
+		filter.enableType(GARBAGE_COLLECTION_NOTIFICATION);
+		dispatcher = new QueuedDispatcher<MemoryUsageEvent>() {
+
+			@Override
+			protected void dispatch(MemoryUsageEvent event) {
+				fireMemoryUsageUpdated(event);
+			}
+		};
+		layout = createLayout();
+		lastEvent = createInitialEvent();
+		start();
+	}
+
+	/**
+	 * Start listening to the garbage collection notifications.
+	 */
+	public synchronized void start() {
+		if(!started) {
+			started = true;
+			for(GarbageCollectorMXBean collector : getGarbageCollectorMXBeans()) {
+				if(collector instanceof NotificationEmitter) {
+					NotificationEmitter emitter = (NotificationEmitter)collector;
+					emitter.addNotificationListener(this, filter, null);
+					emitters.add(emitter);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Stop listening to the garbage collection notifications.
+	 */
+	public synchronized void stop() {
+		if(started) {
+			started = false;
+			for(NotificationEmitter emitter : emitters) {
+				try {
+					emitter.removeNotificationListener(this);
+				} catch (ListenerNotFoundException e) {
+					// Already removed
+				}
+			}
+			emitters.clear();
+		}
+	}
+
+	/**
+	 * Get the layout of the pools carried by the notified events.
+	 * 
+	 * @return the layout of the pools
+	 */
+	public MemoryPoolLayout getPoolLayout() {
+		return layout;
+	}
+
+	/**
+	 * Set the delivery mode.
+	 * 
+	 * @param mode the new delivery mode
+	 */
+	public void setDeliveryMode(int mode) {
+		deliveryMode = mode;
+	}
+
+	/**
+	 * Get the delivery mode.
+	 * 
+	 * @return the delivery mode
+	 */
+	public int getDeliveryMode() {
+		return deliveryMode;
+	}
+
+	@Override
+	public void handleNotification(Notification notification, Object handback) {
+		if(GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+			GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from((CompositeData)notification.getUserData());
+			lastEvent = createEvent(info);
+			if(deliveryMode == DELIVER_ON_SAMPLING_THREAD) {
+				notifyMemoryUsageUpdateListeners();
+			}
+			else {
+				dispatcher.post(lastEvent);
+			}
+		}
+	}
+
+	@Override
+	public void addMemoryUsageUpdateListener(MemoryUsageListener listener) {
+		listeners.add(listener);
+	}
+
+	@Override
+	public void removeMemoryUsageUpdateListener(MemoryUsageListener listener) {
+		listeners.remove(listener);
+	}
+
+	@Override
+	public void notifyMemoryUsageUpdateListeners() {
+		fireMemoryUsageUpdated(lastEvent);
+	}
+
+	/**
+	 * Get the last notified event. Before the first collection, the returned
+	 * event is a plain {@link MemoryUsageEvent} describing the current heap.
+	 * 
+	 * @return the last notified event
+	 */
+	@Override
+	public MemoryUsageEvent getLastNotifiedEvent() {
+		return lastEvent;
+	}
+
+	/**
+	 * Notify all registered listeners with the specified event on the
+	 * calling thread. The listeners are kept in a copy-on-write registry,
+	 * so they can be added and removed while notified on the notification
+	 * thread.
+	 * 
+	 * @param event the event to be notified
+	 */
+	private void fireMemoryUsageUpdated(MemoryUsageEvent event) {
+		listeners.fire(event);
+	}
+
+	/**
+	 * Create the event from the notification info.
+	 * 
+	 * @param info the garbage collection notification info
+	 * @return the event
+	 */
+	private GarbageCollectionEvent createEvent(GarbageCollectionNotificationInfo info) {
+		GcInfo gc = info.getGcInfo();
+		Map<String, MemoryUsage> before = gc.getMemoryUsageBeforeGc();
+		Map<String, MemoryUsage> after = gc.getMemoryUsageAfterGc();
+		int count = layout.getPoolCount();
+		long[] usedBefore = new long[count];
+		long[] usedAfter = new long[count];
+		long[] committedAfter = new long[count];
+		long[] maximum = new long[count];
+		long heapUsedBefore = 0, heapUsed = 0, heapCommitted = 0;
+		for(int pool = 0; pool < count; pool++) {
+			MemoryUsage beforeUsage = before.get(layout.getPoolName(pool));
+			MemoryUsage afterUsage = after.get(layout.getPoolName(pool));
+			usedBefore[pool] = (beforeUsage != null)? beforeUsage.getUsed() : UNAVAILABLE;
+			usedAfter[pool] = (afterUsage != null)? afterUsage.getUsed() : UNAVAILABLE;
+			committedAfter[pool] = (afterUsage != null)? afterUsage.getCommitted() : UNAVAILABLE;
+			maximum[pool] = (afterUsage != null)? afterUsage.getMax() : UNAVAILABLE;
+			if(layout.getPoolType(pool) == HEAP_POOL && beforeUsage != null && afterUsage != null) {
+				heapUsedBefore += beforeUsage.getUsed();
+				heapUsed += afterUsage.getUsed();
+				heapCommitted += afterUsage.getCommitted();
+			}
+		}
+		double ratio = (heapCommitted > 0)? (double)heapUsed / (double)heapCommitted : 0;
+		return new GarbageCollectionEvent(startTime + gc.getStartTime(), heapCommitted - heapUsed, heapUsed, heapCommitted, ratio,
+				info.getGcName(), info.getGcAction(), info.getGcCause(), gc.getId(), gc.getDuration(), heapUsedBefore,
+				layout, usedBefore, usedAfter, committedAfter, maximum);
+	}
+
+	/**
+	 * Create the layout of the memory pools.
+	 * 
+	 * @return the layout of the memory pools
+	 */
+	private static MemoryPoolLayout createLayout() {
+		List<MemoryPoolMXBean> pools = getMemoryPoolMXBeans();
+		String[] names = new String[pools.size()];
+		int[] types = new int[names.length];
+		for(int i = 0; i < names.length; i++) {
+			names[i] = pools.get(i).getName();
+			types[i] = (pools.get(i).getType() == HEAP)? HEAP_POOL : NON_HEAP_POOL;
+		}
+		return new MemoryPoolLayout(names, types);
+	}
+
+	/**
+	 * Create the event that describes the current heap before any collection
+	 * is notified.
+	 * 
+	 * @return the event
+	 */
+	private static MemoryUsageEvent createInitialEvent() {
+		long total = getRuntime().totalMemory();
+		long free = getRuntime().freeMemory();
+		long used = total - free;
+		return new MemoryUsageEvent(System.currentTimeMillis(), free, used, total, (double)used / (double)total);
+	}
+}
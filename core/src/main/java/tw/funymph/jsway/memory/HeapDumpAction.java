@@ -0,0 +1,84 @@
+/* HeapDumpAction.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static tw.funymph.jsway.utils.ObjectUtilities.requireNonNull;
+
+import java.awt.event.ActionEvent;
+
+import javax.swing.AbstractAction;
+
+import tw.funymph.jsway.MultiProgressMonitorBar;
+
+/**
+ * An action that requests a heap dump from a {@link HeapDumper}, e.g., set to
+ * the {@link MemoryUsageMonitorBar} by {@link MemoryUsageMonitorBar#setAction(javax.swing.Action)}
+ * to dump the heap instead of collecting the garbage when the bar is clicked.
+ * The dump runs in the background, and its progress or the reason of the
+ * rejection is shown by the progress model of the dumper.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class HeapDumpAction extends AbstractAction {
+
+	private static final long serialVersionUID = -3184739521170294856L;
+
+	public static final String DEFAULT_ACTION_NAME = "Dump Heap";
+
+	private static final String DESCRIPTION = "Dump the heap into a file for the offline analysis";
+	private static final String NULL_DUMPER_EXCEPTION = "Cannot set a null heap dumper";
+
+	private transient HeapDumper dumper;
+
+	/**
+	 * Construct a <code>HeapDumpAction</code> instance with the dumper.
+	 * 
+	 * @param heapDumper the dumper to request the dumps
+	 * @throws NullPointerException if the dumper is null
+	 */
+	public HeapDumpAction(HeapDumper heapDumper) {
+		super(DEFAULT_ACTION_NAME);
+		dumper = requireNonNull(heapDumper, NULL_DUMPER_EXCEPTION);
+		putValue(SHORT_DESCRIPTION, DESCRIPTION);
+	}
+
+	/**
+	 * Construct a <code>HeapDumpAction</code> instance with the dumper, and show
+	 * the progress of the dumps in the progress monitor bar.
+	 * 
+	 * @param heapDumper the dumper to request the dumps
+	 * @param progressBar the bar to show the progress of the dumps
+	 * @throws NullPointerException if the dumper is null
+	 */
+	public HeapDumpAction(HeapDumper heapDumper, MultiProgressMonitorBar progressBar) {
+		this(heapDumper);
+		if(progressBar != null) {
+			progressBar.addMonitorProgress(dumper.getProgressModel());
+		}
+	}
+
+	/**
+	 * Get the dumper to request the dumps.
+	 * 
+	 * @return the heap dumper
+	 */
+	public HeapDumper getHeapDumper() {
+		return dumper;
+	}
+
+	@Override
+	public void actionPerformed(ActionEvent e) {
+		dumper.requestDump();
+	}
+}
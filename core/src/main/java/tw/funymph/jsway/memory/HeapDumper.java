@@ -0,0 +1,534 @@
+/* HeapDumper.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static java.lang.Runtime.getRuntime;
+import static java.lang.String.format;
+import static java.lang.System.currentTimeMillis;
+import static java.lang.management.ManagementFactory.getPlatformMBeanServer;
+import static java.lang.management.ManagementFactory.newPlatformMXBeanProxy;
+import static java.util.concurrent.Executors.newSingleThreadExecutor;
+import static javax.swing.SwingUtilities.invokeLater;
+import static tw.funymph.jsway.memory.ThreadAllocationTable.formatSize;
+import static tw.funymph.jsway.utils.ErrorReporter.report;
+import static tw.funymph.jsway.utils.ObjectUtilities.requireNonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+import javax.swing.DefaultBoundedRangeModel;
+
+import tw.funymph.jsway.ProgressModel;
+import tw.funymph.jsway.utils.HashedTimerWheel;
+import tw.funymph.jsway.utils.TickHandle;
+
+/**
+ * A throttled heap dumper that writes the heap into a file with the
+ * <code>dumpHeap</code> operation of the HotSpot diagnostic MXBean. The dumps
+ * run one at a time on a background daemon thread, and a request is rejected
+ * if:
+ * <ol>
+ * <li>the virtual machine does not support the heap dump</li>
+ * <li>another dump is in progress</li>
+ * <li>the cooldown since the end of the previous dump has not passed</li>
+ * <li>the maximum amount of the dumps has been reached</li>
+ * <li>the usable space of the directory is less than the used heap size plus
+ * the reserved space</li>
+ * </ol>
+ * The progress of the dumps and the rejections are shown by the
+ * {@link ProgressModel} returned by {@link #getProgressModel()}, which can be
+ * added into a {@link tw.funymph.jsway.MultiProgressMonitorBar}. Since the
+ * operation does not report its progress, the progress is estimated from the
+ * size of the file being written against the used heap size.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class HeapDumper {
+
+	public static final int DUMP_STARTED = 0;
+	public static final int REJECTED_UNSUPPORTED = 1;
+	public static final int REJECTED_IN_PROGRESS = 2;
+	public static final int REJECTED_COOLDOWN = 3;
+	public static final int REJECTED_LIMIT = 4;
+	public static final int REJECTED_DISK_SPACE = 5;
+
+	public static final long DEFAULT_COOLDOWN = 600000;
+	public static final int DEFAULT_MAXIMUM_DUMPS = 3;
+	public static final long DEFAULT_RESERVED_SPACE = 64L * 1024 * 1024;
+	public static final String DEFAULT_FILE_NAME_FORMAT = "heap-%1$tY%1$tm%1$td-%1$tH%1$tM%1$tS.hprof";
+
+	private static final int PROGRESS_PERIOD = 250;
+	private static final int MAXIMUM_PROGRESS = 100;
+	private static final String THREAD_NAME = "JavaSway Heap Dumper";
+	private static final String PROGRESS_TICK_NAME = "HeapDumper-Progress";
+	private static final String DIAGNOSTIC_MXBEAN_NAME = "com.sun.management:type=HotSpotDiagnostic";
+	private static final String UNIQUE_FILE_FORMAT = "%s-%d%s";
+	private static final String FILE_EXTENSION = ".hprof";
+
+	private static final String IDLE_INFO = "Heap dump";
+	private static final String DUMPING_INFO = "Dumping heap: %s";
+	private static final String DUMPED_INFO = "Heap dumped to %s";
+	private static final String FAILED_INFO = "Heap dump failed: %s";
+	private static final String[] REJECTED_INFO = { null, "Heap dump is not supported", "Heap dump is in progress",
+		"Heap dump is cooling down", "Heap dump limit is reached", "Not enough disk space for a heap dump" };
+
+	private static final String NULL_DIRECTORY_EXCEPTION = "Cannot set a null dump directory";
+	private static final String NULL_FORMAT_EXCEPTION = "Cannot set a null file name format";
+
+	private static final Executor EVENT_DISPATCH_EXECUTOR = new Executor() {
+
+		@Override
+		public void execute(Runnable command) {
+			invokeLater(command);
+		}
+	};
+
+	private File directory;
+	private String fileNameFormat;
+	private boolean liveObjectsOnly;
+	private long cooldown;
+	private int maximumDumps;
+	private long reservedSpace;
+
+	private boolean dumping;
+	private int dumpCount;
+	private long lastEndTime;
+	private File lastDumpFile;
+
+	private DumpInvoker invoker;
+	private ExecutorService executor;
+	private DumpProgress progress;
+
+	/**
+	 * Construct a <code>HeapDumper</code> instance that writes the dumps into
+	 * the temporary directory.
+	 */
+	public HeapDumper() {
+		this(new File(System.getProperty("java.io.tmpdir")));
+	}
+
+	/**
+	 * Construct a <code>HeapDumper</code> instance that writes the dumps into
+	 * the specified directory.
+	 * 
+	 * @param dumpDirectory the directory to write the dumps
+	 * @throws NullPointerException if the directory is null
+	 */
+	public HeapDumper(File dumpDirectory) {
+		setDirectory(dumpDirectory);
+		fileNameFormat = DEFAULT_FILE_NAME_FORMAT;
+		liveObjectsOnly = true;
+		cooldown = DEFAULT_COOLDOWN;
+		maximumDumps = DEFAULT_MAXIMUM_DUMPS;
+		reservedSpace = DEFAULT_RESERVED_SPACE;
+		progress = new DumpProgress();
+		try {
+			invoker = new DumpInvoker();
+		} catch (LinkageError e) {
+			// The HotSpot extension is not available
+			invoker = null;
+		} catch (IOException e) {
+			invoker = null;
+		} catch (IllegalArgumentException e) {
+			// The diagnostic MXBean is not registered
+			invoker = null;
+		}
+		executor = newSingleThreadExecutor(new ThreadFactory() {
+
+			@Override
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, THREAD_NAME);
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+	}
+
+	/**
+	 * Get whether the virtual machine supports the heap dump.
+	 * 
+	 * @return true if supported
+	 */
+	public boolean isSupported() {
+		return invoker != null;
+	}
+
+	/**
+	 * Set the directory to write the dumps.
+	 * 
+	 * @param dumpDirectory the directory
+	 * @throws NullPointerException if the directory is null
+	 */
+	public synchronized void setDirectory(File dumpDirectory) {
+		directory = requireNonNull(dumpDirectory, NULL_DIRECTORY_EXCEPTION);
+	}
+
+	/**
+	 * Get the directory to write the dumps.
+	 * 
+	 * @return the directory
+	 */
+	public synchronized File getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * Set the format of the file names, which is formatted with the time of the
+	 * dump, e.g., {@link #DEFAULT_FILE_NAME_FORMAT}. The virtual machines
+	 * usually require the file name to end with ".hprof".
+	 * 
+	 * @param format the format of the file names
+	 * @throws NullPointerException if the format is null
+	 */
+	public synchronized void setFileNameFormat(String format) {
+		fileNameFormat = requireNonNull(format, NULL_FORMAT_EXCEPTION);
+	}
+
+	/**
+	 * Get the format of the file names.
+	 * 
+	 * @return the format of the file names
+	 */
+	public synchronized String getFileNameFormat() {
+		return fileNameFormat;
+	}
+
+	/**
+	 * Set whether to dump only the live objects. If true (the default), a full
+	 * collection is forced before the dump.
+	 * 
+	 * @param liveOnly true to dump only the live objects
+	 */
+	public synchronized void setLiveObjectsOnly(boolean liveOnly) {
+		liveObjectsOnly = liveOnly;
+	}
+
+	/**
+	 * Get whether to dump only the live objects.
+	 * 
+	 * @return true if only the live objects are dumped
+	 */
+	public synchronized boolean isLiveObjectsOnly() {
+		return liveObjectsOnly;
+	}
+
+	/**
+	 * Set the minimum time between the end of a dump and the next dump.
+	 * 
+	 * @param time the cooldown in milliseconds
+	 */
+	public synchronized void setCooldown(long time) {
+		cooldown = Math.max(0, time);
+	}
+
+	/**
+	 * Get the minimum time between the end of a dump and the next dump.
+	 * 
+	 * @return the cooldown in milliseconds
+	 */
+	public synchronized long getCooldown() {
+		return cooldown;
+	}
+
+	/**
+	 * Set the maximum amount of the dumps, including the failed ones.
+	 * 
+	 * @param maximum the maximum amount of the dumps
+	 */
+	public synchronized void setMaximumDumps(int maximum) {
+		maximumDumps = Math.max(0, maximum);
+	}
+
+	/**
+	 * Get the maximum amount of the dumps.
+	 * 
+	 * @return the maximum amount of the dumps
+	 */
+	public synchronized int getMaximumDumps() {
+		return maximumDumps;
+	}
+
+	/**
+	 * Set the disk space to be left after a dump of the used heap size.
+	 * 
+	 * @param space the reserved space in bytes
+	 */
+	public synchronized void setReservedSpace(long space) {
+		reservedSpace = Math.max(0, space);
+	}
+
+	/**
+	 * Get the disk space to be left after a dump.
+	 * 
+	 * @return the reserved space in bytes
+	 */
+	public synchronized long getReservedSpace() {
+		return reservedSpace;
+	}
+
+	/**
+	 * Get whether a dump is in progress.
+	 * 
+	 * @return true if a dump is in progress
+	 */
+	public synchronized boolean isDumping() {
+		return dumping;
+	}
+
+	/**
+	 * Get the amount of the dumps started, including the failed ones.
+	 * 
+	 * @return the amount of the dumps
+	 */
+	public synchronized int getDumpCount() {
+		return dumpCount;
+	}
+
+	/**
+	 * Get the file of the latest successful dump.
+	 * 
+	 * @return the file, or null if no dump succeeds yet
+	 */
+	public synchronized File getLastDumpFile() {
+		return lastDumpFile;
+	}
+
+	/**
+	 * Get the progress of the dumps. The model is updated on the event
+	 * dispatch thread.
+	 * 
+	 * @return the progress model
+	 */
+	public ProgressModel getProgressModel() {
+		return progress;
+	}
+
+	/**
+	 * Request a heap dump on the background thread.
+	 * 
+	 * @return {@link #DUMP_STARTED} if the dump is started, or the reason of the
+	 * rejection, e.g., {@link #REJECTED_COOLDOWN}
+	 */
+	public int requestDump() {
+		final File file;
+		final boolean liveOnly;
+		final long expectedSize;
+		synchronized(this) {
+			Runtime runtime = getRuntime();
+			expectedSize = runtime.totalMemory() - runtime.freeMemory();
+			int result = checkRequest(expectedSize);
+			if(result != DUMP_STARTED) {
+				progress.post(0, REJECTED_INFO[result]);
+				return result;
+			}
+			file = createFile();
+			liveOnly = liveObjectsOnly;
+			dumping = true;
+			dumpCount++;
+		}
+		progress.post(0, format(DUMPING_INFO, file.getName()));
+		executor.execute(new Runnable() {
+
+			@Override
+			public void run() {
+				dump(file, liveOnly, expectedSize);
+			}
+		});
+		return DUMP_STARTED;
+	}
+
+	/**
+	 * Check whether a dump is allowed now.
+	 * 
+	 * @param expectedSize the expected size of the dump in bytes
+	 * @return {@link #DUMP_STARTED} if allowed, or the reason of the rejection
+	 */
+	private int checkRequest(long expectedSize) {
+		if(invoker == null) {
+			return REJECTED_UNSUPPORTED;
+		}
+		if(dumping) {
+			return REJECTED_IN_PROGRESS;
+		}
+		if(dumpCount >= maximumDumps) {
+			return REJECTED_LIMIT;
+		}
+		if(lastEndTime > 0 && currentTimeMillis() < lastEndTime + cooldown) {
+			return REJECTED_COOLDOWN;
+		}
+		if(directory.getUsableSpace() < expectedSize + reservedSpace) {
+			return REJECTED_DISK_SPACE;
+		}
+		return DUMP_STARTED;
+	}
+
+	/**
+	 * Create a file that does not exist in the directory, since the virtual
+	 * machine refuses to overwrite an existing file.
+	 * 
+	 * @return the file to write the dump
+	 */
+	private File createFile() {
+		String name = format(fileNameFormat, currentTimeMillis());
+		File file = new File(directory, name);
+		String base = name.endsWith(FILE_EXTENSION)? name.substring(0, name.length() - FILE_EXTENSION.length()) : name;
+		String extension = name.endsWith(FILE_EXTENSION)? FILE_EXTENSION : "";
+		for(int i = 1; file.exists(); i++) {
+			file = new File(directory, format(UNIQUE_FILE_FORMAT, base, i, extension));
+		}
+		return file;
+	}
+
+	/**
+	 * Dump the heap and report the progress. This method is invoked on the
+	 * background thread.
+	 * 
+	 * @param file the file to write the dump
+	 * @param liveOnly true to dump only the live objects
+	 * @param expectedSize the expected size of the dump in bytes
+	 */
+	private void dump(final File file, boolean liveOnly, final long expectedSize) {
+		TickHandle watcher = HashedTimerWheel.getInstance().schedule(PROGRESS_TICK_NAME, new Runnable() {
+
+			@Override
+			public void run() {
+				long size = file.length();
+				int value = (expectedSize > 0)? (int)Math.min(MAXIMUM_PROGRESS - 1, size * MAXIMUM_PROGRESS / expectedSize) : 0;
+				progress.update(value, format(DUMPING_INFO, formatSize(size, "")));
+			}
+		}, PROGRESS_PERIOD, EVENT_DISPATCH_EXECUTOR);
+		String failure = null;
+		try {
+			invoker.dumpHeap(file.getPath(), liveOnly);
+		} catch (IOException e) {
+			report(this, e);
+			failure = e.getMessage();
+		} catch (RuntimeException e) {
+			report(this, e);
+			failure = e.getMessage();
+		} finally {
+			watcher.cancel();
+		}
+		synchronized(this) {
+			dumping = false;
+			lastEndTime = currentTimeMillis();
+			if(failure == null) {
+				lastDumpFile = file;
+			}
+		}
+		if(failure == null) {
+			progress.post(MAXIMUM_PROGRESS, format(DUMPED_INFO, file.getPath()));
+		}
+		else {
+			progress.post(0, format(FAILED_INFO, failure));
+		}
+	}
+
+	/**
+	 * The invoker that isolates the references to the HotSpot extension so that
+	 * the dumper can be loaded on the virtual machines without the extension.
+	 * 
+	 * @author Pin-Ying Tu
+	 * @version 1.2
+	 * @since 1.2
+	 */
+	private static class DumpInvoker {
+
+		private com.sun.management.HotSpotDiagnosticMXBean diagnostic;
+
+		/**
+		 * Construct the invoker with the proxy of the diagnostic MXBean.
+		 * 
+		 * @throws IOException if the proxy cannot be created
+		 */
+		DumpInvoker() throws IOException {
+			diagnostic = newPlatformMXBeanProxy(getPlatformMBeanServer(), DIAGNOSTIC_MXBEAN_NAME, com.sun.management.HotSpotDiagnosticMXBean.class);
+		}
+
+		/**
+		 * Dump the heap into the file.
+		 * 
+		 * @param path the path of the file
+		 * @param liveOnly true to dump only the live objects
+		 * @throws IOException if the file cannot be written
+		 */
+		void dumpHeap(String path, boolean liveOnly) throws IOException {
+			diagnostic.dumpHeap(path, liveOnly);
+		}
+	}
+
+	/**
+	 * The progress model of the dumps, which is only modified on the event
+	 * dispatch thread.
+	 * 
+	 * @author Pin-Ying Tu
+	 * @version 1.2
+	 * @since 1.2
+	 */
+	private static class DumpProgress extends DefaultBoundedRangeModel implements ProgressModel {
+
+		private static final long serialVersionUID = 4410862519738253301L;
+
+		private String info;
+
+		/**
+		 * Construct an idle progress.
+		 */
+		DumpProgress() {
+			super(0, 0, 0, MAXIMUM_PROGRESS);
+			info = IDLE_INFO;
+		}
+
+		@Override
+		public String getProgressInfo() {
+			return info;
+		}
+
+		/**
+		 * Post the update to the event dispatch thread.
+		 * 
+		 * @param value the new value
+		 * @param text the new information
+		 */
+		void post(final int value, final String text) {
+			invokeLater(new Runnable() {
+
+				@Override
+				public void run() {
+					update(value, text);
+				}
+			});
+		}
+
+		/**
+		 * Update the value and the information, and notify the listeners even
+		 * if only the information is changed.
+		 * 
+		 * @param value the new value
+		 * @param text the new information
+		 */
+		void update(int value, String text) {
+			info = text;
+			if(value == getValue()) {
+				fireStateChanged();
+			}
+			else {
+				setValue(value);
+			}
+		}
+	}
+}
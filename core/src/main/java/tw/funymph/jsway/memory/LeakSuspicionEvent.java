@@ -0,0 +1,106 @@
+/* LeakSuspicionEvent.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+/**
+ * An event that describes a suspected memory leak, i.e., the occupancy of the
+ * old generation after the collections keeps growing along a line. The event
+ * carries the growth rate of the line, how well the samples fit the line, and
+ * the estimated time until the line reaches the maximum size.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class LeakSuspicionEvent {
+
+	private long timeStamp;
+	private double confidence;
+	private double growthRate;
+	private long timeToExhaustion;
+	private long usedSize;
+	private long maximumSize;
+
+	/**
+	 * Construct a <code>LeakSuspicionEvent</code> instance.
+	 * 
+	 * @param time the time stamp of the collection that raises the suspicion
+	 * @param score the confidence between 0 and 1
+	 * @param rate the growth rate in bytes per second
+	 * @param eta the estimated time to the exhaustion in milliseconds
+	 * @param used the used size of the old generation after the collection
+	 * @param maximum the maximum size of the old generation
+	 */
+	public LeakSuspicionEvent(long time, double score, double rate, long eta, long used, long maximum) {
+		timeStamp = time;
+		confidence = score;
+		growthRate = rate;
+		timeToExhaustion = eta;
+		usedSize = used;
+		maximumSize = maximum;
+	}
+
+	/**
+	 * Get the time stamp of the collection that raises the suspicion.
+	 * 
+	 * @return the time stamp
+	 */
+	public long getTimeStamp() {
+		return timeStamp;
+	}
+
+	/**
+	 * Get the confidence of the suspicion.
+	 * 
+	 * @return the confidence between 0 and 1
+	 */
+	public double getConfidence() {
+		return confidence;
+	}
+
+	/**
+	 * Get the growth rate of the old generation after the collections.
+	 * 
+	 * @return the growth rate in bytes per second
+	 */
+	public double getGrowthRate() {
+		return growthRate;
+	}
+
+	/**
+	 * Get the estimated time until the old generation is exhausted, counted
+	 * from the time stamp of the event.
+	 * 
+	 * @return the estimated time in milliseconds
+	 */
+	public long getTimeToExhaustion() {
+		return timeToExhaustion;
+	}
+
+	/**
+	 * Get the used size of the old generation after the collection.
+	 * 
+	 * @return the used size in bytes
+	 */
+	public long getUsedSize() {
+		return usedSize;
+	}
+
+	/**
+	 * Get the maximum size of the old generation.
+	 * 
+	 * @return the maximum size in bytes
+	 */
+	public long getMaximumSize() {
+		return maximumSize;
+	}
+}
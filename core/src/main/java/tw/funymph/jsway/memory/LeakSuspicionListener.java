@@ -0,0 +1,31 @@
+/* LeakSuspicionListener.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+/**
+ * A class can implement this interface to be notified when the
+ * {@link OldGenerationTrendAnalyzer} starts suspecting a memory leak.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public interface LeakSuspicionListener {
+
+	/**
+	 * Invoke when the old generation keeps growing after the collections
+	 * with enough confidence.
+	 * 
+	 * @param event the leak suspicion event
+	 */
+	void leakSuspected(LeakSuspicionEvent event);
+}
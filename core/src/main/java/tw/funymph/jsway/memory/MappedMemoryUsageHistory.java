@@ -0,0 +1,493 @@
+/* MappedMemoryUsageHistory.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
+import static tw.funymph.jsway.utils.ObjectUtilities.requireNonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.AbstractCollection;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.NoSuchElementException;
+
+import tw.funymph.jsway.utils.RecentHistory;
+import tw.funymph.jsway.utils.SequencedHistory;
+
+/**
+ * A {@link RecentMemoryUsageHistory} that keeps the events in a fixed-size ring
+ * file through a {@link MappedByteBuffer}, so the history survives the restarts
+ * of the application (e.g., by {@link tw.funymph.jsway.ApplicationRestarter})
+ * and a file copied from a user's machine can be opened for offline inspection.
+ * <p>
+ * The file starts with a 32-byte header (the magic number, the format version,
+ * the record size, the capacity and the amount of the events ever written),
+ * followed by <code>capacity + 1</code> fixed-width records. An event is always
+ * written into the spare record that does not hold any visible event, and then
+ * becomes visible by a single aligned write of the counter in the header. If
+ * the application crashes during an append, the file still holds the events
+ * before the append.
+ * <p>
+ * Only the time stamp, the memory sizes, the ratio and its base are recorded;
+ * the pool usages are not kept. The files of the format version 1 do not keep
+ * the ratio base; their events report the committed base, and the events
+ * appended to them lose the base as well.
+ * <p>
+ * The events returned by the history are flyweights: the object returned by
+ * <code>get(int)</code> is reused by the next call, and each iterator reuses
+ * its own event.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class MappedMemoryUsageHistory implements RecentMemoryUsageHistory {
+
+	public static final int MAGIC_NUMBER = 0x4A535748;
+	public static final int FORMAT_VERSION = 2;
+	public static final int HEADER_SIZE = 32;
+	public static final int RECORD_SIZE = 56;
+
+	private static final int UNBASED_FORMAT_VERSION = 1;
+	private static final int UNBASED_RECORD_SIZE = 40;
+
+	private static final int MAGIC_OFFSET = 0;
+	private static final int VERSION_OFFSET = 4;
+	private static final int RECORD_SIZE_OFFSET = 8;
+	private static final int CAPACITY_OFFSET = 12;
+	private static final int WRITTEN_OFFSET = 16;
+
+	private static final int TIME_STAMP_OFFSET = 0;
+	private static final int FREE_SIZE_OFFSET = 8;
+	private static final int USED_SIZE_OFFSET = 16;
+	private static final int TOTAL_SIZE_OFFSET = 24;
+	private static final int RATIO_OFFSET = 32;
+	private static final int RATIO_BASE_OFFSET = 40;
+	private static final int BASE_SIZE_OFFSET = 48;
+
+	private static final String NON_POSITIVE_CAPACITY_EXCEPTION = "The capacity must be positive: %d";
+	private static final String NULL_FILE_EXCEPTION = "The file cannot be null";
+	private static final String INVALID_FILE_EXCEPTION = "%s is not a memory usage history file";
+	private static final String UNSUPPORTED_VERSION_EXCEPTION = "Unsupported history file version: %d";
+	private static final String TRUNCATED_FILE_EXCEPTION = "%s is truncated";
+	private static final String FIXED_CAPACITY_EXCEPTION = "The capacity of a history file cannot be changed";
+	private static final String READ_ONLY_EXCEPTION = "The history file is opened in the read-only mode";
+
+	private boolean readOnly;
+	private boolean based;
+	private int capacity;
+	private int slots;
+	private int recordSize;
+
+	private RandomAccessFile file;
+	private MappedByteBuffer buffer;
+
+	private MappedEvents events;
+	private LinkedList<RecentMemoryUsageHistoryListener> listeners;
+
+	/**
+	 * Open the history file in the read-write mode. If the file does not exist
+	 * or is empty, a new file with the specified capacity is created; otherwise
+	 * the existing events are available immediately and the capacity of the
+	 * existing file is used.
+	 * 
+	 * @param historyFile the history file
+	 * @param maxCapacity the capacity of a new history file
+	 * @throws IOException if the file cannot be opened or is not a history file
+	 */
+	public MappedMemoryUsageHistory(File historyFile, int maxCapacity) throws IOException {
+		if(maxCapacity <= 0) {
+			throw new IllegalArgumentException(String.format(NON_POSITIVE_CAPACITY_EXCEPTION, maxCapacity));
+		}
+		open(requireNonNull(historyFile, NULL_FILE_EXCEPTION), maxCapacity, false);
+	}
+
+	/**
+	 * Open an existing history file in the read-only mode, e.g., a file copied
+	 * from another machine. The opened history ignores the memory usage
+	 * events notified by any notifier.
+	 * 
+	 * @param historyFile the history file
+	 * @throws IOException if the file cannot be opened or is not a history file
+	 */
+	public MappedMemoryUsageHistory(File historyFile) throws IOException {
+		open(requireNonNull(historyFile, NULL_FILE_EXCEPTION), 0, true);
+	}
+
+	/**
+	 * Get whether the history file is opened in the read-only mode.
+	 * 
+	 * @return true if the history is read-only
+	 */
+	public boolean isReadOnly() {
+		return readOnly;
+	}
+
+	/**
+	 * Force the appended events to be written to the storage device. The
+	 * events are already safe from the crashes of the application without
+	 * calling this method; this method protects them from the crashes of
+	 * the operating system.
+	 */
+	public void flush() {
+		if(!readOnly) {
+			buffer.force();
+		}
+	}
+
+	/**
+	 * Flush and close the history file. The history should not be used
+	 * after closed.
+	 * 
+	 * @throws IOException if the file cannot be closed
+	 */
+	public void close() throws IOException {
+		flush();
+		file.close();
+	}
+
+	@Override
+	public void memoryUsageUpdated(MemoryUsageEvent event) {
+		if(!readOnly) {
+			events.add(event);
+			notifyRecentHistoryChangeListeners();
+		}
+	}
+
+	/**
+	 * Get the recent memory usage event history. Note that the returned
+	 * events are flyweights that read the mapped file.
+	 * 
+	 * @return the recent memory usage event history
+	 */
+	@Override
+	public RecentHistory<MemoryUsageEvent> getEvents() {
+		return events;
+	}
+
+	@Override
+	public void addRecentHistoryChangeListener(RecentMemoryUsageHistoryListener listener) {
+		listeners.add(listener);
+	}
+
+	@Override
+	public void removeRecentHistoryChangeListener(RecentMemoryUsageHistoryListener listener) {
+		listeners.remove(listener);
+	}
+
+	@Override
+	public void notifyRecentHistoryChangeListeners() {
+		for(RecentMemoryUsageHistoryListener listener : listeners) {
+			listener.historyChanged(this);
+		}
+	}
+
+	/**
+	 * Open and map the history file, and initialize the header if the file
+	 * is a new one.
+	 * 
+	 * @param historyFile the history file
+	 * @param newCapacity the capacity of a new file
+	 * @param readOnlyMode true to open the file in the read-only mode
+	 * @throws IOException if the file cannot be opened or is not a history file
+	 */
+	private void open(File historyFile, int newCapacity, boolean readOnlyMode) throws IOException {
+		readOnly = readOnlyMode;
+		file = new RandomAccessFile(historyFile, readOnly? "r" : "rw");
+		try {
+			FileChannel channel = file.getChannel();
+			boolean created = !readOnly && file.length() == 0;
+			if(created) {
+				capacity = newCapacity;
+				recordSize = RECORD_SIZE;
+			}
+			else {
+				capacity = readHeader(historyFile, channel);
+			}
+			based = (recordSize == RECORD_SIZE);
+			slots = capacity + 1;
+			long length = HEADER_SIZE + (long)slots * recordSize;
+			if(!created && file.length() < length) {
+				throw new IOException(String.format(TRUNCATED_FILE_EXCEPTION, historyFile));
+			}
+			buffer = channel.map(readOnly? READ_ONLY : READ_WRITE, 0, length);
+			if(created) {
+				buffer.putInt(MAGIC_OFFSET, MAGIC_NUMBER);
+				buffer.putInt(VERSION_OFFSET, FORMAT_VERSION);
+				buffer.putInt(RECORD_SIZE_OFFSET, RECORD_SIZE);
+				buffer.putInt(CAPACITY_OFFSET, capacity);
+				buffer.putLong(WRITTEN_OFFSET, 0);
+			}
+		}
+		catch(IOException e) {
+			file.close();
+			throw e;
+		}
+		listeners = new LinkedList<RecentMemoryUsageHistoryListener>();
+		events = new MappedEvents();
+	}
+
+	/**
+	 * Read and validate the header of an existing file, and keep the record
+	 * size of its format version.
+	 * 
+	 * @param historyFile the history file
+	 * @param channel the channel of the file
+	 * @return the capacity of the file
+	 * @throws IOException if the file is not a history file
+	 */
+	private int readHeader(File historyFile, FileChannel channel) throws IOException {
+		if(channel.size() < HEADER_SIZE) {
+			throw new IOException(String.format(INVALID_FILE_EXCEPTION, historyFile));
+		}
+		MappedByteBuffer header = channel.map(READ_ONLY, 0, HEADER_SIZE);
+		if(header.getInt(MAGIC_OFFSET) != MAGIC_NUMBER || header.getInt(CAPACITY_OFFSET) <= 0) {
+			throw new IOException(String.format(INVALID_FILE_EXCEPTION, historyFile));
+		}
+		int version = header.getInt(VERSION_OFFSET);
+		if(version == FORMAT_VERSION) {
+			recordSize = RECORD_SIZE;
+		}
+		else if(version == UNBASED_FORMAT_VERSION) {
+			recordSize = UNBASED_RECORD_SIZE;
+		}
+		else {
+			throw new IOException(String.format(UNSUPPORTED_VERSION_EXCEPTION, version));
+		}
+		if(header.getInt(RECORD_SIZE_OFFSET) != recordSize) {
+			throw new IOException(String.format(INVALID_FILE_EXCEPTION, historyFile));
+		}
+		return header.getInt(CAPACITY_OFFSET);
+	}
+
+	/**
+	 * Get the amount of the events ever written into the file.
+	 * 
+	 * @return the amount of the events ever written
+	 */
+	private long written() {
+		return buffer.getLong(WRITTEN_OFFSET);
+	}
+
+	/**
+	 * Get the offset of the record of the event on the specified sequence.
+	 * 
+	 * @param sequence the sequence of the event (0 is the first event ever written)
+	 * @return the offset of the record
+	 */
+	private int offsetOf(long sequence) {
+		return HEADER_SIZE + (int)(sequence % slots) * recordSize;
+	}
+
+	/**
+	 * The {@link RecentHistory} view over the mapped ring file. The records written
+	 * to the file are counted as the adds, so a reopened history continues the
+	 * counters.
+	 * 
+	 * @author Pin-Ying Tu
+	 * @version 1.2
+	 * @since 1.2
+	 */
+	private class MappedEvents extends AbstractCollection<MemoryUsageEvent> implements SequencedHistory<MemoryUsageEvent> {
+
+		private static final String INDEX_OUT_OF_BOUNDS_EXCEPTION = "Index: %d, Size: %d";
+
+		private long clearedAdds;
+		private long removeCount;
+		private MappedEvent sharedCursor = new MappedEvent();
+
+		@Override
+		public int size() {
+			return (int)Math.min(written(), capacity);
+		}
+
+		@Override
+		public boolean add(MemoryUsageEvent event) {
+			if(readOnly) {
+				throw new UnsupportedOperationException(READ_ONLY_EXCEPTION);
+			}
+			long sequence = written();
+			int offset = offsetOf(sequence);
+			buffer.putLong(offset + TIME_STAMP_OFFSET, event.getTimeStamp());
+			buffer.putLong(offset + FREE_SIZE_OFFSET, event.getFreeMemorySize());
+			buffer.putLong(offset + USED_SIZE_OFFSET, event.getUsedMemorySize());
+			buffer.putLong(offset + TOTAL_SIZE_OFFSET, event.getTotalMemorySize());
+			buffer.putDouble(offset + RATIO_OFFSET, event.getMemoryUsageRatio());
+			if(based) {
+				buffer.putInt(offset + RATIO_BASE_OFFSET, event.getRatioBase());
+				buffer.putLong(offset + BASE_SIZE_OFFSET, event.getBaseMemorySize());
+			}
+			buffer.putLong(WRITTEN_OFFSET, sequence + 1);
+			return true;
+		}
+
+		@Override
+		public void clear() {
+			if(readOnly) {
+				throw new UnsupportedOperationException(READ_ONLY_EXCEPTION);
+			}
+			clearedAdds += written();
+			removeCount += size();
+			buffer.putLong(WRITTEN_OFFSET, 0);
+		}
+
+		@Override
+		public long getAddCount() {
+			return clearedAdds + written();
+		}
+
+		@Override
+		public long getInPlaceUpdateCount() {
+			return 0;
+		}
+
+		@Override
+		public long getRemoveCount() {
+			return removeCount;
+		}
+
+		@Override
+		public Iterator<MemoryUsageEvent> iterator() {
+			return new MappedIterator();
+		}
+
+		@Override
+		public void setMaximumRecentEventCapacity(int newCapacity) {
+			if(newCapacity != capacity) {
+				throw new UnsupportedOperationException(FIXED_CAPACITY_EXCEPTION);
+			}
+		}
+
+		@Override
+		public int getMaximumRecentEventCapacity() {
+			return capacity;
+		}
+
+		@Override
+		public void normalize() {
+			// The ring file is always normalized.
+		}
+
+		@Override
+		public MemoryUsageEvent get(int index) {
+			sharedCursor.offset = offsetAt(index);
+			return sharedCursor;
+		}
+
+		/**
+		 * Get the offset of the record on the specified index.
+		 * 
+		 * @param index the index (0 is the oldest)
+		 * @return the offset of the record
+		 */
+		private int offsetAt(int index) {
+			long total = written();
+			int size = (int)Math.min(total, capacity);
+			if(index < 0 || index >= size) {
+				throw new IndexOutOfBoundsException(String.format(INDEX_OUT_OF_BOUNDS_EXCEPTION, index, size));
+			}
+			return offsetOf(total - size + index);
+		}
+	}
+
+	/**
+	 * The flyweight event that reads a record of the mapped file.
+	 * 
+	 * @author Pin-Ying Tu
+	 * @version 1.2
+	 * @since 1.2
+	 */
+	private class MappedEvent extends MemoryUsageEvent {
+
+		private int offset;
+
+		/**
+		 * Construct a cursor over the mapped file.
+		 */
+		MappedEvent() {
+			super(0, 0, 0, 0, 0);
+		}
+
+		@Override
+		public long getTimeStamp() {
+			return buffer.getLong(offset + TIME_STAMP_OFFSET);
+		}
+
+		@Override
+		public long getFreeMemorySize() {
+			return buffer.getLong(offset + FREE_SIZE_OFFSET);
+		}
+
+		@Override
+		public long getUsedMemorySize() {
+			return buffer.getLong(offset + USED_SIZE_OFFSET);
+		}
+
+		@Override
+		public long getTotalMemorySize() {
+			return buffer.getLong(offset + TOTAL_SIZE_OFFSET);
+		}
+
+		@Override
+		public double getMemoryUsageRatio() {
+			return buffer.getDouble(offset + RATIO_OFFSET);
+		}
+
+		@Override
+		public int getRatioBase() {
+			return based? buffer.getInt(offset + RATIO_BASE_OFFSET) : RATIO_OF_COMMITTED;
+		}
+
+		@Override
+		public long getBaseMemorySize() {
+			return based? buffer.getLong(offset + BASE_SIZE_OFFSET) : getTotalMemorySize();
+		}
+	}
+
+	/**
+	 * The iterator that reuses its own cursor to traverse the records from
+	 * the oldest to the latest.
+	 * 
+	 * @author Pin-Ying Tu
+	 * @version 1.2
+	 * @since 1.2
+	 */
+	private class MappedIterator implements Iterator<MemoryUsageEvent> {
+
+		private int next;
+		private MappedEvent cursor = new MappedEvent();
+
+		@Override
+		public boolean hasNext() {
+			return next < events.size();
+		}
+
+		@Override
+		public MemoryUsageEvent next() {
+			if(next >= events.size()) {
+				throw new NoSuchElementException();
+			}
+			cursor.offset = events.offsetAt(next++);
+			return cursor;
+		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
@@ -0,0 +1,112 @@
+/* MemoryPoolLayout.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import java.util.Arrays;
+
+/**
+ * An immutable description of the memory pools captured by a
+ * {@link MultiPoolMemorySampler}: the name and the type of each pool.
+ * The layout is shared by all events sampled by the same sampler, so
+ * the per-pool values can be stored as plain arrays.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class MemoryPoolLayout {
+
+	public static final int HEAP_POOL = 0;
+	public static final int NON_HEAP_POOL = 1;
+	public static final int BUFFER_POOL = 2;
+
+	private String[] names;
+	private int[] types;
+
+	/**
+	 * Construct a <code>MemoryPoolLayout</code> instance by specifying the
+	 * pool names and types. The available types:<br />
+	 * <ol>
+	 * <li>{@link #HEAP_POOL}: a heap memory pool, e.g., eden or old gen</li>
+	 * <li>{@link #NON_HEAP_POOL}: a non-heap memory pool, e.g., metaspace</li>
+	 * <li>{@link #BUFFER_POOL}: a buffer pool, e.g., direct or mapped</li>
+	 * </ol>
+	 * 
+	 * @param poolNames the names of the pools
+	 * @param poolTypes the types of the pools
+	 */
+	public MemoryPoolLayout(String[] poolNames, int[] poolTypes) {
+		names = poolNames.clone();
+		types = poolTypes.clone();
+	}
+
+	/**
+	 * Get the amount of the pools.
+	 * 
+	 * @return the amount of the pools
+	 */
+	public int getPoolCount() {
+		return names.length;
+	}
+
+	/**
+	 * Get the name of the pool.
+	 * 
+	 * @param pool the index of the pool
+	 * @return the name of the pool
+	 */
+	public String getPoolName(int pool) {
+		return names[pool];
+	}
+
+	/**
+	 * Get the type of the pool.
+	 * 
+	 * @param pool the index of the pool
+	 * @return the type of the pool
+	 */
+	public int getPoolType(int pool) {
+		return types[pool];
+	}
+
+	/**
+	 * Find the index of the pool with the specified name.
+	 * 
+	 * @param name the name of the pool
+	 * @return the index of the pool, or -1 if not found
+	 */
+	public int indexOf(String name) {
+		for(int i = 0; i < names.length; i++) {
+			if(names[i].equals(name)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if(object == this) {
+			return true;
+		}
+		if(object instanceof MemoryPoolLayout) {
+			MemoryPoolLayout other = (MemoryPoolLayout)object;
+			return Arrays.equals(names, other.names) && Arrays.equals(types, other.types);
+		}
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(names) * 31 + Arrays.hashCode(types);
+	}
+}
@@ -0,0 +1,56 @@
+/* MemoryPoolUsages.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+/**
+ * A memory usage event can implement this interface to offer the usage of
+ * each memory pool at the time stamp of the event. A negative size means
+ * the value is not available.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public interface MemoryPoolUsages {
+
+	/**
+	 * Get the layout of the pools, or null if the event does not carry
+	 * any pool usage.
+	 * 
+	 * @return the layout of the pools
+	 */
+	MemoryPoolLayout getPoolLayout();
+
+	/**
+	 * Get the used size of the pool.
+	 * 
+	 * @param pool the index of the pool in the layout
+	 * @return the used size of the pool
+	 */
+	long getPoolUsedSize(int pool);
+
+	/**
+	 * Get the committed size of the pool.
+	 * 
+	 * @param pool the index of the pool in the layout
+	 * @return the committed size of the pool
+	 */
+	long getPoolCommittedSize(int pool);
+
+	/**
+	 * Get the maximum size of the pool.
+	 * 
+	 * @param pool the index of the pool in the layout
+	 * @return the maximum size of the pool
+	 */
+	long getPoolMaximumSize(int pool);
+}
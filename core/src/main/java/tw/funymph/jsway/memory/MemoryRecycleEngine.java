@@ -0,0 +1,316 @@
+/* MemoryRecycleEngine.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static java.lang.Runtime.getRuntime;
+import static java.lang.System.nanoTime;
+import static java.lang.management.ManagementFactory.getMemoryPoolMXBeans;
+import static java.lang.management.MemoryType.HEAP;
+import static tw.funymph.jsway.memory.MemoryUtilities.isOldGenerationPool;
+import static tw.funymph.jsway.utils.ObjectUtilities.requireNonNull;
+
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryUsage;
+
+import tw.funymph.jsway.property.NumberProperty;
+
+/**
+ * An engine that forces the garbage collections when its {@link RecyclePolicy}
+ * decides to. The engine converts every sample into the memory usage ratio in
+ * the chosen ratio base, consults the policy, and measures every forced
+ * collection. The running statistics of the forced collections are exposed as
+ * properties; note that the properties are updated on the thread that delivers
+ * the samples, i.e., the sampling thread of {@link MemoryUsageMonitor}.
+ * <p>
+ * The available ratio bases:
+ * <ol>
+ * <li>{@link #RATIO_OF_SAMPLE}: the ratio of the sample itself, i.e., follows the
+ * ratio base of {@link MemoryUsageMonitor}</li>
+ * <li>{@link #RATIO_OF_TOTAL}: the used size over the total (committed) size</li>
+ * <li>{@link #RATIO_OF_MAXIMUM}: the used size over the maximum heap size</li>
+ * <li>{@link #OLD_GENERATION_AFTER_COLLECTION}: the occupancy of the old generation
+ * after its last collection; falls back to {@link #RATIO_OF_MAXIMUM} if the
+ * old generation cannot be found</li>
+ * </ol>
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class MemoryRecycleEngine implements MemoryUsageListener {
+
+	public static final int RATIO_OF_TOTAL = 0;
+	public static final int RATIO_OF_MAXIMUM = 1;
+	public static final int OLD_GENERATION_AFTER_COLLECTION = 2;
+	public static final int RATIO_OF_SAMPLE = 3;
+	public static final int DEFAULT_RATIO_BASE = RATIO_OF_SAMPLE;
+
+	private static final String RECYCLE_COUNT_PROPERTY_NAME = "Forced Collections";
+	private static final String RECLAIMED_SIZE_PROPERTY_NAME = "Total Reclaimed Size";
+	private static final String LAST_RECLAIMED_PROPERTY_NAME = "Last Reclaimed Size";
+	private static final String AVERAGE_RECLAIMED_PROPERTY_NAME = "Average Reclaimed Size";
+	private static final String RECYCLE_TIME_PROPERTY_NAME = "Total Collection Time";
+	private static final String AVERAGE_TIME_PROPERTY_NAME = "Average Collection Time";
+
+	private static final Integer STATISTIC_STEP = 1;
+	private static final String SIZE_UNIT = "bytes";
+	private static final String TIME_UNIT = "ms";
+	private static final String NULL_POLICY_EXCEPTION = "Cannot set a null recycle policy";
+
+	private volatile int ratioBase;
+	private volatile RecyclePolicy policy;
+	private MemoryPoolMXBean oldGeneration;
+	private boolean oldGenerationResolved;
+
+	private NumberProperty<Long> recycleCount;
+	private NumberProperty<Long> reclaimedSize;
+	private NumberProperty<Long> lastReclaimedSize;
+	private NumberProperty<Double> averageReclaimedSize;
+	private NumberProperty<Double> recycleTime;
+	private NumberProperty<Double> averageRecycleTime;
+
+	/**
+	 * Construct a <code>MemoryRecycleEngine</code> instance with the
+	 * {@link DefaultRecyclePolicy} and the default ratio base.
+	 */
+	public MemoryRecycleEngine() {
+		this(new DefaultRecyclePolicy(), DEFAULT_RATIO_BASE);
+	}
+
+	/**
+	 * Construct a <code>MemoryRecycleEngine</code> instance by specifying the
+	 * policy and the ratio base.
+	 * 
+	 * @param recyclePolicy the policy to decide when to recycle
+	 * @param base the ratio base
+	 * @throws NullPointerException if the policy is null
+	 */
+	public MemoryRecycleEngine(RecyclePolicy recyclePolicy, int base) {
+		setRecyclePolicy(recyclePolicy);
+		setRatioBase(base);
+		recycleCount = createStatistic(RECYCLE_COUNT_PROPERTY_NAME, 0L, null);
+		reclaimedSize = createStatistic(RECLAIMED_SIZE_PROPERTY_NAME, 0L, SIZE_UNIT);
+		lastReclaimedSize = createStatistic(LAST_RECLAIMED_PROPERTY_NAME, 0L, SIZE_UNIT);
+		averageReclaimedSize = createStatistic(AVERAGE_RECLAIMED_PROPERTY_NAME, 0.0, SIZE_UNIT);
+		recycleTime = createStatistic(RECYCLE_TIME_PROPERTY_NAME, 0.0, TIME_UNIT);
+		averageRecycleTime = createStatistic(AVERAGE_TIME_PROPERTY_NAME, 0.0, TIME_UNIT);
+	}
+
+	/**
+	 * Set the policy to decide when to recycle.
+	 * 
+	 * @param recyclePolicy the new policy
+	 * @throws NullPointerException if the policy is null
+	 */
+	public void setRecyclePolicy(RecyclePolicy recyclePolicy) {
+		policy = requireNonNull(recyclePolicy, NULL_POLICY_EXCEPTION);
+	}
+
+	/**
+	 * Get the policy to decide when to recycle.
+	 * 
+	 * @return the recycle policy
+	 */
+	public RecyclePolicy getRecyclePolicy() {
+		return policy;
+	}
+
+	/**
+	 * Set the ratio base. Any unknown value means the default ratio base.
+	 * 
+	 * @param base the new ratio base
+	 */
+	public void setRatioBase(int base) {
+		ratioBase = (base >= RATIO_OF_TOTAL && base <= RATIO_OF_SAMPLE)? base : DEFAULT_RATIO_BASE;
+	}
+
+	/**
+	 * Get the ratio base.
+	 * 
+	 * @return the ratio base
+	 */
+	public int getRatioBase() {
+		return ratioBase;
+	}
+
+	/**
+	 * Get the property of the amount of the forced collections.
+	 * 
+	 * @return the recycle count property
+	 */
+	public NumberProperty<Long> getRecycleCountProperty() {
+		return recycleCount;
+	}
+
+	/**
+	 * Get the property of the total size reclaimed by the forced collections.
+	 * 
+	 * @return the reclaimed size property in bytes
+	 */
+	public NumberProperty<Long> getReclaimedSizeProperty() {
+		return reclaimedSize;
+	}
+
+	/**
+	 * Get the property of the size reclaimed by the last forced collection.
+	 * 
+	 * @return the last reclaimed size property in bytes
+	 */
+	public NumberProperty<Long> getLastReclaimedSizeProperty() {
+		return lastReclaimedSize;
+	}
+
+	/**
+	 * Get the property of the average size reclaimed by a forced collection.
+	 * 
+	 * @return the average reclaimed size property in bytes
+	 */
+	public NumberProperty<Double> getAverageReclaimedSizeProperty() {
+		return averageReclaimedSize;
+	}
+
+	/**
+	 * Get the property of the total time spent in the forced collections.
+	 * 
+	 * @return the total time property in milliseconds
+	 */
+	public NumberProperty<Double> getRecycleTimeProperty() {
+		return recycleTime;
+	}
+
+	/**
+	 * Get the property of the average time spent in a forced collection.
+	 * 
+	 * @return the average time property in milliseconds
+	 */
+	public NumberProperty<Double> getAverageRecycleTimeProperty() {
+		return averageRecycleTime;
+	}
+
+	@Override
+	public void memoryUsageUpdated(MemoryUsageEvent event) {
+		if(event == null) {
+			return;
+		}
+		if(policy.shouldRecycle(event.getTimeStamp(), getRatio(event))) {
+			recycle(event.getTimeStamp());
+		}
+	}
+
+	/**
+	 * Force a garbage collection on the calling thread, e.g., requested by the
+	 * user. The collection is measured and reported to the policy like the
+	 * automatic ones, so it also delays the next automatic collection.
+	 * 
+	 * @return the reclaimed size in bytes
+	 */
+	public long recycle() {
+		return recycle(System.currentTimeMillis());
+	}
+
+	/**
+	 * Force a garbage collection, update the statistics and inform the policy.
+	 * 
+	 * @param timeStamp the time stamp of the collection in milliseconds
+	 * @return the reclaimed size in bytes
+	 */
+	private synchronized long recycle(long timeStamp) {
+		Runtime runtime = getRuntime();
+		long before = runtime.totalMemory() - runtime.freeMemory();
+		long start = nanoTime();
+		System.gc();
+		double elapsed = (nanoTime() - start) / 1000000.0;
+		long after = runtime.totalMemory() - runtime.freeMemory();
+		long reclaimed = Math.max(0, before - after);
+		long count = recycleCount.getNumber().longValue() + 1;
+		long total = reclaimedSize.getNumber().longValue() + reclaimed;
+		double time = recycleTime.getNumber().doubleValue() + elapsed;
+		recycleCount.setNumber(count);
+		lastReclaimedSize.setNumber(reclaimed);
+		reclaimedSize.setNumber(total);
+		averageReclaimedSize.setNumber((double)total / count);
+		recycleTime.setNumber(time);
+		averageRecycleTime.setNumber(time / count);
+		policy.recycled(timeStamp, reclaimed, before);
+		return reclaimed;
+	}
+
+	/**
+	 * Get the memory usage ratio of the sample in the ratio base.
+	 * 
+	 * @param event the sample
+	 * @return the memory usage ratio
+	 */
+	public double getRatio(MemoryUsageEvent event) {
+		switch(ratioBase) {
+		case OLD_GENERATION_AFTER_COLLECTION:
+			MemoryPoolMXBean pool = findOldGeneration();
+			MemoryUsage usage = (pool != null && pool.isValid())? pool.getCollectionUsage() : null;
+			if(usage != null) {
+				long base = (usage.getMax() > 0)? usage.getMax() : usage.getCommitted();
+				return (base > 0)? (double)usage.getUsed() / base : 0;
+			}
+			return getRatioOfMaximum(event);
+		case RATIO_OF_MAXIMUM:
+			return getRatioOfMaximum(event);
+		case RATIO_OF_TOTAL:
+			long total = event.getTotalMemorySize();
+			return (total > 0)? (double)event.getUsedMemorySize() / total : event.getMemoryUsageRatio();
+		default:
+			return event.getMemoryUsageRatio();
+		}
+	}
+
+	/**
+	 * Get the memory usage ratio of the sample relative to the maximum heap
+	 * size, or the ratio of the sample if the maximum is undefined.
+	 * 
+	 * @param event the sample
+	 * @return the memory usage ratio
+	 */
+	private static double getRatioOfMaximum(MemoryUsageEvent event) {
+		long maximum = getRuntime().maxMemory();
+		return (maximum > 0 && maximum != Long.MAX_VALUE)? (double)event.getUsedMemorySize() / maximum : event.getMemoryUsageRatio();
+	}
+
+	/**
+	 * Find the heap pool of the old generation that supports the collection usage.
+	 * 
+	 * @return the old generation pool, or null if not found
+	 */
+	private synchronized MemoryPoolMXBean findOldGeneration() {
+		if(!oldGenerationResolved) {
+			oldGenerationResolved = true;
+			for(MemoryPoolMXBean pool : getMemoryPoolMXBeans()) {
+				if(pool.getType() == HEAP && pool.isCollectionUsageThresholdSupported() && isOldGenerationPool(pool.getName())) {
+					oldGeneration = pool;
+					break;
+				}
+			}
+		}
+		return oldGeneration;
+	}
+
+	/**
+	 * Create a read-only statistic property.
+	 * 
+	 * @param name the name of the property
+	 * @param value the initial value
+	 * @param unit the unit of the value, or null
+	 * @return the created property
+	 */
+	private static <T extends Comparable<T>> NumberProperty<T> createStatistic(String name, T value, String unit) {
+		NumberProperty<T> property = new NumberProperty<T>(name, (Number)value, null, null, STATISTIC_STEP, unit);
+		property.setUIEditable(false);
+		return property;
+	}
+}
@@ -0,0 +1,378 @@
+/* MemoryThresholdAlertService.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static java.lang.String.format;
+import static java.lang.management.ManagementFactory.getMemoryMXBean;
+import static java.lang.management.ManagementFactory.getMemoryPoolMXBeans;
+import static java.lang.management.MemoryNotificationInfo.MEMORY_COLLECTION_THRESHOLD_EXCEEDED;
+import static java.lang.management.MemoryNotificationInfo.MEMORY_THRESHOLD_EXCEEDED;
+import static java.lang.management.MemoryType.HEAP;
+import static tw.funymph.jsway.memory.MemoryThresholdEvent.COLLECTION_USAGE_THRESHOLD;
+import static tw.funymph.jsway.memory.MemoryThresholdEvent.USAGE_THRESHOLD;
+import static tw.funymph.jsway.memory.MemoryUsageMonitor.DEFAULT_DELIVERY_MODE;
+import static tw.funymph.jsway.memory.MemoryUsageMonitor.DELIVER_ON_SAMPLING_THREAD;
+import static tw.funymph.jsway.utils.ObjectUtilities.requireNonNull;
+
+import java.lang.management.MemoryNotificationInfo;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryUsage;
+import java.util.LinkedList;
+import java.util.List;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationFilterSupport;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+import tw.funymph.jsway.utils.ListenerRegistry;
+
+/**
+ * An alert service that is pushed by the memory threshold notifications of the
+ * virtual machine instead of polling. The service arms the usage threshold and
+ * the collection usage threshold of every heap pool from the level boundaries
+ * of {@link DefaultMemoryUsageColors}, e.g., the usage threshold at the warning
+ * boundary and the collection usage threshold at the alarm boundary of the pool
+ * maximum size. The virtual machine detects the crossings itself, so the
+ * service costs nothing between the crossings, and the poller can run at a
+ * slow rate. On a crossing, the listeners are notified and the monitor set by
+ * {@link #setSampledMonitor(TimingMonitor)} takes an immediate sample.
+ * <p>
+ * Note that a pool has only one usage threshold and one collection usage
+ * threshold shared by the whole virtual machine, so the service overrides the
+ * thresholds set by others and clears them when it stops. The pools without a
+ * defined maximum size are not armed.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class MemoryThresholdAlertService implements NotificationListener {
+
+	private static final int USAGE_LEVEL = 1;
+	private static final long DISARMED = 0;
+
+	private static final String NULL_COLORS_EXCEPTION = "Cannot set null colors";
+	private static final String INVALID_LEVEL_EXCEPTION = "The level is out of range: %d";
+
+	private boolean started;
+	private volatile int deliveryMode;
+	private volatile TimingMonitor sampledMonitor;
+
+	private int usageLevel;
+	private int collectionLevel;
+	private DefaultMemoryUsageColors colors;
+
+	private NotificationEmitter emitter;
+	private NotificationFilterSupport filter;
+	private List<MemoryPoolMXBean> armedPools;
+	private ListenerRegistry<MemoryThresholdListener, MemoryThresholdEvent> listeners;
+	private QueuedDispatcher<MemoryThresholdEvent> dispatcher;
+
+	/**
+	 * Construct a <code>MemoryThresholdAlertService</code> instance with the
+	 * default memory usage colors, and start listening to the crossings.
+	 */
+	public MemoryThresholdAlertService() {
+		this(new DefaultMemoryUsageColors());
+	}
+
+	/**
+	 * Construct a <code>MemoryThresholdAlertService</code> instance that arms the
+	 * thresholds from the specified colors, and start listening to the crossings.
+	 * The usage threshold is armed at the first level above the normal level, and
+	 * the collection usage threshold at the highest level.
+	 * 
+	 * @param usageColors the colors to arm the thresholds from
+	 * @throws NullPointerException if the colors is null
+	 */
+	public MemoryThresholdAlertService(DefaultMemoryUsageColors usageColors) {
+		colors = requireNonNull(usageColors, NULL_COLORS_EXCEPTION);
+		usageLevel = Math.min(USAGE_LEVEL, colors.getColorCount() - 1);
+		collectionLevel = colors.getColorCount() - 1;
+		deliveryMode = DEFAULT_DELIVERY_MODE;
+		armedPools = new LinkedList<MemoryPoolMXBean>();
+		filter = new NotificationFilterSupport();
+		filter.enableType(MEMORY_THRESHOLD_EXCEEDED);
+		filter.enableType(MEMORY_COLLECTION_THRESHOLD_EXCEEDED);
+		listeners = new ListenerRegistry<MemoryThresholdListener, MemoryThresholdEvent>() {
+
+			@Override
+			protected void deliver(MemoryThresholdListener listener, MemoryThresholdEvent event) {
+				listener.memoryThresholdExceeded(event);
+			}
+		};
+		dispatcher = new QueuedDispatcher<MemoryThresholdEvent>() {
+
+			@Override
+			protected void dispatch(MemoryThresholdEvent event) {
+				listeners.fire(event);
+			}
+		};
+		start();
+	}
+
+	/**
+	 * Arm the thresholds and start listening to the crossings.
+	 */
+	public synchronized void start() {
+		if(!started && getMemoryMXBean() instanceof NotificationEmitter) {
+			started = true;
+			emitter = (NotificationEmitter)getMemoryMXBean();
+			emitter.addNotificationListener(this, filter, null);
+			arm();
+		}
+	}
+
+	/**
+	 * Stop listening to the crossings and clear the armed thresholds.
+	 */
+	public synchronized void stop() {
+		if(started) {
+			started = false;
+			try {
+				emitter.removeNotificationListener(this);
+			} catch (ListenerNotFoundException e) {
+				// Already removed
+			}
+			disarm();
+		}
+	}
+
+	/**
+	 * Get whether the service is listening to the crossings.
+	 * 
+	 * @return true if the service is started
+	 */
+	public synchronized boolean isStarted() {
+		return started;
+	}
+
+	/**
+	 * Set the level whose boundary is used as the usage threshold.
+	 * 
+	 * @param level the color level
+	 * @throws IllegalArgumentException if the level is out of range
+	 */
+	public synchronized void setUsageLevel(int level) {
+		usageLevel = checkLevel(level);
+		rearm();
+	}
+
+	/**
+	 * Get the level whose boundary is used as the usage threshold.
+	 * 
+	 * @return the color level
+	 */
+	public synchronized int getUsageLevel() {
+		return usageLevel;
+	}
+
+	/**
+	 * Set the level whose boundary is used as the collection usage threshold.
+	 * 
+	 * @param level the color level
+	 * @throws IllegalArgumentException if the level is out of range
+	 */
+	public synchronized void setCollectionLevel(int level) {
+		collectionLevel = checkLevel(level);
+		rearm();
+	}
+
+	/**
+	 * Get the level whose boundary is used as the collection usage threshold.
+	 * 
+	 * @return the color level
+	 */
+	public synchronized int getCollectionLevel() {
+		return collectionLevel;
+	}
+
+	/**
+	 * Set the monitor that takes an immediate sample on a crossing, e.g., the
+	 * {@link MemoryUsageMonitor} that runs at a slow rate. Set null to disable
+	 * the immediate sample.
+	 * 
+	 * @param monitor the monitor to take the immediate samples
+	 */
+	public void setSampledMonitor(TimingMonitor monitor) {
+		sampledMonitor = monitor;
+	}
+
+	/**
+	 * Get the monitor that takes an immediate sample on a crossing.
+	 * 
+	 * @return the monitor, or null if not set
+	 */
+	public TimingMonitor getSampledMonitor() {
+		return sampledMonitor;
+	}
+
+	/**
+	 * Set the delivery mode. The available delivery modes are the ones of
+	 * {@link MemoryUsageMonitor}; {@link MemoryUsageMonitor#DELIVER_ON_SAMPLING_THREAD}
+	 * means the notification thread of the virtual machine here.
+	 * 
+	 * @param mode the new delivery mode
+	 */
+	public void setDeliveryMode(int mode) {
+		deliveryMode = mode;
+	}
+
+	/**
+	 * Get the delivery mode.
+	 * 
+	 * @return the delivery mode
+	 */
+	public int getDeliveryMode() {
+		return deliveryMode;
+	}
+
+	/**
+	 * Add the listener to receive the alerts.
+	 * 
+	 * @param listener the listener to be added
+	 */
+	public void addMemoryThresholdListener(MemoryThresholdListener listener) {
+		listeners.add(listener);
+	}
+
+	/**
+	 * Remove the listener.
+	 * 
+	 * @param listener the listener to be removed
+	 */
+	public void removeMemoryThresholdListener(MemoryThresholdListener listener) {
+		listeners.remove(listener);
+	}
+
+	/**
+	 * Get the threshold armed on the pool.
+	 * 
+	 * @param poolName the name of the pool
+	 * @param type the threshold type, {@link MemoryThresholdEvent#USAGE_THRESHOLD}
+	 * or {@link MemoryThresholdEvent#COLLECTION_USAGE_THRESHOLD}
+	 * @return the threshold in bytes, or 0 if the pool is not armed
+	 */
+	public synchronized long getArmedThreshold(String poolName, int type) {
+		for(MemoryPoolMXBean pool : armedPools) {
+			if(pool.getName().equals(poolName)) {
+				return computeThreshold(pool, (type == USAGE_THRESHOLD)? usageLevel : collectionLevel);
+			}
+		}
+		return DISARMED;
+	}
+
+	@Override
+	public void handleNotification(Notification notification, Object handback) {
+		String type = notification.getType();
+		boolean usage = MEMORY_THRESHOLD_EXCEEDED.equals(type);
+		if(!usage && !MEMORY_COLLECTION_THRESHOLD_EXCEEDED.equals(type)) {
+			return;
+		}
+		MemoryNotificationInfo info = MemoryNotificationInfo.from((CompositeData)notification.getUserData());
+		MemoryUsage poolUsage = info.getUsage();
+		int level;
+		long threshold;
+		synchronized(this) {
+			level = usage? usageLevel : collectionLevel;
+			threshold = Math.max(1, (long)(poolUsage.getMax() * colors.getLevelBoundary(level)));
+		}
+		MemoryThresholdEvent event = new MemoryThresholdEvent(notification.getTimeStamp(), info.getPoolName(),
+				usage? USAGE_THRESHOLD : COLLECTION_USAGE_THRESHOLD, level, threshold, poolUsage.getUsed(), poolUsage.getMax(), info.getCount());
+		TimingMonitor monitor = sampledMonitor;
+		if(monitor != null && monitor.isMonitoring()) {
+			monitor.sampleNow();
+		}
+		if(deliveryMode == DELIVER_ON_SAMPLING_THREAD) {
+			listeners.fire(event);
+		}
+		else {
+			dispatcher.post(event);
+		}
+	}
+
+	/**
+	 * Arm the thresholds of the heap pools with a defined maximum size.
+	 */
+	private void arm() {
+		for(MemoryPoolMXBean pool : getMemoryPoolMXBeans()) {
+			if(pool.getType() != HEAP || !pool.isValid() || pool.getUsage() == null || pool.getUsage().getMax() <= 0) {
+				continue;
+			}
+			if(pool.isUsageThresholdSupported()) {
+				pool.setUsageThreshold(computeThreshold(pool, usageLevel));
+			}
+			if(pool.isCollectionUsageThresholdSupported()) {
+				pool.setCollectionUsageThreshold(computeThreshold(pool, collectionLevel));
+			}
+			if(pool.isUsageThresholdSupported() || pool.isCollectionUsageThresholdSupported()) {
+				armedPools.add(pool);
+			}
+		}
+	}
+
+	/**
+	 * Clear the armed thresholds.
+	 */
+	private void disarm() {
+		for(MemoryPoolMXBean pool : armedPools) {
+			if(pool.isValid()) {
+				if(pool.isUsageThresholdSupported()) {
+					pool.setUsageThreshold(DISARMED);
+				}
+				if(pool.isCollectionUsageThresholdSupported()) {
+					pool.setCollectionUsageThreshold(DISARMED);
+				}
+			}
+		}
+		armedPools.clear();
+	}
+
+	/**
+	 * Arm the thresholds again if the service is started.
+	 */
+	private void rearm() {
+		if(started) {
+			disarm();
+			arm();
+		}
+	}
+
+	/**
+	 * Compute the threshold of the pool from the level boundary. The threshold
+	 * is at least one byte because zero disables the threshold.
+	 * 
+	 * @param pool the memory pool
+	 * @param level the color level
+	 * @return the threshold in bytes
+	 */
+	private long computeThreshold(MemoryPoolMXBean pool, int level) {
+		return Math.max(1, (long)(pool.getUsage().getMax() * colors.getLevelBoundary(level)));
+	}
+
+	/**
+	 * Check the level.
+	 * 
+	 * @param level the color level
+	 * @return the given level
+	 * @throws IllegalArgumentException if the level is out of range
+	 */
+	private int checkLevel(int level) {
+		if(level < 0 || level >= colors.getColorCount()) {
+			throw new IllegalArgumentException(format(INVALID_LEVEL_EXCEPTION, level));
+		}
+		return level;
+	}
+}
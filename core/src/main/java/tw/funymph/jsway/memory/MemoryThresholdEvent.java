@@ -0,0 +1,143 @@
+/* MemoryThresholdEvent.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+/**
+ * An event that describes a crossing of the usage threshold or the collection
+ * usage threshold of a memory pool. The usage threshold is crossed when the
+ * pool grows over the threshold; the collection usage threshold is crossed
+ * when the pool is still over the threshold after a garbage collection, which
+ * usually means a real memory pressure instead of the garbage to be collected.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class MemoryThresholdEvent {
+
+	public static final int USAGE_THRESHOLD = 0;
+	public static final int COLLECTION_USAGE_THRESHOLD = 1;
+
+	private long timeStamp;
+	private String poolName;
+	private int thresholdType;
+	private int level;
+	private long threshold;
+	private long usedSize;
+	private long maximumSize;
+	private long count;
+
+	/**
+	 * Construct a <code>MemoryThresholdEvent</code> instance.
+	 * 
+	 * @param time the time stamp when the crossing is notified
+	 * @param pool the name of the memory pool
+	 * @param type the threshold type, {@link #USAGE_THRESHOLD} or {@link #COLLECTION_USAGE_THRESHOLD}
+	 * @param thresholdLevel the color level that the threshold is armed from
+	 * @param thresholdSize the threshold in bytes
+	 * @param used the used size of the pool when the crossing is detected
+	 * @param maximum the maximum size of the pool
+	 * @param crossingCount the number of the crossings of the threshold
+	 */
+	public MemoryThresholdEvent(long time, String pool, int type, int thresholdLevel, long thresholdSize, long used, long maximum, long crossingCount) {
+		timeStamp = time;
+		poolName = pool;
+		thresholdType = type;
+		level = thresholdLevel;
+		threshold = thresholdSize;
+		usedSize = used;
+		maximumSize = maximum;
+		count = crossingCount;
+	}
+
+	/**
+	 * Get the time stamp when the crossing is notified.
+	 * 
+	 * @return the time stamp
+	 */
+	public long getTimeStamp() {
+		return timeStamp;
+	}
+
+	/**
+	 * Get the name of the memory pool.
+	 * 
+	 * @return the name of the memory pool
+	 */
+	public String getPoolName() {
+		return poolName;
+	}
+
+	/**
+	 * Get the threshold type.
+	 * 
+	 * @return {@link #USAGE_THRESHOLD} or {@link #COLLECTION_USAGE_THRESHOLD}
+	 */
+	public int getThresholdType() {
+		return thresholdType;
+	}
+
+	/**
+	 * Get the color level that the threshold is armed from.
+	 * 
+	 * @return the color level
+	 */
+	public int getLevel() {
+		return level;
+	}
+
+	/**
+	 * Get the threshold in bytes.
+	 * 
+	 * @return the threshold
+	 */
+	public long getThreshold() {
+		return threshold;
+	}
+
+	/**
+	 * Get the used size of the pool when the crossing is detected.
+	 * 
+	 * @return the used size in bytes
+	 */
+	public long getUsedSize() {
+		return usedSize;
+	}
+
+	/**
+	 * Get the maximum size of the pool.
+	 * 
+	 * @return the maximum size in bytes
+	 */
+	public long getMaximumSize() {
+		return maximumSize;
+	}
+
+	/**
+	 * Get the usage ratio of the pool, i.e., the used size over the maximum size.
+	 * 
+	 * @return the usage ratio
+	 */
+	public double getUsageRatio() {
+		return (maximumSize > 0)? (double)usedSize / (double)maximumSize : 0;
+	}
+
+	/**
+	 * Get the number of the crossings of the threshold reported by the
+	 * virtual machine.
+	 * 
+	 * @return the crossing count
+	 */
+	public long getCount() {
+		return count;
+	}
+}
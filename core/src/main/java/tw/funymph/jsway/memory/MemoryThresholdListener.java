@@ -0,0 +1,30 @@
+/* MemoryThresholdListener.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+/**
+ * A class can implement this interface to receive the alerts when the usage
+ * of a memory pool crosses a threshold armed by {@link MemoryThresholdAlertService}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public interface MemoryThresholdListener {
+
+	/**
+	 * Invoke when the usage of a memory pool exceeds the armed threshold.
+	 * 
+	 * @param event the threshold event
+	 */
+	void memoryThresholdExceeded(MemoryThresholdEvent event);
+}
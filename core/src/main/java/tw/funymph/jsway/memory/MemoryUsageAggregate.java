@@ -0,0 +1,81 @@
+/* MemoryUsageAggregate.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+/**
+ * A memory usage event can implement this interface to offer the aggregates
+ * of all samples within a time bucket. The <code>MemoryUsageEvent</code>
+ * accessors of such an event return the values of the last sample in the
+ * bucket.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public interface MemoryUsageAggregate {
+
+	/**
+	 * Get the start time of the bucket.
+	 * 
+	 * @return the start time of the bucket
+	 */
+	long getBucketStartTime();
+
+	/**
+	 * Get the amount of the samples in the bucket.
+	 * 
+	 * @return the amount of the samples
+	 */
+	int getSampleCount();
+
+	/**
+	 * Get the minimum memory usage ratio in the bucket.
+	 * 
+	 * @return the minimum memory usage ratio
+	 */
+	double getMinimumRatio();
+
+	/**
+	 * Get the maximum memory usage ratio in the bucket.
+	 * 
+	 * @return the maximum memory usage ratio
+	 */
+	double getMaximumRatio();
+
+	/**
+	 * Get the average memory usage ratio in the bucket.
+	 * 
+	 * @return the average memory usage ratio
+	 */
+	double getAverageRatio();
+
+	/**
+	 * Get the minimum used memory size in the bucket.
+	 * 
+	 * @return the minimum used memory size
+	 */
+	long getMinimumUsedSize();
+
+	/**
+	 * Get the maximum used memory size in the bucket.
+	 * 
+	 * @return the maximum used memory size
+	 */
+	long getMaximumUsedSize();
+
+	/**
+	 * Get the average used memory size in the bucket.
+	 * 
+	 * @return the average used memory size
+	 */
+	double getAverageUsedSize();
+}
@@ -0,0 +1,496 @@
+/* MemoryUsageBucketColumns.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import java.util.Iterator;
+
+import tw.funymph.jsway.utils.AbstractRingHistory;
+import tw.funymph.jsway.utils.RecentHistory;
+
+/**
+ * A {@link RecentHistory} that downsamples the memory usage events into
+ * fixed-length time buckets. Adding an event whose time stamp falls into the
+ * latest bucket updates the aggregates of that bucket in place; otherwise a new
+ * bucket is started and the oldest bucket may be evicted. The buckets are kept
+ * in parallel primitive arrays, so the memory is bounded by the capacity no
+ * matter how many events are added.
+ * <p>
+ * The events returned by {@link #get(int)} and by the iterators are flyweights
+ * that implement {@link MemoryUsageAggregate}: the object returned by
+ * {@link #get(int)} is reused by the next call, and each iterator reuses its
+ * own cursor.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class MemoryUsageBucketColumns extends AbstractRingHistory<MemoryUsageEvent> {
+
+	private static final String ILLEGAL_RESOLUTION_EXCEPTION = "The resolution must be positive: %d";
+
+	private long resolution;
+
+	private long[] startTimes;
+	private int[] counts;
+	private double[] minimumRatios;
+	private double[] maximumRatios;
+	private double[] ratioSums;
+	private long[] minimumUsedSizes;
+	private long[] maximumUsedSizes;
+	private double[] usedSizeSums;
+	private long[] lastTimeStamps;
+	private long[] lastFreeSizes;
+	private long[] lastUsedSizes;
+	private long[] lastTotalSizes;
+	private double[] lastRatios;
+	private byte[] lastRatioBases;
+	private long[] lastBaseSizes;
+
+	private BucketCursor sharedCursor;
+
+	/**
+	 * Construct a <code>MemoryUsageBucketColumns</code> instance by specifying
+	 * the bucket length and the maximum amount of the buckets.
+	 * 
+	 * @param bucketLength the length of a bucket in milliseconds
+	 * @param maxCapacity the maximum amount of the buckets
+	 * @throws IllegalArgumentException if the bucket length is not positive
+	 */
+	public MemoryUsageBucketColumns(long bucketLength, int maxCapacity) {
+		if(bucketLength <= 0) {
+			throw new IllegalArgumentException(String.format(ILLEGAL_RESOLUTION_EXCEPTION, bucketLength));
+		}
+		resolution = bucketLength;
+		sharedCursor = new BucketCursor();
+		setMaximumRecentEventCapacity(maxCapacity);
+	}
+
+	/**
+	 * Get the length of a bucket.
+	 * 
+	 * @return the length of a bucket in milliseconds
+	 */
+	public long getResolution() {
+		return resolution;
+	}
+
+	/**
+	 * Add a sample by specifying its values without creating the event object.
+	 * The ratio is relative to the total (committed) size.
+	 * 
+	 * @param time the time stamp of the sample
+	 * @param free the free memory size
+	 * @param used the used memory size
+	 * @param total the total memory size
+	 * @param ratio the memory usage ratio
+	 * @return true if the sample is added
+	 */
+	public boolean add(long time, long free, long used, long total, double ratio) {
+		return add(time, free, used, total, ratio, MemoryUsageEvent.RATIO_OF_COMMITTED, total);
+	}
+
+	/**
+	 * Add a sample whose ratio is relative to the specified base without
+	 * creating the event object. A bucket keeps the base of its last sample.
+	 * 
+	 * @param time the time stamp of the sample
+	 * @param free the free memory size
+	 * @param used the used memory size
+	 * @param total the total memory size
+	 * @param ratio the memory usage ratio relative to the base size
+	 * @param base the ratio base
+	 * @param baseSize the base memory size of the ratio
+	 * @return true if the sample is added
+	 */
+	public boolean add(long time, long free, long used, long total, double ratio, int base, long baseSize) {
+		if(mergeLatest(time, free, used, total, ratio, base, baseSize)) {
+			return true;
+		}
+		int slot = nextSlot();
+		if(slot < 0) {
+			return false;
+		}
+		startBucket(slot, time, free, used, total, ratio, base, baseSize);
+		return true;
+	}
+
+	/**
+	 * Get the start time of the bucket on the specified index.
+	 * 
+	 * @param index the index (0 is the oldest)
+	 * @return the start time of the bucket
+	 */
+	public long getBucketStartTime(int index) {
+		return startTimes[slot(index)];
+	}
+
+	/**
+	 * Get the amount of the samples in the bucket on the specified index.
+	 * 
+	 * @param index the index (0 is the oldest)
+	 * @return the amount of the samples
+	 */
+	public int getSampleCount(int index) {
+		return counts[slot(index)];
+	}
+
+	/**
+	 * Get the minimum memory usage ratio in the bucket on the specified index.
+	 * 
+	 * @param index the index (0 is the oldest)
+	 * @return the minimum memory usage ratio
+	 */
+	public double getMinimumRatio(int index) {
+		return minimumRatios[slot(index)];
+	}
+
+	/**
+	 * Get the maximum memory usage ratio in the bucket on the specified index.
+	 * 
+	 * @param index the index (0 is the oldest)
+	 * @return the maximum memory usage ratio
+	 */
+	public double getMaximumRatio(int index) {
+		return maximumRatios[slot(index)];
+	}
+
+	/**
+	 * Get the average memory usage ratio in the bucket on the specified index.
+	 * 
+	 * @param index the index (0 is the oldest)
+	 * @return the average memory usage ratio
+	 */
+	public double getAverageRatio(int index) {
+		int slot = slot(index);
+		return ratioSums[slot] / counts[slot];
+	}
+
+	/**
+	 * Get the last memory usage ratio in the bucket on the specified index.
+	 * 
+	 * @param index the index (0 is the oldest)
+	 * @return the last memory usage ratio
+	 */
+	public double getLastRatio(int index) {
+		return lastRatios[slot(index)];
+	}
+
+	/**
+	 * Add the event into the latest bucket if its time stamp falls into that
+	 * bucket; otherwise a new bucket is started by the event.
+	 * 
+	 * @param event the event to be added
+	 * @return true if the event is added
+	 */
+	@Override
+	public boolean add(MemoryUsageEvent event) {
+		if(mergeLatest(event.getTimeStamp(), event.getFreeMemorySize(), event.getUsedMemorySize(), event.getTotalMemorySize(),
+				event.getMemoryUsageRatio(), event.getRatioBase(), event.getBaseMemorySize())) {
+			return true;
+		}
+		return super.add(event);
+	}
+
+	@Override
+	public Iterator<MemoryUsageEvent> iterator() {
+		return new BucketIterator();
+	}
+
+	/**
+	 * Merge the sample into the latest bucket if its time stamp falls into
+	 * the latest bucket.
+	 * 
+	 * @param time the time stamp of the sample
+	 * @param free the free memory size
+	 * @param used the used memory size
+	 * @param total the total memory size
+	 * @param ratio the memory usage ratio relative to the base size
+	 * @param base the ratio base
+	 * @param baseSize the base memory size of the ratio
+	 * @return true if merged, or false if a new bucket should be started
+	 */
+	private boolean mergeLatest(long time, long free, long used, long total, double ratio, int base, long baseSize) {
+		if(isEmpty()) {
+			return false;
+		}
+		int slot = slotOf(size() - 1);
+		if(startTimes[slot] != time - (time % resolution)) {
+			return false;
+		}
+		counts[slot]++;
+		minimumRatios[slot] = Math.min(minimumRatios[slot], ratio);
+		maximumRatios[slot] = Math.max(maximumRatios[slot], ratio);
+		ratioSums[slot] += ratio;
+		minimumUsedSizes[slot] = Math.min(minimumUsedSizes[slot], used);
+		maximumUsedSizes[slot] = Math.max(maximumUsedSizes[slot], used);
+		usedSizeSums[slot] += used;
+		storeLast(slot, time, free, used, total, ratio, base, baseSize);
+		updatedInPlace();
+		return true;
+	}
+
+	/**
+	 * Start a new bucket in the slot with its first sample.
+	 * 
+	 * @param slot the slot reserved for the bucket
+	 * @param time the time stamp of the sample
+	 * @param free the free memory size
+	 * @param used the used memory size
+	 * @param total the total memory size
+	 * @param ratio the memory usage ratio relative to the base size
+	 * @param base the ratio base
+	 * @param baseSize the base memory size of the ratio
+	 */
+	private void startBucket(int slot, long time, long free, long used, long total, double ratio, int base, long baseSize) {
+		startTimes[slot] = time - (time % resolution);
+		counts[slot] = 1;
+		minimumRatios[slot] = ratio;
+		maximumRatios[slot] = ratio;
+		ratioSums[slot] = ratio;
+		minimumUsedSizes[slot] = used;
+		maximumUsedSizes[slot] = used;
+		usedSizeSums[slot] = used;
+		storeLast(slot, time, free, used, total, ratio, base, baseSize);
+	}
+
+	/**
+	 * Store the values of the last sample of the bucket in the slot.
+	 * 
+	 * @param slot the slot of the bucket
+	 * @param time the time stamp of the sample
+	 * @param free the free memory size
+	 * @param used the used memory size
+	 * @param total the total memory size
+	 * @param ratio the memory usage ratio relative to the base size
+	 * @param base the ratio base
+	 * @param baseSize the base memory size of the ratio
+	 */
+	private void storeLast(int slot, long time, long free, long used, long total, double ratio, int base, long baseSize) {
+		lastTimeStamps[slot] = time;
+		lastFreeSizes[slot] = free;
+		lastUsedSizes[slot] = used;
+		lastTotalSizes[slot] = total;
+		lastRatios[slot] = ratio;
+		lastRatioBases[slot] = (byte)base;
+		lastBaseSizes[slot] = baseSize;
+	}
+
+	/**
+	 * Convert the logical index into the slot of the arrays.
+	 * 
+	 * @param index the logical index
+	 * @return the slot
+	 */
+	private int slot(int index) {
+		return slotOf(checkIndex(index));
+	}
+
+	@Override
+	protected void allocate(int newCapacity, int first, int count) {
+		long[] newStartTimes = new long[newCapacity];
+		int[] newCounts = new int[newCapacity];
+		double[] newMinimumRatios = new double[newCapacity];
+		double[] newMaximumRatios = new double[newCapacity];
+		double[] newRatioSums = new double[newCapacity];
+		long[] newMinimumUsedSizes = new long[newCapacity];
+		long[] newMaximumUsedSizes = new long[newCapacity];
+		double[] newUsedSizeSums = new double[newCapacity];
+		long[] newLastTimeStamps = new long[newCapacity];
+		long[] newLastFreeSizes = new long[newCapacity];
+		long[] newLastUsedSizes = new long[newCapacity];
+		long[] newLastTotalSizes = new long[newCapacity];
+		double[] newLastRatios = new double[newCapacity];
+		byte[] newLastRatioBases = new byte[newCapacity];
+		long[] newLastBaseSizes = new long[newCapacity];
+		if(startTimes != null) {
+			copyRing(startTimes, first, count, newStartTimes);
+			copyRing(counts, first, count, newCounts);
+			copyRing(minimumRatios, first, count, newMinimumRatios);
+			copyRing(maximumRatios, first, count, newMaximumRatios);
+			copyRing(ratioSums, first, count, newRatioSums);
+			copyRing(minimumUsedSizes, first, count, newMinimumUsedSizes);
+			copyRing(maximumUsedSizes, first, count, newMaximumUsedSizes);
+			copyRing(usedSizeSums, first, count, newUsedSizeSums);
+			copyRing(lastTimeStamps, first, count, newLastTimeStamps);
+			copyRing(lastFreeSizes, first, count, newLastFreeSizes);
+			copyRing(lastUsedSizes, first, count, newLastUsedSizes);
+			copyRing(lastTotalSizes, first, count, newLastTotalSizes);
+			copyRing(lastRatios, first, count, newLastRatios);
+			copyRing(lastRatioBases, first, count, newLastRatioBases);
+			copyRing(lastBaseSizes, first, count, newLastBaseSizes);
+		}
+		startTimes = newStartTimes;
+		counts = newCounts;
+		minimumRatios = newMinimumRatios;
+		maximumRatios = newMaximumRatios;
+		ratioSums = newRatioSums;
+		minimumUsedSizes = newMinimumUsedSizes;
+		maximumUsedSizes = newMaximumUsedSizes;
+		usedSizeSums = newUsedSizeSums;
+		lastTimeStamps = newLastTimeStamps;
+		lastFreeSizes = newLastFreeSizes;
+		lastUsedSizes = newLastUsedSizes;
+		lastTotalSizes = newLastTotalSizes;
+		lastRatios = newLastRatios;
+		lastRatioBases = newLastRatioBases;
+		lastBaseSizes = newLastBaseSizes;
+	}
+
+	@Override
+	protected void store(int slot, MemoryUsageEvent event) {
+		startBucket(slot, event.getTimeStamp(), event.getFreeMemorySize(), event.getUsedMemorySize(), event.getTotalMemorySize(),
+				event.getMemoryUsageRatio(), event.getRatioBase(), event.getBaseMemorySize());
+	}
+
+	@Override
+	protected MemoryUsageEvent load(int slot) {
+		sharedCursor.slot = slot;
+		return sharedCursor;
+	}
+
+	@Override
+	protected void move(int from, int to) {
+		startTimes[to] = startTimes[from];
+		counts[to] = counts[from];
+		minimumRatios[to] = minimumRatios[from];
+		maximumRatios[to] = maximumRatios[from];
+		ratioSums[to] = ratioSums[from];
+		minimumUsedSizes[to] = minimumUsedSizes[from];
+		maximumUsedSizes[to] = maximumUsedSizes[from];
+		usedSizeSums[to] = usedSizeSums[from];
+		lastTimeStamps[to] = lastTimeStamps[from];
+		lastFreeSizes[to] = lastFreeSizes[from];
+		lastUsedSizes[to] = lastUsedSizes[from];
+		lastTotalSizes[to] = lastTotalSizes[from];
+		lastRatios[to] = lastRatios[from];
+		lastRatioBases[to] = lastRatioBases[from];
+		lastBaseSizes[to] = lastBaseSizes[from];
+	}
+
+	@Override
+	protected void release(int slot) {
+		// Primitive values do not need to be released.
+	}
+
+	/**
+	 * The flyweight event that reads a bucket.
+	 * 
+	 * @author Pin-Ying Tu
+	 * @version 1.2
+	 * @since 1.2
+	 */
+	private class BucketCursor extends MemoryUsageEvent implements MemoryUsageAggregate {
+
+		private int slot;
+
+		/**
+		 * Construct a cursor over the enclosing columns.
+		 */
+		BucketCursor() {
+			super(0, 0, 0, 0, 0);
+		}
+
+		@Override
+		public long getTimeStamp() {
+			return lastTimeStamps[slot];
+		}
+
+		@Override
+		public long getFreeMemorySize() {
+			return lastFreeSizes[slot];
+		}
+
+		@Override
+		public long getUsedMemorySize() {
+			return lastUsedSizes[slot];
+		}
+
+		@Override
+		public long getTotalMemorySize() {
+			return lastTotalSizes[slot];
+		}
+
+		@Override
+		public double getMemoryUsageRatio() {
+			return lastRatios[slot];
+		}
+
+		@Override
+		public int getRatioBase() {
+			return lastRatioBases[slot];
+		}
+
+		@Override
+		public long getBaseMemorySize() {
+			return lastBaseSizes[slot];
+		}
+
+		@Override
+		public long getBucketStartTime() {
+			return startTimes[slot];
+		}
+
+		@Override
+		public int getSampleCount() {
+			return counts[slot];
+		}
+
+		@Override
+		public double getMinimumRatio() {
+			return minimumRatios[slot];
+		}
+
+		@Override
+		public double getMaximumRatio() {
+			return maximumRatios[slot];
+		}
+
+		@Override
+		public double getAverageRatio() {
+			return ratioSums[slot] / counts[slot];
+		}
+
+		@Override
+		public long getMinimumUsedSize() {
+			return minimumUsedSizes[slot];
+		}
+
+		@Override
+		public long getMaximumUsedSize() {
+			return maximumUsedSizes[slot];
+		}
+
+		@Override
+		public double getAverageUsedSize() {
+			return usedSizeSums[slot] / counts[slot];
+		}
+	}
+
+	/**
+	 * The iterator that reuses its own cursor to traverse the buckets from
+	 * the oldest to the latest.
+	 * 
+	 * @author Pin-Ying Tu
+	 * @version 1.2
+	 * @since 1.2
+	 */
+	private class BucketIterator extends RingIterator {
+
+		private BucketCursor cursor = new BucketCursor();
+
+		@Override
+		protected MemoryUsageEvent loadNext(int slot) {
+			cursor.slot = slot;
+			return cursor;
+		}
+	}
+}
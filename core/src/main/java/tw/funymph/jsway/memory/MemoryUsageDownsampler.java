@@ -0,0 +1,292 @@
+/* MemoryUsageDownsampler.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import tw.funymph.jsway.utils.HistoryChangeTracker;
+import tw.funymph.jsway.utils.RecentHistory;
+
+/**
+ * A min/max-per-pixel downsampler that reduces a memory usage history to at
+ * most two points per horizontal pixel. The samples are grouped into buckets
+ * by their sequences, i.e., the amount of the samples before them, so the
+ * buckets stay stable while the history slides. Only the new samples, the
+ * partially evicted oldest bucket and the newest bucket if its latest sample is
+ * updated in place, e.g., by a {@link MemoryUsageTier}, are visited on an update;
+ * the whole history is visited again only when the width or the capacity
+ * changes, or the changes cannot be identified by the counters of a
+ * {@link tw.funymph.jsway.utils.SequencedHistory}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+class MemoryUsageDownsampler {
+
+	private int pixels;
+	private int historyCapacity;
+	private int samplesPerBucket;
+
+	private long firstSequence;
+	private long nextSequence;
+	private double lastRatio;
+	private HistoryChangeTracker tracker;
+
+	private int head;
+	private int bucketCount;
+	private long[] bucketIds;
+	private double[] minimums;
+	private double[] maximums;
+	private long[] minimumSequences;
+	private long[] maximumSequences;
+
+	private int pointCount;
+	private long[] pointSequences;
+	private double[] pointRatios;
+
+	/**
+	 * Construct a <code>MemoryUsageDownsampler</code> instance.
+	 */
+	MemoryUsageDownsampler() {
+		tracker = new HistoryChangeTracker();
+	}
+
+	/**
+	 * Update the buckets with the current history for the specified width.
+	 * 
+	 * @param history the memory usage history
+	 * @param width the width in pixels
+	 */
+	void update(RecentHistory<MemoryUsageEvent> history, int width) {
+		int capacity = history.getMaximumRecentEventCapacity();
+		int size = history.size();
+		if(width != pixels || capacity != historyCapacity || bucketIds == null) {
+			allocate(width, capacity);
+			rebuild(history);
+			return;
+		}
+		if(!tracker.track(history)) {
+			rebuild(history);
+			return;
+		}
+		int added = tracker.getAppendedCount();
+		if(tracker.getEvictedCount() > 0) {
+			evict(history, tracker.getEvictedCount());
+		}
+		if(tracker.isLatestUpdated()) {
+			// The latest known sample is changed, so its pixel column is recomputed
+			long latest = nextSequence - 1;
+			recompute(history, slotOf(bucketCount - 1), Math.max(firstSequence, latest - latest % samplesPerBucket), nextSequence);
+			lastRatio = history.get((int)(latest - firstSequence)).getMemoryUsageRatio();
+		}
+		for(int i = size - added; i < size; i++) {
+			append(history.get(i));
+		}
+		collectPoints();
+	}
+
+	/**
+	 * Get the sequence of the oldest sample in the history.
+	 * 
+	 * @return the sequence of the oldest sample
+	 */
+	long getFirstSequence() {
+		return firstSequence;
+	}
+
+	/**
+	 * Get the amount of the downsampled points.
+	 * 
+	 * @return the amount of the points
+	 */
+	int getPointCount() {
+		return pointCount;
+	}
+
+	/**
+	 * Get the sequence of the point on the specified index.
+	 * 
+	 * @param index the index of the point
+	 * @return the sequence of the sample of the point
+	 */
+	long getPointSequence(int index) {
+		return pointSequences[index];
+	}
+
+	/**
+	 * Get the memory usage ratio of the point on the specified index.
+	 * 
+	 * @param index the index of the point
+	 * @return the memory usage ratio
+	 */
+	double getPointRatio(int index) {
+		return pointRatios[index];
+	}
+
+	/**
+	 * Allocate the buckets for the width and the capacity of the history.
+	 * 
+	 * @param width the width in pixels
+	 * @param capacity the capacity of the history
+	 */
+	private void allocate(int width, int capacity) {
+		pixels = width;
+		historyCapacity = capacity;
+		samplesPerBucket = Math.max(1, (capacity + Math.max(1, width) - 1) / Math.max(1, width));
+		int buckets = capacity / samplesPerBucket + 2;
+		bucketIds = new long[buckets];
+		minimums = new double[buckets];
+		maximums = new double[buckets];
+		minimumSequences = new long[buckets];
+		maximumSequences = new long[buckets];
+		pointSequences = new long[buckets * 2 + 1];
+		pointRatios = new double[buckets * 2 + 1];
+	}
+
+	/**
+	 * Rebuild all buckets from the history.
+	 * 
+	 * @param history the memory usage history
+	 */
+	private void rebuild(RecentHistory<MemoryUsageEvent> history) {
+		head = 0;
+		bucketCount = 0;
+		firstSequence = 0;
+		nextSequence = 0;
+		for(MemoryUsageEvent event : history) {
+			append(event);
+		}
+		tracker.reset(history, history.size());
+		collectPoints();
+	}
+
+	/**
+	 * Append a new sample to the latest bucket, or to a new bucket if the
+	 * latest bucket is full.
+	 * 
+	 * @param event the new sample
+	 */
+	private void append(MemoryUsageEvent event) {
+		long sequence = nextSequence++;
+		long id = sequence / samplesPerBucket;
+		double ratio = event.getMemoryUsageRatio();
+		lastRatio = ratio;
+		int slot;
+		if(bucketCount == 0 || bucketIds[slot = slotOf(bucketCount - 1)] != id) {
+			if(bucketCount == bucketIds.length) {
+				head = (head + 1) % bucketIds.length;
+				bucketCount--;
+			}
+			slot = slotOf(bucketCount++);
+			bucketIds[slot] = id;
+			minimums[slot] = ratio;
+			maximums[slot] = ratio;
+			minimumSequences[slot] = sequence;
+			maximumSequences[slot] = sequence;
+			return;
+		}
+		if(ratio < minimums[slot]) {
+			minimums[slot] = ratio;
+			minimumSequences[slot] = sequence;
+		}
+		if(ratio > maximums[slot]) {
+			maximums[slot] = ratio;
+			maximumSequences[slot] = sequence;
+		}
+	}
+
+	/**
+	 * Evict the oldest samples. The buckets that only hold the evicted samples
+	 * are dropped, and the oldest bucket is recomputed from the history if it
+	 * becomes partial.
+	 * 
+	 * @param history the memory usage history after the eviction
+	 * @param evicted the amount of the evicted samples
+	 */
+	private void evict(RecentHistory<MemoryUsageEvent> history, int evicted) {
+		firstSequence += evicted;
+		long firstId = firstSequence / samplesPerBucket;
+		while(bucketCount > 0 && bucketIds[head] < firstId) {
+			head = (head + 1) % bucketIds.length;
+			bucketCount--;
+		}
+		if(bucketCount > 0 && firstSequence % samplesPerBucket != 0) {
+			recompute(history, head, firstSequence, Math.min((firstId + 1) * samplesPerBucket, nextSequence));
+		}
+	}
+
+	/**
+	 * Recompute the minimum and the maximum of the bucket from the samples
+	 * in the history.
+	 * 
+	 * @param history the memory usage history
+	 * @param slot the slot of the bucket
+	 * @param from the sequence of the first sample in the bucket
+	 * @param end the sequence after the last sample in the bucket
+	 */
+	private void recompute(RecentHistory<MemoryUsageEvent> history, int slot, long from, long end) {
+		minimums[slot] = Double.MAX_VALUE;
+		maximums[slot] = -Double.MAX_VALUE;
+		for(long sequence = from; sequence < end; sequence++) {
+			double ratio = history.get((int)(sequence - firstSequence)).getMemoryUsageRatio();
+			if(ratio < minimums[slot]) {
+				minimums[slot] = ratio;
+				minimumSequences[slot] = sequence;
+			}
+			if(ratio > maximums[slot]) {
+				maximums[slot] = ratio;
+				maximumSequences[slot] = sequence;
+			}
+		}
+	}
+
+	/**
+	 * Collect the minimum and the maximum of each bucket in their time order,
+	 * and the latest sample so that the line ends at the latest sample.
+	 */
+	private void collectPoints() {
+		pointCount = 0;
+		for(int b = 0; b < bucketCount; b++) {
+			int slot = slotOf(b);
+			boolean minimumFirst = minimumSequences[slot] <= maximumSequences[slot];
+			addPoint(minimumFirst? minimumSequences[slot] : maximumSequences[slot], minimumFirst? minimums[slot] : maximums[slot]);
+			if(minimumSequences[slot] != maximumSequences[slot]) {
+				addPoint(minimumFirst? maximumSequences[slot] : minimumSequences[slot], minimumFirst? maximums[slot] : minimums[slot]);
+			}
+		}
+		if(pointCount > 0 && pointSequences[pointCount - 1] != nextSequence - 1) {
+			addPoint(nextSequence - 1, lastRatio);
+		}
+	}
+
+	/**
+	 * Add a downsampled point.
+	 * 
+	 * @param sequence the sequence of the sample
+	 * @param ratio the memory usage ratio
+	 */
+	private void addPoint(long sequence, double ratio) {
+		pointSequences[pointCount] = sequence;
+		pointRatios[pointCount] = ratio;
+		pointCount++;
+	}
+
+	/**
+	 * Convert the bucket index (0 is the oldest) into the slot.
+	 * 
+	 * @param index the bucket index
+	 * @return the slot
+	 */
+	private int slotOf(int index) {
+		int slot = head + index;
+		return (slot >= bucketIds.length)? slot - bucketIds.length : slot;
+	}
+}
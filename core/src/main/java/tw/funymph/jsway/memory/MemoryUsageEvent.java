@@ -12,7 +12,10 @@
 package tw.funymph.jsway.memory;
 
 /**
- * An event that is fired by a <code>MemoryUsageNotifier</code>
+ * An event that is fired by a <code>MemoryUsageNotifier</code>. Since 1.2, the
+ * memory usage ratio is relative to the base memory size of the event, i.e.,
+ * the committed (total) size, the maximum heap size, or an explicit budget.
+ * The histories that do not keep the base report the committed base.
  * 
  * @author Pin-Ying Tu
  * @version 1.2
@@ -20,6 +23,12 @@ package tw.funymph.jsway.memory;
  */
 public class MemoryUsageEvent {
 
+	public static final int RATIO_OF_COMMITTED = 0;
+	public static final int RATIO_OF_MAXIMUM = 1;
+	public static final int RATIO_OF_BUDGET = 2;
+
+	private int ratioBase;
+	private long baseMemory;
 	private long freeMemory;
 	private long usedMemory;
 	private long totalMemory;
@@ -37,11 +46,35 @@ public class MemoryUsageEvent {
 	 * @param ratio the memory usage ratio at the time stamp
 	 */
 	public MemoryUsageEvent(long time, long free, long used, long total, double ratio) {
+		this(time, free, used, total, ratio, RATIO_OF_COMMITTED, total);
+	}
+
+	/**
+	 * Construct a <code>MemoryUsageEvent<code> instance whose memory usage ratio
+	 * is relative to the specified base. The available ratio bases:<br />
+	 * <ol>
+	 * <li>{@link #RATIO_OF_COMMITTED}: the ratio is relative to the total (committed) size</li>
+	 * <li>{@link #RATIO_OF_MAXIMUM}: the ratio is relative to the maximum heap size</li>
+	 * <li>{@link #RATIO_OF_BUDGET}: the ratio is relative to an explicit budget</li>
+	 * </ol>
+	 * 
+	 * @param time the time stamp when the event occurs
+	 * @param free the free memory size at the time stamp
+	 * @param used the used memory size at the time stamp
+	 * @param total the total memory size at the time stamp
+	 * @param ratio the memory usage ratio relative to the base size
+	 * @param base the ratio base
+	 * @param baseSize the base memory size of the ratio
+	 * @since 1.2
+	 */
+	public MemoryUsageEvent(long time, long free, long used, long total, double ratio, int base, long baseSize) {
 		timeStamp = time;
 		freeMemory = free;
 		usedMemory = used;
 		totalMemory = total;
 		usedRatio = ratio;
+		ratioBase = base;
+		baseMemory = baseSize;
 	}
 
 	/**
@@ -88,4 +121,24 @@ public class MemoryUsageEvent {
 	public double getMemoryUsageRatio() {
 		return usedRatio;
 	}
+
+	/**
+	 * Get the ratio base of the memory usage ratio.
+	 * 
+	 * @return the ratio base
+	 * @since 1.2
+	 */
+	public int getRatioBase() {
+		return ratioBase;
+	}
+
+	/**
+	 * Get the base memory size that the memory usage ratio is relative to.
+	 * 
+	 * @return the base memory size
+	 * @since 1.2
+	 */
+	public long getBaseMemorySize() {
+		return (ratioBase == RATIO_OF_COMMITTED)? getTotalMemorySize() : baseMemory;
+	}
 }
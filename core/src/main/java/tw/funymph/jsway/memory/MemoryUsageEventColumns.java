@@ -0,0 +1,487 @@
+/* MemoryUsageEventColumns.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import tw.funymph.jsway.utils.AbstractRingHistory;
+import tw.funymph.jsway.utils.RecentHistory;
+
+/**
+ * A {@link RecentHistory} that stores the memory usage events in parallel
+ * primitive arrays (time stamp, free, used, total, and ratio) instead of
+ * keeping the event objects alive. Adding an event only copies its values,
+ * so the history never retains any object after the arrays are allocated.
+ * <p>
+ * The events returned by {@link #get(int)} are independent copies, so they
+ * can be kept as the {@link RecentHistory} contract expects. The iterators
+ * return {@link MemoryUsageEventCursor flyweights} instead: each iterator
+ * reuses its own cursor. Use {@link #newCursor()} to read the events without
+ * creating any object, or the primitive accessors to read the values.
+ * <p>
+ * If the added events implement {@link MemoryPoolUsages}, the used and the
+ * committed sizes of each pool are stored in additional columns, and the
+ * cursors expose them through the same interface.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class MemoryUsageEventColumns extends AbstractRingHistory<MemoryUsageEvent> {
+
+	private long[] timeStamps;
+	private long[] freeSizes;
+	private long[] usedSizes;
+	private long[] totalSizes;
+	private double[] ratios;
+	private byte[] ratioBases;
+	private long[] baseSizes;
+
+	private MemoryPoolLayout poolLayout;
+	private long[][] poolUsedSizes;
+	private long[][] poolCommittedSizes;
+	private long[] poolMaximumSizes;
+
+	/**
+	 * Construct a <code>MemoryUsageEventColumns</code> instance by specifying
+	 * the maximum event capacity.
+	 * 
+	 * @param maxCapacity the maximum event capacity
+	 */
+	public MemoryUsageEventColumns(int maxCapacity) {
+		setMaximumRecentEventCapacity(maxCapacity);
+	}
+
+	/**
+	 * Add an event by specifying its values without creating the event object.
+	 * 
+	 * @param time the time stamp when the event occurs
+	 * @param free the free memory size at the time stamp
+	 * @param used the used memory size at the time stamp
+	 * @param total the total memory size at the time stamp
+	 * @param ratio the memory usage ratio at the time stamp
+	 * @return true if the event is added
+	 */
+	public boolean add(long time, long free, long used, long total, double ratio) {
+		int slot = nextSlot();
+		if(slot < 0) {
+			return false;
+		}
+		timeStamps[slot] = time;
+		freeSizes[slot] = free;
+		usedSizes[slot] = used;
+		totalSizes[slot] = total;
+		ratios[slot] = ratio;
+		ratioBases[slot] = (byte)MemoryUsageEvent.RATIO_OF_COMMITTED;
+		baseSizes[slot] = total;
+		clearPools(slot);
+		return true;
+	}
+
+	/**
+	 * Get the time stamp of the event on the specified index.
+	 * 
+	 * @param index the index (0 is the oldest)
+	 * @return the time stamp
+	 */
+	public long getTimeStamp(int index) {
+		return timeStamps[slot(index)];
+	}
+
+	/**
+	 * Get the free memory size of the event on the specified index.
+	 * 
+	 * @param index the index (0 is the oldest)
+	 * @return the free memory size
+	 */
+	public long getFreeMemorySize(int index) {
+		return freeSizes[slot(index)];
+	}
+
+	/**
+	 * Get the used memory size of the event on the specified index.
+	 * 
+	 * @param index the index (0 is the oldest)
+	 * @return the used memory size
+	 */
+	public long getUsedMemorySize(int index) {
+		return usedSizes[slot(index)];
+	}
+
+	/**
+	 * Get the total memory size of the event on the specified index.
+	 * 
+	 * @param index the index (0 is the oldest)
+	 * @return the total memory size
+	 */
+	public long getTotalMemorySize(int index) {
+		return totalSizes[slot(index)];
+	}
+
+	/**
+	 * Get the memory usage ratio of the event on the specified index.
+	 * 
+	 * @param index the index (0 is the oldest)
+	 * @return the memory usage ratio
+	 */
+	public double getMemoryUsageRatio(int index) {
+		return ratios[slot(index)];
+	}
+
+	/**
+	 * Get the layout of the pool columns.
+	 * 
+	 * @return the layout of the pools, or null if no pool usage is stored
+	 */
+	public MemoryPoolLayout getPoolLayout() {
+		return poolLayout;
+	}
+
+	/**
+	 * Get the used size of the pool of the event on the specified index.
+	 * 
+	 * @param pool the index of the pool in the layout
+	 * @param index the index (0 is the oldest)
+	 * @return the used size of the pool, or -1 if not available
+	 */
+	public long getPoolUsedSize(int pool, int index) {
+		return poolUsedAt(pool, slot(index));
+	}
+
+	/**
+	 * Get the committed size of the pool of the event on the specified index.
+	 * 
+	 * @param pool the index of the pool in the layout
+	 * @param index the index (0 is the oldest)
+	 * @return the committed size of the pool, or -1 if not available
+	 */
+	public long getPoolCommittedSize(int pool, int index) {
+		return poolCommittedAt(pool, slot(index));
+	}
+
+	/**
+	 * Get the latest known maximum size of the pool.
+	 * 
+	 * @param pool the index of the pool in the layout
+	 * @return the maximum size of the pool, or -1 if not available
+	 */
+	public long getPoolMaximumSize(int pool) {
+		return (poolLayout != null)? poolMaximumSizes[pool] : -1;
+	}
+
+	/**
+	 * Create an independent copy of the event on the specified index.
+	 * 
+	 * @param index the index (0 is the oldest)
+	 * @return the copied event
+	 */
+	public MemoryUsageEvent copyOf(int index) {
+		return load(slot(index));
+	}
+
+	/**
+	 * Create a new cursor that can be moved over this history.
+	 * 
+	 * @return the new cursor
+	 */
+	public MemoryUsageEventCursor newCursor() {
+		return new MemoryUsageEventCursor(this);
+	}
+
+	/**
+	 * Create an independent copy of the event in the slot.
+	 * 
+	 * @param slot the slot
+	 * @return the copied event
+	 */
+	@Override
+	protected MemoryUsageEvent load(int slot) {
+		if(poolLayout == null) {
+			return new MemoryUsageEvent(timeStamps[slot], freeSizes[slot], usedSizes[slot], totalSizes[slot], ratios[slot], ratioBases[slot], baseSizes[slot]);
+		}
+		int count = poolLayout.getPoolCount();
+		long[] used = new long[count];
+		long[] committed = new long[count];
+		for(int pool = 0; pool < count; pool++) {
+			used[pool] = poolUsedSizes[pool][slot];
+			committed[pool] = poolCommittedSizes[pool][slot];
+		}
+		return new MultiPoolMemoryUsageEvent(timeStamps[slot], freeSizes[slot], usedSizes[slot], totalSizes[slot], ratios[slot],
+				ratioBases[slot], baseSizes[slot], poolLayout, used, committed, poolMaximumSizes.clone());
+	}
+
+	@Override
+	public boolean contains(Object object) {
+		if(object instanceof MemoryUsageEvent) {
+			MemoryUsageEvent event = (MemoryUsageEvent)object;
+			for(int i = 0; i < size(); i++) {
+				int slot = slotOf(i);
+				if(timeStamps[slot] == event.getTimeStamp() && usedSizes[slot] == event.getUsedMemorySize() &&
+					totalSizes[slot] == event.getTotalMemorySize() && freeSizes[slot] == event.getFreeMemorySize()) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public Iterator<MemoryUsageEvent> iterator() {
+		return new CursorIterator();
+	}
+
+	/**
+	 * Convert the logical index into the slot of the arrays.
+	 * 
+	 * @param index the logical index
+	 * @return the slot
+	 */
+	int slot(int index) {
+		return slotOf(checkIndex(index));
+	}
+
+	/**
+	 * Get the time stamp in the slot.
+	 * 
+	 * @param slot the slot
+	 * @return the time stamp
+	 */
+	long timeStampAt(int slot) {
+		return timeStamps[slot];
+	}
+
+	/**
+	 * Get the free memory size in the slot.
+	 * 
+	 * @param slot the slot
+	 * @return the free memory size
+	 */
+	long freeSizeAt(int slot) {
+		return freeSizes[slot];
+	}
+
+	/**
+	 * Get the used memory size in the slot.
+	 * 
+	 * @param slot the slot
+	 * @return the used memory size
+	 */
+	long usedSizeAt(int slot) {
+		return usedSizes[slot];
+	}
+
+	/**
+	 * Get the total memory size in the slot.
+	 * 
+	 * @param slot the slot
+	 * @return the total memory size
+	 */
+	long totalSizeAt(int slot) {
+		return totalSizes[slot];
+	}
+
+	/**
+	 * Get the memory usage ratio in the slot.
+	 * 
+	 * @param slot the slot
+	 * @return the memory usage ratio
+	 */
+	double ratioAt(int slot) {
+		return ratios[slot];
+	}
+
+	/**
+	 * Get the ratio base in the slot.
+	 * 
+	 * @param slot the slot
+	 * @return the ratio base
+	 */
+	int ratioBaseAt(int slot) {
+		return ratioBases[slot];
+	}
+
+	/**
+	 * Get the base memory size in the slot.
+	 * 
+	 * @param slot the slot
+	 * @return the base memory size
+	 */
+	long baseSizeAt(int slot) {
+		return baseSizes[slot];
+	}
+
+	/**
+	 * Get the used size of the pool in the slot.
+	 * 
+	 * @param pool the index of the pool
+	 * @param slot the slot
+	 * @return the used size of the pool
+	 */
+	long poolUsedAt(int pool, int slot) {
+		return (poolLayout != null)? poolUsedSizes[pool][slot] : -1;
+	}
+
+	/**
+	 * Get the committed size of the pool in the slot.
+	 * 
+	 * @param pool the index of the pool
+	 * @param slot the slot
+	 * @return the committed size of the pool
+	 */
+	long poolCommittedAt(int pool, int slot) {
+		return (poolLayout != null)? poolCommittedSizes[pool][slot] : -1;
+	}
+
+	/**
+	 * Store the pool usage of the event into the slot. If the layout of the
+	 * event differs from the current layout, the pool columns are recreated.
+	 * 
+	 * @param slot the slot
+	 * @param usages the pool usage of the event
+	 */
+	private void storePools(int slot, MemoryPoolUsages usages) {
+		MemoryPoolLayout layout = usages.getPoolLayout();
+		if(layout == null) {
+			clearPools(slot);
+			return;
+		}
+		if(!layout.equals(poolLayout)) {
+			int count = layout.getPoolCount();
+			int capacity = timeStamps.length;
+			poolLayout = layout;
+			poolUsedSizes = new long[count][capacity];
+			poolCommittedSizes = new long[count][capacity];
+			poolMaximumSizes = new long[count];
+			for(int pool = 0; pool < count; pool++) {
+				Arrays.fill(poolUsedSizes[pool], -1);
+				Arrays.fill(poolCommittedSizes[pool], -1);
+			}
+		}
+		for(int pool = 0; pool < poolUsedSizes.length; pool++) {
+			poolUsedSizes[pool][slot] = usages.getPoolUsedSize(pool);
+			poolCommittedSizes[pool][slot] = usages.getPoolCommittedSize(pool);
+			poolMaximumSizes[pool] = usages.getPoolMaximumSize(pool);
+		}
+	}
+
+	/**
+	 * Mark the pool usage in the slot as not available.
+	 * 
+	 * @param slot the slot
+	 */
+	private void clearPools(int slot) {
+		if(poolLayout != null) {
+			for(int pool = 0; pool < poolUsedSizes.length; pool++) {
+				poolUsedSizes[pool][slot] = -1;
+				poolCommittedSizes[pool][slot] = -1;
+			}
+		}
+	}
+
+	@Override
+	protected void allocate(int newCapacity, int first, int count) {
+		long[] newTimeStamps = new long[newCapacity];
+		long[] newFreeSizes = new long[newCapacity];
+		long[] newUsedSizes = new long[newCapacity];
+		long[] newTotalSizes = new long[newCapacity];
+		double[] newRatios = new double[newCapacity];
+		byte[] newRatioBases = new byte[newCapacity];
+		long[] newBaseSizes = new long[newCapacity];
+		if(timeStamps != null) {
+			copyRing(timeStamps, first, count, newTimeStamps);
+			copyRing(freeSizes, first, count, newFreeSizes);
+			copyRing(usedSizes, first, count, newUsedSizes);
+			copyRing(totalSizes, first, count, newTotalSizes);
+			copyRing(ratios, first, count, newRatios);
+			copyRing(ratioBases, first, count, newRatioBases);
+			copyRing(baseSizes, first, count, newBaseSizes);
+		}
+		if(poolLayout != null) {
+			for(int pool = 0; pool < poolUsedSizes.length; pool++) {
+				long[] used = new long[newCapacity];
+				long[] committed = new long[newCapacity];
+				Arrays.fill(used, -1);
+				Arrays.fill(committed, -1);
+				copyRing(poolUsedSizes[pool], first, count, used);
+				copyRing(poolCommittedSizes[pool], first, count, committed);
+				poolUsedSizes[pool] = used;
+				poolCommittedSizes[pool] = committed;
+			}
+		}
+		timeStamps = newTimeStamps;
+		freeSizes = newFreeSizes;
+		usedSizes = newUsedSizes;
+		totalSizes = newTotalSizes;
+		ratios = newRatios;
+		ratioBases = newRatioBases;
+		baseSizes = newBaseSizes;
+	}
+
+	@Override
+	protected void store(int slot, MemoryUsageEvent event) {
+		timeStamps[slot] = event.getTimeStamp();
+		freeSizes[slot] = event.getFreeMemorySize();
+		usedSizes[slot] = event.getUsedMemorySize();
+		totalSizes[slot] = event.getTotalMemorySize();
+		ratios[slot] = event.getMemoryUsageRatio();
+		ratioBases[slot] = (byte)event.getRatioBase();
+		baseSizes[slot] = event.getBaseMemorySize();
+		if(event instanceof MemoryPoolUsages) {
+			storePools(slot, (MemoryPoolUsages)event);
+		}
+		else {
+			clearPools(slot);
+		}
+	}
+
+	@Override
+	protected void move(int from, int to) {
+		timeStamps[to] = timeStamps[from];
+		freeSizes[to] = freeSizes[from];
+		usedSizes[to] = usedSizes[from];
+		totalSizes[to] = totalSizes[from];
+		ratios[to] = ratios[from];
+		ratioBases[to] = ratioBases[from];
+		baseSizes[to] = baseSizes[from];
+		if(poolLayout != null) {
+			for(int pool = 0; pool < poolUsedSizes.length; pool++) {
+				poolUsedSizes[pool][to] = poolUsedSizes[pool][from];
+				poolCommittedSizes[pool][to] = poolCommittedSizes[pool][from];
+			}
+		}
+	}
+
+	@Override
+	protected void release(int slot) {
+		// Primitive values do not need to be released.
+	}
+
+	/**
+	 * The iterator that reuses its own cursor to traverse the events from
+	 * the oldest to the latest.
+	 * 
+	 * @author Pin-Ying Tu
+	 * @version 1.2
+	 * @since 1.2
+	 */
+	private class CursorIterator extends RingIterator {
+
+		private MemoryUsageEventCursor cursor = newCursor();
+
+		@Override
+		protected MemoryUsageEvent loadNext(int slot) {
+			cursor.moveToSlot(slot);
+			return cursor;
+		}
+	}
+}
@@ -0,0 +1,116 @@
+/* MemoryUsageEventCursor.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+/**
+ * A reusable flyweight {@link MemoryUsageEvent} that reads its values from
+ * a {@link MemoryUsageEventColumns}. The cursor points to a stored sample;
+ * once the sample is evicted, the values of the cursor are replaced by the
+ * sample that takes its place. The pool usage stored in the columns can be
+ * read through the {@link MemoryPoolUsages} interface.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class MemoryUsageEventCursor extends MemoryUsageEvent implements MemoryPoolUsages {
+
+	private int slot;
+	private MemoryUsageEventColumns columns;
+
+	/**
+	 * Construct a <code>MemoryUsageEventCursor</code> instance over the
+	 * specified columns.
+	 * 
+	 * @param source the columns to be read
+	 */
+	MemoryUsageEventCursor(MemoryUsageEventColumns source) {
+		super(0, 0, 0, 0, 0);
+		columns = source;
+	}
+
+	/**
+	 * Move the cursor to the event on the specified index.
+	 * 
+	 * @param index the index (0 is the oldest)
+	 * @return this cursor
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public MemoryUsageEventCursor moveTo(int index) {
+		slot = columns.slot(index);
+		return this;
+	}
+
+	@Override
+	public long getTimeStamp() {
+		return columns.timeStampAt(slot);
+	}
+
+	@Override
+	public long getFreeMemorySize() {
+		return columns.freeSizeAt(slot);
+	}
+
+	@Override
+	public long getUsedMemorySize() {
+		return columns.usedSizeAt(slot);
+	}
+
+	@Override
+	public long getTotalMemorySize() {
+		return columns.totalSizeAt(slot);
+	}
+
+	@Override
+	public double getMemoryUsageRatio() {
+		return columns.ratioAt(slot);
+	}
+
+	@Override
+	public int getRatioBase() {
+		return columns.ratioBaseAt(slot);
+	}
+
+	@Override
+	public long getBaseMemorySize() {
+		return columns.baseSizeAt(slot);
+	}
+
+	@Override
+	public MemoryPoolLayout getPoolLayout() {
+		return columns.getPoolLayout();
+	}
+
+	@Override
+	public long getPoolUsedSize(int pool) {
+		return columns.poolUsedAt(pool, slot);
+	}
+
+	@Override
+	public long getPoolCommittedSize(int pool) {
+		return columns.poolCommittedAt(pool, slot);
+	}
+
+	@Override
+	public long getPoolMaximumSize(int pool) {
+		return columns.getPoolMaximumSize(pool);
+	}
+
+	/**
+	 * Move the cursor to the specified slot of the columns.
+	 * 
+	 * @param newSlot the slot
+	 */
+	void moveToSlot(int newSlot) {
+		slot = newSlot;
+	}
+}
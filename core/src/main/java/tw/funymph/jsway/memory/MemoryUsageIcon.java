@@ -17,6 +17,7 @@ import static java.awt.image.BufferedImage.TYPE_4BYTE_ABGR;
 import static java.lang.String.format;
 import static tw.funymph.jsway.color.ColorUtilities.chageLeveledColorsEventSource;
 import static tw.funymph.jsway.memory.MemoryUsageMonitor.getInstance;
+import static tw.funymph.jsway.memory.MemoryUtilities.getRatioBaseName;
 import static tw.funymph.jsway.utils.ObjectUtilities.requireNonNull;
 
 import java.awt.Color;
@@ -43,7 +44,7 @@ public class MemoryUsageIcon extends AutoUpdateImageIcon implements MemoryUsageL
 
 	private static final long serialVersionUID = -6882429860465936880L;
 
-	private static final String DESCRIPTION_TEMPLATE = "Memory Usage: %1$.0f%%";
+	private static final String DESCRIPTION_TEMPLATE = "Memory Usage: %1$.0f%% of the %2$s";
 	private static final String NULL_SOURCE_EXCEPTION = "Cannot set a null source";
 
 	private static int GRIDS = 4;
@@ -54,6 +55,7 @@ public class MemoryUsageIcon extends AutoUpdateImageIcon implements MemoryUsageL
 	private static int DEFAULT_ICON_HEIGHT = 13;
 
 	private double ratio;
+	private int ratioBase;
 
 	private LeveledColors colors;
 	private MemoryUsageNotifier source;
@@ -124,7 +126,7 @@ public class MemoryUsageIcon extends AutoUpdateImageIcon implements MemoryUsageL
 
 	@Override
 	public String getDescription() {
-		return format(DESCRIPTION_TEMPLATE, ratio * PERCENTAGES);
+		return format(DESCRIPTION_TEMPLATE, ratio * PERCENTAGES, getRatioBaseName(ratioBase));
 	}
 
 	@Override
@@ -138,6 +140,7 @@ public class MemoryUsageIcon extends AutoUpdateImageIcon implements MemoryUsageL
 	@Override
 	public void memoryUsageUpdated(MemoryUsageEvent event) {
 		ratio = event.getMemoryUsageRatio();
+		ratioBase = event.getRatioBase();
 		updateImage();
 		invalidateContainer();
 	}
@@ -0,0 +1,281 @@
+/* MemoryUsageMetrics.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static java.lang.Double.NaN;
+import static java.lang.management.ManagementFactory.getPlatformMBeanServer;
+import static tw.funymph.jsway.memory.MemoryUtilities.getRatioBaseName;
+import static tw.funymph.jsway.utils.ObjectUtilities.requireNonNull;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * A standard MBean that publishes the data collected by a {@link MemoryUsageMonitor}:
+ * the latest sample, the statistics of the recent samples, and the counters of
+ * the recycle engine. The metrics listen to the monitor and take a snapshot on
+ * every update, i.e., on the same thread that updates the histories, so the
+ * statistics are never read while the history is changing. The management
+ * clients and {@link PrometheusEndpoint} read the snapshot from any thread.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class MemoryUsageMetrics implements MemoryUsageMetricsMBean, MemoryUsageListener {
+
+	public static final String DEFAULT_OBJECT_NAME = "tw.funymph.jsway:type=MemoryUsageMonitor";
+
+	private static final String NULL_MONITOR_EXCEPTION = "Cannot publish the metrics of a null monitor";
+
+	private MemoryUsageMonitor monitor;
+	private MemoryUsageStatistics statistics;
+	private volatile Snapshot snapshot;
+	private ObjectName registeredName;
+
+	/**
+	 * Construct a <code>MemoryUsageMetrics</code> instance that publishes the
+	 * latest sample and the recycle counters of the monitor without statistics.
+	 * 
+	 * @param usageMonitor the monitor to be published
+	 * @throws NullPointerException if the monitor is null
+	 */
+	public MemoryUsageMetrics(MemoryUsageMonitor usageMonitor) {
+		this(usageMonitor, null);
+	}
+
+	/**
+	 * Construct a <code>MemoryUsageMetrics</code> instance that publishes the
+	 * monitor and the statistics. The statistics should follow a history that
+	 * is updated by the same monitor.
+	 * 
+	 * @param usageMonitor the monitor to be published
+	 * @param usageStatistics the statistics to be published, or null
+	 * @throws NullPointerException if the monitor is null
+	 */
+	public MemoryUsageMetrics(MemoryUsageMonitor usageMonitor, MemoryUsageStatistics usageStatistics) {
+		monitor = requireNonNull(usageMonitor, NULL_MONITOR_EXCEPTION);
+		statistics = usageStatistics;
+		snapshot = new Snapshot(monitor.getLastNotifiedEvent(), null);
+		monitor.addMemoryUsageUpdateListener(this);
+	}
+
+	/**
+	 * Register the metrics to the platform MBean server with the default
+	 * object name.
+	 * 
+	 * @throws JMException if the registration fails
+	 */
+	public void register() throws JMException {
+		register(getPlatformMBeanServer(), new ObjectName(DEFAULT_OBJECT_NAME));
+	}
+
+	/**
+	 * Register the metrics to the MBean server with the object name.
+	 * 
+	 * @param server the MBean server
+	 * @param name the object name
+	 * @throws JMException if the registration fails
+	 */
+	public synchronized void register(MBeanServer server, ObjectName name) throws JMException {
+		server.registerMBean(this, name);
+		registeredName = name;
+	}
+
+	/**
+	 * Unregister the metrics from the platform MBean server.
+	 * 
+	 * @throws JMException if the metrics cannot be unregistered
+	 */
+	public void unregister() throws JMException {
+		unregister(getPlatformMBeanServer());
+	}
+
+	/**
+	 * Unregister the metrics from the MBean server if registered.
+	 * 
+	 * @param server the MBean server
+	 * @throws JMException if the metrics cannot be unregistered
+	 */
+	public synchronized void unregister(MBeanServer server) throws JMException {
+		if(registeredName != null) {
+			server.unregisterMBean(registeredName);
+			registeredName = null;
+		}
+	}
+
+	/**
+	 * Stop listening to the monitor.
+	 */
+	public void dispose() {
+		monitor.removeMemoryUsageUpdateListener(this);
+	}
+
+	/**
+	 * Get the published monitor.
+	 * 
+	 * @return the published monitor
+	 */
+	public MemoryUsageMonitor getMonitor() {
+		return monitor;
+	}
+
+	@Override
+	public void memoryUsageUpdated(MemoryUsageEvent event) {
+		if(event != null) {
+			snapshot = new Snapshot(event, statistics);
+		}
+	}
+
+	@Override
+	public long getTimeStamp() {
+		return snapshot.timeStamp;
+	}
+
+	@Override
+	public long getUsedMemorySize() {
+		return snapshot.used;
+	}
+
+	@Override
+	public long getFreeMemorySize() {
+		return snapshot.free;
+	}
+
+	@Override
+	public long getTotalMemorySize() {
+		return snapshot.total;
+	}
+
+	@Override
+	public long getBaseMemorySize() {
+		return snapshot.base;
+	}
+
+	@Override
+	public String getRatioBase() {
+		return getRatioBaseName(snapshot.ratioBase);
+	}
+
+	@Override
+	public double getMemoryUsageRatio() {
+		return snapshot.ratio;
+	}
+
+	@Override
+	public int getSampleCount() {
+		return snapshot.sampleCount;
+	}
+
+	@Override
+	public double getMinimumRatio() {
+		return snapshot.minimum;
+	}
+
+	@Override
+	public double getAverageRatio() {
+		return snapshot.average;
+	}
+
+	@Override
+	public double getMaximumRatio() {
+		return snapshot.maximum;
+	}
+
+	@Override
+	public double getMedianRatio() {
+		return snapshot.median;
+	}
+
+	@Override
+	public double get95thPercentileRatio() {
+		return snapshot.percentile95;
+	}
+
+	@Override
+	public double get99thPercentileRatio() {
+		return snapshot.percentile99;
+	}
+
+	@Override
+	public long getRecycleCount() {
+		return monitor.getRecycleEngine().getRecycleCountProperty().getNumber().longValue();
+	}
+
+	@Override
+	public long getReclaimedSize() {
+		return monitor.getRecycleEngine().getReclaimedSizeProperty().getNumber().longValue();
+	}
+
+	@Override
+	public long getLastReclaimedSize() {
+		return monitor.getRecycleEngine().getLastReclaimedSizeProperty().getNumber().longValue();
+	}
+
+	@Override
+	public double getRecycleTime() {
+		return monitor.getRecycleEngine().getRecycleTimeProperty().getNumber().doubleValue();
+	}
+
+	/**
+	 * The immutable snapshot of the latest sample and the statistics.
+	 * 
+	 * @author Pin-Ying Tu
+	 * @version 1.2
+	 * @since 1.2
+	 */
+	private static class Snapshot {
+
+		private long timeStamp;
+		private long used;
+		private long free;
+		private long total;
+		private long base;
+		private int ratioBase;
+		private double ratio;
+
+		private int sampleCount;
+		private double minimum = NaN;
+		private double average = NaN;
+		private double maximum = NaN;
+		private double median = NaN;
+		private double percentile95 = NaN;
+		private double percentile99 = NaN;
+
+		/**
+		 * Construct a <code>Snapshot</code> instance.
+		 * 
+		 * @param event the latest sample, or null
+		 * @param statistics the statistics, or null
+		 */
+		private Snapshot(MemoryUsageEvent event, MemoryUsageStatistics statistics) {
+			if(event != null) {
+				timeStamp = event.getTimeStamp();
+				used = event.getUsedMemorySize();
+				free = event.getFreeMemorySize();
+				total = event.getTotalMemorySize();
+				base = event.getBaseMemorySize();
+				ratioBase = event.getRatioBase();
+				ratio = event.getMemoryUsageRatio();
+			}
+			if(statistics != null && (sampleCount = statistics.getSampleCount()) > 0) {
+				minimum = statistics.getMinimumRatio();
+				average = statistics.getAverageRatio();
+				maximum = statistics.getMaximumRatio();
+				median = statistics.getMedianRatio();
+				percentile95 = statistics.get95thPercentileRatio();
+				percentile99 = statistics.get99thPercentileRatio();
+			}
+		}
+	}
+}
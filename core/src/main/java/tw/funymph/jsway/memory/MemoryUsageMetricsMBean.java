@@ -0,0 +1,150 @@
+/* MemoryUsageMetricsMBean.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+/**
+ * The management interface of {@link MemoryUsageMetrics}. The attributes are
+ * the latest sample of a {@link MemoryUsageMonitor}, the statistics of the
+ * recent samples, and the counters of the forced collections.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public interface MemoryUsageMetricsMBean {
+
+	/**
+	 * Get the time stamp of the latest sample.
+	 * 
+	 * @return the time stamp in milliseconds
+	 */
+	long getTimeStamp();
+
+	/**
+	 * Get the used heap size of the latest sample.
+	 * 
+	 * @return the used size in bytes
+	 */
+	long getUsedMemorySize();
+
+	/**
+	 * Get the free heap size of the latest sample.
+	 * 
+	 * @return the free size in bytes
+	 */
+	long getFreeMemorySize();
+
+	/**
+	 * Get the committed heap size of the latest sample.
+	 * 
+	 * @return the committed size in bytes
+	 */
+	long getTotalMemorySize();
+
+	/**
+	 * Get the size that the usage ratio is relative to.
+	 * 
+	 * @return the base size in bytes
+	 */
+	long getBaseMemorySize();
+
+	/**
+	 * Get the name of the ratio base, e.g., "maximum heap".
+	 * 
+	 * @return the name of the ratio base
+	 */
+	String getRatioBase();
+
+	/**
+	 * Get the usage ratio of the latest sample.
+	 * 
+	 * @return the usage ratio
+	 */
+	double getMemoryUsageRatio();
+
+	/**
+	 * Get the number of the samples in the statistics.
+	 * 
+	 * @return the number of the samples
+	 */
+	int getSampleCount();
+
+	/**
+	 * Get the minimum usage ratio of the recent samples.
+	 * 
+	 * @return the minimum ratio, or NaN if not available
+	 */
+	double getMinimumRatio();
+
+	/**
+	 * Get the average usage ratio of the recent samples.
+	 * 
+	 * @return the average ratio, or NaN if not available
+	 */
+	double getAverageRatio();
+
+	/**
+	 * Get the maximum usage ratio of the recent samples.
+	 * 
+	 * @return the maximum ratio, or NaN if not available
+	 */
+	double getMaximumRatio();
+
+	/**
+	 * Get the median usage ratio of the recent samples.
+	 * 
+	 * @return the median ratio, or NaN if not available
+	 */
+	double getMedianRatio();
+
+	/**
+	 * Get the 95th percentile of the usage ratios of the recent samples.
+	 * 
+	 * @return the 95th percentile, or NaN if not available
+	 */
+	double get95thPercentileRatio();
+
+	/**
+	 * Get the 99th percentile of the usage ratios of the recent samples.
+	 * 
+	 * @return the 99th percentile, or NaN if not available
+	 */
+	double get99thPercentileRatio();
+
+	/**
+	 * Get the number of the forced collections.
+	 * 
+	 * @return the number of the forced collections
+	 */
+	long getRecycleCount();
+
+	/**
+	 * Get the total size reclaimed by the forced collections.
+	 * 
+	 * @return the reclaimed size in bytes
+	 */
+	long getReclaimedSize();
+
+	/**
+	 * Get the size reclaimed by the last forced collection.
+	 * 
+	 * @return the reclaimed size in bytes
+	 */
+	long getLastReclaimedSize();
+
+	/**
+	 * Get the total time spent by the forced collections.
+	 * 
+	 * @return the total time in milliseconds
+	 */
+	double getRecycleTime();
+}
@@ -12,16 +12,41 @@
 package tw.funymph.jsway.memory;
 
 import static java.lang.Runtime.getRuntime;
-import static java.lang.System.gc;
+import static tw.funymph.jsway.memory.MemoryUsageEvent.RATIO_OF_BUDGET;
+import static tw.funymph.jsway.memory.MemoryUsageEvent.RATIO_OF_COMMITTED;
+import static tw.funymph.jsway.memory.MemoryUsageEvent.RATIO_OF_MAXIMUM;
 
-import java.util.LinkedList;
-import java.util.List;
+import java.util.concurrent.Executor;
 
+import tw.funymph.jsway.color.LeveledColors;
 import tw.funymph.jsway.property.BooleanProperty;
 import tw.funymph.jsway.property.NumberProperty;
+import tw.funymph.jsway.utils.ListenerRegistry;
+import tw.funymph.jsway.utils.SlowListenerHook;
 
 /**
- * A timing memory usage monitor.
+ * A timing memory usage monitor. The memory usage is sampled on the sampling
+ * thread. By default, the listeners are notified on the event dispatch thread
+ * and the updates are coalesced so that at most one notification is queued at
+ * any time. Headless consumers can use {@link #DELIVER_ON_SAMPLING_THREAD} to
+ * receive every update directly on the sampling thread.
+ * <p>
+ * Since 1.2, the listeners are kept in a copy-on-write {@link ListenerRegistry},
+ * so they can be added and removed from any thread. A listener can also be
+ * added with its own executor to receive the latest updates asynchronously,
+ * so that a slow listener does not delay the others or the next sample. The
+ * listeners that exceed the time budget are reported to the {@link SlowListenerHook}.
+ * <p>
+ * With the adaptive period ({@link #setAdaptivePeriod(int, int)}), the period is
+ * halved when the ratio rises quickly or is close to a level boundary of the
+ * threshold colors, and is stretched by a half when the ratio is flat. The
+ * samples keep their own time stamps, so the charts with a time axis show
+ * the variable intervals correctly.
+ * <p>
+ * Each sample is notified as a new event that is never modified afterward,
+ * because the listeners, the dispatcher and {@link #getLastNotifiedEvent()}
+ * may keep the reference. The columnar histories (e.g., {@link MemoryUsageEventColumns})
+ * copy the values of the event, so the event itself is short-lived.
  * 
  * @author Pin-Ying Tu
  * @version 1.2
@@ -34,22 +59,40 @@ public class MemoryUsageMonitor extends TimingMonitor implements MemoryUsageNoti
 	private static final String AUTO_RECYCLE_PROPERTY_NAME = "Auto Recycle";
 	private static final String RECYCLE_BOUNDARY_PROPERTY_NAME = "Recycle Boundary";
 
+	private static final double THRESHOLD_MARGIN = 0.05;
+	private static final double RISING_CHANGE = 0.02;
+	private static final double FLAT_CHANGE = 0.005;
+
 	public static final int DEFAULT_MONITOR_PERIOD = 1000;
 
+	public static final int DELIVER_ON_EVENT_DISPATCH_THREAD = 0;
+	public static final int DELIVER_ON_SAMPLING_THREAD = 1;
+	public static final int DEFAULT_DELIVERY_MODE = DELIVER_ON_EVENT_DISPATCH_THREAD;
+
 	private static MemoryUsageMonitor instance;
 
 	private BooleanProperty autoRecycle;
 	private NumberProperty<Double> recycleBoundary;
+	private MemoryRecycleEngine recycleEngine;
 
-	private MemoryUsageEvent lastEvent;
-	private List<MemoryUsageListener> listeners;
+	private volatile int deliveryMode;
+	private volatile int ratioBase;
+	private volatile long memoryBudget;
+	private volatile boolean poolSampling;
+	private volatile MemoryUsageEvent lastEvent;
+	private volatile MemoryUsageEvent previousEvent;
+	private volatile LeveledColors thresholdColors;
+
+	private ListenerRegistry<MemoryUsageListener, MemoryUsageEvent> listeners;
+	private MultiPoolMemorySampler poolSampler;
+	private CoalescingDispatcher<MemoryUsageEvent> dispatcher;
 
 	/**
 	 * Get the system single instance of <code>MemoryUsageMonitor</code>.
 	 * 
 	 * @return the system single instance
 	 */
-	public static MemoryUsageMonitor getInstance() {
+	public static synchronized MemoryUsageMonitor getInstance() {
 		if(instance == null) {
 			instance = new MemoryUsageMonitor();
 		}
@@ -73,9 +116,43 @@ public class MemoryUsageMonitor extends TimingMonitor implements MemoryUsageNoti
 	 * @param recycle enable or disable the auto recycling
 	 */
 	public MemoryUsageMonitor(int period, boolean recycle) {
-		listeners = new LinkedList<MemoryUsageListener>();
+		this(period, recycle, DEFAULT_DELIVERY_MODE);
+	}
+
+	/**
+	 * Construct a <code>MemoryUsageMonitor</code> instance by specifying
+	 * the monitor period, whether enable auto-recycling, and the delivery
+	 * mode. The available delivery modes:<br />
+	 * <ol>
+	 * <li>{@link #DELIVER_ON_EVENT_DISPATCH_THREAD}: notify the listeners on the event dispatch thread</li>
+	 * <li>{@link #DELIVER_ON_SAMPLING_THREAD}: notify the listeners on the sampling thread</li>
+	 * </ol>
+	 * 
+	 * @param period the period to monitor the memory usage
+	 * @param recycle enable or disable the auto recycling
+	 * @param delivery the delivery mode
+	 * @since 1.2
+	 */
+	public MemoryUsageMonitor(int period, boolean recycle, int delivery) {
+		deliveryMode = delivery;
+		listeners = new ListenerRegistry<MemoryUsageListener, MemoryUsageEvent>() {
+
+			@Override
+			protected void deliver(MemoryUsageListener listener, MemoryUsageEvent event) {
+				listener.memoryUsageUpdated(event);
+			}
+		};
+		dispatcher = new CoalescingDispatcher<MemoryUsageEvent>() {
+
+			@Override
+			protected void dispatch(MemoryUsageEvent event) {
+				fireMemoryUsageUpdated(event);
+			}
+		};
+		thresholdColors = new DefaultMemoryUsageColors();
 		autoRecycle = new BooleanProperty(AUTO_RECYCLE_PROPERTY_NAME, recycle);
 		recycleBoundary = new NumberProperty<Double>(RECYCLE_BOUNDARY_PROPERTY_NAME, DEFAULT_RECYCLE_BOUNDARY, 0.0, 1.0, 0.01);
+		recycleEngine = new MemoryRecycleEngine(new DefaultRecyclePolicy(recycleBoundary), MemoryRecycleEngine.DEFAULT_RATIO_BASE);
 		calculateMemoryUsage();
 		setMonitorPeriod(period);
 		startMonitor();
@@ -99,21 +176,205 @@ public class MemoryUsageMonitor extends TimingMonitor implements MemoryUsageNoti
 		return recycleBoundary;
 	}
 
+	/**
+	 * Get the engine that decides when to invoke garbage collection if the
+	 * auto recycle is enabled. By default, the engine uses a {@link DefaultRecyclePolicy}
+	 * whose high boundary is the recycle boundary property, so the garbage
+	 * collection is rate limited under a steady high memory usage.
+	 * 
+	 * @return the recycle engine
+	 * @since 1.2
+	 */
+	public MemoryRecycleEngine getRecycleEngine() {
+		return recycleEngine;
+	}
+
+	/**
+	 * Set the delivery mode. The available delivery modes:<br />
+	 * <ol>
+	 * <li>{@link #DELIVER_ON_EVENT_DISPATCH_THREAD}: notify the listeners on the event dispatch thread</li>
+	 * <li>{@link #DELIVER_ON_SAMPLING_THREAD}: notify the listeners on the sampling thread</li>
+	 * </ol>
+	 * 
+	 * @param mode the new delivery mode
+	 * @since 1.2
+	 */
+	public void setDeliveryMode(int mode) {
+		deliveryMode = mode;
+	}
+
+	/**
+	 * Get the delivery mode.
+	 * 
+	 * @return the delivery mode
+	 * @since 1.2
+	 */
+	public int getDeliveryMode() {
+		return deliveryMode;
+	}
+
+	/**
+	 * Set the ratio base of the memory usage ratio. The available ratio bases:<br />
+	 * <ol>
+	 * <li>{@link MemoryUsageEvent#RATIO_OF_COMMITTED}: the used size over the committed (total) size</li>
+	 * <li>{@link MemoryUsageEvent#RATIO_OF_MAXIMUM}: the used size over {@link Runtime#maxMemory()}</li>
+	 * <li>{@link MemoryUsageEvent#RATIO_OF_BUDGET}: the used size over the memory budget</li>
+	 * </ol>
+	 * The committed base is used if the maximum heap size or the budget is
+	 * not available. Any unknown value means the committed base.
+	 * 
+	 * @param base the new ratio base
+	 * @since 1.2
+	 */
+	public void setRatioBase(int base) {
+		ratioBase = (base == RATIO_OF_MAXIMUM || base == RATIO_OF_BUDGET)? base : RATIO_OF_COMMITTED;
+	}
+
+	/**
+	 * Get the ratio base of the memory usage ratio.
+	 * 
+	 * @return the ratio base
+	 * @since 1.2
+	 */
+	public int getRatioBase() {
+		return ratioBase;
+	}
+
+	/**
+	 * Set the memory budget that is used by the {@link MemoryUsageEvent#RATIO_OF_BUDGET}
+	 * ratio base.
+	 * 
+	 * @param budget the memory budget in bytes
+	 * @since 1.2
+	 */
+	public void setMemoryBudget(long budget) {
+		memoryBudget = budget;
+	}
+
+	/**
+	 * Get the memory budget.
+	 * 
+	 * @return the memory budget in bytes
+	 * @since 1.2
+	 */
+	public long getMemoryBudget() {
+		return memoryBudget;
+	}
+
+	/**
+	 * Enable or disable sampling the usage of every memory pool. If enabled,
+	 * the notified events are {@link MultiPoolMemoryUsageEvent}s.
+	 * 
+	 * @param sampling enable or disable the pool sampling
+	 * @since 1.2
+	 */
+	public void setPoolSampling(boolean sampling) {
+		poolSampling = sampling;
+	}
+
+	/**
+	 * Get whether the usage of every memory pool is sampled.
+	 * 
+	 * @return true if the pool usage is sampled
+	 * @since 1.2
+	 */
+	public boolean isPoolSampling() {
+		return poolSampling;
+	}
+
+	/**
+	 * Set the colors whose level boundaries are the thresholds to watch in the
+	 * adaptive period. The monitor samples faster when the ratio is close to a
+	 * boundary. Set null to adapt the period by the changing rate only.
+	 * 
+	 * @param colors the threshold colors
+	 * @since 1.2
+	 */
+	public void setThresholdColors(LeveledColors colors) {
+		thresholdColors = colors;
+	}
+
+	/**
+	 * Get the colors whose level boundaries are the thresholds to watch in the
+	 * adaptive period.
+	 * 
+	 * @return the threshold colors, or null if not set
+	 * @since 1.2
+	 */
+	public LeveledColors getThresholdColors() {
+		return thresholdColors;
+	}
+
 	@Override
 	public void addMemoryUsageUpdateListener(MemoryUsageListener listener) {
 		listeners.add(listener);
 	}
 
+	/**
+	 * Add the listener that receives the updates with the specified executor.
+	 * The listener only receives the latest update if it falls behind, and
+	 * never delays the other listeners or the sampling.
+	 * 
+	 * @param listener the listener to be added
+	 * @param executor the executor to deliver the updates, or null to deliver
+	 *        them with the delivery mode like the other listeners
+	 * @since 1.2
+	 */
+	public void addMemoryUsageUpdateListener(MemoryUsageListener listener, Executor executor) {
+		listeners.add(listener, executor);
+	}
+
 	@Override
 	public void removeMemoryUsageUpdateListener(MemoryUsageListener listener) {
 		listeners.remove(listener);
 	}
 
+	/**
+	 * Get the amount of the updates that are dropped by the asynchronous listener
+	 * because newer updates arrived before they were delivered.
+	 * 
+	 * @param listener the asynchronous listener
+	 * @return the amount of the dropped updates
+	 * @since 1.2
+	 */
+	public long getDroppedUpdateCount(MemoryUsageListener listener) {
+		return listeners.getDroppedEventCount(listener);
+	}
+
+	/**
+	 * Set the time budget for a listener to handle an update. The listeners
+	 * that take longer are reported to the slow listener hook.
+	 * 
+	 * @param budget the time budget in milliseconds, or 0 to disable the detection
+	 * @since 1.2
+	 */
+	public void setListenerTimeBudget(long budget) {
+		listeners.setTimeBudget(budget);
+	}
+
+	/**
+	 * Get the time budget for a listener to handle an update.
+	 * 
+	 * @return the time budget in milliseconds, or 0 if the detection is disabled
+	 * @since 1.2
+	 */
+	public long getListenerTimeBudget() {
+		return listeners.getTimeBudget();
+	}
+
+	/**
+	 * Set the hook that is informed when a listener exceeds the time budget.
+	 * 
+	 * @param hook the hook, or null to remove the hook
+	 * @since 1.2
+	 */
+	public void setSlowListenerHook(SlowListenerHook hook) {
+		listeners.setSlowListenerHook(hook);
+	}
+
 	@Override
 	public void notifyMemoryUsageUpdateListeners() {
-		for(MemoryUsageListener listener : listeners) {
-			listener.memoryUsageUpdated(lastEvent);
-		}
+		fireMemoryUsageUpdated(lastEvent);
 	}
 
 	@Override
@@ -124,12 +385,58 @@ public class MemoryUsageMonitor extends TimingMonitor implements MemoryUsageNoti
 	@Override
 	protected void monitor() {
 		calculateMemoryUsage();
-		notifyMemoryUsageUpdateListeners();
-		if(autoRecycle.getBooleanValue() && lastEvent.getMemoryUsageRatio() > getRecycleBoundary()) {
-			gc();
+		if(deliveryMode == DELIVER_ON_SAMPLING_THREAD) {
+			notifyMemoryUsageUpdateListeners();
+		}
+		else {
+			dispatcher.post(lastEvent);
+		}
+		if(autoRecycle.getBooleanValue()) {
+			recycleEngine.memoryUsageUpdated(lastEvent);
 		}
 	}
 
+	@Override
+	protected int adjustPeriod(int current) {
+		return adaptPeriod(current, previousEvent, lastEvent);
+	}
+
+	/**
+	 * Decide the next period from the two latest samples. The change of the
+	 * ratio is normalized to the current period, so the decision does not
+	 * depend on how long the previous interval actually was.
+	 * 
+	 * @param current the current period in milliseconds
+	 * @param previous the previous sample
+	 * @param latest the latest sample
+	 * @return the next period in milliseconds
+	 */
+	int adaptPeriod(int current, MemoryUsageEvent previous, MemoryUsageEvent latest) {
+		if(previous == null || latest == null) {
+			return current;
+		}
+		long elapsed = latest.getTimeStamp() - previous.getTimeStamp();
+		if(elapsed <= 0 || previous.getRatioBase() != latest.getRatioBase()) {
+			return current;
+		}
+		double ratio = latest.getMemoryUsageRatio();
+		double change = (ratio - previous.getMemoryUsageRatio()) * current / elapsed;
+		LeveledColors colors = thresholdColors;
+		boolean nearThreshold = false;
+		if(colors != null) {
+			int level = colors.findLevel(ratio);
+			double upper = ratio + Math.max(0, change) + THRESHOLD_MARGIN;
+			nearThreshold = (colors.findLevel(upper) != level || colors.findLevel(ratio - THRESHOLD_MARGIN) != level);
+		}
+		if(change > RISING_CHANGE || nearThreshold) {
+			return current / 2;
+		}
+		if(Math.abs(change) < FLAT_CHANGE) {
+			return current + Math.max(1, current / 2);
+		}
+		return current;
+	}
+
 	@Override
 	public boolean isAutoRecycle() {
 		return autoRecycle.getBooleanValue();
@@ -150,6 +457,16 @@ public class MemoryUsageMonitor extends TimingMonitor implements MemoryUsageNoti
 		return recycleBoundary.getNumber().doubleValue();
 	}
 
+	/**
+	 * Notify all registered listeners with the specified event. The listeners
+	 * without their own executors are notified on the calling thread.
+	 * 
+	 * @param event the event to be notified
+	 */
+	private void fireMemoryUsageUpdated(MemoryUsageEvent event) {
+		listeners.fire(event);
+	}
+
 	/**
 	 * Calculate the memory usage.
 	 */
@@ -157,7 +474,30 @@ public class MemoryUsageMonitor extends TimingMonitor implements MemoryUsageNoti
 		long totalMemory = getRuntime().totalMemory();
 		long freeMemory = getRuntime().freeMemory();
 		long usedMemory = totalMemory - freeMemory;
-		double ratio = (double)usedMemory / (double)totalMemory;
-		lastEvent = new MemoryUsageEvent(System.currentTimeMillis(), freeMemory, usedMemory, totalMemory, ratio);
+		int base = ratioBase;
+		long baseMemory = totalMemory;
+		if(base == RATIO_OF_MAXIMUM) {
+			long maximum = getRuntime().maxMemory();
+			baseMemory = (maximum != Long.MAX_VALUE)? maximum : totalMemory;
+		}
+		else if(base == RATIO_OF_BUDGET) {
+			baseMemory = (memoryBudget > 0)? memoryBudget : totalMemory;
+		}
+		if(baseMemory == totalMemory) {
+			base = RATIO_OF_COMMITTED;
+		}
+		// The usage over a budget is shown as full
+		double ratio = Math.min(1.0, (double)usedMemory / (double)baseMemory);
+		long time = System.currentTimeMillis();
+		previousEvent = lastEvent;
+		if(poolSampling) {
+			if(poolSampler == null) {
+				poolSampler = new MultiPoolMemorySampler();
+			}
+			lastEvent = poolSampler.sample(time, freeMemory, usedMemory, totalMemory, ratio, base, baseMemory);
+		}
+		else {
+			lastEvent = new MemoryUsageEvent(time, freeMemory, usedMemory, totalMemory, ratio, base, baseMemory);
+		}
 	}
 }
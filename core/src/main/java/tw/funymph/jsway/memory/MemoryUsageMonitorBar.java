@@ -14,6 +14,7 @@ package tw.funymph.jsway.memory;
 import static java.lang.System.gc;
 import static javax.swing.Action.ACTION_COMMAND_KEY;
 import static tw.funymph.jsway.color.ColorUtilities.chageLeveledColorsEventSource;
+import static tw.funymph.jsway.memory.MemoryUtilities.formatStatistics;
 import static tw.funymph.jsway.utils.ObjectUtilities.requireNonNull;
 
 import java.awt.Dimension;
@@ -47,6 +48,7 @@ public class MemoryUsageMonitorBar extends MultiProgressMonitorBar implements Mo
 
 	private static final String NULL_MODEL_EXCEPTION = "Cannot set a null model";
 	private static final String DEFAULT_TOOLTIP = "Click to invoke garbage collection";
+	private static final String STATISTICS_TOOLTIP = "<html>%s<br />%s</html>";
 
 	private Action clickAction;
 	private LeveledColors colors;
@@ -93,6 +95,8 @@ public class MemoryUsageMonitorBar extends MultiProgressMonitorBar implements Mo
 			}
 			model = newModel;
 			model.addChangeListener(this);
+			// Show the current usage at once, e.g., for the off-screen rendering
+			stateChanged(new ChangeEvent(model));
 		}
 	}
 
@@ -118,6 +122,20 @@ public class MemoryUsageMonitorBar extends MultiProgressMonitorBar implements Mo
 		clickAction = action;
 	}
 
+	/**
+	 * Get the tooltip with the statistics of the recent memory usage if the model
+	 * offers them. The statistics are only formatted when the tooltip is shown.
+	 * 
+	 * @param event the mouse event that triggers the tooltip
+	 * @return the tooltip text
+	 * @since 1.2
+	 */
+	@Override
+	public String getToolTipText(MouseEvent event) {
+		String statistics = formatStatistics(model.getStatistics());
+		return (statistics != null)? String.format(STATISTICS_TOOLTIP, DEFAULT_TOOLTIP, statistics) : super.getToolTipText(event);
+	}
+
 	@Override
 	public void mouseClicked(MouseEvent e) {
 		if(clickAction == null) {
@@ -61,4 +61,15 @@ public abstract class MemoryUsageMonitorBarModel extends DefaultBoundedRangeMode
 	 * @return the formatted text
 	 */
 	public abstract String getFormattedMemoryUsageText();
+
+	/**
+	 * Get the statistics of the recent memory usage to be shown with the current
+	 * memory usage, e.g., in the tooltip. The default implementation returns null.
+	 * 
+	 * @return the statistics of the recent memory usage, or null if not available
+	 * @since 1.2
+	 */
+	public MemoryUsageStatistics getStatistics() {
+		return null;
+	}
 }
@@ -0,0 +1,157 @@
+/* MemoryUsageRecorder.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static tw.funymph.jsway.utils.ErrorReporter.report;
+import static tw.funymph.jsway.utils.ObjectUtilities.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A {@link MemoryUsageListener} that records the notified events into a compact
+ * binary stream, which can be read by {@link MemoryUsageRecordingReader} and
+ * replayed by {@link MemoryUsageReplayer}.
+ * <p>
+ * The stream starts with the magic number and the format version. Each event
+ * is recorded as the differences of its time stamp and memory sizes from the
+ * previous event in the zigzag variable-length encoding, followed by the memory
+ * usage ratio in single precision and its base in a byte. The base size follows
+ * as the difference from the previous base size only if the base is not the
+ * committed size. A typical event takes about 13 bytes.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class MemoryUsageRecorder implements MemoryUsageListener {
+
+	public static final int MAGIC_NUMBER = 0x4A535752;
+	public static final int FORMAT_VERSION = 2;
+
+	private static final String NULL_OUTPUT_EXCEPTION = "The output stream cannot be null";
+
+	private boolean failed;
+	private long recordedCount;
+
+	private long lastTimeStamp;
+	private long lastFreeSize;
+	private long lastUsedSize;
+	private long lastTotalSize;
+	private long lastBaseSize;
+
+	private DataOutputStream output;
+
+	/**
+	 * Construct a <code>MemoryUsageRecorder</code> instance that records the
+	 * events into the specified stream. The header is written immediately.
+	 * 
+	 * @param stream the stream to record the events
+	 * @throws IOException if the header cannot be written
+	 */
+	public MemoryUsageRecorder(OutputStream stream) throws IOException {
+		output = new DataOutputStream(new BufferedOutputStream(requireNonNull(stream, NULL_OUTPUT_EXCEPTION)));
+		output.writeInt(MAGIC_NUMBER);
+		output.writeByte(FORMAT_VERSION);
+	}
+
+	@Override
+	public synchronized void memoryUsageUpdated(MemoryUsageEvent event) {
+		if(failed) {
+			return;
+		}
+		try {
+			record(event);
+		} catch (IOException e) {
+			failed = true;
+			report(this, e);
+		}
+	}
+
+	/**
+	 * Record the event into the stream.
+	 * 
+	 * @param event the event to be recorded
+	 * @throws IOException if the event cannot be written
+	 */
+	public synchronized void record(MemoryUsageEvent event) throws IOException {
+		writeDelta(event.getTimeStamp() - lastTimeStamp);
+		writeDelta(event.getFreeMemorySize() - lastFreeSize);
+		writeDelta(event.getUsedMemorySize() - lastUsedSize);
+		writeDelta(event.getTotalMemorySize() - lastTotalSize);
+		output.writeFloat((float)event.getMemoryUsageRatio());
+		output.writeByte(event.getRatioBase());
+		if(event.getRatioBase() != MemoryUsageEvent.RATIO_OF_COMMITTED) {
+			writeDelta(event.getBaseMemorySize() - lastBaseSize);
+			lastBaseSize = event.getBaseMemorySize();
+		}
+		lastTimeStamp = event.getTimeStamp();
+		lastFreeSize = event.getFreeMemorySize();
+		lastUsedSize = event.getUsedMemorySize();
+		lastTotalSize = event.getTotalMemorySize();
+		recordedCount++;
+	}
+
+	/**
+	 * Get the amount of the recorded events.
+	 * 
+	 * @return the amount of the recorded events
+	 */
+	public synchronized long getRecordedCount() {
+		return recordedCount;
+	}
+
+	/**
+	 * Get whether the recording has stopped because of an I/O error.
+	 * 
+	 * @return true if the recording has failed
+	 */
+	public synchronized boolean isFailed() {
+		return failed;
+	}
+
+	/**
+	 * Flush the recorded events to the underlying stream.
+	 * 
+	 * @throws IOException if the events cannot be flushed
+	 */
+	public synchronized void flush() throws IOException {
+		output.flush();
+	}
+
+	/**
+	 * Flush the recorded events and close the underlying stream.
+	 * 
+	 * @throws IOException if the stream cannot be closed
+	 */
+	public synchronized void close() throws IOException {
+		failed = true;
+		output.close();
+	}
+
+	/**
+	 * Write the difference in the zigzag variable-length encoding.
+	 * 
+	 * @param delta the difference to be written
+	 * @throws IOException if the difference cannot be written
+	 */
+	private void writeDelta(long delta) throws IOException {
+		long value = (delta << 1) ^ (delta >> 63);
+		while((value & ~0x7FL) != 0) {
+			output.writeByte((int)((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		output.writeByte((int)value);
+	}
+}
@@ -0,0 +1,132 @@
+/* MemoryUsageRecordingReader.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static tw.funymph.jsway.memory.MemoryUsageEvent.RATIO_OF_COMMITTED;
+import static tw.funymph.jsway.memory.MemoryUsageRecorder.FORMAT_VERSION;
+import static tw.funymph.jsway.memory.MemoryUsageRecorder.MAGIC_NUMBER;
+import static tw.funymph.jsway.utils.ObjectUtilities.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * This class reads the events recorded by {@link MemoryUsageRecorder} one by one.
+ * A recording truncated in the middle of an event (e.g., the recording
+ * application crashed) ends at the last complete event. The recordings of the
+ * format version 1 do not keep the ratio base; their events report the
+ * committed base.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class MemoryUsageRecordingReader {
+
+	private static final String NULL_INPUT_EXCEPTION = "The input stream cannot be null";
+	private static final String INVALID_RECORDING_EXCEPTION = "The stream is not a memory usage recording";
+	private static final String UNSUPPORTED_VERSION_EXCEPTION = "Unsupported recording version: %d";
+	private static final String MALFORMED_RECORDING_EXCEPTION = "Malformed variable-length value";
+
+	private static final int UNBASED_FORMAT_VERSION = 1;
+
+	private boolean based;
+
+	private long lastTimeStamp;
+	private long lastFreeSize;
+	private long lastUsedSize;
+	private long lastTotalSize;
+	private long lastBaseSize;
+
+	private DataInputStream input;
+
+	/**
+	 * Construct a <code>MemoryUsageRecordingReader</code> instance that reads
+	 * the specified stream. The header is read immediately.
+	 * 
+	 * @param stream the stream of the recording
+	 * @throws IOException if the stream is not a recording
+	 */
+	public MemoryUsageRecordingReader(InputStream stream) throws IOException {
+		input = new DataInputStream(new BufferedInputStream(requireNonNull(stream, NULL_INPUT_EXCEPTION)));
+		try {
+			if(input.readInt() != MAGIC_NUMBER) {
+				throw new IOException(INVALID_RECORDING_EXCEPTION);
+			}
+			int version = input.readUnsignedByte();
+			if(version != FORMAT_VERSION && version != UNBASED_FORMAT_VERSION) {
+				throw new IOException(String.format(UNSUPPORTED_VERSION_EXCEPTION, version));
+			}
+			based = (version == FORMAT_VERSION);
+		} catch (EOFException e) {
+			throw new IOException(INVALID_RECORDING_EXCEPTION, e);
+		}
+	}
+
+	/**
+	 * Read the next event.
+	 * 
+	 * @return the next event, or null if there is no more event
+	 * @throws IOException if the recording cannot be read
+	 */
+	public MemoryUsageEvent read() throws IOException {
+		try {
+			long time = lastTimeStamp + readDelta();
+			long free = lastFreeSize + readDelta();
+			long used = lastUsedSize + readDelta();
+			long total = lastTotalSize + readDelta();
+			double ratio = input.readFloat();
+			int base = based? input.readUnsignedByte() : RATIO_OF_COMMITTED;
+			long baseSize = (base != RATIO_OF_COMMITTED)? lastBaseSize + readDelta() : total;
+			lastTimeStamp = time;
+			lastFreeSize = free;
+			lastUsedSize = used;
+			lastTotalSize = total;
+			if(base != RATIO_OF_COMMITTED) {
+				lastBaseSize = baseSize;
+			}
+			return new MemoryUsageEvent(time, free, used, total, ratio, base, baseSize);
+		} catch (EOFException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Close the underlying stream.
+	 * 
+	 * @throws IOException if the stream cannot be closed
+	 */
+	public void close() throws IOException {
+		input.close();
+	}
+
+	/**
+	 * Read a difference in the zigzag variable-length encoding.
+	 * 
+	 * @return the difference
+	 * @throws IOException if the difference cannot be read
+	 */
+	private long readDelta() throws IOException {
+		long value = 0;
+		for(int shift = 0; shift < 64; shift += 7) {
+			int b = input.readUnsignedByte();
+			value |= (long)(b & 0x7F) << shift;
+			if((b & 0x80) == 0) {
+				return (value >>> 1) ^ -(value & 1);
+			}
+		}
+		throw new IOException(MALFORMED_RECORDING_EXCEPTION);
+	}
+}
@@ -0,0 +1,286 @@
+/* MemoryUsageReplayer.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static javax.swing.SwingUtilities.invokeAndWait;
+import static tw.funymph.jsway.memory.MemoryUsageMonitor.DEFAULT_DELIVERY_MODE;
+import static tw.funymph.jsway.memory.MemoryUsageMonitor.DELIVER_ON_SAMPLING_THREAD;
+import static tw.funymph.jsway.utils.ErrorReporter.report;
+import static tw.funymph.jsway.utils.ObjectUtilities.requireNonNull;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * A {@link MemoryUsageNotifier} that replays a recording made by
+ * {@link MemoryUsageRecorder}, so the widgets can show the memory behavior
+ * recorded on another machine. The recording can be replayed in real time, at
+ * a multiple of the real speed, or as fast as possible; the last one also
+ * serves as a load generator to benchmark the update path of the widgets.
+ * <p>
+ * The recording is read on a daemon thread. When the listeners are notified
+ * on the event dispatch thread, the replay thread waits for every event to be
+ * delivered, so no event is dropped and the replay never runs ahead of the
+ * widgets.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class MemoryUsageReplayer implements MemoryUsageNotifier {
+
+	public static final double AS_FAST_AS_POSSIBLE = 0;
+	public static final double REAL_TIME = 1;
+
+	private static final String THREAD_NAME = "JavaSway Memory Usage Replayer";
+	private static final String NEGATIVE_SPEED_EXCEPTION = "The speed cannot be negative: %f";
+	private static final String NULL_RECORDING_EXCEPTION = "The recording cannot be null";
+
+	private File recording;
+
+	private volatile double speed;
+	private volatile int deliveryMode;
+	private volatile long replayedCount;
+	private volatile MemoryUsageEvent lastEvent;
+
+	private Thread replayThread;
+	private List<MemoryUsageListener> listeners;
+
+	/**
+	 * Construct a <code>MemoryUsageReplayer</code> instance that replays the
+	 * specified recording in real time and notifies the listeners on the event
+	 * dispatch thread.
+	 * 
+	 * @param recordingFile the recording to be replayed
+	 */
+	public MemoryUsageReplayer(File recordingFile) {
+		this(recordingFile, REAL_TIME, DEFAULT_DELIVERY_MODE);
+	}
+
+	/**
+	 * Construct a <code>MemoryUsageReplayer</code> instance by specifying the
+	 * recording, the speed and the delivery mode. The available delivery modes
+	 * are the ones of {@link MemoryUsageMonitor}.
+	 * 
+	 * @param recordingFile the recording to be replayed
+	 * @param replaySpeed the multiple of the real speed, or {@link #AS_FAST_AS_POSSIBLE}
+	 * @param delivery the delivery mode
+	 */
+	public MemoryUsageReplayer(File recordingFile, double replaySpeed, int delivery) {
+		recording = requireNonNull(recordingFile, NULL_RECORDING_EXCEPTION);
+		listeners = new LinkedList<MemoryUsageListener>();
+		lastEvent = new MemoryUsageEvent(System.currentTimeMillis(), 0, 0, 0, 0);
+		deliveryMode = delivery;
+		setSpeed(replaySpeed);
+	}
+
+	/**
+	 * Set the replay speed. The new speed takes effect from the next event.
+	 * 
+	 * @param replaySpeed the multiple of the real speed, or {@link #AS_FAST_AS_POSSIBLE}
+	 */
+	public void setSpeed(double replaySpeed) {
+		if(replaySpeed < 0) {
+			throw new IllegalArgumentException(String.format(NEGATIVE_SPEED_EXCEPTION, replaySpeed));
+		}
+		speed = replaySpeed;
+	}
+
+	/**
+	 * Get the replay speed.
+	 * 
+	 * @return the multiple of the real speed, or {@link #AS_FAST_AS_POSSIBLE}
+	 */
+	public double getSpeed() {
+		return speed;
+	}
+
+	/**
+	 * Set the delivery mode.
+	 * 
+	 * @param mode the new delivery mode
+	 */
+	public void setDeliveryMode(int mode) {
+		deliveryMode = mode;
+	}
+
+	/**
+	 * Get the delivery mode.
+	 * 
+	 * @return the delivery mode
+	 */
+	public int getDeliveryMode() {
+		return deliveryMode;
+	}
+
+	/**
+	 * Get the amount of the events replayed since the last start.
+	 * 
+	 * @return the amount of the replayed events
+	 */
+	public long getReplayedEventCount() {
+		return replayedCount;
+	}
+
+	/**
+	 * Start replaying the recording from the beginning. Nothing happens if
+	 * the recording is being replayed.
+	 */
+	public synchronized void start() {
+		if(!isReplaying()) {
+			replayedCount = 0;
+			replayThread = new Thread(new Runnable() {
+
+				@Override
+				public void run() {
+					replay();
+				}
+			}, THREAD_NAME);
+			replayThread.setDaemon(true);
+			replayThread.start();
+		}
+	}
+
+	/**
+	 * Stop replaying the recording.
+	 */
+	public synchronized void stop() {
+		if(replayThread != null) {
+			replayThread.interrupt();
+			replayThread = null;
+		}
+	}
+
+	/**
+	 * Get whether the recording is being replayed.
+	 * 
+	 * @return true if the recording is being replayed
+	 */
+	public synchronized boolean isReplaying() {
+		return replayThread != null && replayThread.isAlive();
+	}
+
+	/**
+	 * Wait until the replay finishes or is stopped.
+	 * 
+	 * @throws InterruptedException if the waiting thread is interrupted
+	 */
+	public void waitFor() throws InterruptedException {
+		Thread thread;
+		synchronized(this) {
+			thread = replayThread;
+		}
+		if(thread != null) {
+			thread.join();
+		}
+	}
+
+	@Override
+	public void addMemoryUsageUpdateListener(MemoryUsageListener listener) {
+		listeners.add(listener);
+	}
+
+	@Override
+	public void removeMemoryUsageUpdateListener(MemoryUsageListener listener) {
+		listeners.remove(listener);
+	}
+
+	@Override
+	public void notifyMemoryUsageUpdateListeners() {
+		fireMemoryUsageUpdated(lastEvent);
+	}
+
+	@Override
+	public MemoryUsageEvent getLastNotifiedEvent() {
+		return lastEvent;
+	}
+
+	/**
+	 * Read the recording and notify the listeners with the paced events. The
+	 * events are paced by the elapsed time from the first event, so the delay
+	 * of the notification does not accumulate.
+	 */
+	private void replay() {
+		try {
+			MemoryUsageRecordingReader reader = new MemoryUsageRecordingReader(new FileInputStream(recording));
+			try {
+				long firstTimeStamp = 0;
+				long startTime = 0;
+				double pacedSpeed = speed;
+				MemoryUsageEvent event;
+				while(!Thread.currentThread().isInterrupted() && (event = reader.read()) != null) {
+					if(replayedCount == 0 || pacedSpeed != speed) {
+						firstTimeStamp = event.getTimeStamp();
+						startTime = System.currentTimeMillis();
+						pacedSpeed = speed;
+					}
+					if(pacedSpeed != AS_FAST_AS_POSSIBLE) {
+						long due = startTime + (long)((event.getTimeStamp() - firstTimeStamp) / pacedSpeed);
+						long delay = due - System.currentTimeMillis();
+						if(delay > 0) {
+							Thread.sleep(delay);
+						}
+					}
+					deliver(event);
+				}
+			} finally {
+				reader.close();
+			}
+		} catch (InterruptedException e) {
+			// Stopped
+		} catch (IOException e) {
+			report(this, e);
+		}
+	}
+
+	/**
+	 * Deliver the event to the listeners with the delivery mode.
+	 * 
+	 * @param event the event to be delivered
+	 * @throws InterruptedException if the replay is stopped while waiting
+	 */
+	private void deliver(final MemoryUsageEvent event) throws InterruptedException {
+		lastEvent = event;
+		replayedCount++;
+		if(deliveryMode == DELIVER_ON_SAMPLING_THREAD) {
+			fireMemoryUsageUpdated(event);
+			return;
+		}
+		try {
+			invokeAndWait(new Runnable() {
+
+				@Override
+				public void run() {
+					fireMemoryUsageUpdated(event);
+				}
+			});
+		} catch (InvocationTargetException e) {
+			report(this, e.getCause());
+		}
+	}
+
+	/**
+	 * Notify all registered listeners with the specified event on the
+	 * calling thread.
+	 * 
+	 * @param event the event to be notified
+	 */
+	private void fireMemoryUsageUpdated(MemoryUsageEvent event) {
+		for(MemoryUsageListener listener : listeners) {
+			listener.memoryUsageUpdated(event);
+		}
+	}
+}
@@ -0,0 +1,220 @@
+/* MemoryUsageStatistics.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static tw.funymph.jsway.memory.MemoryUtilities.changeRecnetMemoryUsageHistory;
+import static tw.funymph.jsway.utils.ObjectUtilities.requireNonNull;
+
+import tw.funymph.jsway.utils.HistoryChangeTracker;
+import tw.funymph.jsway.utils.RecentHistory;
+import tw.funymph.jsway.utils.SlidingWindowStatistics;
+
+/**
+ * The statistics of the memory usage ratios in a {@link RecentMemoryUsageHistory}.
+ * The statistics follow the history incrementally: only the new samples are
+ * visited when the history changes, and a bucket updated in place is replaced.
+ * The whole history is visited again only when its capacity changes or the
+ * changes cannot be identified by the counters of a
+ * {@link tw.funymph.jsway.utils.SequencedHistory}. The values are kept up to
+ * date even if they are queried before the statistics are notified, so the
+ * chart, the monitor bar and the application code can share an instance and
+ * read the values without iterating the history.
+ * The statistics are synchronized, so they can be queried from any thread while
+ * the history is notified on the event dispatch thread or the sampling thread.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class MemoryUsageStatistics implements RecentMemoryUsageHistoryListener {
+
+	private static final String NULL_HISTORY_EXCEPTION = "The history cannot be null";
+
+	private RecentMemoryUsageHistory usageHistory;
+	private SlidingWindowStatistics statistics;
+	private HistoryChangeTracker tracker;
+
+	/**
+	 * Construct a <code>MemoryUsageStatistics</code> instance that follows the
+	 * specified history.
+	 * 
+	 * @param history the memory usage history
+	 * @throws NullPointerException if the history is null
+	 */
+	public MemoryUsageStatistics(RecentMemoryUsageHistory history) {
+		tracker = new HistoryChangeTracker();
+		setRecentMemoryUsageHistory(history);
+	}
+
+	/**
+	 * Set the memory usage history to be followed.
+	 * 
+	 * @param history the memory usage history
+	 * @throws NullPointerException if the history is null
+	 */
+	public synchronized void setRecentMemoryUsageHistory(RecentMemoryUsageHistory history) {
+		requireNonNull(history, NULL_HISTORY_EXCEPTION);
+		changeRecnetMemoryUsageHistory(usageHistory, history, this);
+		usageHistory = history;
+		statistics = null;
+		synchronize();
+	}
+
+	/**
+	 * Get the memory usage history followed by the statistics.
+	 * 
+	 * @return the memory usage history
+	 */
+	public synchronized RecentMemoryUsageHistory getRecentMemoryUsageHistory() {
+		return usageHistory;
+	}
+
+	/**
+	 * Stop following the history.
+	 */
+	public synchronized void dispose() {
+		usageHistory.removeRecentHistoryChangeListener(this);
+	}
+
+	@Override
+	public synchronized void historyChanged(RecentMemoryUsageHistory history) {
+		synchronize();
+	}
+
+	/**
+	 * Get the amount of the samples in the statistics.
+	 * 
+	 * @return the amount of the samples
+	 */
+	public synchronized int getSampleCount() {
+		synchronize();
+		return statistics.getCount();
+	}
+
+	/**
+	 * Get the minimum memory usage ratio.
+	 * 
+	 * @return the minimum ratio, or NaN if the history is empty
+	 */
+	public synchronized double getMinimumRatio() {
+		synchronize();
+		return statistics.getMinimum();
+	}
+
+	/**
+	 * Get the maximum memory usage ratio.
+	 * 
+	 * @return the maximum ratio, or NaN if the history is empty
+	 */
+	public synchronized double getMaximumRatio() {
+		synchronize();
+		return statistics.getMaximum();
+	}
+
+	/**
+	 * Get the average memory usage ratio.
+	 * 
+	 * @return the average ratio, or NaN if the history is empty
+	 */
+	public synchronized double getAverageRatio() {
+		synchronize();
+		return statistics.getAverage();
+	}
+
+	/**
+	 * Estimate the quantile of the memory usage ratios, e.g., 0.95 for the 95th
+	 * percentile. The error of the estimation is at most 0.001.
+	 * 
+	 * @param quantile the quantile between 0 and 1
+	 * @return the estimated ratio, or NaN if the history is empty
+	 */
+	public synchronized double getRatioQuantile(double quantile) {
+		synchronize();
+		return statistics.getQuantile(quantile);
+	}
+
+	/**
+	 * Get the median memory usage ratio.
+	 * 
+	 * @return the estimated median ratio
+	 */
+	public double getMedianRatio() {
+		return getRatioQuantile(0.5);
+	}
+
+	/**
+	 * Get the 95th percentile of the memory usage ratios.
+	 * 
+	 * @return the estimated 95th percentile
+	 */
+	public double get95thPercentileRatio() {
+		return getRatioQuantile(0.95);
+	}
+
+	/**
+	 * Get the 99th percentile of the memory usage ratios.
+	 * 
+	 * @return the estimated 99th percentile
+	 */
+	public double get99thPercentileRatio() {
+		return getRatioQuantile(0.99);
+	}
+
+	/**
+	 * Bring the statistics up to date with the history.
+	 */
+	private synchronized void synchronize() {
+		RecentHistory<MemoryUsageEvent> history = usageHistory.getEvents();
+		int capacity = Math.max(1, history.getMaximumRecentEventCapacity());
+		if(statistics == null || statistics.getCapacity() != capacity) {
+			statistics = new SlidingWindowStatistics(capacity);
+			rebuild(history);
+			return;
+		}
+		if(!tracker.track(history)) {
+			rebuild(history);
+			return;
+		}
+		int size = history.size();
+		int appended = tracker.getAppendedCount();
+		if(tracker.isLatestUpdated()) {
+			// Replace the previous value of the bucket updated in place
+			statistics.replaceLatest(history.get(size - appended - 1).getMemoryUsageRatio());
+		}
+		// The oldest samples are evicted by the window itself
+		for(int i = size - appended; i < size; i++) {
+			append(history.get(i));
+		}
+	}
+
+	/**
+	 * Rebuild the statistics from the whole history.
+	 * 
+	 * @param history the memory usage history
+	 */
+	private void rebuild(RecentHistory<MemoryUsageEvent> history) {
+		statistics.clear();
+		for(MemoryUsageEvent event : history) {
+			append(event);
+		}
+		tracker.reset(history, history.size());
+	}
+
+	/**
+	 * Append a new sample.
+	 * 
+	 * @param event the new sample
+	 */
+	private void append(MemoryUsageEvent event) {
+		statistics.add(event.getMemoryUsageRatio());
+	}
+}
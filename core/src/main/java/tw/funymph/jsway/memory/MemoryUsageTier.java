@@ -0,0 +1,94 @@
+/* MemoryUsageTier.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import java.util.LinkedList;
+
+/**
+ * A {@link RecentMemoryUsageHistory} that keeps the memory usage events in
+ * time buckets of a fixed resolution. A tier can be used alone or as a part
+ * of a {@link TieredMemoryUsageHistory}, and can be bound to any widget that
+ * shows a recent memory usage history, e.g., {@link RecentMemoryUsageLineChart}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class MemoryUsageTier implements RecentMemoryUsageHistory {
+
+	private MemoryUsageBucketColumns buckets;
+	private LinkedList<RecentMemoryUsageHistoryListener> listeners;
+
+	/**
+	 * Construct a <code>MemoryUsageTier</code> instance by specifying the
+	 * resolution and the amount of the buckets.
+	 * 
+	 * @param resolution the length of a bucket in milliseconds
+	 * @param capacity the maximum amount of the buckets to be kept
+	 */
+	public MemoryUsageTier(long resolution, int capacity) {
+		listeners = new LinkedList<RecentMemoryUsageHistoryListener>();
+		buckets = new MemoryUsageBucketColumns(resolution, capacity);
+	}
+
+	/**
+	 * Get the length of a bucket.
+	 * 
+	 * @return the length of a bucket in milliseconds
+	 */
+	public long getResolution() {
+		return buckets.getResolution();
+	}
+
+	/**
+	 * Get the time span covered by this tier when all buckets are filled.
+	 * 
+	 * @return the time span in milliseconds
+	 */
+	public long getTimeSpan() {
+		return buckets.getResolution() * buckets.getMaximumRecentEventCapacity();
+	}
+
+	@Override
+	public void memoryUsageUpdated(MemoryUsageEvent event) {
+		buckets.add(event);
+		notifyRecentHistoryChangeListeners();
+	}
+
+	/**
+	 * Get the buckets of this tier. Each returned event also implements
+	 * {@link MemoryUsageAggregate}.
+	 * 
+	 * @return the buckets
+	 */
+	@Override
+	public MemoryUsageBucketColumns getEvents() {
+		return buckets;
+	}
+
+	@Override
+	public void addRecentHistoryChangeListener(RecentMemoryUsageHistoryListener listener) {
+		listeners.add(listener);
+	}
+
+	@Override
+	public void removeRecentHistoryChangeListener(RecentMemoryUsageHistoryListener listener) {
+		listeners.remove(listener);
+	}
+
+	@Override
+	public void notifyRecentHistoryChangeListeners() {
+		for(RecentMemoryUsageHistoryListener listener : listeners) {
+			listener.historyChanged(this);
+		}
+	}
+}
@@ -11,6 +11,12 @@
  */
 package tw.funymph.jsway.memory;
 
+import static java.lang.String.format;
+import static tw.funymph.jsway.memory.MemoryUsageEvent.RATIO_OF_BUDGET;
+import static tw.funymph.jsway.memory.MemoryUsageEvent.RATIO_OF_MAXIMUM;
+
+import tw.funymph.jsway.utils.RecentHistory;
+
 /**
  * A helper utility class for the memory usage package.
  * 
@@ -30,6 +36,22 @@ public class MemoryUtilities {
 	public static final double GIGABYTES = 1073741824.0;
 	public static final double TERABYTES = 1099511627776.0;
 
+	private static final String STATISTICS_FORMAT = "Min %.1f%% / Avg %.1f%% / Max %.1f%% / P50 %.1f%% / P95 %.1f%% / P99 %.1f%% of the %s";
+	private static final String COMMITTED_BASE_NAME = "committed heap";
+	private static final String MAXIMUM_BASE_NAME = "maximum heap";
+	private static final String BUDGET_BASE_NAME = "memory budget";
+	private static final double PERCENTAGES = 100.0;
+	private static final String[] OLD_GENERATION_NAMES = { "Old", "Tenured" };
+
+	private static final long SECOND = 1000;
+	private static final long MINUTE = 60 * SECOND;
+	private static final long HOUR = 60 * MINUTE;
+	private static final long DAY = 24 * HOUR;
+	private static final String DAYS_FORMAT = "%dd %dh";
+	private static final String HOURS_FORMAT = "%dh %dm";
+	private static final String MINUTES_FORMAT = "%dm %ds";
+	private static final String SECONDS_FORMAT = "%ds";
+
 	/**
 	 * Disable creation
 	 */
@@ -75,6 +97,85 @@ public class MemoryUtilities {
 		return (double)size / TERABYTES;
 	}
 
+	/**
+	 * Get the display name of the ratio base, e.g., "maximum heap".
+	 * 
+	 * @param base the ratio base of a {@link MemoryUsageEvent}
+	 * @return the display name of the ratio base
+	 * @since 1.2
+	 */
+	public static String getRatioBaseName(int base) {
+		switch(base) {
+		case RATIO_OF_MAXIMUM:
+			return MAXIMUM_BASE_NAME;
+		case RATIO_OF_BUDGET:
+			return BUDGET_BASE_NAME;
+		default:
+			return COMMITTED_BASE_NAME;
+		}
+	}
+
+	/**
+	 * Format the statistics of the memory usage ratios in percentages with the
+	 * ratio base of the latest sample.
+	 * 
+	 * @param statistics the statistics
+	 * @return the formatted statistics, or null if there is no sample
+	 * @since 1.2
+	 */
+	public static String formatStatistics(MemoryUsageStatistics statistics) {
+		if(statistics == null || statistics.getSampleCount() == 0) {
+			return null;
+		}
+		RecentHistory<MemoryUsageEvent> history = statistics.getRecentMemoryUsageHistory().getEvents();
+		int base = history.isEmpty()? MemoryUsageEvent.RATIO_OF_COMMITTED : history.get(history.size() - 1).getRatioBase();
+		return format(STATISTICS_FORMAT, statistics.getMinimumRatio() * PERCENTAGES, statistics.getAverageRatio() * PERCENTAGES,
+			statistics.getMaximumRatio() * PERCENTAGES, statistics.getMedianRatio() * PERCENTAGES,
+			statistics.get95thPercentileRatio() * PERCENTAGES, statistics.get99thPercentileRatio() * PERCENTAGES, getRatioBaseName(base));
+	}
+
+	/**
+	 * Check whether the memory pool is an old generation, e.g., "PS Old Gen",
+	 * "G1 Old Gen" or "Tenured Gen".
+	 * 
+	 * @param poolName the name of the memory pool
+	 * @return true if the pool is an old generation
+	 * @since 1.2
+	 */
+	public static boolean isOldGenerationPool(String poolName) {
+		if(poolName == null) {
+			return false;
+		}
+		for(String candidate : OLD_GENERATION_NAMES) {
+			if(poolName.contains(candidate)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Format the duration with its two most significant units, e.g., "2d 3h",
+	 * "3h 12m", "5m 3s" or "12s".
+	 * 
+	 * @param duration the duration in milliseconds
+	 * @return the formatted duration
+	 * @since 1.2
+	 */
+	public static String formatDuration(long duration) {
+		long time = Math.max(0, duration);
+		if(time >= DAY) {
+			return format(DAYS_FORMAT, time / DAY, (time % DAY) / HOUR);
+		}
+		if(time >= HOUR) {
+			return format(HOURS_FORMAT, time / HOUR, (time % HOUR) / MINUTE);
+		}
+		if(time >= MINUTE) {
+			return format(MINUTES_FORMAT, time / MINUTE, (time % MINUTE) / SECOND);
+		}
+		return format(SECONDS_FORMAT, time / SECOND);
+	}
+
 	/**
 	 * Change the event source for the specified listener.
 	 *  
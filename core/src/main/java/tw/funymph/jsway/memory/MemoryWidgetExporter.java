@@ -0,0 +1,334 @@
+/* MemoryWidgetExporter.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static java.awt.image.BufferedImage.TYPE_INT_ARGB;
+import static tw.funymph.jsway.OffscreenRenderer.render;
+import static tw.funymph.jsway.utils.ErrorReporter.report;
+import static tw.funymph.jsway.utils.ObjectUtilities.requireNonNull;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+import javax.swing.Icon;
+import javax.swing.JComponent;
+
+/**
+ * An exporter that paints the memory widgets, e.g., {@link RecentMemoryUsageLineChart},
+ * {@link MemoryUsageMonitorBar} and {@link MemoryUsageIcon}, into PNG files
+ * periodically. The widgets do not need to be shown in any window, so the same
+ * visuals can be exported on a headless server node for the reports.
+ * <p>
+ * The widgets are painted on the event dispatch thread, and the images are
+ * encoded and written on the background thread of the exporter. The images are
+ * reused between the exports. Two export modes are supported:
+ * <ol>
+ * <li>{@link #IMAGE_SEQUENCE}: each widget is written into its own numbered
+ * file, i.e., <code>prefix-name-000001.png</code></li>
+ * <li>{@link #IMAGE_STRIP}: the widgets are stacked vertically into one numbered
+ * file, i.e., <code>prefix-000001.png</code></li>
+ * </ol>
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class MemoryWidgetExporter extends TimingMonitor {
+
+	public static final int IMAGE_SEQUENCE = 0;
+	public static final int IMAGE_STRIP = 1;
+	public static final int DEFAULT_EXPORT_MODE = IMAGE_SEQUENCE;
+	public static final int DEFAULT_EXPORT_PERIOD = 10000;
+
+	private static final String IMAGE_FORMAT = "png";
+	private static final String SEQUENCE_FILE_FORMAT = "%s-%s-%06d.png";
+	private static final String STRIP_FILE_FORMAT = "%s-%06d.png";
+	private static final String DEFAULT_THREAD_NAME = "JavaSway Widget Exporter";
+
+	private static final Color TRANSPARENT = new Color(0, true);
+
+	private static final String NULL_DIRECTORY_EXCEPTION = "The directory cannot be null";
+	private static final String NULL_NAME_EXCEPTION = "The name cannot be null";
+	private static final String NULL_WIDGET_EXCEPTION = "The widget cannot be null";
+	private static final String NOT_DIRECTORY_EXCEPTION = "Cannot create the directory: %s";
+
+	private File directory;
+	private String filePrefix;
+
+	private int exportMode;
+	private long exportedFrames;
+	private BufferedImage stripImage;
+
+	private List<Widget> widgets;
+
+	/**
+	 * Construct a <code>MemoryWidgetExporter</code> instance that exports the
+	 * image sequences into the directory every 10 seconds.
+	 * 
+	 * @param outputDirectory the directory to write the images
+	 * @param prefix the prefix of the file names
+	 * @throws NullPointerException if the directory or the prefix is null
+	 */
+	public MemoryWidgetExporter(File outputDirectory, String prefix) {
+		this(outputDirectory, prefix, DEFAULT_EXPORT_MODE, DEFAULT_EXPORT_PERIOD);
+	}
+
+	/**
+	 * Construct a <code>MemoryWidgetExporter</code> instance by specifying
+	 * the export mode and period.
+	 * 
+	 * @param outputDirectory the directory to write the images
+	 * @param prefix the prefix of the file names
+	 * @param mode {@link #IMAGE_SEQUENCE} or {@link #IMAGE_STRIP}
+	 * @param period the export period in milliseconds
+	 * @throws NullPointerException if the directory or the prefix is null
+	 */
+	public MemoryWidgetExporter(File outputDirectory, String prefix, int mode, int period) {
+		super(new SamplingEngine(DEFAULT_THREAD_NAME));
+		directory = requireNonNull(outputDirectory, NULL_DIRECTORY_EXCEPTION);
+		filePrefix = requireNonNull(prefix, NULL_NAME_EXCEPTION);
+		widgets = new LinkedList<Widget>();
+		setExportMode(mode);
+		setMonitorPeriod(period);
+	}
+
+	/**
+	 * Set the export mode. The available modes are {@link #IMAGE_SEQUENCE}
+	 * and {@link #IMAGE_STRIP}; any other value means the default mode.
+	 * 
+	 * @param mode the new export mode
+	 */
+	public synchronized void setExportMode(int mode) {
+		exportMode = (mode == IMAGE_STRIP)? IMAGE_STRIP : IMAGE_SEQUENCE;
+	}
+
+	/**
+	 * Get the export mode.
+	 * 
+	 * @return the export mode
+	 */
+	public synchronized int getExportMode() {
+		return exportMode;
+	}
+
+	/**
+	 * Add a component to be exported with the specified size. The component
+	 * is resized to the size on every export.
+	 * 
+	 * @param name the name of the component in the file names
+	 * @param component the component to be exported
+	 * @param width the width of the image
+	 * @param height the height of the image
+	 * @throws NullPointerException if the name or the component is null
+	 */
+	public void addComponent(String name, JComponent component, int width, int height) {
+		addWidget(new Widget(name, requireNonNull(component, NULL_WIDGET_EXCEPTION), null, width, height));
+	}
+
+	/**
+	 * Add an icon to be exported with the icon size.
+	 * 
+	 * @param name the name of the icon in the file names
+	 * @param icon the icon to be exported
+	 * @throws NullPointerException if the name or the icon is null
+	 */
+	public void addIcon(String name, Icon icon) {
+		requireNonNull(icon, NULL_WIDGET_EXCEPTION);
+		addWidget(new Widget(name, null, icon, icon.getIconWidth(), icon.getIconHeight()));
+	}
+
+	/**
+	 * Remove the component or the icon with the specified name.
+	 * 
+	 * @param name the name of the widget
+	 */
+	public void removeWidget(String name) {
+		synchronized(widgets) {
+			for(Iterator<Widget> iterator = widgets.iterator(); iterator.hasNext();) {
+				if(iterator.next().name.equals(name)) {
+					iterator.remove();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Get the amount of the exported frames. In the image sequence mode, a frame
+	 * is one image of each widget.
+	 * 
+	 * @return the amount of the exported frames
+	 */
+	public synchronized long getExportedFrameCount() {
+		return exportedFrames;
+	}
+
+	/**
+	 * Export the widgets immediately on the caller thread.
+	 * 
+	 * @throws IOException if the directory cannot be created or any image
+	 *         cannot be written
+	 */
+	public synchronized void export() throws IOException {
+		Widget[] snapshot;
+		synchronized(widgets) {
+			snapshot = widgets.toArray(new Widget[widgets.size()]);
+		}
+		if(snapshot.length == 0) {
+			return;
+		}
+		if(!directory.isDirectory() && !directory.mkdirs()) {
+			throw new IOException(String.format(NOT_DIRECTORY_EXCEPTION, directory));
+		}
+		long frame = exportedFrames + 1;
+		for(Widget widget : snapshot) {
+			widget.paint();
+		}
+		if(exportMode == IMAGE_STRIP) {
+			write(compose(snapshot), String.format(STRIP_FILE_FORMAT, filePrefix, frame));
+		}
+		else {
+			for(Widget widget : snapshot) {
+				write(widget.image, String.format(SEQUENCE_FILE_FORMAT, filePrefix, widget.name, frame));
+			}
+		}
+		exportedFrames = frame;
+	}
+
+	@Override
+	protected void monitor() {
+		try {
+			export();
+		}
+		catch(IOException e) {
+			report(this, e);
+		}
+	}
+
+	/**
+	 * Add the widget.
+	 * 
+	 * @param widget the widget to be added
+	 */
+	private void addWidget(Widget widget) {
+		synchronized(widgets) {
+			widgets.add(widget);
+		}
+	}
+
+	/**
+	 * Stack the painted images of the widgets vertically into the strip image.
+	 * 
+	 * @param snapshot the painted widgets
+	 * @return the strip image
+	 */
+	private BufferedImage compose(Widget[] snapshot) {
+		int width = 1, height = 0;
+		for(Widget widget : snapshot) {
+			width = Math.max(width, widget.image.getWidth());
+			height += widget.image.getHeight();
+		}
+		if(stripImage == null || stripImage.getWidth() != width || stripImage.getHeight() != height) {
+			stripImage = new BufferedImage(width, Math.max(1, height), TYPE_INT_ARGB);
+		}
+		clear(stripImage);
+		Graphics2D g2d = stripImage.createGraphics();
+		try {
+			int y = 0;
+			for(Widget widget : snapshot) {
+				g2d.drawImage(widget.image, 0, y, null);
+				y += widget.image.getHeight();
+			}
+		}
+		finally {
+			g2d.dispose();
+		}
+		return stripImage;
+	}
+
+	/**
+	 * Clear the image to be transparent.
+	 * 
+	 * @param target the image to be cleared
+	 */
+	private static void clear(BufferedImage target) {
+		Graphics2D g2d = target.createGraphics();
+		try {
+			g2d.setBackground(TRANSPARENT);
+			g2d.clearRect(0, 0, target.getWidth(), target.getHeight());
+		}
+		finally {
+			g2d.dispose();
+		}
+	}
+
+	/**
+	 * Write the image into the file in the output directory.
+	 * 
+	 * @param image the image to be written
+	 * @param fileName the name of the file
+	 * @throws IOException if the image cannot be written
+	 */
+	private void write(BufferedImage image, String fileName) throws IOException {
+		ImageIO.write(image, IMAGE_FORMAT, new File(directory, fileName));
+	}
+
+	/**
+	 * A component or an icon to be exported with its reusable image.
+	 * 
+	 * @author Pin-Ying Tu
+	 * @version 1.2
+	 * @since 1.2
+	 */
+	private static class Widget {
+
+		private String name;
+		private JComponent component;
+		private Icon icon;
+		private BufferedImage image;
+
+		/**
+		 * Construct a <code>Widget</code> instance.
+		 * 
+		 * @param widgetName the name of the widget
+		 * @param widgetComponent the component, or null for an icon
+		 * @param widgetIcon the icon, or null for a component
+		 * @param width the width of the image
+		 * @param height the height of the image
+		 */
+		private Widget(String widgetName, JComponent widgetComponent, Icon widgetIcon, int width, int height) {
+			name = requireNonNull(widgetName, NULL_NAME_EXCEPTION);
+			component = widgetComponent;
+			icon = widgetIcon;
+			image = new BufferedImage(Math.max(1, width), Math.max(1, height), TYPE_INT_ARGB);
+		}
+
+		/**
+		 * Paint the widget into its image.
+		 */
+		private void paint() {
+			if(component != null) {
+				render(component, image);
+			}
+			else {
+				clear(image);
+				render(icon, image);
+			}
+		}
+	}
+}
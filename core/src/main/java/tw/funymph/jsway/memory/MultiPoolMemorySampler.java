@@ -0,0 +1,142 @@
+/* MultiPoolMemorySampler.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static java.lang.management.ManagementFactory.getMemoryPoolMXBeans;
+import static java.lang.management.ManagementFactory.getPlatformMXBeans;
+import static java.lang.management.MemoryType.HEAP;
+import static tw.funymph.jsway.memory.MemoryPoolLayout.BUFFER_POOL;
+import static tw.funymph.jsway.memory.MemoryPoolLayout.HEAP_POOL;
+import static tw.funymph.jsway.memory.MemoryPoolLayout.NON_HEAP_POOL;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryUsage;
+import java.util.List;
+
+/**
+ * A sampler that captures the usage of every {@link MemoryPoolMXBean} (e.g., eden,
+ * survivor, old gen, metaspace, code cache) and every {@link BufferPoolMXBean}
+ * (direct and mapped buffers) in one pass. The pools are discovered once when
+ * the sampler is constructed.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class MultiPoolMemorySampler {
+
+	private static final long UNAVAILABLE = -1;
+
+	private MemoryPoolLayout layout;
+	private MemoryPoolMXBean[] memoryPools;
+	private BufferPoolMXBean[] bufferPools;
+
+	/**
+	 * Construct a <code>MultiPoolMemorySampler</code> for the pools of the
+	 * running virtual machine.
+	 */
+	public MultiPoolMemorySampler() {
+		List<MemoryPoolMXBean> pools = getMemoryPoolMXBeans();
+		List<BufferPoolMXBean> buffers = getPlatformMXBeans(BufferPoolMXBean.class);
+		memoryPools = pools.toArray(new MemoryPoolMXBean[pools.size()]);
+		bufferPools = buffers.toArray(new BufferPoolMXBean[buffers.size()]);
+		String[] names = new String[memoryPools.length + bufferPools.length];
+		int[] types = new int[names.length];
+		for(int i = 0; i < memoryPools.length; i++) {
+			names[i] = memoryPools[i].getName();
+			types[i] = (memoryPools[i].getType() == HEAP)? HEAP_POOL : NON_HEAP_POOL;
+		}
+		for(int i = 0, pool = memoryPools.length; i < bufferPools.length; i++, pool++) {
+			names[pool] = bufferPools[i].getName();
+			types[pool] = BUFFER_POOL;
+		}
+		layout = new MemoryPoolLayout(names, types);
+	}
+
+	/**
+	 * Get the layout of the sampled pools.
+	 * 
+	 * @return the layout of the sampled pools
+	 */
+	public MemoryPoolLayout getLayout() {
+		return layout;
+	}
+
+	/**
+	 * Sample all pools into the given arrays. The length of the arrays
+	 * must be at least the pool count of the layout. The sizes of an
+	 * invalid pool and the maximum sizes of the buffer pools are -1.
+	 * 
+	 * @param used the array to receive the used sizes
+	 * @param committed the array to receive the committed sizes
+	 * @param maximum the array to receive the maximum sizes
+	 */
+	public void sample(long[] used, long[] committed, long[] maximum) {
+		for(int i = 0; i < memoryPools.length; i++) {
+			MemoryPoolMXBean pool = memoryPools[i];
+			MemoryUsage usage = pool.isValid()? pool.getUsage() : null;
+			if(usage != null) {
+				used[i] = usage.getUsed();
+				committed[i] = usage.getCommitted();
+				maximum[i] = usage.getMax();
+			}
+			else {
+				used[i] = UNAVAILABLE;
+				committed[i] = UNAVAILABLE;
+				maximum[i] = UNAVAILABLE;
+			}
+		}
+		for(int i = 0, pool = memoryPools.length; i < bufferPools.length; i++, pool++) {
+			used[pool] = bufferPools[i].getMemoryUsed();
+			committed[pool] = bufferPools[i].getTotalCapacity();
+			maximum[pool] = UNAVAILABLE;
+		}
+	}
+
+	/**
+	 * Sample all pools and create an event with the specified heap usage.
+	 * 
+	 * @param time the time stamp when the event occurs
+	 * @param free the free memory size at the time stamp
+	 * @param used the used memory size at the time stamp
+	 * @param total the total memory size at the time stamp
+	 * @param ratio the memory usage ratio at the time stamp
+	 * @return the event that carries the usage of every pool
+	 */
+	public MultiPoolMemoryUsageEvent sample(long time, long free, long used, long total, double ratio) {
+		return sample(time, free, used, total, ratio, MemoryUsageEvent.RATIO_OF_COMMITTED, total);
+	}
+
+	/**
+	 * Sample all pools and create an event with the specified heap usage whose
+	 * memory usage ratio is relative to the specified base.
+	 * 
+	 * @param time the time stamp when the event occurs
+	 * @param free the free memory size at the time stamp
+	 * @param used the used memory size at the time stamp
+	 * @param total the total memory size at the time stamp
+	 * @param ratio the memory usage ratio relative to the base size
+	 * @param base the ratio base
+	 * @param baseSize the base memory size of the ratio
+	 * @return the event that carries the usage of every pool
+	 * @since 1.2
+	 */
+	public MultiPoolMemoryUsageEvent sample(long time, long free, long used, long total, double ratio, int base, long baseSize) {
+		int count = layout.getPoolCount();
+		long[] poolUsed = new long[count];
+		long[] poolCommitted = new long[count];
+		long[] poolMaximum = new long[count];
+		sample(poolUsed, poolCommitted, poolMaximum);
+		return new MultiPoolMemoryUsageEvent(time, free, used, total, ratio, base, baseSize, layout, poolUsed, poolCommitted, poolMaximum);
+	}
+}
@@ -0,0 +1,97 @@
+/* MultiPoolMemoryUsageEvent.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+/**
+ * A {@link MemoryUsageEvent} that also carries the usage of each memory
+ * pool. The free, used, total sizes and the ratio still describe the whole
+ * heap, so the event can be used wherever a <code>MemoryUsageEvent</code>
+ * is expected.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class MultiPoolMemoryUsageEvent extends MemoryUsageEvent implements MemoryPoolUsages {
+
+	private MemoryPoolLayout layout;
+
+	private long[] usedSizes;
+	private long[] committedSizes;
+	private long[] maximumSizes;
+
+	/**
+	 * Construct a <code>MultiPoolMemoryUsageEvent</code> instance. Note that
+	 * the arrays are not copied.
+	 * 
+	 * @param time the time stamp when the event occurs
+	 * @param free the free memory size at the time stamp
+	 * @param used the used memory size at the time stamp
+	 * @param total the total memory size at the time stamp
+	 * @param ratio the memory usage ratio at the time stamp
+	 * @param poolLayout the layout of the pools
+	 * @param poolUsed the used sizes of the pools
+	 * @param poolCommitted the committed sizes of the pools
+	 * @param poolMaximum the maximum sizes of the pools
+	 */
+	public MultiPoolMemoryUsageEvent(long time, long free, long used, long total, double ratio,
+			MemoryPoolLayout poolLayout, long[] poolUsed, long[] poolCommitted, long[] poolMaximum) {
+		this(time, free, used, total, ratio, RATIO_OF_COMMITTED, total, poolLayout, poolUsed, poolCommitted, poolMaximum);
+	}
+
+	/**
+	 * Construct a <code>MultiPoolMemoryUsageEvent</code> instance whose memory
+	 * usage ratio is relative to the specified base. Note that the arrays are
+	 * not copied.
+	 * 
+	 * @param time the time stamp when the event occurs
+	 * @param free the free memory size at the time stamp
+	 * @param used the used memory size at the time stamp
+	 * @param total the total memory size at the time stamp
+	 * @param ratio the memory usage ratio relative to the base size
+	 * @param base the ratio base
+	 * @param baseSize the base memory size of the ratio
+	 * @param poolLayout the layout of the pools
+	 * @param poolUsed the used sizes of the pools
+	 * @param poolCommitted the committed sizes of the pools
+	 * @param poolMaximum the maximum sizes of the pools
+	 * @since 1.2
+	 */
+	public MultiPoolMemoryUsageEvent(long time, long free, long used, long total, double ratio, int base, long baseSize,
+			MemoryPoolLayout poolLayout, long[] poolUsed, long[] poolCommitted, long[] poolMaximum) {
+		super(time, free, used, total, ratio, base, baseSize);
+		layout = poolLayout;
+		usedSizes = poolUsed;
+		committedSizes = poolCommitted;
+		maximumSizes = poolMaximum;
+	}
+
+	@Override
+	public MemoryPoolLayout getPoolLayout() {
+		return layout;
+	}
+
+	@Override
+	public long getPoolUsedSize(int pool) {
+		return usedSizes[pool];
+	}
+
+	@Override
+	public long getPoolCommittedSize(int pool) {
+		return committedSizes[pool];
+	}
+
+	@Override
+	public long getPoolMaximumSize(int pool) {
+		return maximumSizes[pool];
+	}
+}
@@ -0,0 +1,376 @@
+/* OldGenerationTrendAnalyzer.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static java.lang.Double.NaN;
+import static java.lang.Runtime.getRuntime;
+import static tw.funymph.jsway.memory.MemoryPoolLayout.HEAP_POOL;
+import static tw.funymph.jsway.memory.MemoryUtilities.isOldGenerationPool;
+
+import tw.funymph.jsway.utils.ListenerRegistry;
+import tw.funymph.jsway.utils.SlidingLinearRegression;
+
+/**
+ * An analyzer that fits a line to the occupancy of the old generation after
+ * the collections. The occupancy after a collection is the live data plus the
+ * garbage not collected yet, so a steady growth of it over many collections is
+ * the typical sign of a memory leak. The analyzer listens to a
+ * {@link GarbageCollectionMonitor}, takes a sample whenever the old generation
+ * is collected (a major collection, or a mixed one that shrinks the old
+ * generation), and keeps the least-squares line of the latest samples in a
+ * window; every sample costs O(1).
+ * <p>
+ * The confidence of the suspicion is the coefficient of determination of the
+ * line, discounted by the amount of the samples. When the line rises, there
+ * are enough samples, and the confidence reaches the threshold, the leak is
+ * suspected and the listeners are notified once, on the thread that delivers
+ * the collection events, until the suspicion is cleared by a flat or falling
+ * trend. The time to the exhaustion is where the line reaches the maximum size
+ * of the old generation, or the maximum heap size if the old generation has
+ * no maximum size or cannot be found.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class OldGenerationTrendAnalyzer implements MemoryUsageListener {
+
+	public static final int DEFAULT_WINDOW_SIZE = 20;
+	public static final int DEFAULT_MINIMUM_SAMPLES = 5;
+	public static final double DEFAULT_CONFIDENCE_THRESHOLD = 0.7;
+
+	private static final String MAJOR_COLLECTION = "major";
+	private static final long UNAVAILABLE = -1;
+	private static final double MILLISECONDS_PER_SECOND = 1000.0;
+
+	private static final String INVALID_SAMPLES_EXCEPTION = "The minimum samples must be at least 2: %d";
+	private static final String INVALID_CONFIDENCE_EXCEPTION = "The confidence threshold must be between 0 and 1: %f";
+
+	private int minimumSamples;
+	private double confidenceThreshold;
+
+	private boolean suspected;
+	private long maximumSize;
+	private MemoryPoolLayout resolvedLayout;
+	private int oldGeneration;
+	private SlidingLinearRegression regression;
+	private ListenerRegistry<LeakSuspicionListener, LeakSuspicionEvent> listeners;
+
+	/**
+	 * Construct a <code>OldGenerationTrendAnalyzer</code> instance with the
+	 * default window size.
+	 */
+	public OldGenerationTrendAnalyzer() {
+		this(DEFAULT_WINDOW_SIZE);
+	}
+
+	/**
+	 * Construct a <code>OldGenerationTrendAnalyzer</code> instance by specifying
+	 * the amount of the latest collections to fit the line.
+	 * 
+	 * @param windowSize the amount of the samples in the window
+	 */
+	public OldGenerationTrendAnalyzer(int windowSize) {
+		minimumSamples = DEFAULT_MINIMUM_SAMPLES;
+		confidenceThreshold = DEFAULT_CONFIDENCE_THRESHOLD;
+		maximumSize = UNAVAILABLE;
+		oldGeneration = -1;
+		regression = new SlidingLinearRegression(windowSize);
+		listeners = new ListenerRegistry<LeakSuspicionListener, LeakSuspicionEvent>() {
+
+			@Override
+			protected void deliver(LeakSuspicionListener listener, LeakSuspicionEvent event) {
+				listener.leakSuspected(event);
+			}
+		};
+	}
+
+	/**
+	 * Set the amount of the latest collections to fit the line. The latest
+	 * samples are kept.
+	 * 
+	 * @param windowSize the amount of the samples in the window
+	 */
+	public synchronized void setWindowSize(int windowSize) {
+		regression.setCapacity(windowSize);
+	}
+
+	/**
+	 * Get the amount of the latest collections to fit the line.
+	 * 
+	 * @return the amount of the samples in the window
+	 */
+	public synchronized int getWindowSize() {
+		return regression.getCapacity();
+	}
+
+	/**
+	 * Set the minimum amount of the samples to suspect a leak.
+	 * 
+	 * @param samples the minimum amount of the samples
+	 */
+	public synchronized void setMinimumSamples(int samples) {
+		if(samples < 2) {
+			throw new IllegalArgumentException(String.format(INVALID_SAMPLES_EXCEPTION, samples));
+		}
+		minimumSamples = samples;
+	}
+
+	/**
+	 * Get the minimum amount of the samples to suspect a leak.
+	 * 
+	 * @return the minimum amount of the samples
+	 */
+	public synchronized int getMinimumSamples() {
+		return minimumSamples;
+	}
+
+	/**
+	 * Set the minimum confidence to suspect a leak.
+	 * 
+	 * @param threshold the confidence threshold between 0 and 1
+	 */
+	public synchronized void setConfidenceThreshold(double threshold) {
+		if(!(threshold >= 0 && threshold <= 1)) {
+			throw new IllegalArgumentException(String.format(INVALID_CONFIDENCE_EXCEPTION, threshold));
+		}
+		confidenceThreshold = threshold;
+	}
+
+	/**
+	 * Get the minimum confidence to suspect a leak.
+	 * 
+	 * @return the confidence threshold between 0 and 1
+	 */
+	public synchronized double getConfidenceThreshold() {
+		return confidenceThreshold;
+	}
+
+	/**
+	 * Add the listener to be notified when a leak is suspected.
+	 * 
+	 * @param listener the listener to be added
+	 */
+	public void addLeakSuspicionListener(LeakSuspicionListener listener) {
+		listeners.add(listener);
+	}
+
+	/**
+	 * Remove the listener.
+	 * 
+	 * @param listener the listener to be removed
+	 */
+	public void removeLeakSuspicionListener(LeakSuspicionListener listener) {
+		listeners.remove(listener);
+	}
+
+	/**
+	 * Remove all samples and clear the suspicion.
+	 */
+	public synchronized void reset() {
+		regression.clear();
+		suspected = false;
+		maximumSize = UNAVAILABLE;
+	}
+
+	@Override
+	public void memoryUsageUpdated(MemoryUsageEvent event) {
+		if(!(event instanceof GarbageCollectionEvent)) {
+			return;
+		}
+		LeakSuspicionEvent suspicion = analyze((GarbageCollectionEvent)event);
+		if(suspicion != null) {
+			listeners.fire(suspicion);
+		}
+	}
+
+	/**
+	 * Get the amount of the samples in the window.
+	 * 
+	 * @return the amount of the samples
+	 */
+	public synchronized int getSampleCount() {
+		return regression.getCount();
+	}
+
+	/**
+	 * Check whether a leak is suspected.
+	 * 
+	 * @return true if a leak is suspected
+	 */
+	public synchronized boolean isLeakSuspected() {
+		return suspected;
+	}
+
+	/**
+	 * Get the confidence of a rising trend.
+	 * 
+	 * @return the confidence between 0 and 1, or 0 if the trend is not rising
+	 */
+	public synchronized double getConfidence() {
+		return computeConfidence();
+	}
+
+	/**
+	 * Get the growth rate of the old generation after the collections.
+	 * 
+	 * @return the growth rate in bytes per second, or NaN if there are not
+	 * enough samples
+	 */
+	public synchronized double getGrowthRate() {
+		return regression.getSlope() * MILLISECONDS_PER_SECOND;
+	}
+
+	/**
+	 * Get the estimated time until the old generation is exhausted, counted
+	 * from the latest sample.
+	 * 
+	 * @return the estimated time in milliseconds, or -1 if the trend is not rising
+	 */
+	public synchronized long getTimeToExhaustion() {
+		return computeTimeToExhaustion();
+	}
+
+	/**
+	 * Get the maximum size of the old generation in the latest sample.
+	 * 
+	 * @return the maximum size in bytes, or -1 if there is no sample
+	 */
+	public synchronized long getMaximumSize() {
+		return maximumSize;
+	}
+
+	/**
+	 * Get the time stamp of the oldest sample in the window.
+	 * 
+	 * @return the time stamp, or -1 if there is no sample
+	 */
+	public synchronized long getWindowStartTime() {
+		return (regression.getCount() > 0)? (long)regression.getFirstX() : UNAVAILABLE;
+	}
+
+	/**
+	 * Get the time stamp of the latest sample in the window.
+	 * 
+	 * @return the time stamp, or -1 if there is no sample
+	 */
+	public synchronized long getLatestSampleTime() {
+		return (regression.getCount() > 0)? (long)regression.getLastX() : UNAVAILABLE;
+	}
+
+	/**
+	 * Get the occupancy ratio of the old generation on the fitted line at the
+	 * specified time.
+	 * 
+	 * @param time the time stamp
+	 * @return the ratio to the maximum size, or NaN if the line cannot be fitted
+	 */
+	public synchronized double getTrendRatio(long time) {
+		return (maximumSize > 0)? regression.predict(time) / maximumSize : NaN;
+	}
+
+	/**
+	 * Take the sample from the collection if the old generation is collected,
+	 * and update the suspicion.
+	 * 
+	 * @param event the collection event
+	 * @return the event to notify the listeners, or null if the suspicion is not raised
+	 */
+	private synchronized LeakSuspicionEvent analyze(GarbageCollectionEvent event) {
+		int pool = findOldGeneration(event.getPoolLayout());
+		boolean major = event.getAction() != null && event.getAction().contains(MAJOR_COLLECTION);
+		long used, maximum;
+		if(pool >= 0) {
+			used = event.getPoolUsedSize(pool);
+			long before = event.getPoolUsedSizeBeforeCollection(pool);
+			if(used < 0 || !(major || used < before)) {
+				return null;
+			}
+			maximum = event.getPoolMaximumSize(pool);
+		}
+		else {
+			if(!major) {
+				return null;
+			}
+			used = event.getUsedMemorySize();
+			maximum = UNAVAILABLE;
+		}
+		if(maximum <= 0) {
+			long heapMaximum = getRuntime().maxMemory();
+			maximum = (heapMaximum != Long.MAX_VALUE)? heapMaximum : UNAVAILABLE;
+		}
+		maximumSize = maximum;
+		regression.add(event.getTimeStamp(), used);
+		double confidence = computeConfidence();
+		boolean rising = regression.getCount() >= minimumSamples && confidence >= confidenceThreshold && confidence > 0;
+		boolean raised = rising && !suspected;
+		suspected = rising;
+		if(!raised) {
+			return null;
+		}
+		return new LeakSuspicionEvent(event.getTimeStamp(), confidence, regression.getSlope() * MILLISECONDS_PER_SECOND,
+				computeTimeToExhaustion(), used, maximum);
+	}
+
+	/**
+	 * Compute the confidence of a rising trend. The coefficient of determination
+	 * is discounted by the amount of the samples, since a few samples fit a line
+	 * well by chance.
+	 * 
+	 * @return the confidence between 0 and 1, or 0 if the trend is not rising
+	 */
+	private double computeConfidence() {
+		double slope = regression.getSlope();
+		double determination = regression.getRSquared();
+		if(!(slope > 0) || Double.isNaN(determination)) {
+			return 0;
+		}
+		return determination * (1 - 1.0 / regression.getCount());
+	}
+
+	/**
+	 * Compute the time from the latest sample until the fitted line reaches
+	 * the maximum size.
+	 * 
+	 * @return the estimated time in milliseconds, or -1 if the trend is not rising
+	 */
+	private long computeTimeToExhaustion() {
+		if(!(regression.getSlope() > 0) || maximumSize <= 0) {
+			return UNAVAILABLE;
+		}
+		double exhaustion = regression.solve(maximumSize);
+		return Math.max(0, (long)(exhaustion - regression.getLastX()));
+	}
+
+	/**
+	 * Find the heap pool of the old generation in the layout.
+	 * 
+	 * @param layout the layout of the pools
+	 * @return the index of the pool, or -1 if not found
+	 */
+	private int findOldGeneration(MemoryPoolLayout layout) {
+		if(layout == null) {
+			return -1;
+		}
+		if(!layout.equals(resolvedLayout)) {
+			resolvedLayout = layout;
+			oldGeneration = -1;
+			for(int pool = 0; pool < layout.getPoolCount(); pool++) {
+				if(layout.getPoolType(pool) == HEAP_POOL && isOldGenerationPool(layout.getPoolName(pool))) {
+					oldGeneration = pool;
+					break;
+				}
+			}
+		}
+		return oldGeneration;
+	}
+}
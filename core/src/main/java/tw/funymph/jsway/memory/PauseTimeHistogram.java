@@ -0,0 +1,121 @@
+/* PauseTimeHistogram.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static java.awt.Color.gray;
+import static java.awt.Color.white;
+import static java.lang.String.format;
+import static tw.funymph.jsway.memory.MemoryUtilities.changeRecnetMemoryUsageHistory;
+import static tw.funymph.jsway.utils.ObjectUtilities.requireNonNull;
+
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+
+import javax.swing.JPanel;
+
+/**
+ * A bar chart that shows the pause-time histogram of a {@link GarbageCollectionHistory}.
+ * Each bar is a bucket of the histogram labeled with its upper bound.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class PauseTimeHistogram extends JPanel implements RecentMemoryUsageHistoryListener {
+
+	private static final long serialVersionUID = 2862751431201975634L;
+
+	private static final int MARGIN = 20;
+	private static final int BAR_GAP = 2;
+
+	private static final Color DEFAULT_BAR_COLOR = new Color(0, 84, 166);
+
+	private static final String INFINITY_LABEL = "+";
+	private static final String BUCKET_LABEL_FORMAT = "%d";
+	private static final String SUMMARY_FORMAT = "GC: %d, total %d ms, max %d ms";
+	private static final String NULL_HISTORY_EXCEPTION = "Cannot set a null history";
+
+	private Color barColor;
+	private GarbageCollectionHistory history;
+
+	/**
+	 * Construct a <code>PauseTimeHistogram</code> instance with the specified history.
+	 * 
+	 * @param gcHistory the history to be displayed
+	 */
+	public PauseTimeHistogram(GarbageCollectionHistory gcHistory) {
+		barColor = DEFAULT_BAR_COLOR;
+		setBackground(white);
+		setForeground(gray);
+		setGarbageCollectionHistory(gcHistory);
+	}
+
+	/**
+	 * Set the history to be displayed.
+	 * 
+	 * @param gcHistory the history to be displayed
+	 * @throws NullPointerException if the history is null
+	 */
+	public void setGarbageCollectionHistory(GarbageCollectionHistory gcHistory) {
+		requireNonNull(gcHistory, NULL_HISTORY_EXCEPTION);
+		changeRecnetMemoryUsageHistory(history, gcHistory, this);
+		history = gcHistory;
+		repaint();
+	}
+
+	/**
+	 * Set the color of the bars.
+	 * 
+	 * @param color the color of the bars
+	 */
+	public void setBarColor(Color color) {
+		barColor = requireNonNull(color);
+		repaint();
+	}
+
+	@Override
+	public void historyChanged(RecentMemoryUsageHistory source) {
+		repaint();
+	}
+
+	@Override
+	protected void paintComponent(Graphics g) {
+		super.paintComponent(g);
+		Graphics2D g2d = (Graphics2D)g.create();
+		int buckets = history.getBucketCount();
+		int textHeight = g2d.getFontMetrics().getHeight();
+		int chartWidth = getWidth() - MARGIN * 2;
+		int chartHeight = getHeight() - MARGIN * 2 - textHeight;
+		long maximum = 1;
+		for(int i = 0; i < buckets; i++) {
+			maximum = Math.max(maximum, history.getBucketCount(i));
+		}
+		int barWidth = Math.max(1, chartWidth / buckets);
+		int baseY = MARGIN + chartHeight;
+		g2d.setColor(getForeground());
+		g2d.drawLine(MARGIN, baseY, MARGIN + barWidth * buckets, baseY);
+		for(int i = 0; i < buckets; i++) {
+			int x = MARGIN + barWidth * i;
+			int barHeight = (int)((double)chartHeight * history.getBucketCount(i) / maximum);
+			g2d.setColor(barColor);
+			g2d.fillRect(x + BAR_GAP, baseY - barHeight, barWidth - BAR_GAP, barHeight);
+			long bound = history.getBucketUpperBound(i);
+			String label = (bound == Long.MAX_VALUE)? INFINITY_LABEL : format(BUCKET_LABEL_FORMAT, bound);
+			g2d.setColor(getForeground());
+			int labelWidth = (int)g2d.getFontMetrics().getStringBounds(label, g2d).getWidth();
+			g2d.drawString(label, x + (barWidth - labelWidth) / 2, baseY + textHeight);
+		}
+		g2d.drawString(format(SUMMARY_FORMAT, history.getEvents().size(), history.getTotalPauseTime(), history.getMaximumPauseTime()), MARGIN, MARGIN - BAR_GAP);
+		g2d.dispose();
+	}
+}
@@ -0,0 +1,244 @@
+/* PrometheusEndpoint.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static tw.funymph.jsway.utils.ObjectUtilities.requireNonNull;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import tw.funymph.jsway.utils.HashedTimerWheel;
+import tw.funymph.jsway.utils.TickHandle;
+
+/**
+ * An embedded HTTP endpoint that serves the {@link MemoryUsageMetrics} in the
+ * Prometheus text exposition format. The response body is rendered into a
+ * byte array on the shared {@link HashedTimerWheel} once per refresh period,
+ * and every scrape writes the latest rendered array as is, so the scrapes do
+ * not render or allocate the body no matter how often they come.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class PrometheusEndpoint implements HttpHandler {
+
+	public static final String DEFAULT_PATH = "/metrics";
+	public static final long DEFAULT_REFRESH_PERIOD = 1000;
+
+	private static final int OK = 200;
+	private static final int METHOD_NOT_ALLOWED = 405;
+	private static final int NO_BODY = -1;
+	private static final long MILLISECONDS_PER_SECOND = 1000;
+
+	private static final String GET_METHOD = "GET";
+	private static final String HEAD_METHOD = "HEAD";
+	private static final String CONTENT_TYPE_HEADER = "Content-Type";
+	private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+	private static final String TICK_NAME_FORMAT = "PrometheusEndpoint-%d";
+	private static final String NULL_METRICS_EXCEPTION = "Cannot serve null metrics";
+	private static final String NULL_ADDRESS_EXCEPTION = "Cannot bind a null address";
+
+	private static final String GAUGE = "gauge";
+	private static final String COUNTER = "counter";
+	private static final String PREFIX = "jsway_memory_";
+
+	private static final AtomicInteger endpointCount = new AtomicInteger();
+
+	private MemoryUsageMetrics metrics;
+	private InetSocketAddress address;
+	private long refreshPeriod;
+	private String tickName;
+
+	private HttpServer server;
+	private TickHandle refresher;
+	private StringBuilder builder;
+	private volatile byte[] body;
+
+	/**
+	 * Construct a <code>PrometheusEndpoint</code> instance with the default
+	 * refresh period.
+	 * 
+	 * @param usageMetrics the metrics to be served
+	 * @param bindAddress the address to bind, e.g., a loopback address with port 0
+	 * @throws NullPointerException if the metrics or the address is null
+	 */
+	public PrometheusEndpoint(MemoryUsageMetrics usageMetrics, InetSocketAddress bindAddress) {
+		this(usageMetrics, bindAddress, DEFAULT_REFRESH_PERIOD);
+	}
+
+	/**
+	 * Construct a <code>PrometheusEndpoint</code> instance.
+	 * 
+	 * @param usageMetrics the metrics to be served
+	 * @param bindAddress the address to bind, e.g., a loopback address with port 0
+	 * @param period the refresh period of the rendered body in milliseconds
+	 * @throws NullPointerException if the metrics or the address is null
+	 */
+	public PrometheusEndpoint(MemoryUsageMetrics usageMetrics, InetSocketAddress bindAddress, long period) {
+		metrics = requireNonNull(usageMetrics, NULL_METRICS_EXCEPTION);
+		address = requireNonNull(bindAddress, NULL_ADDRESS_EXCEPTION);
+		refreshPeriod = period;
+		tickName = String.format(TICK_NAME_FORMAT, endpointCount.incrementAndGet());
+		builder = new StringBuilder();
+		refresh();
+	}
+
+	/**
+	 * Bind the address and start serving the metrics on {@link #DEFAULT_PATH}.
+	 * 
+	 * @throws IOException if the address cannot be bound
+	 */
+	public synchronized void start() throws IOException {
+		if(server == null) {
+			server = HttpServer.create(address, 0);
+			server.createContext(DEFAULT_PATH, this);
+			server.start();
+			refresher = HashedTimerWheel.getInstance().schedule(tickName, new Runnable() {
+
+				@Override
+				public void run() {
+					refresh();
+				}
+			}, refreshPeriod, null);
+		}
+	}
+
+	/**
+	 * Stop serving the metrics and release the address.
+	 */
+	public synchronized void stop() {
+		if(server != null) {
+			refresher.cancel();
+			server.stop(0);
+			server = null;
+			refresher = null;
+		}
+	}
+
+	/**
+	 * Get the bound address. If the endpoint is started with the port 0, the
+	 * returned address has the actual port.
+	 * 
+	 * @return the bound address, or the address to bind if not started
+	 */
+	public synchronized InetSocketAddress getAddress() {
+		return (server != null)? server.getAddress() : address;
+	}
+
+	/**
+	 * Get the latest rendered body.
+	 * 
+	 * @return the latest rendered body in UTF-8
+	 */
+	public byte[] getRenderedBody() {
+		return body.clone();
+	}
+
+	@Override
+	public void handle(HttpExchange exchange) throws IOException {
+		try {
+			String method = exchange.getRequestMethod();
+			boolean head = HEAD_METHOD.equals(method);
+			if(!head && !GET_METHOD.equals(method)) {
+				exchange.sendResponseHeaders(METHOD_NOT_ALLOWED, NO_BODY);
+				return;
+			}
+			byte[] rendered = body;
+			exchange.getResponseHeaders().set(CONTENT_TYPE_HEADER, CONTENT_TYPE);
+			exchange.sendResponseHeaders(OK, head? NO_BODY : rendered.length);
+			if(!head) {
+				exchange.getResponseBody().write(rendered);
+			}
+		} finally {
+			exchange.close();
+		}
+	}
+
+	/**
+	 * Render the metrics into a new body.
+	 */
+	synchronized void refresh() {
+		builder.setLength(0);
+		append("used_bytes", GAUGE, "The used heap size of the latest sample.", metrics.getUsedMemorySize());
+		append("free_bytes", GAUGE, "The free heap size of the latest sample.", metrics.getFreeMemorySize());
+		append("committed_bytes", GAUGE, "The committed heap size of the latest sample.", metrics.getTotalMemorySize());
+		append("base_bytes", GAUGE, "The size that the usage ratio is relative to.", metrics.getBaseMemorySize());
+		append("usage_ratio", GAUGE, "The usage ratio of the latest sample.", metrics.getMemoryUsageRatio());
+		append("window_samples", GAUGE, "The number of the samples in the statistics window.", metrics.getSampleCount());
+		append("window_minimum_ratio", GAUGE, "The minimum usage ratio in the statistics window.", metrics.getMinimumRatio());
+		append("window_average_ratio", GAUGE, "The average usage ratio in the statistics window.", metrics.getAverageRatio());
+		append("window_maximum_ratio", GAUGE, "The maximum usage ratio in the statistics window.", metrics.getMaximumRatio());
+		appendHeader("window_ratio_quantile", GAUGE, "The usage ratio quantiles in the statistics window.");
+		appendQuantile("0.5", metrics.getMedianRatio());
+		appendQuantile("0.95", metrics.get95thPercentileRatio());
+		appendQuantile("0.99", metrics.get99thPercentileRatio());
+		append("recycles_total", COUNTER, "The number of the forced collections.", metrics.getRecycleCount());
+		append("reclaimed_bytes_total", COUNTER, "The total size reclaimed by the forced collections.", metrics.getReclaimedSize());
+		append("recycle_seconds_total", COUNTER, "The total time spent by the forced collections.", metrics.getRecycleTime() / MILLISECONDS_PER_SECOND);
+		body = builder.toString().getBytes(UTF_8);
+	}
+
+	/**
+	 * Append a metric with one sample.
+	 * 
+	 * @param name the metric name without the prefix
+	 * @param type the metric type
+	 * @param help the help text
+	 * @param value the value
+	 */
+	private void append(String name, String type, String help, long value) {
+		appendHeader(name, type, help);
+		builder.append(PREFIX).append(name).append(' ').append(value).append('\n');
+	}
+
+	/**
+	 * Append a metric with one sample.
+	 * 
+	 * @param name the metric name without the prefix
+	 * @param type the metric type
+	 * @param help the help text
+	 * @param value the value
+	 */
+	private void append(String name, String type, String help, double value) {
+		appendHeader(name, type, help);
+		builder.append(PREFIX).append(name).append(' ').append(value).append('\n');
+	}
+
+	/**
+	 * Append the help and the type lines of a metric.
+	 * 
+	 * @param name the metric name without the prefix
+	 * @param type the metric type
+	 * @param help the help text
+	 */
+	private void appendHeader(String name, String type, String help) {
+		builder.append("# HELP ").append(PREFIX).append(name).append(' ').append(help).append('\n');
+		builder.append("# TYPE ").append(PREFIX).append(name).append(' ').append(type).append('\n');
+	}
+
+	/**
+	 * Append a sample of the ratio quantile metric.
+	 * 
+	 * @param quantile the quantile label
+	 * @param value the value
+	 */
+	private void appendQuantile(String quantile, double value) {
+		builder.append(PREFIX).append("window_ratio_quantile{quantile=\"").append(quantile).append("\"} ").append(value).append('\n');
+	}
+}
@@ -0,0 +1,71 @@
+/* QueuedDispatcher.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static javax.swing.SwingUtilities.invokeLater;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A dispatcher that hands the events posted from any thread over to the
+ * event dispatch thread without dropping any of them. At most one draining
+ * task is queued at any time, and the task dispatches all events posted
+ * before it runs. Use {@link CoalescingDispatcher} if only the latest
+ * event matters.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public abstract class QueuedDispatcher<E> implements Runnable {
+
+	private AtomicBoolean scheduled;
+	private ConcurrentLinkedQueue<E> pending;
+
+	/**
+	 * Initialize the dispatcher called by its concrete children.
+	 */
+	protected QueuedDispatcher() {
+		scheduled = new AtomicBoolean();
+		pending = new ConcurrentLinkedQueue<E>();
+	}
+
+	/**
+	 * Post the event to be dispatched on the event dispatch thread.
+	 * 
+	 * @param event the event to be dispatched
+	 */
+	public void post(E event) {
+		pending.offer(event);
+		if(scheduled.compareAndSet(false, true)) {
+			invokeLater(this);
+		}
+	}
+
+	@Override
+	public void run() {
+		scheduled.set(false);
+		E event;
+		while((event = pending.poll()) != null) {
+			dispatch(event);
+		}
+	}
+
+	/**
+	 * Dispatch the posted event. This method is always invoked on the
+	 * event dispatch thread in the posted order.
+	 * 
+	 * @param event the posted event
+	 */
+	protected abstract void dispatch(E event);
+}
@@ -19,11 +19,11 @@ import static java.awt.RenderingHints.KEY_ANTIALIASING;
 import static java.awt.RenderingHints.KEY_TEXT_ANTIALIASING;
 import static java.awt.RenderingHints.VALUE_ANTIALIAS_ON;
 import static java.awt.RenderingHints.VALUE_TEXT_ANTIALIAS_LCD_HRGB;
-import static java.lang.Double.MAX_VALUE;
-import static java.lang.Double.MIN_NORMAL;
 import static java.lang.String.format;
 import static tw.funymph.jsway.color.ColorUtilities.chageLeveledColorsEventSource;
 import static tw.funymph.jsway.memory.MemoryUtilities.changeRecnetMemoryUsageHistory;
+import static tw.funymph.jsway.memory.MemoryUtilities.formatDuration;
+import static tw.funymph.jsway.memory.MemoryUtilities.formatStatistics;
 import static tw.funymph.jsway.utils.ObjectUtilities.requireNonNull;
 
 import java.awt.BasicStroke;
@@ -31,13 +31,17 @@ import java.awt.Color;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Stroke;
+import java.awt.event.MouseEvent;
+import java.awt.geom.GeneralPath;
 
 import javax.swing.JPanel;
+import javax.swing.ToolTipManager;
 
 import tw.funymph.jsway.color.LeveledColors;
 import tw.funymph.jsway.property.ColorProperty;
 import tw.funymph.jsway.property.EditablePropertyEvent;
 import tw.funymph.jsway.property.EditablePropertyListener;
+import tw.funymph.jsway.utils.HistoryChangeTracker;
 import tw.funymph.jsway.utils.RecentHistory;
 
 /**
@@ -57,6 +61,22 @@ public class RecentMemoryUsageLineChart extends JPanel implements RecentMemoryUs
 	private static final int TEXT_X_OFFSET = 5;
 	private static final int MAXIMUM_RATIO = 100;
 	private static final int COORDINATION_OFFSET = 2;
+	private static final int SERIES_PADDING = 4;
+
+	private static final int LEGEND_GAP = 10;
+
+	private static final Color[] POOL_COLORS = {
+		new Color(0, 128, 0), new Color(128, 0, 128), new Color(0, 128, 128), new Color(255, 140, 0),
+		new Color(70, 130, 180), new Color(139, 69, 19), new Color(199, 21, 133), new Color(85, 107, 47)
+	};
+
+	public static final int FULL_RENDERING = 0;
+	public static final int INCREMENTAL_RENDERING = 1;
+	public static final int DEFAULT_RENDERING_MODE = FULL_RENDERING;
+
+	private static final Color COLLECTION_MARKER_COLOR = new Color(207, 0, 0, 96);
+	private static final Color TREND_COLOR = new Color(128, 0, 160);
+	private static final float[] TREND_DASH = { 6.0f, 4.0f };
 
 	private static final float WIDTH_RATIO = 0.75f;
 	private static final float HEIGHT_RATIO = 0.7f;
@@ -64,6 +84,7 @@ public class RecentMemoryUsageLineChart extends JPanel implements RecentMemoryUs
 
 	private static final String RATIO_UNIT = " %";
 	private static final String TIMESTAMP_FORMAT = "%1$tH:%1$tM:%1$tS";
+	private static final String EXHAUSTION_FORMAT = "Old Gen full in %s";
 	private static final String NULL_HISTORY_EXCEPTION = "Cannot set a null history";
 	private static final String NULL_TEXTUAL_COLOR_EXCEPTION = "Cannot set a null textual color";
 	private static final String NULL_FOREGROUND_COLOR_EXCEPTION = "Cannot set a null foreground color";
@@ -82,12 +103,39 @@ public class RecentMemoryUsageLineChart extends JPanel implements RecentMemoryUs
 	private ColorProperty foregroundColor;
 	private ColorProperty backgroundColor;
 	private RecentMemoryUsageHistory usageHistory;
+	private GarbageCollectionHistory collectionHistory;
+	private OldGenerationTrendAnalyzer trendAnalyzer;
 
 	private Stroke stroke;
+	private Stroke trendStroke;
 	private Stroke oldStroke;
 
 	private boolean useColors;
 
+	private String[] plottedPools;
+
+	private long timeSpan;
+	private long axisEndTime;
+
+	private int renderingMode;
+	private CachedLayer staticLayer;
+	private CachedLayer seriesLayer;
+
+	private long seriesFirst;
+	private int seriesSize;
+	private int seriesWidth;
+	private int seriesHeight;
+	private double seriesOffset;
+	private int lastX;
+	private int lastY;
+	private int previousX;
+	private boolean previousKnown;
+	private HistoryChangeTracker seriesTracker;
+
+	private MemoryUsageDownsampler downsampler;
+	private GeneralPath[] levelPaths;
+	private MemoryUsageStatistics statistics;
+
 	/**
 	 * Construct a <code>RecentMemoryUsageLineChart</code> instance with the specified
 	 * recent memory usage history.
@@ -107,7 +155,15 @@ public class RecentMemoryUsageLineChart extends JPanel implements RecentMemoryUs
 	 */
 	public RecentMemoryUsageLineChart(RecentMemoryUsageHistory history, LeveledColors colors) {
 		usageColors = colors;
+		plottedPools = new String[0];
+		renderingMode = DEFAULT_RENDERING_MODE;
+		staticLayer = new CachedLayer(false);
+		seriesLayer = new CachedLayer(true);
+		downsampler = new MemoryUsageDownsampler();
+		seriesTracker = new HistoryChangeTracker();
+		levelPaths = new GeneralPath[0];
 		stroke = new BasicStroke(DEFAULT_STROKE);
+		trendStroke = new BasicStroke(DEFAULT_STROKE, BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER, DEFAULT_STROKE * 5, TREND_DASH, 0);
 		textualColor = new ColorProperty(TEXTUAL_COLOR_PROPERTY_NAME, gray);
 		foregroundColor = new ColorProperty(FOREGROUND_COLOR_PROPERTY_NAME, gray);
 		backgroundColor = new ColorProperty(BACKGROUND_COLOR_PROPERTY_NAME, white);
@@ -116,6 +172,7 @@ public class RecentMemoryUsageLineChart extends JPanel implements RecentMemoryUs
 		foregroundColor.addEditablePropertyListener(this);
 		setBackground(backgroundColor.getColor());
 		setRecentMemoryUsageHistory(history);
+		ToolTipManager.sharedInstance().registerComponent(this);
 	}
 
 	/**
@@ -128,9 +185,78 @@ public class RecentMemoryUsageLineChart extends JPanel implements RecentMemoryUs
 		requireNonNull(history, NULL_HISTORY_EXCEPTION);
 		changeRecnetMemoryUsageHistory(usageHistory, history, this);
 		usageHistory = history;
+		if(statistics == null) {
+			statistics = new MemoryUsageStatistics(history);
+		}
+		else {
+			statistics.setRecentMemoryUsageHistory(history);
+		}
+		seriesLayer.invalidate();
 		updateUI();
 	}
 
+	/**
+	 * Get the statistics of the displayed history. The statistics are updated
+	 * incrementally, and can be shared with other components, e.g., the
+	 * {@link DefaultMemoryUsageMonitorBarModel}.
+	 * 
+	 * @return the statistics of the displayed history
+	 * @since 1.2
+	 */
+	public MemoryUsageStatistics getStatistics() {
+		return statistics;
+	}
+
+	/**
+	 * Get the tooltip with the statistics of the displayed history.
+	 * 
+	 * @param event the mouse event that triggers the tooltip
+	 * @return the tooltip text, or null if the history is empty
+	 * @since 1.2
+	 */
+	@Override
+	public String getToolTipText(MouseEvent event) {
+		return formatStatistics(statistics);
+	}
+
+	/**
+	 * Set the garbage collection history whose collections are drawn as vertical
+	 * markers on the time axis of the chart.
+	 * 
+	 * @param history the garbage collection history, or null to remove the markers
+	 * @since 1.2
+	 */
+	public void setGarbageCollectionHistory(GarbageCollectionHistory history) {
+		changeRecnetMemoryUsageHistory(collectionHistory, history, this);
+		collectionHistory = history;
+		updateUI();
+	}
+
+	/**
+	 * Set the analyzer whose trend of the old generation after the collections
+	 * is drawn as a dashed line, labeled with the estimated time until the old
+	 * generation is full when the trend rises. The chart does not listen to the
+	 * analyzer; the trend is redrawn with the history, so the analyzer is
+	 * usually paired with {@link #setGarbageCollectionHistory(GarbageCollectionHistory)}.
+	 * 
+	 * @param analyzer the trend analyzer, or null to remove the trend
+	 * @since 1.2
+	 */
+	public void setTrendAnalyzer(OldGenerationTrendAnalyzer analyzer) {
+		trendAnalyzer = analyzer;
+		repaint();
+	}
+
+	/**
+	 * Get the analyzer whose trend is drawn.
+	 * 
+	 * @return the trend analyzer, or null if the trend is not drawn
+	 * @since 1.2
+	 */
+	public OldGenerationTrendAnalyzer getTrendAnalyzer() {
+		return trendAnalyzer;
+	}
+
 	/**
 	 * Get the textual color property. The change applied to the returned property
 	 * will update the appearance of the line chart automatically.
@@ -178,6 +304,7 @@ public class RecentMemoryUsageLineChart extends JPanel implements RecentMemoryUs
 	public void setColors(LeveledColors colors) {
 		chageLeveledColorsEventSource(usageColors, colors, this);
 		usageColors = colors;
+		seriesLayer.invalidate();
 		updateUI();
 	}
 
@@ -190,6 +317,94 @@ public class RecentMemoryUsageLineChart extends JPanel implements RecentMemoryUs
 		useColors = useOrNot;
 	}
 
+	/**
+	 * Set the names of the memory pools to be plotted. The pool usage is
+	 * available only if the events in the history implement {@link MemoryPoolUsages},
+	 * e.g., the events sampled by a {@link MemoryUsageMonitor} with the pool
+	 * sampling enabled. The usage of a pool is plotted as the ratio of the used
+	 * size to the maximum size (or the committed size if the maximum is undefined).
+	 * 
+	 * @param poolNames the names of the pools to be plotted
+	 * @since 1.2
+	 */
+	public void setPlottedPools(String... poolNames) {
+		plottedPools = (poolNames != null)? poolNames.clone() : new String[0];
+		updateUI();
+	}
+
+	/**
+	 * Get the names of the memory pools to be plotted.
+	 * 
+	 * @return the names of the memory pools to be plotted
+	 * @since 1.2
+	 */
+	public String[] getPlottedPools() {
+		return plottedPools.clone();
+	}
+
+	/**
+	 * Set the time span of the horizontal axis. If the span is positive, the
+	 * samples are placed by their time stamps and the axis ends at the latest
+	 * sample, so the samples of a monitor with the adaptive period are shown
+	 * with their actual intervals. Otherwise (the default), the samples are
+	 * placed by their indices in the history. Note that the series is redrawn
+	 * on every repaint in the time axis even in the incremental rendering.
+	 * 
+	 * @param span the time span in milliseconds, or 0 to place the samples by their indices
+	 * @since 1.2
+	 */
+	public void setTimeSpan(long span) {
+		timeSpan = Math.max(0, span);
+		seriesLayer.flush();
+		repaint();
+	}
+
+	/**
+	 * Get the time span of the horizontal axis.
+	 * 
+	 * @return the time span in milliseconds, or 0 if the samples are placed by their indices
+	 * @since 1.2
+	 */
+	public long getTimeSpan() {
+		return timeSpan;
+	}
+
+	/**
+	 * Set the rendering mode. The available rendering modes:<br />
+	 * <ol>
+	 * <li>{@link #FULL_RENDERING}: redraw the whole chart on every repaint</li>
+	 * <li>{@link #INCREMENTAL_RENDERING}: keep the axes and the memory usage line in
+	 * cached images; on a new sample, the line image is shifted and only the new
+	 * segments are drawn. The whole chart is redrawn when it is resized or its
+	 * colors are changed.</li>
+	 * </ol>
+	 * The incremental rendering detects the changes by the add, in-place update,
+	 * and remove counters of a {@link tw.funymph.jsway.utils.SequencedHistory}:
+	 * the evicted samples shift the line image, and an in-place update, e.g., the
+	 * latest bucket of a {@link MemoryUsageTier}, redraws only the latest segment.
+	 * The line is redrawn if the history is not sequenced or the changes cannot
+	 * be identified.
+	 * 
+	 * @param mode the new rendering mode
+	 * @since 1.2
+	 */
+	public void setRenderingMode(int mode) {
+		renderingMode = mode;
+		staticLayer.flush();
+		seriesLayer.flush();
+		repaint();
+	}
+
+	/**
+	 * Get the rendering mode.
+	 * 
+	 * @return the rendering mode
+	 * @since 1.2
+	 */
+	public int getRenderingMode() {
+		return renderingMode;
+	}
+
 	/**
 	 * Set the textual color. This is equal to call the {@link ColorProperty#setCurrentColor(Color)} method
 	 * of the return value of {@link #getTextualColorProperty()}.
@@ -228,12 +443,19 @@ public class RecentMemoryUsageLineChart extends JPanel implements RecentMemoryUs
 
 	@Override
 	public void historyChanged(RecentMemoryUsageHistory history) {
-		updateUI();
+		if(renderingMode == INCREMENTAL_RENDERING) {
+			repaint();
+		}
+		else {
+			updateUI();
+		}
 	}
 
 	@Override
 	public void propertyChanged(EditablePropertyEvent event) {
 		setBackground(backgroundColor.getColor());
+		staticLayer.invalidate();
+		seriesLayer.invalidate();
 		updateUI();
 	}
 
@@ -247,12 +469,339 @@ public class RecentMemoryUsageLineChart extends JPanel implements RecentMemoryUs
 		height = (int)(getHeight() * HEIGHT_RATIO);
 		originX = (getWidth() - width) / 2;
 		originY = (getHeight() - height) / 2;
-		drawCoordinations(g2d);
-		drawMemoryUsage(g2d);
+		axisEndTime = (usageHistory.getEvents().isEmpty())? 0 : usageHistory.getEvents().get(usageHistory.getEvents().size() - 1).getTimeStamp();
+		if(renderingMode == INCREMENTAL_RENDERING && width > 0 && height > 0) {
+			drawLayers(g2d);
+		}
+		else {
+			drawCoordinations(g2d);
+			drawMemoryUsage(g2d);
+		}
+		drawPoolUsage(g2d);
+		drawCollectionMarkers(g2d);
+		drawTrend(g2d);
 		drawTimeStamp(g2d);
 		g2d.dispose();
 	}
 
+	/**
+	 * Draw the cached axis layer and memory usage layer, and update the layers
+	 * if necessary.
+	 * 
+	 * @param g2d the Java 2D graphics system
+	 */
+	private void drawLayers(Graphics2D g2d) {
+		if(staticLayer.prepare(this, getWidth(), getHeight())) {
+			Graphics2D layer = staticLayer.createGraphics();
+			layer.setRenderingHints(g2d.getRenderingHints());
+			layer.setFont(g2d.getFont());
+			layer.setColor(getBackground());
+			layer.fillRect(0, 0, getWidth(), getHeight());
+			drawCoordinations(layer);
+			layer.dispose();
+		}
+		staticLayer.draw(g2d, 0, 0);
+		if(timeSpan > 0) {
+			drawMemoryUsage(g2d);
+			return;
+		}
+		if(usageHistory.getEvents().isEmpty()) {
+			return;
+		}
+		double xPointOffset = (double)width / (double)usageHistory.getEvents().getMaximumRecentEventCapacity();
+		boolean redraw = seriesLayer.prepare(this, width + SERIES_PADDING * 2, height + SERIES_PADDING * 2);
+		if(redraw || seriesWidth != width || seriesHeight != height || seriesOffset != xPointOffset || !appendMemoryUsage()) {
+			seriesWidth = width;
+			seriesHeight = height;
+			seriesOffset = xPointOffset;
+			redrawMemoryUsage();
+		}
+		seriesLayer.draw(g2d, originX - SERIES_PADDING, originY - SERIES_PADDING);
+		drawStatistics(g2d);
+	}
+
+	/**
+	 * Redraw the whole memory usage line into the series layer.
+	 */
+	private void redrawMemoryUsage() {
+		Graphics2D layer = seriesLayer.createGraphics();
+		seriesLayer.clear(layer, 0, 0, width + SERIES_PADDING * 2, height + SERIES_PADDING * 2);
+		seriesFirst = 0;
+		seriesSize = 0;
+		RecentHistory<MemoryUsageEvent> history = usageHistory.getEvents();
+		if(isDownsampling(history)) {
+			drawDownsampledUsage(layer, history, SERIES_PADDING + COORDINATION_OFFSET, SERIES_PADDING);
+			MemoryUsageEvent latest = history.get(history.size() - 1);
+			seriesSize = history.size();
+			lastX = getSeriesX(seriesSize - 1) + SERIES_PADDING + COORDINATION_OFFSET;
+			lastY = SERIES_PADDING + (int)(height * (1 - latest.getMemoryUsageRatio()));
+			previousKnown = false;
+		}
+		else {
+			drawNewSegments(layer, history, 0);
+		}
+		layer.dispose();
+		seriesTracker.reset(history, history.size());
+	}
+
+	/**
+	 * Append the new samples to the series layer. The layer is shifted to the
+	 * left if the oldest samples are evicted from the history, and the latest
+	 * segment is redrawn if its sample is updated in place, e.g., the latest
+	 * bucket of a {@link MemoryUsageTier}.
+	 * 
+	 * @return false if the changes cannot be identified and the layer should
+	 * be redrawn
+	 */
+	private boolean appendMemoryUsage() {
+		RecentHistory<MemoryUsageEvent> history = usageHistory.getEvents();
+		int size = history.size();
+		if(seriesSize == 0 || !seriesTracker.track(history)) {
+			return false;
+		}
+		int added = seriesTracker.getAppendedCount();
+		int evicted = seriesTracker.getEvictedCount();
+		boolean updated = seriesTracker.isLatestUpdated();
+		if(updated && !previousKnown && size - added > 1) {
+			// The latest segment of a downsampled line is not kept
+			return false;
+		}
+		if(added == 0 && !updated) {
+			return true;
+		}
+		if(evicted > 0) {
+			int distance = getSeriesX(seriesFirst + evicted) - getSeriesX(seriesFirst);
+			seriesLayer.shiftLeft(distance);
+			seriesFirst += evicted;
+			lastX -= distance;
+			previousX -= distance;
+		}
+		Graphics2D layer = seriesLayer.createGraphics();
+		if(evicted > 0) {
+			// Remove the segment from the evicted sample to the oldest sample
+			seriesLayer.clear(layer, 0, 0, SERIES_PADDING + COORDINATION_OFFSET - 1, height + SERIES_PADDING * 2);
+		}
+		if(updated) {
+			redrawLatestSegment(layer, history, size - added - 1);
+		}
+		drawNewSegments(layer, history, size - added);
+		layer.dispose();
+		return true;
+	}
+
+	/**
+	 * Redraw the segment to the latest drawn sample, which is updated in place.
+	 * The old segment is erased by clearing the columns from the previous
+	 * sample, and the segments reaching into the cleared columns are drawn
+	 * again within the columns.
+	 * 
+	 * @param layer the graphics of the series layer
+	 * @param history the memory usage history
+	 * @param index the index of the updated sample
+	 */
+	private void redrawLatestSegment(Graphics2D layer, RecentHistory<MemoryUsageEvent> history, int index) {
+		lastY = getSeriesY(history.get(index).getMemoryUsageRatio());
+		if(index == 0) {
+			return;
+		}
+		int left = previousX - SERIES_PADDING;
+		int areaWidth = lastX + SERIES_PADDING - left;
+		int areaHeight = height + SERIES_PADDING * 2;
+		seriesLayer.clear(layer, left, 0, areaWidth, areaHeight);
+		int from = index;
+		while(from > 1 && getLayerX(from - 1) + SERIES_PADDING >= left) {
+			from--;
+		}
+		Graphics2D area = (Graphics2D)layer.create();
+		area.clipRect(left, 0, areaWidth, areaHeight);
+		area.setRenderingHint(KEY_ANTIALIASING, VALUE_ANTIALIAS_ON);
+		area.setStroke(stroke);
+		int y = getSeriesY(history.get(from - 1).getMemoryUsageRatio());
+		for(int i = from; i <= index; i++) {
+			double ratio = history.get(i).getMemoryUsageRatio();
+			int previous = y;
+			y = getSeriesY(ratio);
+			area.setColor((usageColors != null)? usageColors.getColor(ratio) : darkGray);
+			area.drawLine(getLayerX(i - 1), previous, getLayerX(i), y);
+		}
+		area.dispose();
+	}
+
+	/**
+	 * Draw the segments from the specified index to the latest sample into
+	 * the series layer.
+	 * 
+	 * @param layer the graphics of the series layer
+	 * @param history the memory usage history
+	 * @param from the index of the first new sample
+	 */
+	private void drawNewSegments(Graphics2D layer, RecentHistory<MemoryUsageEvent> history, int from) {
+		layer.setRenderingHint(KEY_ANTIALIASING, VALUE_ANTIALIAS_ON);
+		layer.setStroke(stroke);
+		int size = history.size();
+		for(int i = from; i < size; i++) {
+			MemoryUsageEvent event = history.get(i);
+			double ratio = event.getMemoryUsageRatio();
+			int x = getLayerX(i);
+			int y = getSeriesY(ratio);
+			if(i > 0) {
+				layer.setColor((usageColors != null)? usageColors.getColor(ratio) : darkGray);
+				layer.drawLine(lastX, lastY, x, y);
+			}
+			previousX = lastX;
+			previousKnown = (i > 0);
+			lastX = x;
+			lastY = y;
+		}
+		seriesSize = size;
+	}
+
+	/**
+	 * Get the x of the sample in the series layer by its sequence since the
+	 * layer is redrawn. The offsets between the samples are computed from the
+	 * sequences, so shifting the layer keeps the samples on the same pixels.
+	 * 
+	 * @param sequence the sequence of the sample
+	 * @return the x of the sample
+	 */
+	private int getSeriesX(long sequence) {
+		return (int)(seriesOffset * sequence);
+	}
+
+	/**
+	 * Get the x of the sample in the series layer.
+	 * 
+	 * @param index the index of the sample in the history
+	 * @return the x of the sample
+	 */
+	private int getLayerX(int index) {
+		return getSeriesX(seriesFirst + index) - getSeriesX(seriesFirst) + SERIES_PADDING + COORDINATION_OFFSET;
+	}
+
+	/**
+	 * Get the y of the memory usage ratio in the series layer.
+	 * 
+	 * @param ratio the memory usage ratio
+	 * @return the y of the ratio
+	 */
+	private int getSeriesY(double ratio) {
+		return SERIES_PADDING + (int)(height * (1 - ratio));
+	}
+
+	/**
+	 * Get the x of the sample in the chart. In the time axis, the sample is
+	 * placed by its time stamp; otherwise, by its index.
+	 * 
+	 * @param history the memory usage history
+	 * @param index the index of the sample
+	 * @param xPointOffset the horizontal offset between two samples in the index axis
+	 * @return the x of the sample
+	 */
+	private int getSampleX(RecentHistory<MemoryUsageEvent> history, int index, double xPointOffset) {
+		if(timeSpan > 0) {
+			return getTimeX(history.get(index).getTimeStamp());
+		}
+		return originX + (int)(xPointOffset * index) + COORDINATION_OFFSET;
+	}
+
+	/**
+	 * Get the x of the time in the time axis.
+	 * 
+	 * @param time the time
+	 * @return the x of the time
+	 */
+	private int getTimeX(long time) {
+		return originX + (int)((double)width * (timeSpan - (axisEndTime - time)) / timeSpan) + COORDINATION_OFFSET;
+	}
+
+	/**
+	 * Create a graphics that clips the drawing to the plot area, so the
+	 * samples older than the time span are not drawn outside the axes.
+	 * 
+	 * @param g2d the Java 2D graphics system
+	 * @return the clipped graphics, which should be disposed after use
+	 */
+	private Graphics2D createPlotGraphics(Graphics2D g2d) {
+		Graphics2D plot = (Graphics2D)g2d.create();
+		plot.clipRect(originX, 0, width + COORDINATION_OFFSET * 2, getHeight());
+		return plot;
+	}
+
+	/**
+	 * Draw the minimum, average and maximum memory usage ratios.
+	 * 
+	 * @param g2d the Java 2D graphics system
+	 */
+	private void drawStatistics(Graphics2D g2d) {
+		if(statistics.getSampleCount() == 0) {
+			return;
+		}
+		boolean canUseColors = useColors && (usageColors != null);
+		drawStatisticData(g2d, statistics.getMinimumRatio(), canUseColors);
+		drawStatisticData(g2d, statistics.getAverageRatio(), canUseColors);
+		drawStatisticData(g2d, statistics.getMaximumRatio(), canUseColors);
+	}
+
+	/**
+	 * Get whether the history has more samples than the horizontal pixels
+	 * and should be downsampled.
+	 * 
+	 * @param history the memory usage history
+	 * @return true if the history should be downsampled
+	 */
+	private boolean isDownsampling(RecentHistory<MemoryUsageEvent> history) {
+		return history.getMaximumRecentEventCapacity() > width;
+	}
+
+	/**
+	 * Draw the memory usage line from the downsampled points. The segments of
+	 * the same color level are batched into one path.
+	 * 
+	 * @param g2d the Java 2D graphics system
+	 * @param history the memory usage history
+	 * @param baseX the x of the oldest sample
+	 * @param baseY the y of the 100% ratio
+	 */
+	private void drawDownsampledUsage(Graphics2D g2d, RecentHistory<MemoryUsageEvent> history, int baseX, int baseY) {
+		downsampler.update(history, width);
+		int levels = (usageColors != null)? usageColors.getColorCount() : 1;
+		if(levelPaths.length < levels) {
+			levelPaths = new GeneralPath[levels];
+			for(int level = 0; level < levels; level++) {
+				levelPaths[level] = new GeneralPath();
+			}
+		}
+		for(int level = 0; level < levels; level++) {
+			levelPaths[level].reset();
+		}
+		double xPointOffset = (double)width / (double)history.getMaximumRecentEventCapacity();
+		long first = downsampler.getFirstSequence();
+		float x1 = 0, y1 = 0;
+		int lastLevel = -1;
+		for(int p = 0; p < downsampler.getPointCount(); p++) {
+			double ratio = downsampler.getPointRatio(p);
+			long index = downsampler.getPointSequence(p) - first;
+			float x2 = (timeSpan > 0)? getTimeX(history.get((int)index).getTimeStamp()) : baseX + (float)(xPointOffset * index);
+			float y2 = baseY + (float)(height * (1 - ratio));
+			if(p > 0) {
+				int level = (usageColors != null)? Math.max(0, Math.min(levels - 1, usageColors.findLevel(ratio))) : 0;
+				if(level != lastLevel) {
+					levelPaths[level].moveTo(x1, y1);
+					lastLevel = level;
+				}
+				levelPaths[level].lineTo(x2, y2);
+			}
+			x1 = x2;
+			y1 = y2;
+		}
+		setStroke(g2d, stroke);
+		for(int level = 0; level < levels; level++) {
+			g2d.setColor((usageColors != null)? usageColors.getColor(level) : darkGray);
+			g2d.draw(levelPaths[level]);
+		}
+		recoverStroke(g2d);
+	}
+
 	/**
 	 * Draw the coordinations.
 	 * 
@@ -295,35 +844,218 @@ public class RecentMemoryUsageLineChart extends JPanel implements RecentMemoryUs
 	private void drawMemoryUsage(Graphics2D g2d) {
 		if(usageHistory != null && !usageHistory.getEvents().isEmpty()) {
 			RecentHistory<MemoryUsageEvent> history = usageHistory.getEvents();
+			Graphics2D plot = createPlotGraphics(g2d);
+			if(isDownsampling(history)) {
+				drawDownsampledUsage(plot, history, originX + COORDINATION_OFFSET, originY);
+				plot.dispose();
+				drawStatistics(g2d);
+				return;
+			}
 			double xPointOffset = (double)width / (double)history.getMaximumRecentEventCapacity();;
 			int i = 0;
-			int x1 = originX + COORDINATION_OFFSET, x2 = originX + COORDINATION_OFFSET;
+			int x1 = getSampleX(history, 0, xPointOffset), x2 = x1;
 			int y1 = originY + height, y2 = originY + (int)(height * (1 - history.get(0).getMemoryUsageRatio()));
-			double total = 0, ratio = 0;
-			double min = MAX_VALUE, max = MIN_NORMAL;
-			setStroke(g2d, stroke);
+			double ratio = 0;
+			setStroke(plot, stroke);
 			for(MemoryUsageEvent event : history) {
 				ratio = event.getMemoryUsageRatio();
-				min = Math.min(min, ratio);
-				max = Math.max(max, ratio);
-				total += ratio;
-				g2d.setColor((usageColors != null)? usageColors.getColor(ratio) : darkGray);
+				plot.setColor((usageColors != null)? usageColors.getColor(ratio) : darkGray);
 				x1 = x2;
 				y1 = y2;
-				x2 = originX + (int)(xPointOffset * i) + COORDINATION_OFFSET;
+				x2 = getSampleX(history, i, xPointOffset);
 				y2 = originY + (int)(height * (1 - ratio));
-				g2d.drawLine(x1, y1, x2, y2);
+				plot.drawLine(x1, y1, x2, y2);
 				i++;
 			}
-			recoverStroke(g2d);
-			double average = total / history.size();
-			boolean canUseColors = useColors && (usageColors != null);
-			drawStatisticData(g2d, min, canUseColors);
-			drawStatisticData(g2d, average, canUseColors);
-			drawStatisticData(g2d, max, canUseColors);
+			recoverStroke(plot);
+			plot.dispose();
+			drawStatistics(g2d);
 		}
 	}
 
+	/**
+	 * Draw the usage of the plotted memory pools and their legends.
+	 * 
+	 * @param g2d the Java 2D graphics system
+	 */
+	private void drawPoolUsage(Graphics2D g2d) {
+		if(plottedPools.length == 0 || usageHistory == null || usageHistory.getEvents().isEmpty()) {
+			return;
+		}
+		RecentHistory<MemoryUsageEvent> history = usageHistory.getEvents();
+		MemoryUsageEvent latest = history.get(history.size() - 1);
+		MemoryPoolLayout layout = (latest instanceof MemoryPoolUsages)? ((MemoryPoolUsages)latest).getPoolLayout() : null;
+		if(layout == null) {
+			return;
+		}
+		double xPointOffset = (double)width / (double)history.getMaximumRecentEventCapacity();
+		// The pool lines of a downsampled history are drawn with one sample per pixel
+		int size = history.size();
+		int step = isDownsampling(history)? Math.max(1, (int)(1 / xPointOffset)) : 1;
+		int legendX = originX;
+		int legendY = originY - TEXT_X_OFFSET;
+		Graphics2D plot = createPlotGraphics(g2d);
+		for(int p = 0; p < plottedPools.length; p++) {
+			int pool = layout.indexOf(plottedPools[p]);
+			if(pool < 0) {
+				continue;
+			}
+			g2d.setColor(POOL_COLORS[p % POOL_COLORS.length]);
+			plot.setColor(POOL_COLORS[p % POOL_COLORS.length]);
+			int x1 = 0, y1 = 0;
+			boolean connected = false;
+			for(int i = 0; i < size; i += step) {
+				double ratio = getPoolUsageRatio(history.get(i), layout, pool);
+				int x2 = getSampleX(history, i, xPointOffset);
+				int y2 = originY + (int)(height * (1 - ratio));
+				if(ratio >= 0 && connected) {
+					plot.drawLine(x1, y1, x2, y2);
+				}
+				connected = (ratio >= 0);
+				x1 = x2;
+				y1 = y2;
+			}
+			g2d.drawString(plottedPools[p], legendX, legendY);
+			legendX += (int)g2d.getFontMetrics().getStringBounds(plottedPools[p], g2d).getWidth() + LEGEND_GAP;
+		}
+		plot.dispose();
+	}
+
+	/**
+	 * Draw a vertical marker for each garbage collection within the time range
+	 * of the memory usage history.
+	 * 
+	 * @param g2d the Java 2D graphics system
+	 */
+	private void drawCollectionMarkers(Graphics2D g2d) {
+		if(collectionHistory == null || usageHistory == null || usageHistory.getEvents().size() < 2) {
+			return;
+		}
+		RecentHistory<MemoryUsageEvent> history = usageHistory.getEvents();
+		int last = history.size() - 1;
+		long first = history.get(0).getTimeStamp();
+		long latest = history.get(last).getTimeStamp();
+		double xPointOffset = (double)width / (double)history.getMaximumRecentEventCapacity();
+		g2d.setColor(COLLECTION_MARKER_COLOR);
+		for(MemoryUsageEvent collection : collectionHistory.getEvents()) {
+			long time = collection.getTimeStamp();
+			if(time < first || time > latest) {
+				continue;
+			}
+			if(timeSpan > 0 && time < latest - timeSpan) {
+				continue;
+			}
+			int x = getEventX(history, time, xPointOffset);
+			g2d.drawLine(x, originY, x, originY + height);
+		}
+	}
+
+	/**
+	 * Draw the trend of the old generation after the collections from the
+	 * oldest sample of the analyzer to the latest memory usage sample, and
+	 * the estimated time until the old generation is full.
+	 * 
+	 * @param g2d the Java 2D graphics system
+	 */
+	private void drawTrend(Graphics2D g2d) {
+		OldGenerationTrendAnalyzer analyzer = trendAnalyzer;
+		if(analyzer == null || usageHistory == null || usageHistory.getEvents().size() < 2) {
+			return;
+		}
+		RecentHistory<MemoryUsageEvent> history = usageHistory.getEvents();
+		long first = history.get(0).getTimeStamp();
+		long latest = history.get(history.size() - 1).getTimeStamp();
+		if(timeSpan > 0) {
+			first = Math.max(first, latest - timeSpan);
+		}
+		long start = Math.max(first, analyzer.getWindowStartTime());
+		double ratio1 = analyzer.getTrendRatio(start);
+		double ratio2 = analyzer.getTrendRatio(latest);
+		if(start >= latest || Double.isNaN(ratio1) || Double.isNaN(ratio2)) {
+			return;
+		}
+		double xPointOffset = (double)width / (double)history.getMaximumRecentEventCapacity();
+		int x1 = getEventX(history, start, xPointOffset);
+		int x2 = getEventX(history, latest, xPointOffset);
+		int y1 = originY + (int)(height * (1 - Math.max(0, Math.min(1, ratio1))));
+		int y2 = originY + (int)(height * (1 - Math.max(0, Math.min(1, ratio2))));
+		Stroke previous = g2d.getStroke();
+		g2d.setColor(TREND_COLOR);
+		g2d.setStroke(trendStroke);
+		g2d.drawLine(x1, y1, x2, y2);
+		g2d.setStroke(previous);
+		long exhaustion = analyzer.getTimeToExhaustion();
+		if(exhaustion >= 0 && analyzer.isLeakSuspected()) {
+			String label = format(EXHAUSTION_FORMAT, formatDuration(exhaustion));
+			int labelWidth = (int)g2d.getFontMetrics().getStringBounds(label, g2d).getWidth();
+			g2d.drawString(label, Math.max(originX, x2 - labelWidth), Math.max(originY, y2 - TEXT_X_OFFSET));
+		}
+	}
+
+	/**
+	 * Get the x of the time within the range of the history. In the index axis,
+	 * the x is interpolated between the samples around the time.
+	 * 
+	 * @param history the memory usage history
+	 * @param time the time
+	 * @param xPointOffset the horizontal offset between two samples in the index axis
+	 * @return the x of the time
+	 */
+	private int getEventX(RecentHistory<MemoryUsageEvent> history, long time, double xPointOffset) {
+		if(timeSpan > 0) {
+			return getTimeX(time);
+		}
+		int index = findSampleIndex(history, time);
+		long time1 = history.get(index).getTimeStamp();
+		long time2 = history.get(Math.min(index + 1, history.size() - 1)).getTimeStamp();
+		double fraction = (time2 > time1)? (double)(time - time1) / (double)(time2 - time1) : 0;
+		return originX + (int)(xPointOffset * (index + fraction)) + COORDINATION_OFFSET;
+	}
+
+	/**
+	 * Find the index of the latest sample whose time stamp is not later than
+	 * the specified time.
+	 * 
+	 * @param history the history sorted by the time stamps
+	 * @param time the time
+	 * @return the index of the sample
+	 */
+	private int findSampleIndex(RecentHistory<MemoryUsageEvent> history, long time) {
+		int low = 0, high = history.size() - 1;
+		while(low < high) {
+			int middle = (low + high + 1) >>> 1;
+			if(history.get(middle).getTimeStamp() <= time) {
+				low = middle;
+			}
+			else {
+				high = middle - 1;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Get the usage ratio of the pool in the event.
+	 * 
+	 * @param event the event
+	 * @param layout the expected pool layout
+	 * @param pool the index of the pool
+	 * @return the usage ratio, or -1 if not available
+	 */
+	private double getPoolUsageRatio(MemoryUsageEvent event, MemoryPoolLayout layout, int pool) {
+		if(!(event instanceof MemoryPoolUsages)) {
+			return -1;
+		}
+		MemoryPoolUsages usages = (MemoryPoolUsages)event;
+		if(!layout.equals(usages.getPoolLayout())) {
+			return -1;
+		}
+		long used = usages.getPoolUsedSize(pool);
+		long maximum = usages.getPoolMaximumSize(pool);
+		long base = (maximum > 0)? maximum : usages.getPoolCommittedSize(pool);
+		return (used >= 0 && base > 0)? Math.min(1.0, (double)used / (double)base) : -1;
+	}
+
 	/**
 	 * Draw the time stamp on the horizontal axis.
 	 * 
@@ -335,6 +1067,21 @@ public class RecentMemoryUsageLineChart extends JPanel implements RecentMemoryUs
 		int indexOffset = usageHistory.getEvents().getMaximumRecentEventCapacity() / (GRIDS + 1);
 		int stampXOffset = width / (GRIDS + 1);
 		int textY = originY + height + g.getFontMetrics().getHeight();
+		if(timeSpan > 0) {
+			if(size == 0) {
+				return;
+			}
+			long first = usageHistory.getEvents().get(0).getTimeStamp();
+			for(int i = 1; i <= GRIDS; i++) {
+				long time = axisEndTime - timeSpan + timeSpan * i / (GRIDS + 1);
+				if(time >= first) {
+					String stamp = format(TIMESTAMP_FORMAT, time);
+					int textX = originX + (stampXOffset * i) - (int)(g.getFontMetrics().getStringBounds(stamp, g).getWidth() / 2);
+					g.drawString(stamp, textX, textY);
+				}
+			}
+			return;
+		}
 		for(int index = indexOffset, i = 1; index < size; index += indexOffset, i++) {
 			MemoryUsageEvent event = usageHistory.getEvents().get(index);
 			String stamp = format(TIMESTAMP_FORMAT, event.getTimeStamp());
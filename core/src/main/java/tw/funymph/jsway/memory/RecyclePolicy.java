@@ -0,0 +1,43 @@
+/* RecyclePolicy.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+/**
+ * A policy that decides when the {@link MemoryRecycleEngine} should force a
+ * garbage collection. The policy is consulted on every sample and informed of
+ * the outcome of every forced collection, so it can keep its own state, e.g.,
+ * the hysteresis and the backoff.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public interface RecyclePolicy {
+
+	/**
+	 * Decide whether a garbage collection should be forced now.
+	 * 
+	 * @param time the time stamp of the sample in milliseconds
+	 * @param ratio the memory usage ratio in the ratio base of the engine
+	 * @return true if a garbage collection should be forced
+	 */
+	boolean shouldRecycle(long time, double ratio);
+
+	/**
+	 * Invoke after a garbage collection is forced by the engine.
+	 * 
+	 * @param time the time stamp when the collection started in milliseconds
+	 * @param reclaimedSize the reclaimed size in bytes
+	 * @param usedSize the used size before the collection in bytes
+	 */
+	void recycled(long time, long reclaimedSize, long usedSize);
+}
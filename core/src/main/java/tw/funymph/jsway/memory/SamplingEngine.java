@@ -0,0 +1,132 @@
+/* SamplingEngine.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static java.util.concurrent.Executors.newSingleThreadExecutor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+import tw.funymph.jsway.utils.HashedTimerWheel;
+import tw.funymph.jsway.utils.TickHandle;
+
+/**
+ * A background executor that drives the {@link TimingMonitor} instances. All
+ * sampling tasks of an engine run on one daemon thread so that the sampling
+ * (and any work done by the monitors, e.g., garbage collection) never blocks
+ * the event dispatch thread. The timing is multiplexed on a shared
+ * {@link HashedTimerWheel}, so the monitors that share a period are sampled on
+ * the same tick, and the wheel reports the cost of every monitor.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class SamplingEngine {
+
+	private static final String DEFAULT_THREAD_NAME = "JavaSway Sampling Engine";
+
+	private static SamplingEngine defaultEngine;
+
+	private HashedTimerWheel wheel;
+	private ExecutorService executor;
+
+	/**
+	 * Get the system shared sampling engine.
+	 * 
+	 * @return the shared sampling engine
+	 */
+	public static synchronized SamplingEngine getDefaultEngine() {
+		if(defaultEngine == null) {
+			defaultEngine = new SamplingEngine(DEFAULT_THREAD_NAME);
+		}
+		return defaultEngine;
+	}
+
+	/**
+	 * Construct a <code>SamplingEngine</code> instance that runs the sampling
+	 * tasks on a daemon thread with the specified name, and times them with
+	 * the shared timer wheel.
+	 * 
+	 * @param threadName the name of the sampling thread
+	 */
+	public SamplingEngine(String threadName) {
+		this(threadName, HashedTimerWheel.getInstance());
+	}
+
+	/**
+	 * Construct a <code>SamplingEngine</code> instance that runs the sampling
+	 * tasks on a daemon thread with the specified name, and times them with
+	 * the specified timer wheel.
+	 * 
+	 * @param threadName the name of the sampling thread
+	 * @param timerWheel the timer wheel to time the tasks
+	 */
+	public SamplingEngine(final String threadName, HashedTimerWheel timerWheel) {
+		wheel = timerWheel;
+		executor = newSingleThreadExecutor(new ThreadFactory() {
+
+			@Override
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, threadName);
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+	}
+
+	/**
+	 * Get the timer wheel that times the tasks.
+	 * 
+	 * @return the timer wheel
+	 */
+	public HashedTimerWheel getTimerWheel() {
+		return wheel;
+	}
+
+	/**
+	 * Schedule the task to be executed periodically on the sampling thread. The
+	 * ticks are aligned to the multiples of the period, and a tick is skipped if
+	 * the previous execution has not finished, so a long execution (e.g., a full
+	 * garbage collection) will not cause a burst of executions.
+	 * 
+	 * @param name the name to report the cost of the task
+	 * @param task the task to be executed
+	 * @param period the period in milliseconds
+	 * @return the handle to cancel the task
+	 */
+	public TickHandle schedule(String name, Runnable task, long period) {
+		return wheel.schedule(name, task, period, executor);
+	}
+
+	/**
+	 * Schedule the task to be executed once on the sampling thread after the
+	 * specified delay. This is used by the monitors that decide the delay of
+	 * the next sample after each sample.
+	 * 
+	 * @param name the name to report the cost of the task
+	 * @param task the task to be executed
+	 * @param delay the delay in milliseconds
+	 * @return the handle to cancel the task
+	 */
+	public TickHandle scheduleOnce(String name, Runnable task, long delay) {
+		return wheel.scheduleOnce(name, task, delay, executor);
+	}
+
+	/**
+	 * Shutdown the engine. All scheduled tasks are cancelled on their next
+	 * ticks; the timer wheel is not affected.
+	 */
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+}
@@ -0,0 +1,250 @@
+/* ThreadAllocationChart.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static java.awt.Color.gray;
+import static java.awt.Color.lightGray;
+import static java.awt.Color.white;
+import static tw.funymph.jsway.memory.ThreadAllocationTable.formatSize;
+
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+
+import javax.swing.JPanel;
+
+/**
+ * A stacked chart that shows the allocation rates of the top allocating threads
+ * in the recent samples of a {@link ThreadAllocationMonitor}. Each sample is a
+ * column stacked by the top threads of that sample and the rest of the threads.
+ * A thread keeps the same color in all samples.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class ThreadAllocationChart extends JPanel implements ThreadAllocationListener {
+
+	private static final long serialVersionUID = -6098153296720483815L;
+
+	public static final int DEFAULT_SAMPLE_CAPACITY = 60;
+	public static final int DEFAULT_TOP_THREADS = 5;
+
+	private static final int MARGIN = 20;
+	private static final int LEGEND_GAP = 10;
+
+	private static final Color[] THREAD_COLORS = {
+		new Color(0, 84, 166), new Color(0, 128, 0), new Color(128, 0, 128), new Color(0, 128, 128),
+		new Color(255, 140, 0), new Color(70, 130, 180), new Color(139, 69, 19), new Color(199, 21, 133)
+	};
+
+	private static final String OTHERS_LABEL = "Others";
+	private static final String TOTAL_FORMAT = "Total: %s";
+	private static final String UNSUPPORTED_TEXT = "Thread allocation is not supported by this virtual machine";
+	private static final String RATE_SUFFIX = "/s";
+
+	private boolean supported;
+	private int topThreads;
+	private int capacity;
+	private int head;
+	private int size;
+
+	private long[][] topIds;
+	private double[][] topRates;
+	private double[] otherRates;
+	private double[] totalRates;
+	private String[] topNames;
+	private int[] selected;
+
+	/**
+	 * Construct a <code>ThreadAllocationChart</code> instance with the default
+	 * capacities that shows the allocation sampled by the specified monitor.
+	 * 
+	 * @param monitor the monitor
+	 */
+	public ThreadAllocationChart(ThreadAllocationMonitor monitor) {
+		this(monitor, DEFAULT_SAMPLE_CAPACITY, DEFAULT_TOP_THREADS);
+	}
+
+	/**
+	 * Construct a <code>ThreadAllocationChart</code> instance by specifying the
+	 * amount of the recent samples and the amount of the top threads in each
+	 * sample.
+	 * 
+	 * @param monitor the monitor
+	 * @param samples the amount of the recent samples
+	 * @param threads the amount of the top threads
+	 */
+	public ThreadAllocationChart(ThreadAllocationMonitor monitor, int samples, int threads) {
+		supported = monitor.isSupported();
+		capacity = samples;
+		topThreads = threads;
+		topIds = new long[capacity][topThreads];
+		topRates = new double[capacity][topThreads];
+		otherRates = new double[capacity];
+		totalRates = new double[capacity];
+		topNames = new String[topThreads];
+		selected = new int[topThreads];
+		setBackground(white);
+		setForeground(gray);
+		monitor.addThreadAllocationListener(this);
+	}
+
+	@Override
+	public void allocationUpdated(ThreadAllocationSnapshot snapshot) {
+		int slot;
+		if(size < capacity) {
+			slot = (head + size++) % capacity;
+		}
+		else {
+			slot = head;
+			head = (head + 1) % capacity;
+		}
+		int count = selectTopThreads(snapshot);
+		double topTotal = 0;
+		for(int t = 0; t < topThreads; t++) {
+			if(t < count) {
+				topIds[slot][t] = snapshot.getThreadId(selected[t]);
+				topRates[slot][t] = snapshot.getAllocationRate(selected[t]);
+				topNames[t] = snapshot.getThreadName(selected[t]);
+				topTotal += topRates[slot][t];
+			}
+			else {
+				topRates[slot][t] = 0;
+				topNames[t] = null;
+			}
+		}
+		totalRates[slot] = snapshot.getTotalAllocationRate();
+		otherRates[slot] = Math.max(0, totalRates[slot] - topTotal);
+		repaint();
+	}
+
+	@Override
+	protected void paintComponent(Graphics g) {
+		super.paintComponent(g);
+		Graphics2D g2d = (Graphics2D)g.create();
+		int textHeight = g2d.getFontMetrics().getHeight();
+		if(!supported) {
+			g2d.setColor(getForeground());
+			g2d.drawString(UNSUPPORTED_TEXT, MARGIN, MARGIN + textHeight);
+			g2d.dispose();
+			return;
+		}
+		int chartWidth = getWidth() - MARGIN * 2;
+		int chartHeight = getHeight() - MARGIN * 2 - textHeight;
+		int baseY = MARGIN + textHeight + chartHeight;
+		double maximum = 1;
+		for(int i = 0; i < size; i++) {
+			maximum = Math.max(maximum, totalRates[(head + i) % capacity]);
+		}
+		double columnWidth = (double)chartWidth / capacity;
+		for(int i = 0; i < size; i++) {
+			int slot = (head + i) % capacity;
+			int x = MARGIN + (int)(columnWidth * i);
+			int width = Math.max(1, (int)(columnWidth * (i + 1)) - (int)(columnWidth * i));
+			double stacked = 0;
+			for(int t = 0; t < topThreads; t++) {
+				if(topRates[slot][t] > 0) {
+					stacked = fillSegment(g2d, colorOf(topIds[slot][t]), x, width, baseY, chartHeight, stacked, topRates[slot][t], maximum);
+				}
+			}
+			fillSegment(g2d, lightGray, x, width, baseY, chartHeight, stacked, otherRates[slot], maximum);
+		}
+		g2d.setColor(getForeground());
+		g2d.drawLine(MARGIN, baseY, MARGIN + chartWidth, baseY);
+		drawLegend(g2d, textHeight);
+		g2d.dispose();
+	}
+
+	/**
+	 * Fill a segment of a stacked column.
+	 * 
+	 * @param g2d the graphics to draw
+	 * @param color the color of the segment
+	 * @param x the x of the column
+	 * @param width the width of the column
+	 * @param baseY the y of the base line
+	 * @param chartHeight the height of the chart
+	 * @param stacked the stacked rate below the segment
+	 * @param rate the rate of the segment
+	 * @param maximum the rate on the top of the chart
+	 * @return the stacked rate including the segment
+	 */
+	private double fillSegment(Graphics2D g2d, Color color, int x, int width, int baseY, int chartHeight, double stacked, double rate, double maximum) {
+		int bottom = baseY - (int)(chartHeight * stacked / maximum);
+		int top = baseY - (int)(chartHeight * (stacked + rate) / maximum);
+		g2d.setColor(color);
+		g2d.fillRect(x, top, width, bottom - top);
+		return stacked + rate;
+	}
+
+	/**
+	 * Draw the legend of the top threads in the latest sample and the total
+	 * allocation rate.
+	 * 
+	 * @param g2d the graphics to draw
+	 * @param textHeight the height of the text
+	 */
+	private void drawLegend(Graphics2D g2d, int textHeight) {
+		if(size == 0) {
+			return;
+		}
+		int latest = (head + size - 1) % capacity;
+		int legendX = MARGIN;
+		int legendY = MARGIN + textHeight / 2;
+		String total = String.format(TOTAL_FORMAT, formatSize(totalRates[latest], RATE_SUFFIX));
+		g2d.setColor(getForeground());
+		g2d.drawString(total, legendX, legendY);
+		legendX += (int)g2d.getFontMetrics().getStringBounds(total, g2d).getWidth() + LEGEND_GAP;
+		for(int t = 0; t < topThreads && topNames[t] != null; t++) {
+			g2d.setColor(colorOf(topIds[latest][t]));
+			g2d.drawString(topNames[t], legendX, legendY);
+			legendX += (int)g2d.getFontMetrics().getStringBounds(topNames[t], g2d).getWidth() + LEGEND_GAP;
+		}
+		g2d.setColor(lightGray);
+		g2d.drawString(OTHERS_LABEL, legendX, legendY);
+	}
+
+	/**
+	 * Select the indices of the top allocating threads in the snapshot
+	 * in the descending order of their rates.
+	 * 
+	 * @param snapshot the snapshot
+	 * @return the amount of the selected threads
+	 */
+	private int selectTopThreads(ThreadAllocationSnapshot snapshot) {
+		int count = 0;
+		for(int i = 0; i < snapshot.getThreadCount(); i++) {
+			double rate = snapshot.getAllocationRate(i);
+			if(rate <= 0 || (count == topThreads && rate <= snapshot.getAllocationRate(selected[count - 1]))) {
+				continue;
+			}
+			int position = (count < topThreads)? count++ : count - 1;
+			while(position > 0 && snapshot.getAllocationRate(selected[position - 1]) < rate) {
+				selected[position] = selected[position - 1];
+				position--;
+			}
+			selected[position] = i;
+		}
+		return count;
+	}
+
+	/**
+	 * Get the color of the specified thread.
+	 * 
+	 * @param id the ID of the thread
+	 * @return the color of the thread
+	 */
+	private static Color colorOf(long id) {
+		return THREAD_COLORS[(int)(id % THREAD_COLORS.length)];
+	}
+}
@@ -0,0 +1,31 @@
+/* ThreadAllocationListener.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+/**
+ * A class can implement this interface to be notified when the allocation
+ * of the threads is sampled by {@link ThreadAllocationMonitor}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public interface ThreadAllocationListener {
+
+	/**
+	 * Invoked when the allocation of the threads is sampled. The snapshot
+	 * is recycled after all listeners are notified.
+	 * 
+	 * @param snapshot the sampled allocation
+	 */
+	void allocationUpdated(ThreadAllocationSnapshot snapshot);
+}
@@ -0,0 +1,294 @@
+/* ThreadAllocationMonitor.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static java.lang.management.ManagementFactory.getThreadMXBean;
+import static tw.funymph.jsway.memory.MemoryUsageMonitor.DEFAULT_DELIVERY_MODE;
+import static tw.funymph.jsway.memory.MemoryUsageMonitor.DELIVER_ON_SAMPLING_THREAD;
+
+import java.lang.management.ThreadInfo;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+import tw.funymph.jsway.utils.ListenerRegistry;
+
+/**
+ * A timing monitor that samples the bytes allocated by every live thread and
+ * computes the allocation rate of each thread and of all threads. The bytes
+ * of all threads are read in one bulk call of the HotSpot extension of
+ * {@link java.lang.management.ThreadMXBean}. On a virtual machine without the
+ * extension, {@link #isSupported()} returns false and the monitor never runs.
+ * <p>
+ * The samples are kept in recycled {@link ThreadAllocationSnapshot}s and the
+ * thread names are only looked up for the new threads, so the monitor does not
+ * create any object per thread in the steady state. The delivery modes are the
+ * ones of {@link MemoryUsageMonitor}; on the event dispatch thread, the
+ * snapshots are coalesced so that only the latest one is delivered.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class ThreadAllocationMonitor extends TimingMonitor {
+
+	public static final int DEFAULT_MONITOR_PERIOD = 1000;
+
+	private static final double MILLISECONDS_PER_SECOND = 1000.0;
+
+	private boolean supported;
+	private volatile int deliveryMode;
+
+	private AllocationSampler sampler;
+	private ThreadAllocationSnapshot previous;
+	private AtomicReference<ThreadAllocationSnapshot> spare;
+
+	private ListenerRegistry<ThreadAllocationListener, ThreadAllocationSnapshot> listeners;
+	private CoalescingDispatcher<ThreadAllocationSnapshot> dispatcher;
+
+	/**
+	 * Construct a <code>ThreadAllocationMonitor</code> instance with the default
+	 * monitor period and delivery mode, and start monitoring if supported.
+	 */
+	public ThreadAllocationMonitor() {
+		this(DEFAULT_MONITOR_PERIOD, DEFAULT_DELIVERY_MODE);
+	}
+
+	/**
+	 * Construct a <code>ThreadAllocationMonitor</code> instance by specifying the
+	 * monitor period and the delivery mode, and start monitoring if supported.
+	 * 
+	 * @param period the period to sample the allocation
+	 * @param delivery the delivery mode
+	 */
+	public ThreadAllocationMonitor(int period, int delivery) {
+		deliveryMode = delivery;
+		listeners = new ListenerRegistry<ThreadAllocationListener, ThreadAllocationSnapshot>() {
+
+			@Override
+			protected void deliver(ThreadAllocationListener listener, ThreadAllocationSnapshot snapshot) {
+				listener.allocationUpdated(snapshot);
+			}
+		};
+		spare = new AtomicReference<ThreadAllocationSnapshot>();
+		previous = new ThreadAllocationSnapshot();
+		dispatcher = new CoalescingDispatcher<ThreadAllocationSnapshot>() {
+
+			@Override
+			protected void dispatch(ThreadAllocationSnapshot snapshot) {
+				fireAllocationUpdated(snapshot);
+				spare.set(snapshot);
+			}
+
+			@Override
+			protected void discard(ThreadAllocationSnapshot snapshot) {
+				spare.set(snapshot);
+			}
+		};
+		try {
+			sampler = new AllocationSampler();
+			supported = sampler.isSupported();
+		} catch (LinkageError e) {
+			// The HotSpot extension is not available
+			supported = false;
+		}
+		setMonitorPeriod(period);
+		if(supported) {
+			startMonitor();
+		}
+	}
+
+	/**
+	 * Get whether the virtual machine supports measuring the allocation of
+	 * the threads.
+	 * 
+	 * @return true if supported
+	 */
+	public boolean isSupported() {
+		return supported;
+	}
+
+	/**
+	 * Set the delivery mode.
+	 * 
+	 * @param mode the new delivery mode
+	 */
+	public void setDeliveryMode(int mode) {
+		deliveryMode = mode;
+	}
+
+	/**
+	 * Get the delivery mode.
+	 * 
+	 * @return the delivery mode
+	 */
+	public int getDeliveryMode() {
+		return deliveryMode;
+	}
+
+	/**
+	 * Start monitoring if the allocation measurement is supported.
+	 */
+	@Override
+	public synchronized void startMonitor() {
+		if(supported) {
+			super.startMonitor();
+		}
+	}
+
+	/**
+	 * Add the thread allocation listener.
+	 * 
+	 * @param listener the listener
+	 */
+	public void addThreadAllocationListener(ThreadAllocationListener listener) {
+		listeners.add(listener);
+	}
+
+	/**
+	 * Remove the thread allocation listener.
+	 * 
+	 * @param listener the listener
+	 */
+	public void removeThreadAllocationListener(ThreadAllocationListener listener) {
+		listeners.remove(listener);
+	}
+
+	@Override
+	protected void monitor() {
+		if(!supported) {
+			return;
+		}
+		long[] ids = sampler.getThreadIds();
+		Arrays.sort(ids);
+		long[] allocated = sampler.getAllocatedSizes(ids);
+		long now = System.currentTimeMillis();
+		long elapsed = (previous.getTimeStamp() > 0)? now - previous.getTimeStamp() : 0;
+		ThreadAllocationSnapshot current = obtainSnapshot();
+		current.reset(now, elapsed, ids.length);
+		for(int i = 0; i < ids.length; i++) {
+			if(allocated[i] < 0) {
+				continue;
+			}
+			int index = previous.indexOf(ids[i]);
+			String name = (index >= 0)? previous.getThreadName(index) : sampler.getThreadName(ids[i]);
+			if(name == null) {
+				continue;
+			}
+			double rate = 0;
+			if(index >= 0 && elapsed > 0) {
+				rate = Math.max(0, allocated[i] - previous.getAllocatedSize(index)) * MILLISECONDS_PER_SECOND / elapsed;
+			}
+			current.add(ids[i], name, allocated[i], rate);
+		}
+		previous.copyFrom(current);
+		if(deliveryMode == DELIVER_ON_SAMPLING_THREAD) {
+			fireAllocationUpdated(current);
+			spare.set(current);
+		}
+		else {
+			dispatcher.post(current);
+		}
+	}
+
+	/**
+	 * Get a recycled snapshot, or create one if no snapshot is recycled.
+	 * 
+	 * @return the snapshot
+	 */
+	private ThreadAllocationSnapshot obtainSnapshot() {
+		ThreadAllocationSnapshot snapshot = spare.getAndSet(null);
+		return (snapshot != null)? snapshot : new ThreadAllocationSnapshot();
+	}
+
+	/**
+	 * Notify all registered listeners with the specified snapshot on the
+	 * calling thread. The listeners are kept in a copy-on-write registry,
+	 * so they can be added and removed while notified on the sampling thread.
+	 * 
+	 * @param snapshot the snapshot to be notified
+	 */
+	private void fireAllocationUpdated(ThreadAllocationSnapshot snapshot) {
+		listeners.fire(snapshot);
+	}
+
+	/**
+	 * The sampler that isolates the references to the HotSpot extension so that
+	 * the monitor can be loaded on the virtual machines without the extension.
+	 * 
+	 * @author Pin-Ying Tu
+	 * @version 1.2
+	 * @since 1.2
+	 */
+	private static class AllocationSampler {
+
+		private com.sun.management.ThreadMXBean threads;
+
+		/**
+		 * Construct the sampler and enable the allocation measurement if it
+		 * is supported but disabled.
+		 */
+		AllocationSampler() {
+			java.lang.management.ThreadMXBean bean = getThreadMXBean();
+			if(bean instanceof com.sun.management.ThreadMXBean) {
+				threads = (com.sun.management.ThreadMXBean)bean;
+				try {
+					if(threads.isThreadAllocatedMemorySupported() && !threads.isThreadAllocatedMemoryEnabled()) {
+						threads.setThreadAllocatedMemoryEnabled(true);
+					}
+				} catch (UnsupportedOperationException e) {
+					threads = null;
+				} catch (SecurityException e) {
+					threads = null;
+				}
+			}
+		}
+
+		/**
+		 * Get whether the allocation measurement is available.
+		 * 
+		 * @return true if available
+		 */
+		boolean isSupported() {
+			return threads != null && threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled();
+		}
+
+		/**
+		 * Get the IDs of all live threads.
+		 * 
+		 * @return the IDs of the threads
+		 */
+		long[] getThreadIds() {
+			return threads.getAllThreadIds();
+		}
+
+		/**
+		 * Get the allocated bytes of the specified threads in one call.
+		 * 
+		 * @param ids the IDs of the threads
+		 * @return the allocated bytes, or -1 for the terminated threads
+		 */
+		long[] getAllocatedSizes(long[] ids) {
+			return threads.getThreadAllocatedBytes(ids);
+		}
+
+		/**
+		 * Get the name of the specified thread.
+		 * 
+		 * @param id the ID of the thread
+		 * @return the name, or null if the thread is terminated
+		 */
+		String getThreadName(long id) {
+			ThreadInfo info = threads.getThreadInfo(id);
+			return (info != null)? info.getThreadName() : null;
+		}
+	}
+}
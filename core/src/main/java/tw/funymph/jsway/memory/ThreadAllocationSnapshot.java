@@ -0,0 +1,236 @@
+/* ThreadAllocationSnapshot.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+/**
+ * The allocation of all live threads sampled by {@link ThreadAllocationMonitor}.
+ * The threads are ordered by their IDs. The snapshots are recycled by the
+ * monitor, so a listener should copy the values it wants to keep instead of
+ * keeping the snapshot itself.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class ThreadAllocationSnapshot {
+
+	private static final int INITIAL_CAPACITY = 64;
+
+	private static final String INDEX_OUT_OF_BOUNDS_EXCEPTION = "Index: %d, Size: %d";
+
+	private long timeStamp;
+	private long interval;
+	private int threadCount;
+	private double totalRate;
+
+	private long[] threadIds;
+	private String[] threadNames;
+	private long[] allocatedSizes;
+	private double[] allocationRates;
+
+	/**
+	 * Construct an empty snapshot.
+	 */
+	ThreadAllocationSnapshot() {
+		ensureCapacity(INITIAL_CAPACITY);
+	}
+
+	/**
+	 * Get the time when the snapshot is sampled.
+	 * 
+	 * @return the time stamp
+	 */
+	public long getTimeStamp() {
+		return timeStamp;
+	}
+
+	/**
+	 * Get the elapsed time from the previous snapshot.
+	 * 
+	 * @return the interval in milliseconds, or 0 for the first snapshot
+	 */
+	public long getInterval() {
+		return interval;
+	}
+
+	/**
+	 * Get the amount of the live threads.
+	 * 
+	 * @return the amount of the threads
+	 */
+	public int getThreadCount() {
+		return threadCount;
+	}
+
+	/**
+	 * Get the ID of the thread on the specified index.
+	 * 
+	 * @param index the index of the thread
+	 * @return the ID of the thread
+	 */
+	public long getThreadId(int index) {
+		return threadIds[checkIndex(index)];
+	}
+
+	/**
+	 * Get the name of the thread on the specified index.
+	 * 
+	 * @param index the index of the thread
+	 * @return the name of the thread
+	 */
+	public String getThreadName(int index) {
+		return threadNames[checkIndex(index)];
+	}
+
+	/**
+	 * Get the total bytes allocated by the thread on the specified index
+	 * since the thread started.
+	 * 
+	 * @param index the index of the thread
+	 * @return the allocated bytes
+	 */
+	public long getAllocatedSize(int index) {
+		return allocatedSizes[checkIndex(index)];
+	}
+
+	/**
+	 * Get the allocation rate of the thread on the specified index.
+	 * 
+	 * @param index the index of the thread
+	 * @return the allocation rate in bytes per second
+	 */
+	public double getAllocationRate(int index) {
+		return allocationRates[checkIndex(index)];
+	}
+
+	/**
+	 * Get the allocation rate of all threads.
+	 * 
+	 * @return the allocation rate in bytes per second
+	 */
+	public double getTotalAllocationRate() {
+		return totalRate;
+	}
+
+	/**
+	 * Copy all values from another snapshot.
+	 * 
+	 * @param source the snapshot to be copied
+	 */
+	public void copyFrom(ThreadAllocationSnapshot source) {
+		ensureCapacity(source.threadCount);
+		timeStamp = source.timeStamp;
+		interval = source.interval;
+		threadCount = source.threadCount;
+		totalRate = source.totalRate;
+		System.arraycopy(source.threadIds, 0, threadIds, 0, threadCount);
+		System.arraycopy(source.threadNames, 0, threadNames, 0, threadCount);
+		System.arraycopy(source.allocatedSizes, 0, allocatedSizes, 0, threadCount);
+		System.arraycopy(source.allocationRates, 0, allocationRates, 0, threadCount);
+	}
+
+	/**
+	 * Reset the snapshot to be empty and make sure it can hold the specified
+	 * amount of the threads. The arrays grow only when the amount exceeds
+	 * the current capacity.
+	 * 
+	 * @param time the time stamp
+	 * @param elapsed the elapsed time from the previous snapshot
+	 * @param capacity the maximum amount of the threads to be added
+	 */
+	void reset(long time, long elapsed, int capacity) {
+		ensureCapacity(capacity);
+		timeStamp = time;
+		interval = elapsed;
+		threadCount = 0;
+		totalRate = 0;
+	}
+
+	/**
+	 * Append a thread to the snapshot. The threads must be appended in the
+	 * ascending order of their IDs.
+	 * 
+	 * @param id the ID of the thread
+	 * @param name the name of the thread
+	 * @param allocated the allocated bytes of the thread
+	 * @param rate the allocation rate of the thread
+	 */
+	void add(long id, String name, long allocated, double rate) {
+		threadIds[threadCount] = id;
+		threadNames[threadCount] = name;
+		allocatedSizes[threadCount] = allocated;
+		allocationRates[threadCount] = rate;
+		threadCount++;
+		totalRate += rate;
+	}
+
+	/**
+	 * Find the index of the thread with the specified ID by the binary search.
+	 * 
+	 * @param id the ID of the thread
+	 * @return the index of the thread, or a negative value if not found
+	 */
+	int indexOf(long id) {
+		int low = 0, high = threadCount - 1;
+		while(low <= high) {
+			int middle = (low + high) >>> 1;
+			if(threadIds[middle] < id) {
+				low = middle + 1;
+			}
+			else if(threadIds[middle] > id) {
+				high = middle - 1;
+			}
+			else {
+				return middle;
+			}
+		}
+		return -(low + 1);
+	}
+
+	/**
+	 * Make sure the arrays can hold the specified amount of the threads.
+	 * 
+	 * @param capacity the required capacity
+	 */
+	private void ensureCapacity(int capacity) {
+		if(threadIds == null || threadIds.length < capacity) {
+			int newCapacity = (threadIds == null)? capacity : Math.max(capacity, threadIds.length * 2);
+			long[] newIds = new long[newCapacity];
+			String[] newNames = new String[newCapacity];
+			long[] newAllocated = new long[newCapacity];
+			double[] newRates = new double[newCapacity];
+			if(threadIds != null) {
+				System.arraycopy(threadIds, 0, newIds, 0, threadCount);
+				System.arraycopy(threadNames, 0, newNames, 0, threadCount);
+				System.arraycopy(allocatedSizes, 0, newAllocated, 0, threadCount);
+				System.arraycopy(allocationRates, 0, newRates, 0, threadCount);
+			}
+			threadIds = newIds;
+			threadNames = newNames;
+			allocatedSizes = newAllocated;
+			allocationRates = newRates;
+		}
+	}
+
+	/**
+	 * Check the index of the thread.
+	 * 
+	 * @param index the index of the thread
+	 * @return the given index
+	 */
+	private int checkIndex(int index) {
+		if(index < 0 || index >= threadCount) {
+			throw new IndexOutOfBoundsException(String.format(INDEX_OUT_OF_BOUNDS_EXCEPTION, index, threadCount));
+		}
+		return index;
+	}
+}
@@ -0,0 +1,135 @@
+/* ThreadAllocationTable.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static java.lang.String.format;
+import static javax.swing.SortOrder.DESCENDING;
+import static javax.swing.SwingConstants.RIGHT;
+import static tw.funymph.jsway.memory.MemoryUtilities.UNIT_GB;
+import static tw.funymph.jsway.memory.MemoryUtilities.UNIT_KB;
+import static tw.funymph.jsway.memory.MemoryUtilities.UNIT_MB;
+import static tw.funymph.jsway.memory.MemoryUtilities.getGBSize;
+import static tw.funymph.jsway.memory.MemoryUtilities.getKBSize;
+import static tw.funymph.jsway.memory.MemoryUtilities.getMBSize;
+import static tw.funymph.jsway.memory.ThreadAllocationTableModel.ALLOCATED_COLUMN_INDEX;
+import static tw.funymph.jsway.memory.ThreadAllocationTableModel.RATE_COLUMN_INDEX;
+
+import java.util.Collections;
+
+import javax.swing.JTable;
+import javax.swing.RowSorter.SortKey;
+import javax.swing.table.DefaultTableCellRenderer;
+import javax.swing.table.TableRowSorter;
+
+/**
+ * A sortable table that shows the allocation of every thread sampled by a
+ * {@link ThreadAllocationMonitor}. The rows are sorted by the allocation rate
+ * in the descending order by default, so the top allocators are on the top.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class ThreadAllocationTable extends JTable {
+
+	private static final long serialVersionUID = -1473125968123059281L;
+
+	private static final String BYTES_FORMAT = "%.1f %s";
+	private static final String RATE_SUFFIX = "/s";
+	private static final String UNIT_BYTES = "B";
+
+	private ThreadAllocationTableModel allocationModel;
+
+	/**
+	 * Construct a <code>ThreadAllocationTable</code> instance that shows the
+	 * allocation sampled by the specified monitor.
+	 * 
+	 * @param monitor the monitor
+	 */
+	public ThreadAllocationTable(ThreadAllocationMonitor monitor) {
+		this(new ThreadAllocationTableModel());
+		monitor.addThreadAllocationListener(allocationModel);
+	}
+
+	/**
+	 * Construct a <code>ThreadAllocationTable</code> instance with the specified model.
+	 * 
+	 * @param model the model to be shown
+	 */
+	public ThreadAllocationTable(ThreadAllocationTableModel model) {
+		super(model);
+		allocationModel = model;
+		TableRowSorter<ThreadAllocationTableModel> sorter = new TableRowSorter<ThreadAllocationTableModel>(model);
+		sorter.setSortKeys(Collections.singletonList(new SortKey(RATE_COLUMN_INDEX, DESCENDING)));
+		setRowSorter(sorter);
+		getColumnModel().getColumn(RATE_COLUMN_INDEX).setCellRenderer(new SizeRenderer(RATE_SUFFIX));
+		getColumnModel().getColumn(ALLOCATED_COLUMN_INDEX).setCellRenderer(new SizeRenderer(""));
+	}
+
+	/**
+	 * Get the model that holds the latest allocation.
+	 * 
+	 * @return the model
+	 */
+	public ThreadAllocationTableModel getAllocationModel() {
+		return allocationModel;
+	}
+
+	/**
+	 * Format the size in bytes with the suitable unit.
+	 * 
+	 * @param size the size in bytes
+	 * @param suffix the suffix after the unit
+	 * @return the formatted text
+	 */
+	static String formatSize(double size, String suffix) {
+		if(size >= MemoryUtilities.GIGABYTES) {
+			return format(BYTES_FORMAT, getGBSize((long)size), UNIT_GB + suffix);
+		}
+		if(size >= MemoryUtilities.MEGABYTES) {
+			return format(BYTES_FORMAT, getMBSize((long)size), UNIT_MB + suffix);
+		}
+		if(size >= MemoryUtilities.KILLOBYTES) {
+			return format(BYTES_FORMAT, getKBSize((long)size), UNIT_KB + suffix);
+		}
+		return format(BYTES_FORMAT, size, UNIT_BYTES + suffix);
+	}
+
+	/**
+	 * The renderer that formats the sizes with the suitable units.
+	 * 
+	 * @author Pin-Ying Tu
+	 * @version 1.2
+	 * @since 1.2
+	 */
+	private static class SizeRenderer extends DefaultTableCellRenderer {
+
+		private static final long serialVersionUID = 5139482946510937251L;
+
+		private String suffix;
+
+		/**
+		 * Construct a renderer with the suffix after the unit.
+		 * 
+		 * @param unitSuffix the suffix after the unit
+		 */
+		SizeRenderer(String unitSuffix) {
+			suffix = unitSuffix;
+			setHorizontalAlignment(RIGHT);
+		}
+
+		@Override
+		protected void setValue(Object value) {
+			setText((value instanceof Number)? formatSize(((Number)value).doubleValue(), suffix) : "");
+		}
+	}
+}
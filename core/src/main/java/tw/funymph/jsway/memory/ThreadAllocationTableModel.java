@@ -0,0 +1,105 @@
+/* ThreadAllocationTableModel.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import javax.swing.table.AbstractTableModel;
+import javax.swing.table.TableModel;
+
+/**
+ * A class that transforms the latest {@link ThreadAllocationSnapshot} into a
+ * {@link TableModel}. The model keeps its own copy of the snapshot, so it must
+ * be notified on the event dispatch thread.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class ThreadAllocationTableModel extends AbstractTableModel implements ThreadAllocationListener {
+
+	private static final long serialVersionUID = 3357216853921186734L;
+
+	public static final int COLUMNS = 4;
+	public static final int ID_COLUMN_INDEX = 0;
+	public static final int NAME_COLUMN_INDEX = 1;
+	public static final int RATE_COLUMN_INDEX = 2;
+	public static final int ALLOCATED_COLUMN_INDEX = 3;
+
+	private static final String[] COLUMN_NAMES = { "ID", "Thread", "Allocation Rate", "Allocated" };
+
+	private ThreadAllocationSnapshot snapshot;
+
+	/**
+	 * Construct an empty <code>ThreadAllocationTableModel</code> instance.
+	 */
+	public ThreadAllocationTableModel() {
+		snapshot = new ThreadAllocationSnapshot();
+	}
+
+	@Override
+	public void allocationUpdated(ThreadAllocationSnapshot update) {
+		snapshot.copyFrom(update);
+		fireTableDataChanged();
+	}
+
+	/**
+	 * Get the allocation rate of all threads in the latest snapshot.
+	 * 
+	 * @return the allocation rate in bytes per second
+	 */
+	public double getTotalAllocationRate() {
+		return snapshot.getTotalAllocationRate();
+	}
+
+	@Override
+	public int getRowCount() {
+		return snapshot.getThreadCount();
+	}
+
+	@Override
+	public int getColumnCount() {
+		return COLUMNS;
+	}
+
+	@Override
+	public String getColumnName(int column) {
+		return COLUMN_NAMES[column];
+	}
+
+	@Override
+	public Class<?> getColumnClass(int column) {
+		switch(column) {
+		case NAME_COLUMN_INDEX:
+			return String.class;
+		case RATE_COLUMN_INDEX:
+			return Double.class;
+		default:
+			return Long.class;
+		}
+	}
+
+	@Override
+	public Object getValueAt(int rowIndex, int columnIndex) {
+		if(rowIndex < getRowCount()) {
+			switch(columnIndex) {
+			case ID_COLUMN_INDEX:
+				return snapshot.getThreadId(rowIndex);
+			case NAME_COLUMN_INDEX:
+				return snapshot.getThreadName(rowIndex);
+			case RATE_COLUMN_INDEX:
+				return snapshot.getAllocationRate(rowIndex);
+			case ALLOCATED_COLUMN_INDEX:
+				return snapshot.getAllocatedSize(rowIndex);
+			}
+		}
+		return null;
+	}
+}
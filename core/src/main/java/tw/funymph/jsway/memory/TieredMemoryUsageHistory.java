@@ -0,0 +1,109 @@
+/* TieredMemoryUsageHistory.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+/**
+ * A round-robin memory usage history that keeps several {@link MemoryUsageTier}
+ * instances of different resolutions, e.g., 1 second buckets for 5 minutes,
+ * 10 second buckets for 2 hours and 1 minute buckets for 7 days. Every event
+ * is merged into all tiers incrementally, so recording an event costs the
+ * same no matter how long the application runs and the memory is bounded by
+ * the total amount of the buckets.
+ * <p>
+ * Register this history to a {@link MemoryUsageNotifier} and bind a widget to
+ * one of the tiers, e.g., the tier returned by {@link #findTier(long)}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class TieredMemoryUsageHistory implements MemoryUsageListener {
+
+	public static final long[] DEFAULT_RESOLUTIONS = { 1000, 10000, 60000 };
+	public static final int[] DEFAULT_CAPACITIES = { 300, 720, 10080 };
+
+	private static final String TIER_MISMATCH_EXCEPTION = "The amount of the resolutions (%d) and the capacities (%d) must be the same";
+	private static final String NO_TIER_EXCEPTION = "At least one tier must be specified";
+
+	private MemoryUsageTier[] tiers;
+
+	/**
+	 * Construct a <code>TieredMemoryUsageHistory</code> instance with the
+	 * default tiers.
+	 */
+	public TieredMemoryUsageHistory() {
+		this(DEFAULT_RESOLUTIONS, DEFAULT_CAPACITIES);
+	}
+
+	/**
+	 * Construct a <code>TieredMemoryUsageHistory</code> instance by specifying
+	 * the tiers. The tiers should be ordered from the finest to the coarsest.
+	 * 
+	 * @param resolutions the bucket lengths of the tiers in milliseconds
+	 * @param capacities the amount of the buckets of the tiers
+	 * @throws IllegalArgumentException if the arrays are empty or of different lengths
+	 */
+	public TieredMemoryUsageHistory(long[] resolutions, int[] capacities) {
+		if(resolutions.length != capacities.length) {
+			throw new IllegalArgumentException(String.format(TIER_MISMATCH_EXCEPTION, resolutions.length, capacities.length));
+		}
+		if(resolutions.length == 0) {
+			throw new IllegalArgumentException(NO_TIER_EXCEPTION);
+		}
+		tiers = new MemoryUsageTier[resolutions.length];
+		for(int i = 0; i < tiers.length; i++) {
+			tiers[i] = new MemoryUsageTier(resolutions[i], capacities[i]);
+		}
+	}
+
+	@Override
+	public void memoryUsageUpdated(MemoryUsageEvent event) {
+		for(MemoryUsageTier tier : tiers) {
+			tier.memoryUsageUpdated(event);
+		}
+	}
+
+	/**
+	 * Get the amount of the tiers.
+	 * 
+	 * @return the amount of the tiers
+	 */
+	public int getTierCount() {
+		return tiers.length;
+	}
+
+	/**
+	 * Get the tier on the specified index (0 is the finest).
+	 * 
+	 * @param index the index of the tier
+	 * @return the tier
+	 */
+	public MemoryUsageTier getTier(int index) {
+		return tiers[index];
+	}
+
+	/**
+	 * Find the finest tier that covers the specified time span. If no tier
+	 * covers the span, the coarsest tier is returned.
+	 * 
+	 * @param timeSpan the time span in milliseconds
+	 * @return the tier
+	 */
+	public MemoryUsageTier findTier(long timeSpan) {
+		for(MemoryUsageTier tier : tiers) {
+			if(tier.getTimeSpan() >= timeSpan) {
+				return tier;
+			}
+		}
+		return tiers[tiers.length - 1];
+	}
+}
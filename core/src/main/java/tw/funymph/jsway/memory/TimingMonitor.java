@@ -11,14 +11,37 @@
  */
 package tw.funymph.jsway.memory;
 
+import static java.lang.String.format;
+import static tw.funymph.jsway.memory.SamplingEngine.getDefaultEngine;
+import static tw.funymph.jsway.utils.ErrorReporter.report;
+import static tw.funymph.jsway.utils.ObjectUtilities.requireNonNull;
+
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.util.concurrent.atomic.AtomicInteger;
 
-import javax.swing.Timer;
+import tw.funymph.jsway.utils.TickCost;
+import tw.funymph.jsway.utils.TickHandle;
 
 /**
  * An abstract class that provides the timer-related functionality
- * to facilitate the monitor implementation.
+ * to facilitate the monitor implementation. Since 1.2, the monitor is
+ * driven by a {@link SamplingEngine} so that {@link #monitor()} is
+ * invoked on a background thread instead of the event dispatch thread.
+ * <p>
+ * The monitor can also adapt its period between a floor and a ceiling. In the
+ * adaptive mode, the next sample is scheduled after each sample with the period
+ * returned by {@link #adjustPeriod(int)}, so the children can sample faster when
+ * the resource changes quickly and slower when it is stable.
+ * <p>
+ * The samples are timed by the timer wheel of the engine, which reports the
+ * cost of the samples by the monitor name.
+ * <p>
+ * Note that 1.2 is not source compatible with the children written for the
+ * previous releases: the <code>protected Timer timer</code> field is removed
+ * because the monitor no longer owns a Swing timer. The children should use
+ * {@link #setMonitorPeriod(int)}, {@link #startMonitor()}, {@link #stopMonitor()},
+ * and {@link #isMonitoring()} instead of accessing the timer.
  * 
  * @author Pin-Ying Tu
  * @version 1.2
@@ -26,18 +49,63 @@ import javax.swing.Timer;
  */
 public abstract class TimingMonitor implements ActionListener {
 
-	protected Timer timer;
+	private static final String NULL_ENGINE_EXCEPTION = "Cannot set a null sampling engine";
+	private static final String INVALID_BOUNDS_EXCEPTION = "Invalid adaptive period bounds: [%d, %d]";
+	private static final String NULL_NAME_EXCEPTION = "Cannot set a null monitor name";
+	private static final String MONITOR_NAME_FORMAT = "%s-%d";
+
+	private static final AtomicInteger monitorCount = new AtomicInteger();
+
+	private int period;
+	private boolean running;
+
+	private boolean adaptive;
+	private int minimumPeriod;
+	private int maximumPeriod;
+	private volatile int currentPeriod;
+	private long scheduleCount;
+
+	private volatile String monitorName;
+	private SamplingEngine engine;
+	private TickHandle task;
+	private Runnable samplingTask;
+
+	/**
+	 * Initialize the monitor with the shared sampling engine.
+	 */
+	protected TimingMonitor() {
+		this(getDefaultEngine());
+	}
+
+	/**
+	 * Initialize the monitor with the specified sampling engine.
+	 * 
+	 * @param samplingEngine the engine to drive the monitor
+	 * @throws NullPointerException if the engine is null
+	 * @since 1.2
+	 */
+	protected TimingMonitor(SamplingEngine samplingEngine) {
+		engine = requireNonNull(samplingEngine, NULL_ENGINE_EXCEPTION);
+		String className = getClass().getSimpleName();
+		monitorName = format(MONITOR_NAME_FORMAT, className.isEmpty()? getClass().getName() : className, monitorCount.incrementAndGet());
+		samplingTask = new Runnable() {
+
+			@Override
+			public void run() {
+				monitor();
+			}
+		};
+	}
 
 	/**
-	 * Set the monitor period.
+	 * Set the monitor period. If the monitor is running, it is rescheduled
+	 * with the new period.
 	 * 
 	 * @param period the monitor period
 	 */
-	public void setMonitorPeriod(int period) {
-		if(timer != null) {
-			timer.stop();
-		}
-		timer = new Timer(period, this);
+	public synchronized void setMonitorPeriod(int period) {
+		this.period = period;
+		reschedule();
 	}
 
 	/**
@@ -45,8 +113,135 @@ public abstract class TimingMonitor implements ActionListener {
 	 * 
 	 * @return the monitor period
 	 */
-	public int getMonitorPeriod() {
-		return (timer != null)? timer.getDelay() : 0;
+	public synchronized int getMonitorPeriod() {
+		return period;
+	}
+
+	/**
+	 * Set the name to report the cost of the samples. The name should be
+	 * unique among the monitors on the same timer wheel.
+	 * 
+	 * @param name the new monitor name
+	 * @throws NullPointerException if the name is null
+	 * @since 1.2
+	 */
+	public synchronized void setMonitorName(String name) {
+		monitorName = requireNonNull(name, NULL_NAME_EXCEPTION);
+		reschedule();
+	}
+
+	/**
+	 * Get the name to report the cost of the samples. The default name is the
+	 * class name with a sequence number.
+	 * 
+	 * @return the monitor name
+	 * @since 1.2
+	 */
+	public String getMonitorName() {
+		return monitorName;
+	}
+
+	/**
+	 * Get the accumulated cost of the samples of this monitor.
+	 * 
+	 * @return the cost of the samples
+	 * @since 1.2
+	 */
+	public TickCost getTickCost() {
+		return engine.getTimerWheel().getTickCost(monitorName);
+	}
+
+	/**
+	 * Enable the adaptive period. The monitor starts with the monitor period
+	 * limited to the bounds, and then adjusts the period after each sample.
+	 * 
+	 * @param floor the minimum period in milliseconds
+	 * @param ceiling the maximum period in milliseconds
+	 * @throws IllegalArgumentException if the floor is not positive or the
+	 * ceiling is less than the floor
+	 * @since 1.2
+	 */
+	public synchronized void setAdaptivePeriod(int floor, int ceiling) {
+		if(floor <= 0 || ceiling < floor) {
+			throw new IllegalArgumentException(format(INVALID_BOUNDS_EXCEPTION, floor, ceiling));
+		}
+		adaptive = true;
+		minimumPeriod = floor;
+		maximumPeriod = ceiling;
+		reschedule();
+	}
+
+	/**
+	 * Disable the adaptive period and sample with the fixed monitor period.
+	 * 
+	 * @since 1.2
+	 */
+	public synchronized void disableAdaptivePeriod() {
+		if(adaptive) {
+			adaptive = false;
+			reschedule();
+		}
+	}
+
+	/**
+	 * Get whether the adaptive period is enabled.
+	 * 
+	 * @return true if the adaptive period is enabled
+	 * @since 1.2
+	 */
+	public synchronized boolean isAdaptivePeriod() {
+		return adaptive;
+	}
+
+	/**
+	 * Get the minimum period of the adaptive period.
+	 * 
+	 * @return the minimum period in milliseconds
+	 * @since 1.2
+	 */
+	public synchronized int getMinimumPeriod() {
+		return minimumPeriod;
+	}
+
+	/**
+	 * Get the maximum period of the adaptive period.
+	 * 
+	 * @return the maximum period in milliseconds
+	 * @since 1.2
+	 */
+	public synchronized int getMaximumPeriod() {
+		return maximumPeriod;
+	}
+
+	/**
+	 * Get the period that is currently used to schedule the samples. This is
+	 * the monitor period unless the adaptive period is enabled.
+	 * 
+	 * @return the current period in milliseconds
+	 * @since 1.2
+	 */
+	public int getCurrentPeriod() {
+		return currentPeriod;
+	}
+
+	/**
+	 * Get whether the monitor is running.
+	 * 
+	 * @return true if the monitor is running
+	 * @since 1.2
+	 */
+	public synchronized boolean isMonitoring() {
+		return running;
+	}
+
+	/**
+	 * Request an extra sample on the sampling thread as soon as possible,
+	 * e.g., when a threshold is crossed. The regular schedule is unchanged.
+	 * 
+	 * @since 1.2
+	 */
+	public void sampleNow() {
+		engine.scheduleOnce(monitorName, samplingTask, 0);
 	}
 
 	@Override
@@ -57,19 +252,135 @@ public abstract class TimingMonitor implements ActionListener {
 	/**
 	 * Start the timing monitor.
 	 */
-	public void startMonitor() {
-		timer.start();
+	public synchronized void startMonitor() {
+		if(!running) {
+			running = true;
+			scheduleTask();
+		}
 	}
 
 	/**
 	 * Stop the timing monitor.
 	 */
-	public void stopMonitor() {
-		timer.stop();
+	public synchronized void stopMonitor() {
+		if(running) {
+			running = false;
+			cancelTask();
+		}
 	}
 
 	/**
-	 * Monitor the specific resource. 
+	 * Monitor the specific resource. Note that this method is invoked on
+	 * the sampling thread of the {@link SamplingEngine}.
 	 */
 	protected abstract void monitor();
+
+	/**
+	 * Decide the period before the next sample in the adaptive mode. This
+	 * method is invoked on the sampling thread right after {@link #monitor()}
+	 * and the returned period is limited to the bounds. The default
+	 * implementation keeps the current period.
+	 * 
+	 * @param current the current period in milliseconds
+	 * @return the period before the next sample
+	 * @since 1.2
+	 */
+	protected int adjustPeriod(int current) {
+		return current;
+	}
+
+	/**
+	 * Reschedule the sampling task if the monitor is running.
+	 */
+	private void reschedule() {
+		if(running) {
+			cancelTask();
+			scheduleTask();
+		}
+	}
+
+	/**
+	 * Schedule the sampling task on the engine.
+	 */
+	private void scheduleTask() {
+		scheduleCount++;
+		if(adaptive) {
+			currentPeriod = limitPeriod(period);
+			task = engine.scheduleOnce(monitorName, new AdaptiveTask(scheduleCount), currentPeriod);
+		}
+		else if(period > 0) {
+			currentPeriod = period;
+			task = engine.schedule(monitorName, samplingTask, period);
+		}
+	}
+
+	/**
+	 * Schedule the next sample of the adaptive task if the task is not
+	 * cancelled or replaced.
+	 * 
+	 * @param adaptiveTask the adaptive task
+	 * @param nextPeriod the period before the next sample
+	 */
+	private synchronized void scheduleNext(AdaptiveTask adaptiveTask, int nextPeriod) {
+		if(running && adaptive && adaptiveTask.id == scheduleCount) {
+			currentPeriod = limitPeriod(nextPeriod);
+			task = engine.scheduleOnce(monitorName, adaptiveTask, currentPeriod);
+		}
+	}
+
+	/**
+	 * Limit the period to the bounds of the adaptive period.
+	 * 
+	 * @param value the period
+	 * @return the limited period
+	 */
+	private int limitPeriod(int value) {
+		return Math.max(minimumPeriod, Math.min(maximumPeriod, value));
+	}
+
+	/**
+	 * Cancel the scheduled sampling task if it exists.
+	 */
+	private void cancelTask() {
+		if(task != null) {
+			task.cancel();
+			task = null;
+		}
+	}
+
+	/**
+	 * The one-shot task that samples and then schedules the next sample with
+	 * the adjusted period. The id identifies the scheduling so that a task
+	 * replaced by rescheduling stops itself.
+	 * 
+	 * @author Pin-Ying Tu
+	 * @version 1.2
+	 * @since 1.2
+	 */
+	private class AdaptiveTask implements Runnable {
+
+		private final long id;
+
+		/**
+		 * Construct an <code>AdaptiveTask</code> instance with the id.
+		 * 
+		 * @param scheduleId the id of the scheduling
+		 */
+		private AdaptiveTask(long scheduleId) {
+			id = scheduleId;
+		}
+
+		@Override
+		public void run() {
+			int nextPeriod = currentPeriod;
+			try {
+				monitor();
+				nextPeriod = adjustPeriod(nextPeriod);
+			} catch (RuntimeException e) {
+				// Keep the adaptive task alive
+				report(TimingMonitor.this, e);
+			}
+			scheduleNext(this, nextPeriod);
+		}
+	}
 }
@@ -0,0 +1,396 @@
+/* ContainerMemoryMonitor.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.metric;
+
+import static java.lang.Runtime.getRuntime;
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static tw.funymph.jsway.memory.MemoryUsageMonitor.DEFAULT_DELIVERY_MODE;
+import static tw.funymph.jsway.metric.MetricSeries.DEFAULT_CAPACITY;
+import static tw.funymph.jsway.metric.MetricSeries.UNIT_BYTES;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A metric monitor that samples the memory of this process as seen by the
+ * operating system beside the used heap size. In a container, the process is
+ * killed when the memory charged to its cgroup reaches the limit, no matter
+ * how much heap is free, so the monitor samples:
+ * <ol>
+ * <li>the used heap size</li>
+ * <li>the resident set size, i.e., <code>VmRSS</code> in
+ * <code>/proc/self/status</code></li>
+ * <li>the memory usage of the cgroup, i.e., <code>memory.current</code> of
+ * cgroup v2 or <code>memory.usage_in_bytes</code> of cgroup v1</li>
+ * <li>the memory limit of the cgroup, i.e., <code>memory.max</code> of cgroup
+ * v2 or <code>memory.limit_in_bytes</code> of cgroup v1; an unlimited cgroup
+ * has no sample</li>
+ * </ol>
+ * The files are opened once and re-read from the beginning into a reusable
+ * direct buffer per file, and the numbers are parsed from the bytes, so a
+ * sample does not create any object. A file that is absent, e.g., on an
+ * operating system other than Linux or outside any memory cgroup, or becomes
+ * unreadable is silently skipped; if none of the files is available,
+ * {@link #isSupported()} returns false and the monitor never runs.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class ContainerMemoryMonitor extends MetricMonitor {
+
+	public static final String HEAP_USED_NAME = "Heap Used";
+	public static final String RESIDENT_SET_NAME = "Resident Set";
+	public static final String CGROUP_USAGE_NAME = "Cgroup Usage";
+	public static final String CGROUP_LIMIT_NAME = "Cgroup Limit";
+
+	private static final String PROC_STATUS_PATH = "/proc/self/status";
+	private static final String PROC_CGROUP_PATH = "/proc/self/cgroup";
+	private static final String CGROUP_V2_ROOT = "/sys/fs/cgroup";
+	private static final String CGROUP_V1_ROOT = "/sys/fs/cgroup/memory";
+	private static final String CGROUP_V2_USAGE = "memory.current";
+	private static final String CGROUP_V2_LIMIT = "memory.max";
+	private static final String CGROUP_V1_USAGE = "memory.usage_in_bytes";
+	private static final String CGROUP_V1_LIMIT = "memory.limit_in_bytes";
+	private static final String CGROUP_V2_HIERARCHY = "0";
+	private static final String MEMORY_CONTROLLER = "memory";
+	private static final String CGROUP_FIELD_SEPARATOR = ":";
+	private static final String CONTROLLER_SEPARATOR = ",";
+
+	private static final byte[] RESIDENT_SET_KEY = "VmRSS:".getBytes(US_ASCII);
+
+	private static final int BUFFER_SIZE = 4096;
+	private static final int KILOBYTES = 1024;
+
+	// The limit of cgroup v1 is near Long.MAX_VALUE (rounded to the page size) if unlimited
+	private static final long UNLIMITED = 1L << 62;
+
+	private ProcFile status;
+	private ProcFile usage;
+	private ProcFile limit;
+
+	/**
+	 * Construct a <code>ContainerMemoryMonitor</code> instance with the default
+	 * monitor period and delivery mode, and start monitoring if supported.
+	 */
+	public ContainerMemoryMonitor() {
+		this(DEFAULT_MONITOR_PERIOD, DEFAULT_DELIVERY_MODE);
+	}
+
+	/**
+	 * Construct a <code>ContainerMemoryMonitor</code> instance by specifying the
+	 * monitor period and the delivery mode, and start monitoring if supported.
+	 * 
+	 * @param period the period to sample the memory
+	 * @param delivery the delivery mode
+	 */
+	public ContainerMemoryMonitor(int period, int delivery) {
+		this(period, delivery, new File(PROC_STATUS_PATH), findCgroupFile(CGROUP_V2_USAGE, CGROUP_V1_USAGE),
+				findCgroupFile(CGROUP_V2_LIMIT, CGROUP_V1_LIMIT));
+	}
+
+	/**
+	 * Construct a <code>ContainerMemoryMonitor</code> instance that reads the
+	 * specified files, and start monitoring if supported.
+	 * 
+	 * @param period the period to sample the memory
+	 * @param delivery the delivery mode
+	 * @param statusFile the status file of the process, or null if absent
+	 * @param usageFile the memory usage file of the cgroup, or null if absent
+	 * @param limitFile the memory limit file of the cgroup, or null if absent
+	 */
+	ContainerMemoryMonitor(int period, int delivery, File statusFile, File usageFile, File limitFile) {
+		super(period, delivery, new MetricSeries(HEAP_USED_NAME, UNIT_BYTES, 0, Double.NaN, DEFAULT_CAPACITY),
+				new MetricSeries(RESIDENT_SET_NAME, UNIT_BYTES, 0, Double.NaN, DEFAULT_CAPACITY),
+				new MetricSeries(CGROUP_USAGE_NAME, UNIT_BYTES, 0, Double.NaN, DEFAULT_CAPACITY),
+				new MetricSeries(CGROUP_LIMIT_NAME, UNIT_BYTES, 0, Double.NaN, DEFAULT_CAPACITY));
+		status = ProcFile.open(statusFile);
+		usage = ProcFile.open(usageFile);
+		limit = ProcFile.open(limitFile);
+		startMonitor();
+	}
+
+	/**
+	 * Get whether any of the status file and the cgroup files is available.
+	 * 
+	 * @return true if supported
+	 */
+	@Override
+	public boolean isSupported() {
+		return status != null || usage != null;
+	}
+
+	@Override
+	protected boolean sample(double[] values) {
+		Runtime runtime = getRuntime();
+		values[0] = runtime.totalMemory() - runtime.freeMemory();
+		values[1] = toValue(parseField(read(status), RESIDENT_SET_KEY));
+		values[2] = toValue(parseNumber(read(usage)));
+		values[3] = toValue(parseNumber(read(limit)));
+		return true;
+	}
+
+	/**
+	 * Read the whole file.
+	 * 
+	 * @param file the file to be read, or null if absent
+	 * @return the buffer that contains the content, or null if not available
+	 */
+	private static ByteBuffer read(ProcFile file) {
+		return (file != null)? file.read() : null;
+	}
+
+	/**
+	 * Convert the parsed size into the value of a series.
+	 * 
+	 * @param size the size in bytes, or a negative value if not available
+	 * @return the value, or NaN if not available or unlimited
+	 */
+	private static double toValue(long size) {
+		return (size >= 0 && size < UNLIMITED)? size : Double.NaN;
+	}
+
+	/**
+	 * Parse the decimal number at the position of the buffer after skipping
+	 * the leading white spaces. The position is moved after the number. An
+	 * overflowed number is parsed as {@link Long#MAX_VALUE}.
+	 * 
+	 * @param buffer the buffer, or null if not available
+	 * @return the number, or -1 if there is no number, e.g., "max"
+	 */
+	static long parseNumber(ByteBuffer buffer) {
+		if(buffer == null) {
+			return -1;
+		}
+		skipSpaces(buffer);
+		long number = -1;
+		while(buffer.hasRemaining()) {
+			int digit = buffer.get(buffer.position()) - '0';
+			if(digit < 0 || digit > 9) {
+				break;
+			}
+			buffer.get();
+			number = (number < 0)? digit : (number > (Long.MAX_VALUE - digit) / 10)? Long.MAX_VALUE : number * 10 + digit;
+		}
+		return number;
+	}
+
+	/**
+	 * Parse the size of the field in the "key: value kB" format, e.g., the
+	 * fields of <code>/proc/self/status</code>.
+	 * 
+	 * @param buffer the buffer, or null if not available
+	 * @param key the key of the field including the colon
+	 * @return the size in bytes, or -1 if the field is not found
+	 */
+	static long parseField(ByteBuffer buffer, byte[] key) {
+		if(buffer == null) {
+			return -1;
+		}
+		int limit = buffer.limit() - key.length;
+		for(int i = 0; i <= limit; i++) {
+			if((i == 0 || buffer.get(i - 1) == '\n') && startsWith(buffer, i, key)) {
+				buffer.position(i + key.length);
+				long number = parseNumber(buffer);
+				skipSpaces(buffer);
+				boolean kilobytes = buffer.hasRemaining() && buffer.get(buffer.position()) == 'k';
+				return (number >= 0 && kilobytes)? number * KILOBYTES : number;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Check whether the bytes starting from the index equal to the key.
+	 * 
+	 * @param buffer the buffer
+	 * @param index the index to start comparing
+	 * @param key the key
+	 * @return true if equal
+	 */
+	private static boolean startsWith(ByteBuffer buffer, int index, byte[] key) {
+		for(int i = 0; i < key.length; i++) {
+			if(buffer.get(index + i) != key[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Move the position of the buffer after the spaces and tabs.
+	 * 
+	 * @param buffer the buffer
+	 */
+	private static void skipSpaces(ByteBuffer buffer) {
+		while(buffer.hasRemaining() && (buffer.get(buffer.position()) == ' ' || buffer.get(buffer.position()) == '\t')) {
+			buffer.get();
+		}
+	}
+
+	/**
+	 * Find the file of the memory controller of the cgroup that this process
+	 * belongs to. The cgroup v2 file is preferred, and the file directly under
+	 * the mount point is used if the cgroup of the process is not visible,
+	 * e.g., in a container with its own cgroup namespace.
+	 * 
+	 * @param v2Name the file name of cgroup v2
+	 * @param v1Name the file name of cgroup v1
+	 * @return the readable file, or null if not found
+	 */
+	private static File findCgroupFile(String v2Name, String v1Name) {
+		String[] paths = readCgroupPaths();
+		File[] candidates = {
+			(paths[0] != null)? new File(CGROUP_V2_ROOT + paths[0], v2Name) : null,
+			new File(CGROUP_V2_ROOT, v2Name),
+			(paths[1] != null)? new File(CGROUP_V1_ROOT + paths[1], v1Name) : null,
+			new File(CGROUP_V1_ROOT, v1Name)
+		};
+		for(File candidate : candidates) {
+			if(candidate != null && candidate.isFile() && candidate.canRead()) {
+				return candidate;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Read the paths of the cgroup v2 and the cgroup v1 memory controller that
+	 * this process belongs to from <code>/proc/self/cgroup</code>.
+	 * 
+	 * @return the cgroup v2 path and the cgroup v1 memory path; a path is null if not found
+	 */
+	private static String[] readCgroupPaths() {
+		String[] paths = new String[2];
+		File file = new File(PROC_CGROUP_PATH);
+		if(!file.canRead()) {
+			return paths;
+		}
+		try {
+			BufferedReader reader = new BufferedReader(new FileReader(file));
+			try {
+				String line;
+				while((line = reader.readLine()) != null) {
+					// The format is "hierarchy-ID:controller-list:cgroup-path"
+					String[] fields = line.split(CGROUP_FIELD_SEPARATOR, 3);
+					if(fields.length < 3) {
+						continue;
+					}
+					if(CGROUP_V2_HIERARCHY.equals(fields[0]) && fields[1].isEmpty()) {
+						paths[0] = fields[2];
+					}
+					for(String controller : fields[1].split(CONTROLLER_SEPARATOR)) {
+						if(MEMORY_CONTROLLER.equals(controller)) {
+							paths[1] = fields[2];
+						}
+					}
+				}
+			} finally {
+				reader.close();
+			}
+		} catch (IOException e) {
+			// Fall back to the files under the mount points
+		}
+		return paths;
+	}
+
+	/**
+	 * A file of the pseudo file systems, e.g., procfs and cgroupfs, that is
+	 * kept opened and re-read from the beginning into a reusable direct buffer.
+	 * 
+	 * @author Pin-Ying Tu
+	 * @version 1.2
+	 * @since 1.2
+	 */
+	private static class ProcFile {
+
+		private RandomAccessFile file;
+		private FileChannel channel;
+		private ByteBuffer buffer;
+
+		/**
+		 * Open the file.
+		 * 
+		 * @param path the path of the file, or null if absent
+		 * @return the opened file, or null if absent or not readable
+		 */
+		static ProcFile open(File path) {
+			if(path == null || !path.isFile() || !path.canRead()) {
+				return null;
+			}
+			try {
+				return new ProcFile(new RandomAccessFile(path, "r"));
+			} catch (IOException e) {
+				return null;
+			}
+		}
+
+		/**
+		 * Construct a <code>ProcFile</code> instance.
+		 * 
+		 * @param opened the opened file
+		 */
+		private ProcFile(RandomAccessFile opened) {
+			file = opened;
+			channel = file.getChannel();
+			buffer = allocateDirect(BUFFER_SIZE);
+		}
+
+		/**
+		 * Read the file from the beginning. The pseudo files are generated on
+		 * every read, so reading from the position 0 gets the current content.
+		 * If the file cannot be read any more, e.g., the cgroup is removed, the
+		 * file is closed and never read again.
+		 * 
+		 * @return the buffer that contains the content, or null if not available
+		 */
+		ByteBuffer read() {
+			if(channel == null) {
+				return null;
+			}
+			buffer.clear();
+			try {
+				long position = 0;
+				while(buffer.hasRemaining()) {
+					int read = channel.read(buffer, position);
+					if(read <= 0) {
+						break;
+					}
+					position += read;
+				}
+			} catch (IOException e) {
+				close();
+				return null;
+			}
+			buffer.flip();
+			return buffer;
+		}
+
+		/**
+		 * Close the file silently.
+		 */
+		private void close() {
+			channel = null;
+			try {
+				file.close();
+			} catch (IOException e) {
+				// Nothing to do with a pseudo file
+			}
+		}
+	}
+}
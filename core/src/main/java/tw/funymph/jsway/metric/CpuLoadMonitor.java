@@ -0,0 +1,140 @@
+/* CpuLoadMonitor.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.metric;
+
+import static java.lang.management.ManagementFactory.getOperatingSystemMXBean;
+import static tw.funymph.jsway.memory.MemoryUsageMonitor.DEFAULT_DELIVERY_MODE;
+import static tw.funymph.jsway.metric.MetricSeries.DEFAULT_CAPACITY;
+import static tw.funymph.jsway.metric.MetricSeries.UNIT_RATIO;
+
+/**
+ * A metric monitor that samples the recent CPU load of this process and of the
+ * whole system, both between 0 and 1, from the HotSpot extension of
+ * {@link java.lang.management.OperatingSystemMXBean}. On a virtual machine
+ * without the extension, {@link #isSupported()} returns false and the monitor
+ * never runs. A load that is not available yet, e.g., on the first sample, is
+ * skipped.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class CpuLoadMonitor extends MetricMonitor {
+
+	public static final String PROCESS_CPU_LOAD_NAME = "Process CPU";
+	public static final String SYSTEM_CPU_LOAD_NAME = "System CPU";
+
+	private boolean supported;
+	private CpuLoadReader reader;
+
+	/**
+	 * Construct a <code>CpuLoadMonitor</code> instance with the default monitor
+	 * period and delivery mode, and start monitoring if supported.
+	 */
+	public CpuLoadMonitor() {
+		this(DEFAULT_MONITOR_PERIOD, DEFAULT_DELIVERY_MODE);
+	}
+
+	/**
+	 * Construct a <code>CpuLoadMonitor</code> instance by specifying the monitor
+	 * period and the delivery mode, and start monitoring if supported.
+	 * 
+	 * @param period the period to sample the loads
+	 * @param delivery the delivery mode
+	 */
+	public CpuLoadMonitor(int period, int delivery) {
+		super(period, delivery, new MetricSeries(PROCESS_CPU_LOAD_NAME, UNIT_RATIO, 0, 1, DEFAULT_CAPACITY),
+				new MetricSeries(SYSTEM_CPU_LOAD_NAME, UNIT_RATIO, 0, 1, DEFAULT_CAPACITY));
+		try {
+			reader = new CpuLoadReader();
+			supported = reader.isSupported();
+		} catch (LinkageError e) {
+			// The HotSpot extension is not available
+			supported = false;
+		}
+		startMonitor();
+	}
+
+	@Override
+	public boolean isSupported() {
+		return supported;
+	}
+
+	@Override
+	protected boolean sample(double[] values) {
+		values[0] = toRatio(reader.getProcessCpuLoad());
+		values[1] = toRatio(reader.getSystemCpuLoad());
+		return true;
+	}
+
+	/**
+	 * Convert the load into a ratio.
+	 * 
+	 * @param load the load, or a negative value if not available
+	 * @return the load between 0 and 1, or NaN if not available
+	 */
+	private static double toRatio(double load) {
+		return (load >= 0)? Math.min(1, load) : Double.NaN;
+	}
+
+	/**
+	 * The reader that isolates the references to the HotSpot extension so that
+	 * the monitor can be loaded on the virtual machines without the extension.
+	 * 
+	 * @author Pin-Ying Tu
+	 * @version 1.2
+	 * @since 1.2
+	 */
+	private static class CpuLoadReader {
+
+		private com.sun.management.OperatingSystemMXBean system;
+
+		/**
+		 * Construct the reader.
+		 */
+		CpuLoadReader() {
+			java.lang.management.OperatingSystemMXBean bean = getOperatingSystemMXBean();
+			if(bean instanceof com.sun.management.OperatingSystemMXBean) {
+				system = (com.sun.management.OperatingSystemMXBean)bean;
+			}
+		}
+
+		/**
+		 * Get whether the loads are available.
+		 * 
+		 * @return true if available
+		 */
+		boolean isSupported() {
+			return system != null;
+		}
+
+		/**
+		 * Get the recent CPU load of this process.
+		 * 
+		 * @return the load between 0 and 1, or a negative value if not available
+		 */
+		double getProcessCpuLoad() {
+			return system.getProcessCpuLoad();
+		}
+
+		/**
+		 * Get the recent CPU load of the whole system.
+		 * 
+		 * @return the load between 0 and 1, or a negative value if not available
+		 */
+		@SuppressWarnings("deprecation")
+		double getSystemCpuLoad() {
+			// getCpuLoad() replaces it since Java 14 but does not exist on the Java 7 target
+			return system.getSystemCpuLoad();
+		}
+	}
+}
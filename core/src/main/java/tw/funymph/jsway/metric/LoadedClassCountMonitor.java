@@ -0,0 +1,61 @@
+/* LoadedClassCountMonitor.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.metric;
+
+import static java.lang.management.ManagementFactory.getClassLoadingMXBean;
+import static tw.funymph.jsway.memory.MemoryUsageMonitor.DEFAULT_DELIVERY_MODE;
+import static tw.funymph.jsway.metric.MetricSeries.DEFAULT_CAPACITY;
+import static tw.funymph.jsway.metric.MetricSeries.UNIT_NONE;
+
+import java.lang.management.ClassLoadingMXBean;
+
+/**
+ * A metric monitor that samples the amount of the classes currently loaded,
+ * whose steady growth usually means a class loader leak.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class LoadedClassCountMonitor extends MetricMonitor {
+
+	public static final String LOADED_CLASSES_NAME = "Loaded Classes";
+
+	private ClassLoadingMXBean classLoading;
+
+	/**
+	 * Construct a <code>LoadedClassCountMonitor</code> instance with the default
+	 * monitor period and delivery mode, and start monitoring.
+	 */
+	public LoadedClassCountMonitor() {
+		this(DEFAULT_MONITOR_PERIOD, DEFAULT_DELIVERY_MODE);
+	}
+
+	/**
+	 * Construct a <code>LoadedClassCountMonitor</code> instance by specifying
+	 * the monitor period and the delivery mode, and start monitoring.
+	 * 
+	 * @param period the period to sample the amount
+	 * @param delivery the delivery mode
+	 */
+	public LoadedClassCountMonitor(int period, int delivery) {
+		super(period, delivery, new MetricSeries(LOADED_CLASSES_NAME, UNIT_NONE, 0, Double.NaN, DEFAULT_CAPACITY));
+		classLoading = getClassLoadingMXBean();
+		startMonitor();
+	}
+
+	@Override
+	protected boolean sample(double[] values) {
+		values[0] = classLoading.getLoadedClassCount();
+		return true;
+	}
+}
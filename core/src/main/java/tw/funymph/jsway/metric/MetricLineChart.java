@@ -0,0 +1,520 @@
+/* MetricLineChart.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.metric;
+
+import static java.awt.Color.gray;
+import static java.awt.Color.white;
+import static java.awt.RenderingHints.KEY_ANTIALIASING;
+import static java.awt.RenderingHints.KEY_TEXT_ANTIALIASING;
+import static java.awt.RenderingHints.VALUE_ANTIALIAS_ON;
+import static java.awt.RenderingHints.VALUE_TEXT_ANTIALIAS_LCD_HRGB;
+import static java.lang.String.format;
+import static tw.funymph.jsway.memory.MemoryUtilities.GIGABYTES;
+import static tw.funymph.jsway.memory.MemoryUtilities.KILLOBYTES;
+import static tw.funymph.jsway.memory.MemoryUtilities.MEGABYTES;
+import static tw.funymph.jsway.memory.MemoryUtilities.UNIT_GB;
+import static tw.funymph.jsway.memory.MemoryUtilities.UNIT_KB;
+import static tw.funymph.jsway.memory.MemoryUtilities.UNIT_MB;
+import static tw.funymph.jsway.metric.MetricSeries.UNIT_BYTES;
+import static tw.funymph.jsway.metric.MetricSeries.UNIT_RATIO;
+import static tw.funymph.jsway.utils.ObjectUtilities.requireNonNull;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Stroke;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.swing.JPanel;
+
+import tw.funymph.jsway.property.ColorProperty;
+import tw.funymph.jsway.property.EditablePropertyEvent;
+import tw.funymph.jsway.property.EditablePropertyListener;
+
+/**
+ * A line chart that shows one or more {@link MetricSeries} along the time. The
+ * horizontal axis ends at the latest sample and spans the specified time span,
+ * or the time range of the samples if no span is specified. The vertical axis
+ * ranges over the bounds of the series; an unbounded direction is scaled to
+ * the samples. The values are labeled in the unit of the first series, so the
+ * series shown in a chart should share the unit. If there are more samples
+ * than pixels, only one sample per pixel is drawn.
+ * <p>
+ * The series must be modified on the event dispatch thread, e.g., fed by a
+ * {@link MetricMonitor} with the default delivery mode.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class MetricLineChart extends JPanel implements MetricSeriesListener, EditablePropertyListener {
+
+	private static final long serialVersionUID = -3571940856287021842L;
+
+	private static final int GRIDS = 3;
+	private static final int TEXT_X_OFFSET = 5;
+	private static final int LEGEND_GAP = 10;
+	private static final int MAXIMUM_RATIO = 100;
+
+	private static final Color[] SERIES_COLORS = {
+		new Color(0, 102, 204), new Color(207, 0, 0), new Color(0, 128, 0), new Color(128, 0, 128),
+		new Color(255, 140, 0), new Color(0, 128, 128), new Color(139, 69, 19), new Color(85, 107, 47)
+	};
+
+	private static final float WIDTH_RATIO = 0.75f;
+	private static final float HEIGHT_RATIO = 0.7f;
+	private static final float DEFAULT_STROKE = 2.0f;
+
+	private static final String RATIO_FORMAT = "%d %%";
+	private static final String BYTES_FORMAT = "%.1f %s";
+	private static final String INTEGER_FORMAT = "%d";
+	private static final String DECIMAL_FORMAT = "%.2f";
+	private static final String LEGEND_FORMAT = "%s: %s";
+	private static final String TIMESTAMP_FORMAT = "%1$tH:%1$tM:%1$tS";
+	private static final String NULL_SERIES_EXCEPTION = "Cannot add a null series";
+	private static final String NULL_TEXTUAL_COLOR_EXCEPTION = "Cannot set a null textual color";
+	private static final String NULL_FOREGROUND_COLOR_EXCEPTION = "Cannot set a null foreground color";
+	private static final String NULL_BACKGROUND_COLOR_EXCEPTION = "Cannot set a null background color";
+	private static final String TEXTUAL_COLOR_PROPERTY_NAME = "Metric Line Chart Textual Color";
+	private static final String BACKGROUND_COLOR_PROPERTY_NAME = "Metric Line Chart Background Color";
+	private static final String FOREGROUND_COLOR_PROPERTY_NAME = "Metric Line Chart Foreground Color";
+
+	private int originX;
+	private int originY;
+	private int width;
+	private int height;
+
+	private long timeSpan;
+	private long axisEndTime;
+	private long axisSpan;
+	private double lowerValue;
+	private double upperValue;
+
+	private List<MetricSeries> plottedSeries;
+
+	private ColorProperty textualColor;
+	private ColorProperty foregroundColor;
+	private ColorProperty backgroundColor;
+
+	private Stroke stroke;
+
+	/**
+	 * Construct a <code>MetricLineChart</code> instance with the series to be
+	 * displayed.
+	 * 
+	 * @param series the series to be displayed
+	 * @throws NullPointerException if any series is null
+	 */
+	public MetricLineChart(MetricSeries... series) {
+		plottedSeries = new ArrayList<MetricSeries>();
+		stroke = new BasicStroke(DEFAULT_STROKE);
+		textualColor = new ColorProperty(TEXTUAL_COLOR_PROPERTY_NAME, gray);
+		foregroundColor = new ColorProperty(FOREGROUND_COLOR_PROPERTY_NAME, gray);
+		backgroundColor = new ColorProperty(BACKGROUND_COLOR_PROPERTY_NAME, white);
+		textualColor.addEditablePropertyListener(this);
+		backgroundColor.addEditablePropertyListener(this);
+		foregroundColor.addEditablePropertyListener(this);
+		setBackground(backgroundColor.getColor());
+		for(MetricSeries metric : series) {
+			addSeries(metric);
+		}
+	}
+
+	/**
+	 * Construct a <code>MetricLineChart</code> instance that displays all series
+	 * fed by the monitor.
+	 * 
+	 * @param monitor the monitor that feeds the series
+	 */
+	public MetricLineChart(MetricMonitor monitor) {
+		this();
+		for(int i = 0; i < monitor.getSeriesCount(); i++) {
+			addSeries(monitor.getSeries(i));
+		}
+	}
+
+	/**
+	 * Add the series to be displayed. Adding a displayed series has no effect.
+	 * 
+	 * @param series the series to be displayed
+	 * @throws NullPointerException if the series is null
+	 */
+	public void addSeries(MetricSeries series) {
+		requireNonNull(series, NULL_SERIES_EXCEPTION);
+		if(!plottedSeries.contains(series)) {
+			plottedSeries.add(series);
+			series.addMetricSeriesListener(this);
+			repaint();
+		}
+	}
+
+	/**
+	 * Remove the displayed series.
+	 * 
+	 * @param series the series to be removed
+	 */
+	public void removeSeries(MetricSeries series) {
+		if(plottedSeries.remove(series)) {
+			series.removeMetricSeriesListener(this);
+			repaint();
+		}
+	}
+
+	/**
+	 * Get the displayed series.
+	 * 
+	 * @return the displayed series
+	 */
+	public MetricSeries[] getSeries() {
+		return plottedSeries.toArray(new MetricSeries[plottedSeries.size()]);
+	}
+
+	/**
+	 * Set the time span of the horizontal axis. If the span is not positive (the
+	 * default), the axis spans the time range of the samples.
+	 * 
+	 * @param span the time span in milliseconds, or 0 to span the samples
+	 */
+	public void setTimeSpan(long span) {
+		timeSpan = Math.max(0, span);
+		repaint();
+	}
+
+	/**
+	 * Get the time span of the horizontal axis.
+	 * 
+	 * @return the time span in milliseconds, or 0 if the axis spans the samples
+	 */
+	public long getTimeSpan() {
+		return timeSpan;
+	}
+
+	/**
+	 * Get the textual color property. The change applied to the returned property
+	 * will update the appearance of the line chart automatically.
+	 * 
+	 * @return the textual color property
+	 */
+	public ColorProperty getTextualColorProperty() {
+		return textualColor;
+	}
+
+	/**
+	 * Get the background color property. The change applied to the returned property
+	 * will update the appearance of the line chart automatically.
+	 * 
+	 * @return the background color property
+	 */
+	public ColorProperty getBackgroundColorProperty() {
+		return backgroundColor;
+	}
+
+	/**
+	 * Get the foreground color property. The change applied to the returned property
+	 * will update the appearance of the line chart automatically.
+	 * 
+	 * @return the foreground color property
+	 */
+	public ColorProperty getForegroundColorProperty() {
+		return foregroundColor;
+	}
+
+	/**
+	 * Set the textual color. This is equal to call the {@link ColorProperty#setCurrentColor(Color)} method
+	 * of the return value of {@link #getTextualColorProperty()}.
+	 * 
+	 * @param color the new textual color
+	 * @throws NullPointerException if the given textual color is null
+	 */
+	public void setTextualColor(Color color) {
+		requireNonNull(color, NULL_TEXTUAL_COLOR_EXCEPTION);
+		textualColor.setCurrentColor(color);
+	}
+
+	/**
+	 * Set the background color. This is equal to call the {@link ColorProperty#setCurrentColor(Color)} method
+	 * of the return value of {@link #getBackgroundColorProperty()}.
+	 * 
+	 * @param color the new background color
+	 * @throws NullPointerException if the given background color is null
+	 */
+	public void setBackgroundColor(Color color) {
+		requireNonNull(color, NULL_BACKGROUND_COLOR_EXCEPTION);
+		backgroundColor.setCurrentColor(color);
+	}
+
+	/**
+	 * Set the foreground color. This is equal to call the {@link ColorProperty#setCurrentColor(Color)} method
+	 * of the return value of {@link #getForegroundColorProperty()}.
+	 * 
+	 * @param color the new foreground color
+	 * @throws NullPointerException if the given foreground color is null
+	 */
+	public void setForegroundColor(Color color) {
+		requireNonNull(color, NULL_FOREGROUND_COLOR_EXCEPTION);
+		foregroundColor.setCurrentColor(color);
+	}
+
+	@Override
+	public void metricSeriesChanged(MetricSeries series) {
+		repaint();
+	}
+
+	@Override
+	public void propertyChanged(EditablePropertyEvent event) {
+		setBackground(backgroundColor.getColor());
+		repaint();
+	}
+
+	@Override
+	public void paint(Graphics g) {
+		super.paint(g);
+		Graphics2D g2d = (Graphics2D)g.create();
+		g2d.setRenderingHint(KEY_ANTIALIASING, VALUE_ANTIALIAS_ON);
+		g2d.setRenderingHint(KEY_TEXT_ANTIALIASING, VALUE_TEXT_ANTIALIAS_LCD_HRGB);
+		width = (int)(getWidth() * WIDTH_RATIO);
+		height = (int)(getHeight() * HEIGHT_RATIO);
+		originX = (getWidth() - width) / 2;
+		originY = (getHeight() - height) / 2;
+		updateAxes();
+		drawCoordinations(g2d);
+		drawSeries(g2d);
+		drawTimeStamp(g2d);
+		g2d.dispose();
+	}
+
+	/**
+	 * Update the time range and the value range of the axes from the series.
+	 */
+	private void updateAxes() {
+		long first = Long.MAX_VALUE;
+		axisEndTime = Long.MIN_VALUE;
+		for(MetricSeries series : plottedSeries) {
+			if(!series.isEmpty()) {
+				first = Math.min(first, series.getTimeStamp(0));
+				axisEndTime = Math.max(axisEndTime, series.getTimeStamp(series.size() - 1));
+			}
+		}
+		axisSpan = (timeSpan > 0)? timeSpan : Math.max(0, axisEndTime - first);
+		double lower = Double.POSITIVE_INFINITY;
+		double upper = Double.NEGATIVE_INFINITY;
+		boolean bounded = !plottedSeries.isEmpty();
+		for(MetricSeries series : plottedSeries) {
+			if(!Double.isNaN(series.getLowerBound())) {
+				lower = Math.min(lower, series.getLowerBound());
+			}
+			if(!Double.isNaN(series.getUpperBound())) {
+				upper = Math.max(upper, series.getUpperBound());
+			}
+			else {
+				bounded = false;
+			}
+			for(int i = getFirstVisibleIndex(series); i < series.size(); i++) {
+				double value = series.getValue(i);
+				if(Double.isNaN(series.getLowerBound())) {
+					lower = Math.min(lower, value);
+				}
+				if(Double.isNaN(series.getUpperBound())) {
+					upper = Math.max(upper, value);
+				}
+			}
+		}
+		lowerValue = Double.isInfinite(lower)? 0 : lower;
+		if(Double.isInfinite(upper) || upper <= lowerValue) {
+			upperValue = lowerValue + 1;
+		}
+		else {
+			upperValue = bounded? upper : lowerValue + getNiceStep((upper - lowerValue) / (GRIDS + 1)) * (GRIDS + 1);
+		}
+	}
+
+	/**
+	 * Draw the axes, the grids and the value labels.
+	 * 
+	 * @param g the Java 2D graphic system
+	 */
+	private void drawCoordinations(Graphics2D g) {
+		Stroke oldStroke = g.getStroke();
+		g.setStroke(stroke);
+		g.setColor(foregroundColor.getColor());
+		g.drawLine(originX, originY, originX, originY + height);
+		g.drawLine(originX, originY + height, originX + width, originY + height);
+		g.setStroke(oldStroke);
+
+		int xGridOffset = (int)((double)width / (double)(GRIDS + 1));
+		int yGridOffset = (int)((double)height / (double)(GRIDS + 1));
+		for(int i = 0; i <= GRIDS; i++) {
+			int x = originX + (xGridOffset * (i + 1));
+			int y = originY + (yGridOffset * i);
+			g.drawLine(originX, y, originX + width, y);
+			g.drawLine(x, originY, x, originY + height);
+		}
+
+		g.setColor(textualColor.getColor());
+		String unit = plottedSeries.isEmpty()? MetricSeries.UNIT_NONE : plottedSeries.get(0).getUnit();
+		int textYOffset = (g.getFontMetrics().getAscent() / 2);
+		for(int i = 0; i <= GRIDS + 1; i++) {
+			double value = upperValue - (upperValue - lowerValue) * i / (GRIDS + 1);
+			String string = formatValue(value, unit);
+			int x = originX - (int)g.getFontMetrics().getStringBounds(string, g).getWidth() - TEXT_X_OFFSET;
+			g.drawString(string, x, originY + (i * yGridOffset) + textYOffset);
+		}
+	}
+
+	/**
+	 * Draw the visible samples of the series and their legends with the latest
+	 * values.
+	 * 
+	 * @param g2d the Java 2D graphics system
+	 */
+	private void drawSeries(Graphics2D g2d) {
+		int legendX = originX;
+		int legendY = originY - TEXT_X_OFFSET;
+		Graphics2D plot = (Graphics2D)g2d.create(originX, originY, width + 1, height + 1);
+		plot.translate(-originX, -originY);
+		plot.setStroke(stroke);
+		for(int s = 0; s < plottedSeries.size(); s++) {
+			MetricSeries series = plottedSeries.get(s);
+			Color color = SERIES_COLORS[s % SERIES_COLORS.length];
+			int from = getFirstVisibleIndex(series);
+			int last = series.size() - 1;
+			int step = Math.max(1, (last - from) / Math.max(1, width));
+			plot.setColor(color);
+			int x1 = 0, y1 = 0;
+			// The latest sample is always drawn even if skipped by the step
+			for(int i = from; i <= last; i = (i < last)? Math.min(i + step, last) : last + 1) {
+				int x2 = getX(series.getTimeStamp(i));
+				int y2 = getY(series.getValue(i));
+				if(i > from) {
+					plot.drawLine(x1, y1, x2, y2);
+				}
+				x1 = x2;
+				y1 = y2;
+			}
+			String legend = format(LEGEND_FORMAT, series.getName(), formatValue(series.getLatestValue(), series.getUnit()));
+			g2d.setColor(color);
+			g2d.drawString(legend, legendX, legendY);
+			legendX += (int)g2d.getFontMetrics().getStringBounds(legend, g2d).getWidth() + LEGEND_GAP;
+		}
+		plot.dispose();
+	}
+
+	/**
+	 * Draw the time stamps on the vertical grids.
+	 * 
+	 * @param g the Java 2D graphic system
+	 */
+	private void drawTimeStamp(Graphics2D g) {
+		if(axisSpan <= 0) {
+			return;
+		}
+		g.setColor(textualColor.getColor());
+		int stampXOffset = width / (GRIDS + 1);
+		int textY = originY + height + g.getFontMetrics().getHeight();
+		for(int i = 1; i <= GRIDS; i++) {
+			String stamp = format(TIMESTAMP_FORMAT, axisEndTime - axisSpan + axisSpan * i / (GRIDS + 1));
+			int textX = originX + (stampXOffset * i) - (int)(g.getFontMetrics().getStringBounds(stamp, g).getWidth() / 2);
+			g.drawString(stamp, textX, textY);
+		}
+	}
+
+	/**
+	 * Get the index of the oldest sample of the series within the time span.
+	 * 
+	 * @param series the series
+	 * @return the index of the oldest visible sample
+	 */
+	private int getFirstVisibleIndex(MetricSeries series) {
+		int index = 0;
+		if(timeSpan > 0) {
+			long start = axisEndTime - timeSpan;
+			while(index < series.size() - 1 && series.getTimeStamp(index + 1) <= start) {
+				index++;
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Get the horizontal coordinate of the time stamp.
+	 * 
+	 * @param time the time stamp
+	 * @return the horizontal coordinate
+	 */
+	private int getX(long time) {
+		if(axisSpan <= 0) {
+			return originX + width;
+		}
+		return originX + width - (int)((double)(axisEndTime - time) * width / axisSpan);
+	}
+
+	/**
+	 * Get the vertical coordinate of the value.
+	 * 
+	 * @param value the value
+	 * @return the vertical coordinate
+	 */
+	private int getY(double value) {
+		return originY + (int)(height * (1 - (value - lowerValue) / (upperValue - lowerValue)));
+	}
+
+	/**
+	 * Get the smallest step of 1, 2 or 5 times a power of 10 not less than the
+	 * specified step, so the value labels are round numbers.
+	 * 
+	 * @param step the minimum step
+	 * @return the nice step
+	 */
+	static double getNiceStep(double step) {
+		if(step <= 0 || Double.isNaN(step) || Double.isInfinite(step)) {
+			return 1;
+		}
+		double magnitude = Math.pow(10, Math.floor(Math.log10(step)));
+		double fraction = step / magnitude;
+		if(fraction <= 1) {
+			return magnitude;
+		}
+		if(fraction <= 2) {
+			return 2 * magnitude;
+		}
+		return (fraction <= 5)? 5 * magnitude : 10 * magnitude;
+	}
+
+	/**
+	 * Format the value in the unit.
+	 * 
+	 * @param value the value
+	 * @param unit the unit of the value
+	 * @return the formatted text
+	 */
+	static String formatValue(double value, String unit) {
+		if(Double.isNaN(value)) {
+			return "";
+		}
+		if(UNIT_RATIO.equals(unit)) {
+			return format(RATIO_FORMAT, Math.round(value * MAXIMUM_RATIO));
+		}
+		if(UNIT_BYTES.equals(unit)) {
+			if(Math.abs(value) >= GIGABYTES) {
+				return format(BYTES_FORMAT, value / GIGABYTES, UNIT_GB);
+			}
+			if(Math.abs(value) >= MEGABYTES) {
+				return format(BYTES_FORMAT, value / MEGABYTES, UNIT_MB);
+			}
+			return format(BYTES_FORMAT, value / KILLOBYTES, UNIT_KB);
+		}
+		String text = (value == Math.rint(value))? format(INTEGER_FORMAT, (long)value) : format(DECIMAL_FORMAT, value);
+		return unit.isEmpty()? text : text + " " + unit;
+	}
+}
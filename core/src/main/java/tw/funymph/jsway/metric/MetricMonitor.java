@@ -0,0 +1,243 @@
+/* MetricMonitor.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.metric;
+
+import static java.lang.System.currentTimeMillis;
+import static tw.funymph.jsway.memory.MemoryUsageMonitor.DELIVER_ON_SAMPLING_THREAD;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+import tw.funymph.jsway.memory.QueuedDispatcher;
+import tw.funymph.jsway.memory.SamplingEngine;
+import tw.funymph.jsway.memory.TimingMonitor;
+
+/**
+ * An abstract timing monitor that samples one or more numeric metrics and
+ * appends the samples to a {@link MetricSeries} per metric. The children only
+ * read the values in {@link #sample(double[])} on the sampling thread; the
+ * monitor appends them to the series and notifies the listeners of the series
+ * on the thread decided by the delivery mode, which is one of the delivery
+ * modes of {@link tw.funymph.jsway.memory.MemoryUsageMonitor}. By default the
+ * series are updated on the event dispatch thread so that they can be drawn
+ * directly by a {@link MetricLineChart}; no sample is dropped. The updates
+ * carrying the values are recycled once appended, so a steady sampling does
+ * not allocate a new update per sample.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public abstract class MetricMonitor extends TimingMonitor {
+
+	public static final int DEFAULT_MONITOR_PERIOD = 1000;
+
+	private volatile int deliveryMode;
+	private MetricSeries[] series;
+	private AtomicReference<MetricUpdate> spare;
+	private QueuedDispatcher<MetricUpdate> dispatcher;
+
+	/**
+	 * Initialize the monitor with the series to be fed, called by the concrete
+	 * children. The children should start the monitor when they are ready.
+	 * 
+	 * @param period the period to sample the metrics
+	 * @param delivery the delivery mode
+	 * @param metricSeries the series of the metrics, in the order of the values sampled by {@link #sample(double[])}
+	 */
+	protected MetricMonitor(int period, int delivery, MetricSeries... metricSeries) {
+		this(SamplingEngine.getDefaultEngine(), period, delivery, metricSeries);
+	}
+
+	/**
+	 * Initialize the monitor with the sampling engine and the series to be fed,
+	 * called by the concrete children. The children should start the monitor
+	 * when they are ready.
+	 * 
+	 * @param engine the engine to drive the monitor
+	 * @param period the period to sample the metrics
+	 * @param delivery the delivery mode
+	 * @param metricSeries the series of the metrics, in the order of the values sampled by {@link #sample(double[])}
+	 */
+	protected MetricMonitor(SamplingEngine engine, int period, int delivery, MetricSeries... metricSeries) {
+		super(engine);
+		deliveryMode = delivery;
+		series = metricSeries.clone();
+		spare = new AtomicReference<MetricUpdate>();
+		dispatcher = new QueuedDispatcher<MetricUpdate>() {
+
+			@Override
+			protected void dispatch(MetricUpdate update) {
+				append(update);
+				spare.set(update);
+			}
+		};
+		setMonitorPeriod(period);
+	}
+
+	/**
+	 * Get whether the metrics can be sampled on this virtual machine. The
+	 * monitor never starts if not supported. The default implementation
+	 * returns true.
+	 * 
+	 * @return true if supported
+	 */
+	public boolean isSupported() {
+		return true;
+	}
+
+	/**
+	 * Start monitoring if the metrics are supported.
+	 */
+	@Override
+	public synchronized void startMonitor() {
+		if(isSupported()) {
+			super.startMonitor();
+		}
+	}
+
+	/**
+	 * Set the delivery mode.
+	 * 
+	 * @param mode the new delivery mode
+	 */
+	public void setDeliveryMode(int mode) {
+		deliveryMode = mode;
+	}
+
+	/**
+	 * Get the delivery mode.
+	 * 
+	 * @return the delivery mode
+	 */
+	public int getDeliveryMode() {
+		return deliveryMode;
+	}
+
+	/**
+	 * Get the amount of the series fed by the monitor.
+	 * 
+	 * @return the amount of the series
+	 */
+	public int getSeriesCount() {
+		return series.length;
+	}
+
+	/**
+	 * Get the series on the index.
+	 * 
+	 * @param index the index of the series
+	 * @return the series
+	 */
+	public MetricSeries getSeries(int index) {
+		return series[index];
+	}
+
+	/**
+	 * Get the series with the name.
+	 * 
+	 * @param name the name of the series
+	 * @return the series, or null if not found
+	 */
+	public MetricSeries getSeries(String name) {
+		for(MetricSeries candidate : series) {
+			if(candidate.getName().equals(name)) {
+				return candidate;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	protected void monitor() {
+		MetricUpdate update = obtainUpdate();
+		if(!sample(update.values)) {
+			spare.set(update);
+			return;
+		}
+		update.timeStamp = currentTimeMillis();
+		if(deliveryMode == DELIVER_ON_SAMPLING_THREAD) {
+			append(update);
+			spare.set(update);
+		}
+		else {
+			dispatcher.post(update);
+		}
+	}
+
+	/**
+	 * Get a recycled update with all values reset to NaN, or create one if no
+	 * update is recycled.
+	 * 
+	 * @return the update
+	 */
+	private MetricUpdate obtainUpdate() {
+		MetricUpdate update = spare.getAndSet(null);
+		if(update == null) {
+			return new MetricUpdate(series.length);
+		}
+		Arrays.fill(update.values, Double.NaN);
+		return update;
+	}
+
+	/**
+	 * Sample the values of the metrics. This method is invoked on the sampling
+	 * thread. A value left or set as NaN is not appended to its series.
+	 * 
+	 * @param values the values to be filled, one per series
+	 * @return true if the values are sampled, or false to skip this sample
+	 */
+	protected abstract boolean sample(double[] values);
+
+	/**
+	 * Append the values to all series first, and then notify the listeners
+	 * of the appended series, so that a listener of any series sees all the
+	 * values of the same sample.
+	 * 
+	 * @param update the sampled values
+	 */
+	private void append(MetricUpdate update) {
+		for(int i = 0; i < series.length; i++) {
+			if(!Double.isNaN(update.values[i])) {
+				series[i].add(update.timeStamp, update.values[i]);
+			}
+		}
+		for(int i = 0; i < series.length; i++) {
+			if(!Double.isNaN(update.values[i])) {
+				series[i].notifyMetricSeriesListeners();
+			}
+		}
+	}
+
+	/**
+	 * The values sampled at a time stamp.
+	 * 
+	 * @author Pin-Ying Tu
+	 * @version 1.2
+	 * @since 1.2
+	 */
+	private static class MetricUpdate {
+
+		private long timeStamp;
+		private double[] values;
+
+		/**
+		 * Construct an update with all values as NaN.
+		 * 
+		 * @param count the amount of the values
+		 */
+		MetricUpdate(int count) {
+			values = new double[count];
+			Arrays.fill(values, Double.NaN);
+		}
+	}
+}
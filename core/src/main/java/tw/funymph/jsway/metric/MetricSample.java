@@ -0,0 +1,69 @@
+/* MetricSample.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.metric;
+
+/**
+ * An immutable sample of a numeric metric at a time stamp.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class MetricSample {
+
+	private long timeStamp;
+	private double value;
+
+	/**
+	 * Construct a <code>MetricSample</code> instance.
+	 * 
+	 * @param time the time stamp when the metric is sampled
+	 * @param sampledValue the value of the metric
+	 */
+	public MetricSample(long time, double sampledValue) {
+		timeStamp = time;
+		value = sampledValue;
+	}
+
+	/**
+	 * Get the time stamp when the metric is sampled.
+	 * 
+	 * @return the time stamp
+	 */
+	public long getTimeStamp() {
+		return timeStamp;
+	}
+
+	/**
+	 * Get the value of the metric.
+	 * 
+	 * @return the value
+	 */
+	public double getValue() {
+		return value;
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if(!(object instanceof MetricSample)) {
+			return false;
+		}
+		MetricSample sample = (MetricSample)object;
+		return timeStamp == sample.timeStamp && Double.compare(value, sample.value) == 0;
+	}
+
+	@Override
+	public int hashCode() {
+		long bits = Double.doubleToLongBits(value);
+		return 31 * (int)(timeStamp ^ (timeStamp >>> 32)) + (int)(bits ^ (bits >>> 32));
+	}
+}
@@ -0,0 +1,235 @@
+/* MetricSeries.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.metric;
+
+import static tw.funymph.jsway.utils.ObjectUtilities.requireNonNull;
+
+import tw.funymph.jsway.utils.AbstractRingHistory;
+import tw.funymph.jsway.utils.ListenerRegistry;
+import tw.funymph.jsway.utils.RecentHistory;
+
+/**
+ * A {@link RecentHistory} of the samples of a numeric metric, e.g., the CPU load
+ * or the amount of the threads, stored in two parallel primitive arrays. Adding
+ * a sample by {@link #add(long, double)} only copies the values, and the values
+ * can be read by the primitive accessors without any object; the
+ * {@link MetricSample} objects are only created for the collection methods.
+ * <p>
+ * Besides the samples, the series describes the metric with its name, unit and
+ * the bounds of its values, which the charts use to label and scale the axes.
+ * A bound is NaN if the metric is unbounded in that direction. The series must
+ * be modified on a single thread, usually the event dispatch thread, and the
+ * modifier calls {@link #notifyMetricSeriesListeners()} after the changes.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class MetricSeries extends AbstractRingHistory<MetricSample> {
+
+	public static final int DEFAULT_CAPACITY = 60;
+
+	public static final String UNIT_RATIO = "%";
+	public static final String UNIT_BYTES = "bytes";
+	public static final String UNIT_NONE = "";
+
+	private static final String NULL_NAME_EXCEPTION = "Cannot set a null series name";
+	private static final String NULL_UNIT_EXCEPTION = "Cannot set a null series unit";
+
+	private String name;
+	private String unit;
+	private double lowerBound;
+	private double upperBound;
+
+	private long[] timeStamps;
+	private double[] values;
+
+	private ListenerRegistry<MetricSeriesListener, MetricSeries> listeners;
+
+	/**
+	 * Construct an unbounded <code>MetricSeries</code> instance with the default
+	 * capacity.
+	 * 
+	 * @param seriesName the name of the metric
+	 * @param seriesUnit the unit of the metric, e.g., {@link #UNIT_RATIO}
+	 * @throws NullPointerException if the name or the unit is null
+	 */
+	public MetricSeries(String seriesName, String seriesUnit) {
+		this(seriesName, seriesUnit, Double.NaN, Double.NaN, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Construct a <code>MetricSeries</code> instance.
+	 * 
+	 * @param seriesName the name of the metric
+	 * @param seriesUnit the unit of the metric, e.g., {@link #UNIT_RATIO}
+	 * @param lower the lower bound of the values, or NaN if unbounded
+	 * @param upper the upper bound of the values, or NaN if unbounded
+	 * @param capacity the maximum amount of the samples
+	 * @throws NullPointerException if the name or the unit is null
+	 */
+	public MetricSeries(String seriesName, String seriesUnit, double lower, double upper, int capacity) {
+		name = requireNonNull(seriesName, NULL_NAME_EXCEPTION);
+		unit = requireNonNull(seriesUnit, NULL_UNIT_EXCEPTION);
+		lowerBound = lower;
+		upperBound = upper;
+		listeners = new ListenerRegistry<MetricSeriesListener, MetricSeries>() {
+
+			@Override
+			protected void deliver(MetricSeriesListener listener, MetricSeries series) {
+				listener.metricSeriesChanged(series);
+			}
+		};
+		setMaximumRecentEventCapacity(capacity);
+	}
+
+	/**
+	 * Get the name of the metric.
+	 * 
+	 * @return the name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Get the unit of the metric.
+	 * 
+	 * @return the unit
+	 */
+	public String getUnit() {
+		return unit;
+	}
+
+	/**
+	 * Get the lower bound of the values.
+	 * 
+	 * @return the lower bound, or NaN if unbounded
+	 */
+	public double getLowerBound() {
+		return lowerBound;
+	}
+
+	/**
+	 * Get the upper bound of the values.
+	 * 
+	 * @return the upper bound, or NaN if unbounded
+	 */
+	public double getUpperBound() {
+		return upperBound;
+	}
+
+	/**
+	 * Add a sample by specifying its values without creating the sample object.
+	 * 
+	 * @param time the time stamp when the metric is sampled
+	 * @param value the value of the metric
+	 * @return true if the sample is added
+	 */
+	public boolean add(long time, double value) {
+		int slot = nextSlot();
+		if(slot < 0) {
+			return false;
+		}
+		timeStamps[slot] = time;
+		values[slot] = value;
+		return true;
+	}
+
+	/**
+	 * Get the time stamp of the sample on the index.
+	 * 
+	 * @param index the logical index (0 is the oldest)
+	 * @return the time stamp
+	 */
+	public long getTimeStamp(int index) {
+		return timeStamps[slotOf(checkIndex(index))];
+	}
+
+	/**
+	 * Get the value of the sample on the index.
+	 * 
+	 * @param index the logical index (0 is the oldest)
+	 * @return the value
+	 */
+	public double getValue(int index) {
+		return values[slotOf(checkIndex(index))];
+	}
+
+	/**
+	 * Get the value of the latest sample.
+	 * 
+	 * @return the value, or NaN if the series is empty
+	 */
+	public double getLatestValue() {
+		return isEmpty()? Double.NaN : getValue(size() - 1);
+	}
+
+	/**
+	 * Add the listener to be notified when the samples are changed.
+	 * 
+	 * @param listener the listener
+	 */
+	public void addMetricSeriesListener(MetricSeriesListener listener) {
+		listeners.add(listener);
+	}
+
+	/**
+	 * Remove the listener.
+	 * 
+	 * @param listener the listener
+	 */
+	public void removeMetricSeriesListener(MetricSeriesListener listener) {
+		listeners.remove(listener);
+	}
+
+	/**
+	 * Notify all listeners that the samples are changed.
+	 */
+	public void notifyMetricSeriesListeners() {
+		listeners.fire(this);
+	}
+
+	@Override
+	protected void allocate(int newCapacity, int first, int count) {
+		long[] resizedTimeStamps = new long[newCapacity];
+		double[] resizedValues = new double[newCapacity];
+		if(timeStamps != null) {
+			copyRing(timeStamps, first, count, resizedTimeStamps);
+			copyRing(values, first, count, resizedValues);
+		}
+		timeStamps = resizedTimeStamps;
+		values = resizedValues;
+	}
+
+	@Override
+	protected void store(int slot, MetricSample sample) {
+		timeStamps[slot] = sample.getTimeStamp();
+		values[slot] = sample.getValue();
+	}
+
+	@Override
+	protected MetricSample load(int slot) {
+		return new MetricSample(timeStamps[slot], values[slot]);
+	}
+
+	@Override
+	protected void move(int from, int to) {
+		timeStamps[to] = timeStamps[from];
+		values[to] = values[from];
+	}
+
+	@Override
+	protected void release(int slot) {
+		// Nothing to release in the primitive arrays.
+	}
+}
@@ -0,0 +1,30 @@
+/* MetricSeriesListener.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.metric;
+
+/**
+ * A class can implement this interface to be notified when the samples
+ * of a {@link MetricSeries} are changed.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public interface MetricSeriesListener {
+
+	/**
+	 * Invoke when the samples of the series are changed.
+	 * 
+	 * @param series the event source
+	 */
+	void metricSeriesChanged(MetricSeries series);
+}
@@ -0,0 +1,70 @@
+/* SystemLoadMonitor.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.metric;
+
+import static java.lang.management.ManagementFactory.getOperatingSystemMXBean;
+import static tw.funymph.jsway.memory.MemoryUsageMonitor.DEFAULT_DELIVERY_MODE;
+import static tw.funymph.jsway.metric.MetricSeries.DEFAULT_CAPACITY;
+import static tw.funymph.jsway.metric.MetricSeries.UNIT_NONE;
+
+import java.lang.management.OperatingSystemMXBean;
+
+/**
+ * A metric monitor that samples the system load average of the last minute,
+ * i.e., the average amount of the runnable entities queued to and running on
+ * the processors. The average is not available on some platforms, e.g.,
+ * Windows, where {@link #isSupported()} returns false and the monitor never
+ * runs.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class SystemLoadMonitor extends MetricMonitor {
+
+	public static final String SYSTEM_LOAD_NAME = "System Load";
+
+	private OperatingSystemMXBean system;
+
+	/**
+	 * Construct a <code>SystemLoadMonitor</code> instance with the default
+	 * monitor period and delivery mode, and start monitoring if supported.
+	 */
+	public SystemLoadMonitor() {
+		this(DEFAULT_MONITOR_PERIOD, DEFAULT_DELIVERY_MODE);
+	}
+
+	/**
+	 * Construct a <code>SystemLoadMonitor</code> instance by specifying the
+	 * monitor period and the delivery mode, and start monitoring if supported.
+	 * 
+	 * @param period the period to sample the load
+	 * @param delivery the delivery mode
+	 */
+	public SystemLoadMonitor(int period, int delivery) {
+		super(period, delivery, new MetricSeries(SYSTEM_LOAD_NAME, UNIT_NONE, 0, Double.NaN, DEFAULT_CAPACITY));
+		system = getOperatingSystemMXBean();
+		startMonitor();
+	}
+
+	@Override
+	public boolean isSupported() {
+		return system.getSystemLoadAverage() >= 0;
+	}
+
+	@Override
+	protected boolean sample(double[] values) {
+		double load = system.getSystemLoadAverage();
+		values[0] = (load >= 0)? load : Double.NaN;
+		return true;
+	}
+}
@@ -0,0 +1,64 @@
+/* ThreadCountMonitor.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.metric;
+
+import static java.lang.management.ManagementFactory.getThreadMXBean;
+import static tw.funymph.jsway.memory.MemoryUsageMonitor.DEFAULT_DELIVERY_MODE;
+import static tw.funymph.jsway.metric.MetricSeries.DEFAULT_CAPACITY;
+import static tw.funymph.jsway.metric.MetricSeries.UNIT_NONE;
+
+import java.lang.management.ThreadMXBean;
+
+/**
+ * A metric monitor that samples the amount of the live threads and the amount
+ * of the daemon threads among them.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class ThreadCountMonitor extends MetricMonitor {
+
+	public static final String LIVE_THREADS_NAME = "Live Threads";
+	public static final String DAEMON_THREADS_NAME = "Daemon Threads";
+
+	private ThreadMXBean threads;
+
+	/**
+	 * Construct a <code>ThreadCountMonitor</code> instance with the default
+	 * monitor period and delivery mode, and start monitoring.
+	 */
+	public ThreadCountMonitor() {
+		this(DEFAULT_MONITOR_PERIOD, DEFAULT_DELIVERY_MODE);
+	}
+
+	/**
+	 * Construct a <code>ThreadCountMonitor</code> instance by specifying the
+	 * monitor period and the delivery mode, and start monitoring.
+	 * 
+	 * @param period the period to sample the amounts
+	 * @param delivery the delivery mode
+	 */
+	public ThreadCountMonitor(int period, int delivery) {
+		super(period, delivery, new MetricSeries(LIVE_THREADS_NAME, UNIT_NONE, 0, Double.NaN, DEFAULT_CAPACITY),
+				new MetricSeries(DAEMON_THREADS_NAME, UNIT_NONE, 0, Double.NaN, DEFAULT_CAPACITY));
+		threads = getThreadMXBean();
+		startMonitor();
+	}
+
+	@Override
+	protected boolean sample(double[] values) {
+		values[0] = threads.getThreadCount();
+		values[1] = threads.getDaemonThreadCount();
+		return true;
+	}
+}
@@ -0,0 +1,351 @@
+/* AbstractRingHistory.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.utils;
+
+import java.util.AbstractCollection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An abstract {@link RecentHistory} that manages a fixed-capacity ring of slots.
+ * This class keeps the head, the size and the capacity of the ring, and maps the
+ * logical indices (0 is the oldest event) to the slots. The concrete children
+ * decide how the events are stored in the slots, e.g., an object array or a set
+ * of parallel primitive arrays. The ring counts its modifications as a
+ * {@link SequencedHistory}; the children that update the latest event in place
+ * should call {@link #updatedInPlace()}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public abstract class AbstractRingHistory<E> extends AbstractCollection<E> implements SequencedHistory<E> {
+
+	private static final String NEGATIVE_CAPACITY_EXCEPTION = "The capacity cannot be negative: %d";
+	private static final String INDEX_OUT_OF_BOUNDS_EXCEPTION = "Index: %d, Size: %d";
+
+	private int head;
+	private int size;
+	private int capacity;
+
+	private long addCount;
+	private long inPlaceUpdateCount;
+	private long removeCount;
+
+	protected int modifications;
+
+	/**
+	 * Initialize the ring called by its concrete children. The children
+	 * should call {@link #setMaximumRecentEventCapacity(int)} to allocate
+	 * the storage.
+	 */
+	protected AbstractRingHistory() {
+		capacity = -1;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		return new RingIterator();
+	}
+
+	@Override
+	public boolean add(E event) {
+		int slot = nextSlot();
+		if(slot < 0) {
+			return false;
+		}
+		store(slot, event);
+		return true;
+	}
+
+	@Override
+	public void clear() {
+		for(int i = 0; i < size; i++) {
+			release(slotOf(i));
+		}
+		removeCount += size;
+		head = 0;
+		size = 0;
+		modifications++;
+	}
+
+	@Override
+	public void setMaximumRecentEventCapacity(int newCapacity) {
+		if(newCapacity < 0) {
+			throw new IllegalArgumentException(String.format(NEGATIVE_CAPACITY_EXCEPTION, newCapacity));
+		}
+		if(newCapacity != capacity) {
+			int kept = Math.min(size, newCapacity);
+			int first = (size > 0)? slotOf(size - kept) : 0;
+			allocate(newCapacity, first, kept);
+			removeCount += size - kept;
+			capacity = newCapacity;
+			head = 0;
+			size = kept;
+			modifications++;
+		}
+	}
+
+	@Override
+	public int getMaximumRecentEventCapacity() {
+		return capacity;
+	}
+
+	@Override
+	public void normalize() {
+		// The ring is always normalized.
+	}
+
+	@Override
+	public E get(int index) {
+		return load(slotOf(checkIndex(index)));
+	}
+
+	@Override
+	public long getAddCount() {
+		return addCount;
+	}
+
+	@Override
+	public long getInPlaceUpdateCount() {
+		return inPlaceUpdateCount;
+	}
+
+	@Override
+	public long getRemoveCount() {
+		return removeCount;
+	}
+
+	/**
+	 * Get the oldest event in the history.
+	 * 
+	 * @return the oldest event, or null if the history is empty
+	 */
+	public E getFirst() {
+		return isEmpty()? null : get(0);
+	}
+
+	/**
+	 * Get the latest event in the history.
+	 * 
+	 * @return the latest event, or null if the history is empty
+	 */
+	public E getLast() {
+		return isEmpty()? null : get(size - 1);
+	}
+
+	/**
+	 * Reserve the slot for a new event. If the ring is full, the oldest
+	 * event is evicted and its slot is reused.
+	 * 
+	 * @return the slot for the new event, or -1 if the capacity is zero
+	 */
+	protected int nextSlot() {
+		if(capacity <= 0) {
+			return -1;
+		}
+		int slot;
+		if(size < capacity) {
+			slot = slotOf(size);
+			size++;
+		}
+		else {
+			slot = head;
+			head = (head + 1 == capacity)? 0 : head + 1;
+		}
+		addCount++;
+		modifications++;
+		return slot;
+	}
+
+	/**
+	 * Record that the latest event is updated in place by an add instead of
+	 * appending a new event.
+	 */
+	protected void updatedInPlace() {
+		addCount++;
+		inPlaceUpdateCount++;
+		modifications++;
+	}
+
+	/**
+	 * Check the logical index.
+	 * 
+	 * @param index the logical index
+	 * @return the given index
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	protected int checkIndex(int index) {
+		if(index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException(String.format(INDEX_OUT_OF_BOUNDS_EXCEPTION, index, size));
+		}
+		return index;
+	}
+
+	/**
+	 * Convert the logical index (0 is the oldest) into the slot.
+	 * 
+	 * @param index the logical index
+	 * @return the slot
+	 */
+	protected int slotOf(int index) {
+		int slot = head + index;
+		return (slot >= capacity)? slot - capacity : slot;
+	}
+
+	/**
+	 * Copy the specified amount of the elements starting from the slot of the
+	 * source ring array into the beginning of the target array.
+	 * 
+	 * @param source the source ring array
+	 * @param first the slot of the first element to be copied
+	 * @param count the amount of the elements to be copied
+	 * @param target the target array
+	 */
+	protected void copyRing(Object source, int first, int count, Object target) {
+		int tail = Math.min(count, capacity - first);
+		if(tail > 0) {
+			System.arraycopy(source, first, target, 0, tail);
+		}
+		if(count > tail) {
+			System.arraycopy(source, 0, target, tail, count - tail);
+		}
+	}
+
+	/**
+	 * Remove the event on the specified logical index by shifting the
+	 * newer events toward the head.
+	 * 
+	 * @param index the logical index
+	 */
+	private void removeAt(int index) {
+		for(int i = index; i < size - 1; i++) {
+			move(slotOf(i + 1), slotOf(i));
+		}
+		release(slotOf(size - 1));
+		size--;
+		removeCount++;
+		modifications++;
+	}
+
+	/**
+	 * Allocate the storage with the new capacity and keep the specified
+	 * amount of the latest events. The implementation can use
+	 * {@link #copyRing(Object, int, int, Object)} to copy the events.
+	 * 
+	 * @param newCapacity the new capacity
+	 * @param first the slot of the oldest event to be kept
+	 * @param count the amount of the events to be kept
+	 */
+	protected abstract void allocate(int newCapacity, int first, int count);
+
+	/**
+	 * Store the event into the slot.
+	 * 
+	 * @param slot the slot
+	 * @param event the event to be stored
+	 */
+	protected abstract void store(int slot, E event);
+
+	/**
+	 * Load the event from the slot.
+	 * 
+	 * @param slot the slot
+	 * @return the event in the slot
+	 */
+	protected abstract E load(int slot);
+
+	/**
+	 * Move the event from a slot to another slot.
+	 * 
+	 * @param from the source slot
+	 * @param to the target slot
+	 */
+	protected abstract void move(int from, int to);
+
+	/**
+	 * Release the event in the slot so that it can be garbage collected.
+	 * 
+	 * @param slot the slot
+	 */
+	protected abstract void release(int slot);
+
+	/**
+	 * The iterator that traverses the events from the oldest to the latest.
+	 * The children can extend it to load the events differently, e.g., into
+	 * a flyweight owned by the iterator, and keep the removal and the check
+	 * of the concurrent modifications.
+	 * 
+	 * @author Pin-Ying Tu
+	 * @version 1.2
+	 * @since 1.2
+	 */
+	protected class RingIterator implements Iterator<E> {
+
+		private int next;
+		private int last = -1;
+		private int expectedModifications = modifications;
+
+		@Override
+		public boolean hasNext() {
+			return next < size;
+		}
+
+		@Override
+		public E next() {
+			checkModifications();
+			if(next >= size) {
+				throw new NoSuchElementException();
+			}
+			last = next++;
+			return loadNext(slotOf(last));
+		}
+
+		@Override
+		public void remove() {
+			if(last < 0) {
+				throw new IllegalStateException();
+			}
+			checkModifications();
+			removeAt(last);
+			next = last;
+			last = -1;
+			expectedModifications = modifications;
+		}
+
+		/**
+		 * Load the event from the slot for {@link #next()}. By default the
+		 * event is loaded by the history.
+		 * 
+		 * @param slot the slot
+		 * @return the event in the slot
+		 */
+		protected E loadNext(int slot) {
+			return load(slot);
+		}
+
+		/**
+		 * Check whether the history is modified without this iterator.
+		 */
+		private void checkModifications() {
+			if(expectedModifications != modifications) {
+				throw new ConcurrentModificationException();
+			}
+		}
+	}
+}
@@ -0,0 +1,67 @@
+/* ArrayRecentHistory.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.utils;
+
+/**
+ * An implementation of {@link RecentHistory} that uses a fixed-capacity circular
+ * array as the container. Unlike {@link LinkedRecentHistory}, the indexed access
+ * and the eviction of the oldest event are O(1), and adding an event does not
+ * allocate any node.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class ArrayRecentHistory<E> extends AbstractRingHistory<E> {
+
+	private Object[] events;
+
+	/**
+	 * Construct an <code>ArrayRecentHistory</code> instance by specifying
+	 * the maximum event capacity.
+	 * 
+	 * @param maxCapacity the maximum event capacity.
+	 */
+	public ArrayRecentHistory(int maxCapacity) {
+		setMaximumRecentEventCapacity(maxCapacity);
+	}
+
+	@Override
+	protected void allocate(int newCapacity, int first, int count) {
+		Object[] resized = new Object[newCapacity];
+		if(events != null) {
+			copyRing(events, first, count, resized);
+		}
+		events = resized;
+	}
+
+	@Override
+	protected void store(int slot, E event) {
+		events[slot] = event;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected E load(int slot) {
+		return (E)events[slot];
+	}
+
+	@Override
+	protected void move(int from, int to) {
+		events[to] = events[from];
+	}
+
+	@Override
+	protected void release(int slot) {
+		events[slot] = null;
+	}
+}
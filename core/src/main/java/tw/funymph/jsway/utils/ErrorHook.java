@@ -0,0 +1,35 @@
+/* ErrorHook.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.utils;
+
+/**
+ * The instrumentation hook that is invoked when an error is caught on a path
+ * that cannot throw it to the caller, e.g., a failing listener or a sampling
+ * task on a background thread. The hook is installed by
+ * {@link ErrorReporter#setErrorHook(ErrorHook)}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public interface ErrorHook {
+
+	/**
+	 * Invoke when an error is caught. This method is invoked on the thread that
+	 * caught the error, so it should return quickly.
+	 * 
+	 * @param source the object related to the error, e.g., the failing listener
+	 *        or the component that caught the error
+	 * @param error the caught error
+	 */
+	void errorCaught(Object source, Throwable error);
+}
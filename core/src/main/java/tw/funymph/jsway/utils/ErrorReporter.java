@@ -0,0 +1,83 @@
+/* ErrorReporter.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.utils;
+
+import static java.lang.String.format;
+import static java.util.logging.Level.WARNING;
+
+import java.util.logging.Logger;
+
+/**
+ * The single channel of the errors caught by the library. The components
+ * that keep running after an error, e.g., a listener registry or a sampling
+ * task, report the error here instead of printing it. By default, the errors
+ * are logged by {@link java.util.logging} with the class name of the source;
+ * the applications can install their own {@link ErrorHook}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class ErrorReporter {
+
+	private static final String ERROR_MESSAGE_FORMAT = "Error caught by %s";
+
+	private static final ErrorHook LOGGING_HOOK = new ErrorHook() {
+
+		@Override
+		public void errorCaught(Object source, Throwable error) {
+			String name = (source != null)? source.getClass().getName() : ErrorReporter.class.getName();
+			Logger.getLogger(name).log(WARNING, format(ERROR_MESSAGE_FORMAT, source), error);
+		}
+	};
+
+	private static volatile ErrorHook errorHook = LOGGING_HOOK;
+
+	/**
+	 * Disable creation
+	 */
+	private ErrorReporter() { }
+
+	/**
+	 * Set the hook that receives the caught errors.
+	 * 
+	 * @param hook the hook, or null to log the errors
+	 */
+	public static void setErrorHook(ErrorHook hook) {
+		errorHook = (hook != null)? hook : LOGGING_HOOK;
+	}
+
+	/**
+	 * Get the hook that receives the caught errors.
+	 * 
+	 * @return the hook
+	 */
+	public static ErrorHook getErrorHook() {
+		return errorHook;
+	}
+
+	/**
+	 * Report the caught error to the hook. An error thrown by the hook is
+	 * ignored so that the reporting component keeps running.
+	 * 
+	 * @param source the object related to the error
+	 * @param error the caught error
+	 */
+	public static void report(Object source, Throwable error) {
+		try {
+			errorHook.errorCaught(source, error);
+		}
+		catch(RuntimeException e) {
+			// Nothing else to report to
+		}
+	}
+}
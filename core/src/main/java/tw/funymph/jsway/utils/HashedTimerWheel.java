@@ -0,0 +1,461 @@
+/* HashedTimerWheel.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.utils;
+
+import static java.lang.String.format;
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static tw.funymph.jsway.utils.ObjectUtilities.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+
+/**
+ * A hashed timer wheel that multiplexes the periodic tasks of many monitors on
+ * one daemon thread. The thread wakes up once per tick and only touches the
+ * bucket of the current tick, so the cost of a tick does not depend on the
+ * number of the scheduled tasks. The periodic tasks are aligned to the
+ * multiples of their periods, i.e., the tasks that share a period always run
+ * on the same tick instead of waking the thread up at uncoordinated times.
+ * <p>
+ * The tasks run on the wheel thread unless they are scheduled with their own
+ * executors; the long tasks should always have their own executors. The cost
+ * of the ticks is accumulated per task name as {@link TickCost}.
+ * <p>
+ * The wheels can be shared through the thread-safe named registry. A wheel is
+ * started when created, can be stopped and started again, and is removed from
+ * the registry when closed.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class HashedTimerWheel {
+
+	public static final String DEFAULT_WHEEL_NAME = "JavaSway Timer Wheel";
+	public static final long DEFAULT_TICK_DURATION = 10;
+	public static final int DEFAULT_WHEEL_SIZE = 512;
+
+	private static final int STARTED = 0;
+	private static final int STOPPED = 1;
+	private static final int CLOSED = 2;
+
+	private static final String NULL_NAME_EXCEPTION = "Cannot use a null name";
+	private static final String NULL_TASK_EXCEPTION = "Cannot schedule a null task";
+	private static final String CLOSED_EXCEPTION = "The timer wheel %s is closed";
+	private static final String INVALID_TICK_EXCEPTION = "Invalid tick duration or wheel size: %d, %d";
+
+	private static final Map<String, HashedTimerWheel> registry = new HashMap<String, HashedTimerWheel>();
+
+	private String name;
+	private long tickNanos;
+	private long tickDuration;
+	private int mask;
+
+	private int state;
+	private long startNanos;
+	private volatile long tick;
+	private Thread worker;
+
+	private List<TickHandle>[] buckets;
+	private List<TickHandle> expired;
+	private ConcurrentLinkedQueue<TickHandle> pending;
+	private ConcurrentHashMap<String, TickCost> costs;
+
+	/**
+	 * Get the shared default wheel from the registry.
+	 * 
+	 * @return the shared default wheel
+	 */
+	public static HashedTimerWheel getInstance() {
+		return getInstance(DEFAULT_WHEEL_NAME);
+	}
+
+	/**
+	 * Get the named wheel from the registry. If the wheel does not exist or is
+	 * closed, a started wheel with the default tick duration and wheel size is
+	 * created and registered.
+	 * 
+	 * @param name the name of the wheel
+	 * @return the named wheel
+	 * @throws NullPointerException if the name is null
+	 */
+	public static synchronized HashedTimerWheel getInstance(String name) {
+		requireNonNull(name, NULL_NAME_EXCEPTION);
+		HashedTimerWheel wheel = registry.get(name);
+		if(wheel == null) {
+			wheel = new HashedTimerWheel(name, DEFAULT_TICK_DURATION, DEFAULT_WHEEL_SIZE);
+			registry.put(name, wheel);
+		}
+		return wheel;
+	}
+
+	/**
+	 * Get the names of the registered wheels.
+	 * 
+	 * @return the sorted names of the registered wheels
+	 */
+	public static synchronized Set<String> getRegisteredNames() {
+		return new TreeSet<String>(registry.keySet());
+	}
+
+	/**
+	 * Construct a started <code>HashedTimerWheel</code> instance that is not
+	 * registered. The wheel size is rounded up to a power of two.
+	 * 
+	 * @param wheelName the name of the wheel and its thread
+	 * @param duration the tick duration in milliseconds
+	 * @param size the number of the buckets
+	 * @throws NullPointerException if the name is null
+	 * @throws IllegalArgumentException if the duration or the size is not positive
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public HashedTimerWheel(String wheelName, long duration, int size) {
+		name = requireNonNull(wheelName, NULL_NAME_EXCEPTION);
+		if(duration <= 0 || size <= 0) {
+			throw new IllegalArgumentException(format(INVALID_TICK_EXCEPTION, duration, size));
+		}
+		int buckets = Integer.highestOneBit(size);
+		buckets = (buckets < size)? buckets << 1 : buckets;
+		this.buckets = new List[buckets];
+		for(int i = 0; i < buckets; i++) {
+			this.buckets[i] = new ArrayList<TickHandle>();
+		}
+		mask = buckets - 1;
+		tickDuration = duration;
+		tickNanos = MILLISECONDS.toNanos(duration);
+		expired = new ArrayList<TickHandle>();
+		pending = new ConcurrentLinkedQueue<TickHandle>();
+		costs = new ConcurrentHashMap<String, TickCost>();
+		state = STARTED;
+		startNanos = nanoTime();
+		worker = new Thread(new Runnable() {
+
+			@Override
+			public void run() {
+				runWheel();
+			}
+		}, name);
+		worker.setDaemon(true);
+		worker.start();
+	}
+
+	/**
+	 * Get the name of the wheel.
+	 * 
+	 * @return the name of the wheel
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Get the tick duration.
+	 * 
+	 * @return the tick duration in milliseconds
+	 */
+	public long getTickDuration() {
+		return tickDuration;
+	}
+
+	/**
+	 * Get the number of the ticks since the wheel is created. The ticks are
+	 * not counted while the wheel is stopped.
+	 * 
+	 * @return the number of the ticks
+	 */
+	public long getTick() {
+		return tick;
+	}
+
+	/**
+	 * Schedule the task to be executed periodically. The period is rounded up
+	 * to the ticks, and the first execution is on the next multiple of the
+	 * period, so the tasks that share a period are executed on the same tick.
+	 * 
+	 * @param taskName the name to accumulate the cost of the task
+	 * @param task the task to be executed
+	 * @param period the period in milliseconds
+	 * @param executor the executor to run the task, or null to run on the wheel thread
+	 * @return the handle of the task
+	 * @throws NullPointerException if the name or the task is null
+	 * @throws IllegalStateException if the wheel is closed
+	 */
+	public TickHandle schedule(String taskName, Runnable task, long period, Executor executor) {
+		return add(new TickHandle(requireNonNull(task, NULL_TASK_EXCEPTION), executor, getTickCost(taskName), toTicks(period, 1), 0));
+	}
+
+	/**
+	 * Schedule the task to be executed once after the delay. The delay is
+	 * rounded up to the ticks; a zero delay means the next tick.
+	 * 
+	 * @param taskName the name to accumulate the cost of the task
+	 * @param task the task to be executed
+	 * @param delay the delay in milliseconds
+	 * @param executor the executor to run the task, or null to run on the wheel thread
+	 * @return the handle of the task
+	 * @throws NullPointerException if the name or the task is null
+	 * @throws IllegalStateException if the wheel is closed
+	 */
+	public TickHandle scheduleOnce(String taskName, Runnable task, long delay, Executor executor) {
+		return add(new TickHandle(requireNonNull(task, NULL_TASK_EXCEPTION), executor, getTickCost(taskName), 0, toTicks(delay, 0)));
+	}
+
+	/**
+	 * Get the cost of the named task. The cost is created if the name is new.
+	 * 
+	 * @param taskName the name of the task
+	 * @return the cost of the task
+	 * @throws NullPointerException if the name is null
+	 */
+	public TickCost getTickCost(String taskName) {
+		requireNonNull(taskName, NULL_NAME_EXCEPTION);
+		TickCost cost = costs.get(taskName);
+		if(cost == null) {
+			TickCost created = new TickCost(taskName);
+			cost = costs.putIfAbsent(taskName, created);
+			cost = (cost != null)? cost : created;
+		}
+		return cost;
+	}
+
+	/**
+	 * Get the costs of all tasks scheduled on the wheel.
+	 * 
+	 * @return the costs sorted by the task names
+	 */
+	public List<TickCost> getTickCosts() {
+		List<TickCost> result = new ArrayList<TickCost>();
+		for(String taskName : new TreeSet<String>(costs.keySet())) {
+			result.add(costs.get(taskName));
+		}
+		return result;
+	}
+
+	/**
+	 * Start the stopped wheel. The ticks continue from where they stopped.
+	 * 
+	 * @throws IllegalStateException if the wheel is closed
+	 */
+	public synchronized void start() {
+		checkClosed();
+		if(state == STOPPED) {
+			state = STARTED;
+			startNanos = nanoTime() - tick * tickNanos;
+			notifyAll();
+		}
+	}
+
+	/**
+	 * Stop the wheel. The scheduled tasks are kept but not executed until
+	 * the wheel is started again.
+	 */
+	public synchronized void stop() {
+		if(state == STARTED) {
+			state = STOPPED;
+			worker.interrupt();
+		}
+	}
+
+	/**
+	 * Get whether the wheel is started.
+	 * 
+	 * @return true if the wheel is started
+	 */
+	public synchronized boolean isStarted() {
+		return state == STARTED;
+	}
+
+	/**
+	 * Close the wheel. All scheduled tasks are cancelled, the thread is
+	 * terminated, and the wheel is removed from the registry.
+	 */
+	public void close() {
+		synchronized(HashedTimerWheel.class) {
+			if(registry.get(name) == this) {
+				registry.remove(name);
+			}
+		}
+		synchronized(this) {
+			if(state != CLOSED) {
+				state = CLOSED;
+				worker.interrupt();
+				notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * Get whether the wheel is closed.
+	 * 
+	 * @return true if the wheel is closed
+	 */
+	public synchronized boolean isClosed() {
+		return state == CLOSED;
+	}
+
+	/**
+	 * Add the handle to be put into the buckets on the next tick.
+	 * 
+	 * @param handle the handle
+	 * @return the given handle
+	 */
+	private TickHandle add(TickHandle handle) {
+		checkClosed();
+		pending.add(handle);
+		return handle;
+	}
+
+	/**
+	 * Convert the milliseconds into the ticks by rounding up.
+	 * 
+	 * @param milliseconds the milliseconds
+	 * @param minimum the minimum ticks
+	 * @return the ticks
+	 */
+	private long toTicks(long milliseconds, long minimum) {
+		return Math.max(minimum, (Math.max(0, milliseconds) + tickDuration - 1) / tickDuration);
+	}
+
+	/**
+	 * Check whether the wheel is closed.
+	 * 
+	 * @throws IllegalStateException if the wheel is closed
+	 */
+	private synchronized void checkClosed() {
+		if(state == CLOSED) {
+			throw new IllegalStateException(format(CLOSED_EXCEPTION, name));
+		}
+	}
+
+	/**
+	 * Wait for the ticks and process the buckets until the wheel is closed.
+	 */
+	private void runWheel() {
+		while(waitUntilStarted()) {
+			long sleep = startNanos + (tick + 1) * tickNanos - nanoTime();
+			if(sleep > 0) {
+				try {
+					Thread.sleep(sleep / 1000000, (int)(sleep % 1000000));
+				} catch (InterruptedException e) {
+					// Stopped or closed, check the state again
+					continue;
+				}
+			}
+			if(isStarted()) {
+				tick++;
+				transferPending();
+				processBucket();
+			}
+		}
+		for(List<TickHandle> bucket : buckets) {
+			for(TickHandle handle : bucket) {
+				handle.cancel();
+			}
+			bucket.clear();
+		}
+		TickHandle handle;
+		while((handle = pending.poll()) != null) {
+			handle.cancel();
+		}
+	}
+
+	/**
+	 * Wait until the wheel is started or closed.
+	 * 
+	 * @return false if the wheel is closed
+	 */
+	private synchronized boolean waitUntilStarted() {
+		while(state == STOPPED) {
+			try {
+				wait();
+			} catch (InterruptedException e) {
+				// Check the state again
+			}
+		}
+		Thread.interrupted();
+		return state == STARTED;
+	}
+
+	/**
+	 * Put the pending handles into the buckets. The first deadline of a
+	 * periodic task is aligned to the multiples of its period.
+	 */
+	private void transferPending() {
+		TickHandle handle;
+		while((handle = pending.poll()) != null) {
+			if(handle.isCancelled()) {
+				continue;
+			}
+			if(handle.periodTicks > 0) {
+				handle.deadline = (tick / handle.periodTicks + 1) * handle.periodTicks;
+			}
+			else {
+				handle.deadline = tick + handle.delayTicks;
+			}
+			insert(handle, tick);
+		}
+	}
+
+	/**
+	 * Insert the handle into the bucket of its deadline.
+	 * 
+	 * @param handle the handle whose deadline is not earlier than the first tick
+	 * @param first the first tick that will process the buckets
+	 */
+	private void insert(TickHandle handle, long first) {
+		handle.rounds = (handle.deadline - first) / buckets.length;
+		buckets[(int)(handle.deadline & mask)].add(handle);
+	}
+
+	/**
+	 * Expire the handles in the bucket of the current tick, and reschedule
+	 * the periodic ones. The ticks missed by a periodic task are skipped.
+	 */
+	private void processBucket() {
+		List<TickHandle> bucket = buckets[(int)(tick & mask)];
+		int kept = 0;
+		for(int i = 0; i < bucket.size(); i++) {
+			TickHandle handle = bucket.get(i);
+			if(handle.isCancelled()) {
+				continue;
+			}
+			if(handle.rounds > 0) {
+				handle.rounds--;
+				bucket.set(kept++, handle);
+				continue;
+			}
+			expired.add(handle);
+		}
+		while(bucket.size() > kept) {
+			bucket.remove(bucket.size() - 1);
+		}
+		for(TickHandle handle : expired) {
+			handle.expire();
+			if(handle.periodTicks > 0 && !handle.isCancelled()) {
+				handle.deadline += handle.periodTicks;
+				if(handle.deadline <= tick) {
+					handle.deadline = (tick / handle.periodTicks + 1) * handle.periodTicks;
+				}
+				insert(handle, tick + 1);
+			}
+		}
+		expired.clear();
+	}
+}
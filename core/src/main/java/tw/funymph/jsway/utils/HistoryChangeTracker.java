@@ -0,0 +1,120 @@
+/* HistoryChangeTracker.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.utils;
+
+/**
+ * A tracker that follows the counters of a {@link SequencedHistory} for an
+ * incremental follower, e.g., a statistics or a chart that keeps the values of
+ * the events it has visited. After the follower visits the whole history, it
+ * calls {@link #reset(RecentHistory, int)}; when the history changes, it calls
+ * {@link #track(RecentHistory)} to find out how many events are appended and
+ * evicted, and whether the latest visited event is updated in place. If the
+ * changes cannot be identified, e.g., the history does not count its
+ * modifications or some events are removed, the follower should visit the
+ * whole history again.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class HistoryChangeTracker {
+
+	private RecentHistory<?> trackedHistory;
+	private long addCount;
+	private long inPlaceUpdateCount;
+	private long removeCount;
+	private int knownSize;
+
+	private int appended;
+	private int evicted;
+	private boolean latestUpdated;
+
+	/**
+	 * Mark the current state of the history as visited.
+	 * 
+	 * @param history the history
+	 * @param visited the amount of the visited events, i.e., the latest events of the history
+	 */
+	public void reset(RecentHistory<?> history, int visited) {
+		trackedHistory = history;
+		knownSize = visited;
+		appended = 0;
+		evicted = 0;
+		latestUpdated = false;
+		if(history instanceof SequencedHistory) {
+			SequencedHistory<?> sequenced = (SequencedHistory<?>)history;
+			addCount = sequenced.getAddCount();
+			inPlaceUpdateCount = sequenced.getInPlaceUpdateCount();
+			removeCount = sequenced.getRemoveCount();
+		}
+	}
+
+	/**
+	 * Find out the changes of the history since the last visit, and mark the
+	 * current state as visited. The follower should then visit the appended
+	 * events, and the latest previously visited event if it is updated in place.
+	 * 
+	 * @param history the history
+	 * @return true if the changes are identified, or false if the follower
+	 * should visit the whole history again and call {@link #reset(RecentHistory, int)}
+	 */
+	public boolean track(RecentHistory<?> history) {
+		if(history != trackedHistory || !(history instanceof SequencedHistory)) {
+			return false;
+		}
+		SequencedHistory<?> sequenced = (SequencedHistory<?>)history;
+		long adds = sequenced.getAddCount() - addCount;
+		long updates = sequenced.getInPlaceUpdateCount() - inPlaceUpdateCount;
+		long appends = adds - updates;
+		int size = history.size();
+		if(sequenced.getRemoveCount() != removeCount || adds < 0 || appends < 0 || appends >= size || knownSize + appends - size < 0) {
+			return false;
+		}
+		appended = (int)appends;
+		evicted = knownSize + appended - size;
+		// Only the latest event is updated in place; the updates of the appended ones are visited anyway
+		latestUpdated = updates > 0 && evicted < knownSize;
+		addCount += adds;
+		inPlaceUpdateCount += updates;
+		knownSize = size;
+		return true;
+	}
+
+	/**
+	 * Get the amount of the events appended since the previous visit.
+	 * 
+	 * @return the amount of the appended events, i.e., the latest events of the history
+	 */
+	public int getAppendedCount() {
+		return appended;
+	}
+
+	/**
+	 * Get the amount of the visited events that are evicted since the previous
+	 * visit.
+	 * 
+	 * @return the amount of the evicted events
+	 */
+	public int getEvictedCount() {
+		return evicted;
+	}
+
+	/**
+	 * Get whether the latest event of the previous visit may be updated in place.
+	 * The event is on the index <code>size() - getAppendedCount() - 1</code>.
+	 * 
+	 * @return true if the event may be updated
+	 */
+	public boolean isLatestUpdated() {
+		return latestUpdated;
+	}
+}
@@ -0,0 +1,327 @@
+/* ListenerRegistry.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.utils;
+
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static tw.funymph.jsway.utils.ErrorReporter.report;
+import static tw.funymph.jsway.utils.ObjectUtilities.requireNonNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A copy-on-write registry of the listeners. The listeners can be added and
+ * removed from any thread while the events are being fired, and firing an
+ * event never locks or allocates. A listener can be registered with its own
+ * executor; such a listener receives the events through a latest-value
+ * mailbox, i.e., the events are delivered in order by the executor one at a
+ * time, and a pending event is replaced by a newer one if the listener falls
+ * behind. A slow asynchronous listener therefore never delays the other
+ * listeners or the firing thread, and never queues more than one event.
+ * <p>
+ * Every delivery is timed against the time budget (if any). When a listener
+ * exceeds the budget, the {@link SlowListenerHook} is informed. The exceptions
+ * thrown by a listener are printed and do not affect the other listeners.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public abstract class ListenerRegistry<L, E> {
+
+	private static final String NULL_LISTENER_EXCEPTION = "Cannot register a null listener";
+
+	private volatile Registration[] registrations;
+	private volatile long timeBudget;
+	private volatile SlowListenerHook slowListenerHook;
+
+	/**
+	 * Initialize the registry called by its concrete children.
+	 */
+	protected ListenerRegistry() {
+		registrations = newRegistrations(0);
+	}
+
+	/**
+	 * Add the listener that is notified on the firing thread. A listener
+	 * registered twice is notified twice.
+	 * 
+	 * @param listener the listener to be added
+	 * @throws NullPointerException if the listener is null
+	 */
+	public void add(L listener) {
+		add(listener, null);
+	}
+
+	/**
+	 * Add the listener that is notified by the specified executor through a
+	 * latest-value mailbox, or on the firing thread if the executor is null.
+	 * 
+	 * @param listener the listener to be added
+	 * @param executor the executor to deliver the events, or null
+	 * @throws NullPointerException if the listener is null
+	 */
+	public synchronized void add(L listener, Executor executor) {
+		requireNonNull(listener, NULL_LISTENER_EXCEPTION);
+		Registration[] current = registrations;
+		Registration[] updated = newRegistrations(current.length + 1);
+		System.arraycopy(current, 0, updated, 0, current.length);
+		updated[current.length] = (executor == null)? new Registration(listener) : new Mailbox(listener, executor);
+		registrations = updated;
+	}
+
+	/**
+	 * Remove the first registration of the listener. A pending event in its
+	 * mailbox is discarded.
+	 * 
+	 * @param listener the listener to be removed
+	 */
+	public synchronized void remove(L listener) {
+		Registration[] current = registrations;
+		for(int i = 0; i < current.length; i++) {
+			if(current[i].listener == listener) {
+				current[i].removed = true;
+				Registration[] updated = newRegistrations(current.length - 1);
+				System.arraycopy(current, 0, updated, 0, i);
+				System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+				registrations = updated;
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Remove all listeners.
+	 */
+	public synchronized void clear() {
+		for(Registration registration : registrations) {
+			registration.removed = true;
+		}
+		registrations = newRegistrations(0);
+	}
+
+	/**
+	 * Get the amount of the registered listeners.
+	 * 
+	 * @return the amount of the listeners
+	 */
+	public int size() {
+		return registrations.length;
+	}
+
+	/**
+	 * Get the amount of the events that are replaced in the mailbox of the
+	 * listener before they are delivered.
+	 * 
+	 * @param listener the listener
+	 * @return the amount of the dropped events, or 0 if the listener is not
+	 *         registered with an executor
+	 */
+	public long getDroppedEventCount(L listener) {
+		for(Registration registration : registrations) {
+			if(registration.listener == listener && registration instanceof ListenerRegistry.Mailbox) {
+				return ((Mailbox)registration).dropped.get();
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Set the time budget of a delivery. The listeners that take longer are
+	 * reported to the slow listener hook.
+	 * 
+	 * @param budget the time budget in milliseconds, or 0 to disable the detection
+	 */
+	public void setTimeBudget(long budget) {
+		timeBudget = MILLISECONDS.toNanos(Math.max(0, budget));
+	}
+
+	/**
+	 * Get the time budget of a delivery.
+	 * 
+	 * @return the time budget in milliseconds, or 0 if the detection is disabled
+	 */
+	public long getTimeBudget() {
+		return NANOSECONDS.toMillis(timeBudget);
+	}
+
+	/**
+	 * Set the hook that is informed when a listener exceeds the time budget.
+	 * 
+	 * @param hook the hook, or null to remove the hook
+	 */
+	public void setSlowListenerHook(SlowListenerHook hook) {
+		slowListenerHook = hook;
+	}
+
+	/**
+	 * Fire the event to all registered listeners. The synchronous listeners
+	 * are notified on the calling thread in the registration order; the event
+	 * is posted to the mailboxes of the asynchronous listeners.
+	 * 
+	 * @param event the event to be fired
+	 */
+	public void fire(E event) {
+		for(Registration registration : registrations) {
+			registration.post(event);
+		}
+	}
+
+	/**
+	 * Deliver the event to the listener.
+	 * 
+	 * @param listener the listener
+	 * @param event the event
+	 */
+	protected abstract void deliver(L listener, E event);
+
+	/**
+	 * Deliver the event to the listener with the timing and the exception
+	 * handling.
+	 * 
+	 * @param listener the listener
+	 * @param event the event
+	 */
+	private void timedDeliver(L listener, E event) {
+		long budget = timeBudget;
+		long start = (budget > 0)? nanoTime() : 0;
+		try {
+			deliver(listener, event);
+		}
+		catch(RuntimeException e) {
+			// Keep notifying the other listeners
+			report(listener, e);
+		}
+		if(budget > 0) {
+			long elapsed = nanoTime() - start;
+			SlowListenerHook hook = slowListenerHook;
+			if(elapsed > budget && hook != null) {
+				hook.slowListenerDetected(listener, elapsed, budget);
+			}
+		}
+	}
+
+	/**
+	 * Create an array of the registrations. A generic array cannot be created
+	 * directly because the registration is an inner class of the generic
+	 * registry.
+	 * 
+	 * @param length the length of the array
+	 * @return the array
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private Registration[] newRegistrations(int length) {
+		return new ListenerRegistry.Registration[length];
+	}
+
+	/**
+	 * A registration that notifies the listener on the firing thread.
+	 * 
+	 * @author Pin-Ying Tu
+	 * @version 1.2
+	 * @since 1.2
+	 */
+	private class Registration {
+
+		protected final L listener;
+		protected volatile boolean removed;
+
+		/**
+		 * Construct a <code>Registration</code> instance.
+		 * 
+		 * @param registered the registered listener
+		 */
+		private Registration(L registered) {
+			listener = registered;
+		}
+
+		/**
+		 * Post the event to the listener.
+		 * 
+		 * @param event the event
+		 */
+		protected void post(E event) {
+			timedDeliver(listener, event);
+		}
+	}
+
+	/**
+	 * A registration that delivers the latest posted event to the listener
+	 * with its executor. At most one delivery task is submitted at any time.
+	 * 
+	 * @author Pin-Ying Tu
+	 * @version 1.2
+	 * @since 1.2
+	 */
+	private class Mailbox extends Registration implements Runnable {
+
+		private final Executor executor;
+		private final AtomicLong dropped;
+		private final AtomicBoolean scheduled;
+		private final AtomicReference<E> pending;
+
+		/**
+		 * Construct a <code>Mailbox</code> instance.
+		 * 
+		 * @param registered the registered listener
+		 * @param deliveryExecutor the executor to deliver the events
+		 */
+		private Mailbox(L registered, Executor deliveryExecutor) {
+			super(registered);
+			executor = deliveryExecutor;
+			dropped = new AtomicLong();
+			scheduled = new AtomicBoolean();
+			pending = new AtomicReference<E>();
+		}
+
+		@Override
+		protected void post(E event) {
+			if(pending.getAndSet(event) != null) {
+				dropped.incrementAndGet();
+			}
+			schedule();
+		}
+
+		@Override
+		public void run() {
+			E event;
+			while(!removed && (event = pending.getAndSet(null)) != null) {
+				timedDeliver(listener, event);
+			}
+			scheduled.set(false);
+			// Another event may be posted after the mailbox is emptied
+			if(pending.get() != null) {
+				schedule();
+			}
+		}
+
+		/**
+		 * Submit the delivery task if it is not submitted yet.
+		 */
+		private void schedule() {
+			if(!removed && scheduled.compareAndSet(false, true)) {
+				try {
+					executor.execute(this);
+				}
+				catch(RuntimeException e) {
+					// The executor rejects the task, e.g., it is shut down
+					scheduled.set(false);
+					report(listener, e);
+				}
+			}
+		}
+	}
+}
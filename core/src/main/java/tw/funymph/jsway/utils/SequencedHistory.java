@@ -0,0 +1,51 @@
+/* SequencedHistory.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.utils;
+
+/**
+ * A {@link RecentHistory} that counts its modifications, so the components that
+ * follow the history, e.g., the incremental statistics and the charts, can find
+ * out what is changed since they last visited it without comparing the events.
+ * The counters never decrease, and they are read on the thread that modifies the
+ * history. See {@link HistoryChangeTracker} for the usual way to follow the
+ * counters.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public interface SequencedHistory<E> extends RecentHistory<E> {
+
+	/**
+	 * Get the amount of the successful adds since the history is created,
+	 * including the adds that updated the latest event in place.
+	 * 
+	 * @return the amount of the adds
+	 */
+	long getAddCount();
+
+	/**
+	 * Get the amount of the adds that updated the latest event in place instead
+	 * of appending a new event, e.g., a sample merged into the latest bucket.
+	 * 
+	 * @return the amount of the in-place updates
+	 */
+	long getInPlaceUpdateCount();
+
+	/**
+	 * Get the amount of the removals other than the evictions caused by the
+	 * adds, e.g., clearing the history or removing an event by an iterator.
+	 * 
+	 * @return the amount of the removals
+	 */
+	long getRemoveCount();
+}
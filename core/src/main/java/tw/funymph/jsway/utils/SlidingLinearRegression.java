@@ -0,0 +1,274 @@
+/* SlidingLinearRegression.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.utils;
+
+import static java.lang.Double.NaN;
+
+/**
+ * The least-squares linear regression of the latest points in a window of a
+ * fixed capacity. When a point is added to a full window, the oldest point is
+ * evicted. The regression keeps the running sums of the points, so adding a
+ * point and the queries cost O(1) amortized. The x values are kept relative to
+ * the oldest point, and the sums are recomputed once per capacity evictions,
+ * so the precision does not degrade with large x values like time stamps.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class SlidingLinearRegression {
+
+	private static final String NON_POSITIVE_CAPACITY_EXCEPTION = "The capacity must be positive: %d";
+
+	private int capacity;
+	private int head;
+	private int count;
+	private double[] xs;
+	private double[] ys;
+
+	private double origin;
+	private double sumX;
+	private double sumY;
+	private double sumXX;
+	private double sumXY;
+	private double sumYY;
+	private int evictionsSinceSum;
+
+	/**
+	 * Construct a <code>SlidingLinearRegression</code> instance with the
+	 * capacity of the window.
+	 * 
+	 * @param windowCapacity the capacity of the window
+	 */
+	public SlidingLinearRegression(int windowCapacity) {
+		setCapacity(windowCapacity);
+	}
+
+	/**
+	 * Set the capacity of the window. The latest points are kept.
+	 * 
+	 * @param newCapacity the new capacity
+	 */
+	public void setCapacity(int newCapacity) {
+		if(newCapacity <= 0) {
+			throw new IllegalArgumentException(String.format(NON_POSITIVE_CAPACITY_EXCEPTION, newCapacity));
+		}
+		if(newCapacity == capacity) {
+			return;
+		}
+		int kept = Math.min(count, newCapacity);
+		double[] keptXs = new double[kept];
+		double[] keptYs = new double[kept];
+		for(int i = 0; i < kept; i++) {
+			int slot = slotOf(count - kept + i);
+			keptXs[i] = xs[slot] + origin;
+			keptYs[i] = ys[slot];
+		}
+		capacity = newCapacity;
+		xs = new double[capacity];
+		ys = new double[capacity];
+		clear();
+		for(int i = 0; i < kept; i++) {
+			add(keptXs[i], keptYs[i]);
+		}
+	}
+
+	/**
+	 * Get the capacity of the window.
+	 * 
+	 * @return the capacity of the window
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Remove all points.
+	 */
+	public void clear() {
+		head = 0;
+		count = 0;
+		origin = 0;
+		sumX = sumY = sumXX = sumXY = sumYY = 0;
+		evictionsSinceSum = 0;
+	}
+
+	/**
+	 * Add a point. The oldest point is evicted if the window is full.
+	 * 
+	 * @param x the x of the point
+	 * @param y the y of the point
+	 */
+	public void add(double x, double y) {
+		if(count == 0) {
+			origin = x;
+		}
+		if(count == capacity) {
+			remove(xs[head], ys[head]);
+			head = (head + 1 == capacity)? 0 : head + 1;
+			count--;
+			if(++evictionsSinceSum >= capacity) {
+				rebase();
+			}
+		}
+		int slot = slotOf(count++);
+		xs[slot] = x - origin;
+		ys[slot] = y;
+		accumulate(xs[slot], y);
+	}
+
+	/**
+	 * Get the amount of the points in the window.
+	 * 
+	 * @return the amount of the points
+	 */
+	public int getCount() {
+		return count;
+	}
+
+	/**
+	 * Get the x of the oldest point.
+	 * 
+	 * @return the x of the oldest point, or NaN if the window is empty
+	 */
+	public double getFirstX() {
+		return (count > 0)? xs[head] + origin : NaN;
+	}
+
+	/**
+	 * Get the x of the latest point.
+	 * 
+	 * @return the x of the latest point, or NaN if the window is empty
+	 */
+	public double getLastX() {
+		return (count > 0)? xs[slotOf(count - 1)] + origin : NaN;
+	}
+
+	/**
+	 * Get the y of the latest point.
+	 * 
+	 * @return the y of the latest point, or NaN if the window is empty
+	 */
+	public double getLastY() {
+		return (count > 0)? ys[slotOf(count - 1)] : NaN;
+	}
+
+	/**
+	 * Get the slope of the fitted line.
+	 * 
+	 * @return the slope, or NaN if there are less than two distinct x values
+	 */
+	public double getSlope() {
+		double varianceX = count * sumXX - sumX * sumX;
+		return (count > 1 && varianceX > 0)? (count * sumXY - sumX * sumY) / varianceX : NaN;
+	}
+
+	/**
+	 * Get the y of the fitted line on the x.
+	 * 
+	 * @param x the x
+	 * @return the y on the fitted line, or NaN if the line cannot be fitted
+	 */
+	public double predict(double x) {
+		double slope = getSlope();
+		if(Double.isNaN(slope)) {
+			return NaN;
+		}
+		return (sumY - slope * sumX) / count + slope * (x - origin);
+	}
+
+	/**
+	 * Get the x where the fitted line reaches the y.
+	 * 
+	 * @param y the y
+	 * @return the x on the fitted line, or NaN if the line is flat or cannot be fitted
+	 */
+	public double solve(double y) {
+		double slope = getSlope();
+		if(Double.isNaN(slope) || slope == 0) {
+			return NaN;
+		}
+		return (y - (sumY - slope * sumX) / count) / slope + origin;
+	}
+
+	/**
+	 * Get the coefficient of determination (R squared) of the fitted line,
+	 * i.e., how much of the variance of y is explained by the line.
+	 * 
+	 * @return the coefficient of determination between 0 and 1, or NaN if
+	 * the line cannot be fitted or y is constant
+	 */
+	public double getRSquared() {
+		double varianceX = count * sumXX - sumX * sumX;
+		double varianceY = count * sumYY - sumY * sumY;
+		if(count < 2 || varianceX <= 0 || varianceY <= 0) {
+			return NaN;
+		}
+		double covariance = count * sumXY - sumX * sumY;
+		return Math.min(1, (covariance * covariance) / (varianceX * varianceY));
+	}
+
+	/**
+	 * Accumulate the point into the sums.
+	 * 
+	 * @param x the relative x
+	 * @param y the y
+	 */
+	private void accumulate(double x, double y) {
+		sumX += x;
+		sumY += y;
+		sumXX += x * x;
+		sumXY += x * y;
+		sumYY += y * y;
+	}
+
+	/**
+	 * Remove the point from the sums.
+	 * 
+	 * @param x the relative x
+	 * @param y the y
+	 */
+	private void remove(double x, double y) {
+		sumX -= x;
+		sumY -= y;
+		sumXX -= x * x;
+		sumXY -= x * y;
+		sumYY -= y * y;
+	}
+
+	/**
+	 * Move the origin to the oldest point and recompute the sums to drop the
+	 * accumulated rounding errors.
+	 */
+	private void rebase() {
+		evictionsSinceSum = 0;
+		double shift = xs[head];
+		origin += shift;
+		sumX = sumY = sumXX = sumXY = sumYY = 0;
+		for(int i = 0; i < count; i++) {
+			int slot = slotOf(i);
+			xs[slot] -= shift;
+			accumulate(xs[slot], ys[slot]);
+		}
+	}
+
+	/**
+	 * Convert the logical index (0 is the oldest) into the slot.
+	 * 
+	 * @param index the logical index
+	 * @return the slot
+	 */
+	private int slotOf(int index) {
+		int slot = head + index;
+		return (slot >= capacity)? slot - capacity : slot;
+	}
+}
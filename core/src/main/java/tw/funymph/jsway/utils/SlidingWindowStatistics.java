@@ -0,0 +1,350 @@
+/* SlidingWindowStatistics.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.utils;
+
+/**
+ * The statistics of the latest values in a window of a fixed capacity, i.e.,
+ * the values kept by a {@link RecentHistory}. When a value is added to a full
+ * window, the oldest value is evicted. The minimum and the maximum are kept by
+ * monotonic deques, and the sum by a running total, so adding a value costs
+ * O(1) amortized and the queries cost O(1). The latest value stays out of the
+ * deques until the next value is added, so replacing the latest value, e.g.,
+ * with the new value of a bucket updated in place, costs O(1) as well.
+ * <p>
+ * The quantiles are estimated by a fixed-resolution histogram between the lower
+ * and the upper bounds. Unlike most streaming sketches, the histogram supports
+ * the eviction exactly, and the error of an estimated quantile is at most the
+ * width of a bin. The values out of the bounds are counted in the first or the
+ * last bin.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class SlidingWindowStatistics {
+
+	public static final int DEFAULT_BINS = 1000;
+
+	private static final String NON_POSITIVE_CAPACITY_EXCEPTION = "The capacity must be positive: %d";
+	private static final String ILLEGAL_BOUNDS_EXCEPTION = "The lower bound (%f) must be less than the upper bound (%f)";
+	private static final String ILLEGAL_QUANTILE_EXCEPTION = "The quantile must be between 0 and 1: %f";
+
+	private int capacity;
+	private int head;
+	private int count;
+	private long sequence;
+	private double[] values;
+
+	private double sum;
+	private int evictionsSinceSum;
+
+	private int minimumHead;
+	private int minimumSize;
+	private long[] minimumSequences;
+	private double[] minimumValues;
+
+	private int maximumHead;
+	private int maximumSize;
+	private long[] maximumSequences;
+	private double[] maximumValues;
+
+	private double lowerBound;
+	private double binWidth;
+	private int[] bins;
+
+	/**
+	 * Construct a <code>SlidingWindowStatistics</code> instance for the values
+	 * between 0 and 1, e.g., the memory usage ratios.
+	 * 
+	 * @param windowCapacity the capacity of the window
+	 */
+	public SlidingWindowStatistics(int windowCapacity) {
+		this(windowCapacity, 0, 1, DEFAULT_BINS);
+	}
+
+	/**
+	 * Construct a <code>SlidingWindowStatistics</code> instance by specifying
+	 * the capacity of the window and the resolution of the quantiles.
+	 * 
+	 * @param windowCapacity the capacity of the window
+	 * @param lower the lower bound of the quantile histogram
+	 * @param upper the upper bound of the quantile histogram
+	 * @param binCount the amount of the bins of the quantile histogram
+	 */
+	public SlidingWindowStatistics(int windowCapacity, double lower, double upper, int binCount) {
+		if(!(lower < upper)) {
+			throw new IllegalArgumentException(String.format(ILLEGAL_BOUNDS_EXCEPTION, lower, upper));
+		}
+		lowerBound = lower;
+		binWidth = (upper - lower) / Math.max(1, binCount);
+		bins = new int[Math.max(1, binCount)];
+		setCapacity(windowCapacity);
+	}
+
+	/**
+	 * Set the capacity of the window. The latest values are kept.
+	 * 
+	 * @param newCapacity the new capacity
+	 */
+	public void setCapacity(int newCapacity) {
+		if(newCapacity <= 0) {
+			throw new IllegalArgumentException(String.format(NON_POSITIVE_CAPACITY_EXCEPTION, newCapacity));
+		}
+		if(newCapacity == capacity) {
+			return;
+		}
+		double[] kept = new double[Math.min(count, newCapacity)];
+		for(int i = 0; i < kept.length; i++) {
+			kept[i] = values[slotOf(count - kept.length + i)];
+		}
+		capacity = newCapacity;
+		values = new double[capacity];
+		minimumSequences = new long[capacity];
+		minimumValues = new double[capacity];
+		maximumSequences = new long[capacity];
+		maximumValues = new double[capacity];
+		clear();
+		for(double value : kept) {
+			add(value);
+		}
+	}
+
+	/**
+	 * Get the capacity of the window.
+	 * 
+	 * @return the capacity of the window
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Remove all values.
+	 */
+	public void clear() {
+		head = 0;
+		count = 0;
+		sum = 0;
+		evictionsSinceSum = 0;
+		minimumHead = 0;
+		minimumSize = 0;
+		maximumHead = 0;
+		maximumSize = 0;
+		for(int b = 0; b < bins.length; b++) {
+			bins[b] = 0;
+		}
+	}
+
+	/**
+	 * Add a value. If the window is full, the oldest value is evicted.
+	 * 
+	 * @param value the value to be added
+	 */
+	public void add(double value) {
+		if(count == capacity) {
+			evictOldest();
+		}
+		if(count > 0) {
+			pushDeques(sequence - 1, values[slotOf(count - 1)]);
+		}
+		values[slotOf(count++)] = value;
+		sum += value;
+		bins[binOf(value)]++;
+		sequence++;
+	}
+
+	/**
+	 * Replace the latest value, e.g., with the new value of an event updated
+	 * in place. The value is added if the window is empty.
+	 * 
+	 * @param value the new latest value
+	 */
+	public void replaceLatest(double value) {
+		if(count == 0) {
+			add(value);
+			return;
+		}
+		int slot = slotOf(count - 1);
+		sum += value - values[slot];
+		bins[binOf(values[slot])]--;
+		bins[binOf(value)]++;
+		values[slot] = value;
+	}
+
+	/**
+	 * Get the amount of the values in the window.
+	 * 
+	 * @return the amount of the values
+	 */
+	public int getCount() {
+		return count;
+	}
+
+	/**
+	 * Get the latest value.
+	 * 
+	 * @return the latest value, or NaN if the window is empty
+	 */
+	public double getLatest() {
+		return (count > 0)? values[slotOf(count - 1)] : Double.NaN;
+	}
+
+	/**
+	 * Get the minimum value in the window.
+	 * 
+	 * @return the minimum value, or NaN if the window is empty
+	 */
+	public double getMinimum() {
+		double latest = getLatest();
+		return (minimumSize > 0)? Math.min(minimumValues[minimumHead], latest) : latest;
+	}
+
+	/**
+	 * Get the maximum value in the window.
+	 * 
+	 * @return the maximum value, or NaN if the window is empty
+	 */
+	public double getMaximum() {
+		double latest = getLatest();
+		return (maximumSize > 0)? Math.max(maximumValues[maximumHead], latest) : latest;
+	}
+
+	/**
+	 * Get the sum of the values in the window.
+	 * 
+	 * @return the sum of the values
+	 */
+	public double getSum() {
+		return sum;
+	}
+
+	/**
+	 * Get the average of the values in the window.
+	 * 
+	 * @return the average, or NaN if the window is empty
+	 */
+	public double getAverage() {
+		return (count > 0)? sum / count : Double.NaN;
+	}
+
+	/**
+	 * Estimate the quantile of the values in the window, e.g., 0.95 for the
+	 * 95th percentile. The estimation is the middle of the histogram bin that
+	 * contains the quantile, limited by the minimum and the maximum.
+	 * 
+	 * @param quantile the quantile between 0 and 1
+	 * @return the estimated quantile, or NaN if the window is empty
+	 */
+	public double getQuantile(double quantile) {
+		if(quantile < 0 || quantile > 1) {
+			throw new IllegalArgumentException(String.format(ILLEGAL_QUANTILE_EXCEPTION, quantile));
+		}
+		if(count == 0) {
+			return Double.NaN;
+		}
+		int rank = Math.max(1, (int)Math.ceil(quantile * count));
+		int seen = 0;
+		for(int b = 0; b < bins.length; b++) {
+			seen += bins[b];
+			if(seen >= rank) {
+				double estimation = lowerBound + binWidth * (b + 0.5);
+				return Math.max(getMinimum(), Math.min(getMaximum(), estimation));
+			}
+		}
+		return getMaximum();
+	}
+
+	/**
+	 * Push the value into the back of the monotonic deques.
+	 * 
+	 * @param current the sequence of the value
+	 * @param value the value
+	 */
+	private void pushDeques(long current, double value) {
+		while(minimumSize > 0 && minimumValues[dequeSlot(minimumHead, minimumSize - 1)] >= value) {
+			minimumSize--;
+		}
+		int slot = dequeSlot(minimumHead, minimumSize++);
+		minimumSequences[slot] = current;
+		minimumValues[slot] = value;
+		while(maximumSize > 0 && maximumValues[dequeSlot(maximumHead, maximumSize - 1)] <= value) {
+			maximumSize--;
+		}
+		slot = dequeSlot(maximumHead, maximumSize++);
+		maximumSequences[slot] = current;
+		maximumValues[slot] = value;
+	}
+
+	/**
+	 * Evict the oldest value.
+	 */
+	private void evictOldest() {
+		double oldest = values[head];
+		long oldestSequence = sequence - count;
+		head = (head + 1 == capacity)? 0 : head + 1;
+		count--;
+		bins[binOf(oldest)]--;
+		if(minimumSize > 0 && minimumSequences[minimumHead] == oldestSequence) {
+			minimumHead = (minimumHead + 1 == capacity)? 0 : minimumHead + 1;
+			minimumSize--;
+		}
+		if(maximumSize > 0 && maximumSequences[maximumHead] == oldestSequence) {
+			maximumHead = (maximumHead + 1 == capacity)? 0 : maximumHead + 1;
+			maximumSize--;
+		}
+		if(++evictionsSinceSum >= capacity) {
+			// Recompute the running total to stop the rounding errors accumulating
+			sum = 0;
+			for(int i = 0; i < count; i++) {
+				sum += values[slotOf(i)];
+			}
+			evictionsSinceSum = 0;
+		}
+		else {
+			sum -= oldest;
+		}
+	}
+
+	/**
+	 * Get the histogram bin of the value.
+	 * 
+	 * @param value the value
+	 * @return the index of the bin
+	 */
+	private int binOf(double value) {
+		int bin = (int)((value - lowerBound) / binWidth);
+		return Math.max(0, Math.min(bins.length - 1, bin));
+	}
+
+	/**
+	 * Convert the index of the window (0 is the oldest) into the slot.
+	 * 
+	 * @param index the index
+	 * @return the slot
+	 */
+	private int slotOf(int index) {
+		int slot = head + index;
+		return (slot >= capacity)? slot - capacity : slot;
+	}
+
+	/**
+	 * Convert the index of a deque into the slot.
+	 * 
+	 * @param dequeHead the head of the deque
+	 * @param index the index
+	 * @return the slot
+	 */
+	private int dequeSlot(int dequeHead, int index) {
+		int slot = dequeHead + index;
+		return (slot >= capacity)? slot - capacity : slot;
+	}
+}
@@ -0,0 +1,34 @@
+/* SlowListenerHook.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.utils;
+
+/**
+ * The instrumentation hook that is invoked when a listener of a
+ * {@link ListenerRegistry} takes longer than the time budget to handle
+ * an event.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public interface SlowListenerHook {
+
+	/**
+	 * Invoke when the listener exceeds the time budget. This method is invoked
+	 * on the thread that delivered the event, so it should return quickly.
+	 * 
+	 * @param listener the slow listener
+	 * @param elapsedTime the time spent by the listener in nanoseconds
+	 * @param budget the time budget in nanoseconds
+	 */
+	void slowListenerDetected(Object listener, long elapsedTime, long budget);
+}
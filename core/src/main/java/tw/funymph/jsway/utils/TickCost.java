@@ -0,0 +1,123 @@
+/* TickCost.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The accumulated cost of the ticks of a named task on a {@link HashedTimerWheel}.
+ * All schedulings with the same name share one cost, so a task that reschedules
+ * itself (e.g., a monitor with an adaptive period) keeps its statistics. The
+ * costs are measured in nanoseconds.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class TickCost {
+
+	private String name;
+	private AtomicLong tickCount;
+	private AtomicLong skippedCount;
+	private AtomicLong totalCost;
+	private AtomicLong maximumCost;
+
+	/**
+	 * Construct a <code>TickCost</code> instance for the named task.
+	 * 
+	 * @param taskName the name of the task
+	 */
+	public TickCost(String taskName) {
+		name = taskName;
+		tickCount = new AtomicLong();
+		skippedCount = new AtomicLong();
+		totalCost = new AtomicLong();
+		maximumCost = new AtomicLong();
+	}
+
+	/**
+	 * Get the name of the task.
+	 * 
+	 * @return the name of the task
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Record an executed tick.
+	 * 
+	 * @param cost the execution time in nanoseconds
+	 */
+	public void record(long cost) {
+		tickCount.incrementAndGet();
+		totalCost.addAndGet(cost);
+		long maximum = maximumCost.get();
+		while(cost > maximum && !maximumCost.compareAndSet(maximum, cost)) {
+			maximum = maximumCost.get();
+		}
+	}
+
+	/**
+	 * Record a tick that is skipped because the previous execution has not
+	 * finished yet.
+	 */
+	public void recordSkipped() {
+		skippedCount.incrementAndGet();
+	}
+
+	/**
+	 * Get the number of the executed ticks.
+	 * 
+	 * @return the number of the executed ticks
+	 */
+	public long getTickCount() {
+		return tickCount.get();
+	}
+
+	/**
+	 * Get the number of the skipped ticks.
+	 * 
+	 * @return the number of the skipped ticks
+	 */
+	public long getSkippedCount() {
+		return skippedCount.get();
+	}
+
+	/**
+	 * Get the total execution time.
+	 * 
+	 * @return the total execution time in nanoseconds
+	 */
+	public long getTotalCost() {
+		return totalCost.get();
+	}
+
+	/**
+	 * Get the average execution time of a tick.
+	 * 
+	 * @return the average execution time in nanoseconds, or 0 if no tick is executed
+	 */
+	public double getAverageCost() {
+		long count = tickCount.get();
+		return (count > 0)? (double)totalCost.get() / count : 0;
+	}
+
+	/**
+	 * Get the maximum execution time of a tick.
+	 * 
+	 * @return the maximum execution time in nanoseconds
+	 */
+	public long getMaximumCost() {
+		return maximumCost.get();
+	}
+}
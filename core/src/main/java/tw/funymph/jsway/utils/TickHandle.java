@@ -0,0 +1,148 @@
+/* TickHandle.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.utils;
+
+import static java.lang.System.nanoTime;
+import static tw.funymph.jsway.utils.ErrorReporter.report;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The handle of a task scheduled on a {@link HashedTimerWheel}. The handle is
+ * used to cancel the task and to get the cost of its ticks. A periodic task is
+ * never executed concurrently with itself: if a tick arrives while the previous
+ * execution is still queued or running, the tick is skipped.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class TickHandle {
+
+	private Runnable task;
+	private Runnable runner;
+	private Executor executor;
+	private TickCost cost;
+	private AtomicBoolean pending;
+	private volatile boolean cancelled;
+	private volatile boolean done;
+
+	final long periodTicks;
+	final long delayTicks;
+	long deadline;
+	long rounds;
+
+	/**
+	 * Construct a <code>TickHandle</code> instance. This is called by the wheel.
+	 * 
+	 * @param tickTask the task to be executed
+	 * @param tickExecutor the executor to run the task, or null to run on the wheel thread
+	 * @param tickCost the cost shared by the tasks with the same name
+	 * @param period the period in ticks, or 0 if the task is executed once
+	 * @param delay the delay in ticks of a task executed once
+	 */
+	TickHandle(Runnable tickTask, Executor tickExecutor, TickCost tickCost, long period, long delay) {
+		task = tickTask;
+		executor = tickExecutor;
+		cost = tickCost;
+		periodTicks = period;
+		delayTicks = delay;
+		pending = new AtomicBoolean();
+		runner = new Runnable() {
+
+			@Override
+			public void run() {
+				execute();
+			}
+		};
+	}
+
+	/**
+	 * Cancel the task. The task will not be executed on the later ticks, but
+	 * an execution that has already started is not interrupted.
+	 */
+	public void cancel() {
+		cancelled = true;
+	}
+
+	/**
+	 * Get whether the task is cancelled.
+	 * 
+	 * @return true if the task is cancelled
+	 */
+	public boolean isCancelled() {
+		return cancelled;
+	}
+
+	/**
+	 * Get whether the task will not be executed any more, i.e., it is cancelled
+	 * or it is a task executed once that has finished.
+	 * 
+	 * @return true if the task is done
+	 */
+	public boolean isDone() {
+		return cancelled || done;
+	}
+
+	/**
+	 * Get the cost of the ticks of the task.
+	 * 
+	 * @return the cost shared by the tasks with the same name
+	 */
+	public TickCost getTickCost() {
+		return cost;
+	}
+
+	/**
+	 * Execute the task and record the cost. This method is invoked by the
+	 * executor or the wheel thread.
+	 */
+	private void execute() {
+		long start = nanoTime();
+		try {
+			if(!cancelled) {
+				task.run();
+			}
+		} catch (RuntimeException e) {
+			// Keep the wheel and the periodic task alive
+			report(task, e);
+		} finally {
+			cost.record(nanoTime() - start);
+			done = (periodTicks == 0);
+			pending.set(false);
+		}
+	}
+
+	/**
+	 * Hand the task over to the executor on a tick, or skip the tick if the
+	 * previous execution has not finished. If the executor rejects the task,
+	 * e.g., it is shut down, the task is cancelled.
+	 */
+	void expire() {
+		if(!pending.compareAndSet(false, true)) {
+			cost.recordSkipped();
+			return;
+		}
+		if(executor == null) {
+			execute();
+			return;
+		}
+		try {
+			executor.execute(runner);
+		} catch (RejectedExecutionException e) {
+			pending.set(false);
+			cancel();
+		}
+	}
+}
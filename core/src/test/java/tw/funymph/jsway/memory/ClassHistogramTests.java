@@ -0,0 +1,107 @@
+/* ClassHistogramTests.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static org.junit.Assert.*;
+import static tw.funymph.jsway.memory.MemoryUsageMonitor.DELIVER_ON_SAMPLING_THREAD;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+/**
+ * This class tests the functionalities of {@link ClassHistogram} and
+ * {@link ClassHistogramSampler}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class ClassHistogramTests {
+
+	private static final String FIRST_OUTPUT =
+		" num     #instances         #bytes  class name\r\n" +
+		"----------------------------------------------\r\n" +
+		"   1:          1200         480000  [B\r\n" +
+		"   2:          3000          72000  java.lang.String\r\n" +
+		"   3:            10            640  com.example.Cache$Entry\r\n" +
+		"Total          4210         552640\r\n";
+
+	private static final String SECOND_OUTPUT =
+		" num     #instances         #bytes  class name (module)\n" +
+		"-------------------------------------------------------\n" +
+		"   1:          1300         500000  [B (java.base@11)\n" +
+		"   2:          5000         320000  com.example.Cache$Entry\n" +
+		"   3:          2900          69600  java.lang.String (java.base@11)\n" +
+		"   4:             5            200  com.example.Session\n" +
+		"Total          9205         889800";
+
+	@Test
+	public void testParseAndDiff() {
+		ClassHistogram first = ClassHistogram.parse(FIRST_OUTPUT, 1000, 20, null);
+		assertTrue(first.isFirst());
+		assertEquals(3, first.getClassCount());
+		assertEquals("[B", first.getClassName(0));
+		assertEquals("com.example.Cache$Entry", first.getClassName(2));
+		assertEquals(4210, first.getTotalInstanceCount());
+		assertEquals(552640, first.getTotalSize());
+		assertEquals(0, first.getSizeGrowth(0));
+
+		ClassHistogram second = ClassHistogram.parse(SECOND_OUTPUT, 2000, 30, first);
+		assertFalse(second.isFirst());
+		assertEquals(4, second.getClassCount());
+		assertEquals(30, second.getDuration());
+		assertEquals("com.example.Cache$Entry", second.getClassName(0));
+		assertEquals(4990, second.getInstanceGrowth(0));
+		assertEquals(319360, second.getSizeGrowth(0));
+		assertEquals("[B", second.getClassName(1));
+		assertEquals(20000, second.getSizeGrowth(1));
+		assertEquals("com.example.Session", second.getClassName(2));
+		assertEquals(200, second.getSizeGrowth(2));
+		assertEquals("java.lang.String", second.getClassName(3));
+		assertEquals(-100, second.getInstanceGrowth(3));
+		assertEquals(-2400, second.getSizeGrowth(3));
+		assertEquals(889800 - 552640, second.getTotalSizeGrowth());
+		assertEquals(3, second.indexOf("java.lang.String"));
+		assertEquals(-1, second.indexOf("java.lang.Object"));
+	}
+
+	@Test
+	public void testSampler() throws InterruptedException {
+		ClassHistogramSampler sampler = new ClassHistogramSampler(ClassHistogramSampler.DEFAULT_MONITOR_PERIOD, DELIVER_ON_SAMPLING_THREAD);
+		if(!sampler.isSupported()) {
+			assertFalse(sampler.requestHistogram());
+			return;
+		}
+		final CountDownLatch latch = new CountDownLatch(1);
+		final AtomicReference<ClassHistogram> received = new AtomicReference<ClassHistogram>();
+		sampler.addClassHistogramListener(new ClassHistogramListener() {
+
+			@Override
+			public void classHistogramUpdated(ClassHistogram histogram) {
+				received.set(histogram);
+				latch.countDown();
+			}
+		});
+		sampler.setLiveObjectsOnly(false);
+		assertTrue(sampler.requestHistogram());
+		assertTrue(latch.await(30, TimeUnit.SECONDS));
+		ClassHistogram histogram = received.get();
+		assertSame(histogram, sampler.getLatestHistogram());
+		assertTrue(histogram.getClassCount() > 0);
+		assertTrue(histogram.indexOf(String.class.getName()) >= 0);
+		assertTrue(sampler.getNextAllowedTime() >= histogram.getTimeStamp() + sampler.getMinimumInterval());
+		assertFalse(sampler.requestHistogram());
+	}
+}
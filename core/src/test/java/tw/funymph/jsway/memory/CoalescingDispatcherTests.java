@@ -0,0 +1,91 @@
+/* CoalescingDispatcherTests.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static java.util.Arrays.asList;
+import static javax.swing.SwingUtilities.invokeAndWait;
+import static javax.swing.SwingUtilities.isEventDispatchThread;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * This class tests the functionalities of {@link CoalescingDispatcher}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class CoalescingDispatcherTests {
+
+	@Test
+	public void testCoalescing() throws Exception {
+		final RecordingDispatcher testee = new RecordingDispatcher();
+		// Post on the event dispatch thread so the queued task cannot run in between
+		invokeAndWait(new Runnable() {
+
+			@Override
+			public void run() {
+				testee.post(1);
+				testee.post(2);
+				testee.post(3);
+			}
+		});
+		flush();
+		assertEquals(1, testee.runs);
+		assertEquals(asList(3), testee.dispatched);
+		assertEquals(asList(1, 2), testee.discarded);
+		assertTrue(testee.dispatchedOnEventDispatchThread);
+
+		testee.post(4);
+		flush();
+		assertEquals(2, testee.runs);
+		assertEquals(asList(3, 4), testee.dispatched);
+		assertEquals(asList(1, 2), testee.discarded);
+	}
+
+	private static void flush() throws Exception {
+		invokeAndWait(new Runnable() {
+
+			@Override
+			public void run() {}
+		});
+	}
+
+	private static class RecordingDispatcher extends CoalescingDispatcher<Integer> {
+
+		private int runs;
+		private boolean dispatchedOnEventDispatchThread = true;
+		private List<Integer> dispatched = new ArrayList<Integer>();
+		private List<Integer> discarded = new ArrayList<Integer>();
+
+		@Override
+		public void run() {
+			runs++;
+			super.run();
+		}
+
+		@Override
+		protected void dispatch(Integer event) {
+			dispatchedOnEventDispatchThread &= isEventDispatchThread();
+			dispatched.add(event);
+		}
+
+		@Override
+		protected void discard(Integer event) {
+			discarded.add(event);
+		}
+	}
+}
@@ -0,0 +1,102 @@
+/* DefaultRecyclePolicyTests.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * This class tests the functionalities of {@link DefaultRecyclePolicy} and
+ * {@link MemoryRecycleEngine}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class DefaultRecyclePolicyTests {
+
+	@Test
+	public void testBackoffAndHysteresis() {
+		DefaultRecyclePolicy testee = new DefaultRecyclePolicy();
+		testee.getMinimumIntervalProperty().setNumber(1000L);
+		testee.getMaximumIntervalProperty().setNumber(3000L);
+		assertFalse(testee.shouldRecycle(0, 0.7));
+		assertTrue(testee.shouldRecycle(0, 0.8));
+
+		testee.recycled(0, 200, 1000);
+		assertFalse(testee.shouldRecycle(999, 0.8));
+		assertTrue(testee.shouldRecycle(1000, 0.8));
+		testee.recycled(1000, 200, 1000);
+		assertEquals(3000, testee.getCurrentInterval());
+		assertFalse(testee.shouldRecycle(2999, 0.8));
+		assertTrue(testee.shouldRecycle(3000, 0.8));
+		testee.recycled(3000, 200, 1000);
+		assertEquals(3000, testee.getCurrentInterval());
+
+		// Re-arm below the low boundary resets the backoff to the minimum interval
+		assertFalse(testee.shouldRecycle(3500, 0.5));
+		assertEquals(1000, testee.getCurrentInterval());
+		assertFalse(testee.shouldRecycle(3999, 0.8));
+		assertTrue(testee.shouldRecycle(4000, 0.8));
+	}
+
+	@Test
+	public void testIneffectiveCollection() {
+		DefaultRecyclePolicy testee = new DefaultRecyclePolicy();
+		testee.getMinimumIntervalProperty().setNumber(0L);
+		testee.recycled(0, 10, 1000);
+		assertFalse(testee.shouldRecycle(100000, 0.9));
+		assertFalse(testee.shouldRecycle(100001, 0.55));
+		assertTrue(testee.shouldRecycle(100002, 0.9));
+	}
+
+	@Test
+	public void testHighBoundaryBelowLowBoundary() {
+		DefaultRecyclePolicy testee = new DefaultRecyclePolicy();
+		testee.getMinimumIntervalProperty().setNumber(1000L);
+		testee.getHighBoundaryProperty().setNumber(0.5);
+		assertTrue(testee.shouldRecycle(0, 0.55));
+		testee.recycled(0, 200, 1000);
+		assertFalse(testee.shouldRecycle(999, 0.55));
+		assertTrue(testee.shouldRecycle(1000, 0.55));
+		testee.recycled(1000, 200, 1000);
+		assertEquals(4000, testee.getCurrentInterval());
+
+		// The policy re-arms below the high boundary
+		assertFalse(testee.shouldRecycle(1500, 0.45));
+		assertEquals(1000, testee.getCurrentInterval());
+		assertTrue(testee.shouldRecycle(2000, 0.55));
+	}
+
+	@Test
+	public void testEngineStatistics() {
+		MemoryRecycleEngine testee = new MemoryRecycleEngine();
+		testee.recycle();
+		testee.recycle();
+		assertEquals(2L, testee.getRecycleCountProperty().getNumber());
+		assertTrue(testee.getRecycleTimeProperty().getNumber().doubleValue() > 0);
+		assertEquals(testee.getReclaimedSizeProperty().getNumber().longValue() / 2.0, testee.getAverageReclaimedSizeProperty().getNumber().doubleValue(), 0.5);
+
+		MemoryUsageEvent event = new MemoryUsageEvent(1, 100, 100, 200, 0.5);
+		assertEquals(0.5, testee.getRatio(event), 0);
+		MemoryUsageEvent budgeted = new MemoryUsageEvent(1, 100, 100, 200, 0.25, MemoryUsageEvent.RATIO_OF_BUDGET, 400);
+		assertEquals(0.25, testee.getRatio(budgeted), 0);
+		testee.setRatioBase(MemoryRecycleEngine.RATIO_OF_TOTAL);
+		assertEquals(0.5, testee.getRatio(budgeted), 0);
+		testee.setRatioBase(MemoryRecycleEngine.RATIO_OF_MAXIMUM);
+		assertEquals(100.0 / Runtime.getRuntime().maxMemory(), testee.getRatio(event), 0.000001);
+		testee.setRatioBase(MemoryRecycleEngine.OLD_GENERATION_AFTER_COLLECTION);
+		double ratio = testee.getRatio(event);
+		assertTrue(ratio >= 0 && ratio <= 1);
+	}
+}
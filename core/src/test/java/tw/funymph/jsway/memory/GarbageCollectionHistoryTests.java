@@ -0,0 +1,48 @@
+/* GarbageCollectionHistoryTests.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * This class tests the functionalities of {@link GarbageCollectionHistory}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class GarbageCollectionHistoryTests {
+
+	@Test
+	public void testHistogram() {
+		GarbageCollectionHistory testee = new GarbageCollectionHistory(2);
+		testee.memoryUsageUpdated(collection(1, 3));
+		testee.memoryUsageUpdated(collection(2, 40));
+		testee.memoryUsageUpdated(new MemoryUsageEvent(3, 0, 0, 0, 0));
+		assertEquals(2, testee.getEvents().size());
+		assertEquals(1, testee.getBucketCount(2));
+		assertEquals(1, testee.getBucketCount(5));
+		assertEquals(43, testee.getTotalPauseTime());
+
+		testee.memoryUsageUpdated(collection(4, 7000));
+		assertEquals(0, testee.getBucketCount(2));
+		assertEquals(1, testee.getBucketCount(testee.getBucketCount() - 1));
+		assertEquals(7040, testee.getTotalPauseTime());
+		assertEquals(7000, testee.getMaximumPauseTime());
+	}
+
+	private static GarbageCollectionEvent collection(long time, long duration) {
+		return new GarbageCollectionEvent(time, 0, 0, 0, 0, "Test", "end of minor GC", "Test", time, duration, 0, null, null, null, null, null);
+	}
+}
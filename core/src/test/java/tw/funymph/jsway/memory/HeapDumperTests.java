@@ -0,0 +1,118 @@
+/* HeapDumperTests.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static org.junit.Assert.*;
+import static tw.funymph.jsway.memory.HeapDumper.DUMP_STARTED;
+import static tw.funymph.jsway.memory.HeapDumper.REJECTED_COOLDOWN;
+import static tw.funymph.jsway.memory.HeapDumper.REJECTED_DISK_SPACE;
+import static tw.funymph.jsway.memory.HeapDumper.REJECTED_LIMIT;
+
+import java.io.File;
+
+import org.junit.Test;
+
+/**
+ * This class tests the functionalities of {@link HeapDumper} and
+ * {@link AutoHeapDumpPolicy}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class HeapDumperTests {
+
+	@Test
+	public void testThrottledDumps() throws Exception {
+		File directory = createDirectory();
+		HeapDumper testee = new HeapDumper(directory);
+		if(!testee.isSupported()) {
+			return;
+		}
+		testee.setLiveObjectsOnly(false);
+		testee.setReservedSpace(Long.MAX_VALUE / 2);
+		assertEquals(REJECTED_DISK_SPACE, testee.requestDump());
+		testee.setReservedSpace(0);
+		testee.setMaximumDumps(1);
+		try {
+			assertEquals(DUMP_STARTED, testee.requestDump());
+			awaitDump(testee);
+			File dump = testee.getLastDumpFile();
+			assertNotNull(dump);
+			assertTrue(dump.length() > 0);
+			assertEquals(1, testee.getDumpCount());
+			assertEquals(REJECTED_LIMIT, testee.requestDump());
+			testee.setMaximumDumps(2);
+			assertEquals(REJECTED_COOLDOWN, testee.requestDump());
+		} finally {
+			deleteDirectory(directory);
+		}
+	}
+
+	@Test
+	public void testAutoPolicy() throws Exception {
+		File directory = createDirectory();
+		HeapDumper dumper = new HeapDumper(directory);
+		if(!dumper.isSupported()) {
+			return;
+		}
+		dumper.setLiveObjectsOnly(false);
+		dumper.setReservedSpace(0);
+		dumper.setCooldown(0);
+		AutoHeapDumpPolicy testee = new AutoHeapDumpPolicy(dumper, 0.9, 3000);
+		try {
+			testee.memoryUsageUpdated(new MemoryUsageEvent(1000, 5, 95, 100, 0.95));
+			testee.memoryUsageUpdated(new MemoryUsageEvent(2000, 50, 50, 100, 0.5));
+			testee.memoryUsageUpdated(new MemoryUsageEvent(3000, 5, 95, 100, 0.95));
+			testee.memoryUsageUpdated(new MemoryUsageEvent(5000, 5, 95, 100, 0.95));
+			assertEquals(0, dumper.getDumpCount());
+			testee.memoryUsageUpdated(new MemoryUsageEvent(6000, 5, 95, 100, 0.95));
+			assertEquals(1, dumper.getDumpCount());
+			awaitDump(dumper);
+			// Only once per episode
+			testee.memoryUsageUpdated(new MemoryUsageEvent(9000, 5, 95, 100, 0.95));
+			assertEquals(1, dumper.getDumpCount());
+			testee.memoryUsageUpdated(new MemoryUsageEvent(10000, 50, 50, 100, 0.5));
+			testee.memoryUsageUpdated(new MemoryUsageEvent(11000, 5, 95, 100, 0.95));
+			testee.memoryUsageUpdated(new MemoryUsageEvent(14000, 5, 95, 100, 0.95));
+			assertEquals(2, dumper.getDumpCount());
+			awaitDump(dumper);
+		} finally {
+			deleteDirectory(directory);
+		}
+	}
+
+	private static void awaitDump(HeapDumper dumper) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 60000;
+		while(dumper.isDumping() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20);
+		}
+		assertFalse(dumper.isDumping());
+	}
+
+	private static File createDirectory() throws Exception {
+		File directory = File.createTempFile("jsway-dump", "");
+		assertTrue(directory.delete());
+		assertTrue(directory.mkdir());
+		return directory;
+	}
+
+	private static void deleteDirectory(File directory) {
+		File[] files = directory.listFiles();
+		if(files != null) {
+			for(File file : files) {
+				file.delete();
+			}
+		}
+		directory.delete();
+	}
+}
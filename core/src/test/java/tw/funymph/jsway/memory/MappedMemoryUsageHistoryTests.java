@@ -0,0 +1,114 @@
+/* MappedMemoryUsageHistoryTests.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * This class tests the functionalities of {@link MappedMemoryUsageHistory}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class MappedMemoryUsageHistoryTests {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testReopen() throws IOException {
+		File historyFile = new File(folder.getRoot(), "memory.history");
+		MappedMemoryUsageHistory testee = new MappedMemoryUsageHistory(historyFile, 3);
+		for(int i = 1; i <= 5; i++) {
+			testee.memoryUsageUpdated(new MemoryUsageEvent(i, 100 - i, i, 100, i / 100.0));
+		}
+		assertEquals(3, testee.getEvents().size());
+		assertEquals(3, testee.getEvents().get(0).getTimeStamp());
+		assertEquals(5, testee.getEvents().get(2).getUsedMemorySize());
+		testee.close();
+
+		testee = new MappedMemoryUsageHistory(historyFile, 10);
+		assertEquals(3, testee.getEvents().getMaximumRecentEventCapacity());
+		testee.memoryUsageUpdated(new MemoryUsageEvent(6, 94, 6, 100, 0.06));
+		long expected = 4;
+		for(MemoryUsageEvent event : testee.getEvents()) {
+			assertEquals(expected++, event.getTimeStamp());
+		}
+		testee.close();
+
+		testee = new MappedMemoryUsageHistory(historyFile);
+		assertTrue(testee.isReadOnly());
+		testee.memoryUsageUpdated(new MemoryUsageEvent(7, 93, 7, 100, 0.07));
+		assertEquals(3, testee.getEvents().size());
+		assertEquals(0.06, testee.getEvents().get(2).getMemoryUsageRatio(), 0.0001);
+		testee.close();
+	}
+
+	@Test
+	public void testRatioBase() throws IOException {
+		File historyFile = new File(folder.getRoot(), "based.history");
+		MappedMemoryUsageHistory testee = new MappedMemoryUsageHistory(historyFile, 3);
+		testee.memoryUsageUpdated(new MemoryUsageEvent(1, 60, 40, 100, 0.1, MemoryUsageEvent.RATIO_OF_MAXIMUM, 400));
+		testee.memoryUsageUpdated(new MemoryUsageEvent(2, 50, 50, 100, 0.5));
+		testee.close();
+
+		testee = new MappedMemoryUsageHistory(historyFile);
+		MemoryUsageEvent event = testee.getEvents().get(0);
+		assertEquals(MemoryUsageEvent.RATIO_OF_MAXIMUM, event.getRatioBase());
+		assertEquals(400, event.getBaseMemorySize());
+		event = testee.getEvents().get(1);
+		assertEquals(MemoryUsageEvent.RATIO_OF_COMMITTED, event.getRatioBase());
+		assertEquals(100, event.getBaseMemorySize());
+		testee.close();
+	}
+
+	@Test
+	public void testUnbasedFile() throws IOException {
+		File historyFile = new File(folder.getRoot(), "unbased.history");
+		ByteBuffer content = ByteBuffer.allocate(MappedMemoryUsageHistory.HEADER_SIZE + 3 * 40);
+		content.putInt(MappedMemoryUsageHistory.MAGIC_NUMBER).putInt(1).putInt(40).putInt(2).putLong(1);
+		content.position(MappedMemoryUsageHistory.HEADER_SIZE);
+		content.putLong(1).putLong(60).putLong(40).putLong(100).putDouble(0.4);
+		FileOutputStream output = new FileOutputStream(historyFile);
+		output.write(content.array());
+		output.close();
+
+		MappedMemoryUsageHistory testee = new MappedMemoryUsageHistory(historyFile, 10);
+		testee.memoryUsageUpdated(new MemoryUsageEvent(2, 50, 50, 100, 0.2, MemoryUsageEvent.RATIO_OF_BUDGET, 250));
+		assertEquals(2, testee.getEvents().getMaximumRecentEventCapacity());
+		for(MemoryUsageEvent event : testee.getEvents()) {
+			assertEquals(MemoryUsageEvent.RATIO_OF_COMMITTED, event.getRatioBase());
+			assertEquals(100, event.getBaseMemorySize());
+		}
+		assertEquals(0.2, testee.getEvents().get(1).getMemoryUsageRatio(), 0);
+		testee.close();
+	}
+
+	@Test(expected = IOException.class)
+	public void testInvalidFile() throws IOException {
+		File invalidFile = folder.newFile("invalid.history");
+		FileOutputStream output = new FileOutputStream(invalidFile);
+		output.write(new byte[64]);
+		output.close();
+		new MappedMemoryUsageHistory(invalidFile);
+	}
+}
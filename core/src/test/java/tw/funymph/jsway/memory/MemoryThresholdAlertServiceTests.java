@@ -0,0 +1,85 @@
+/* MemoryThresholdAlertServiceTests.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static java.lang.management.ManagementFactory.getMemoryPoolMXBeans;
+import static java.lang.management.MemoryType.HEAP;
+import static org.junit.Assert.*;
+
+import java.lang.management.MemoryPoolMXBean;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * This class tests the functionalities of {@link MemoryThresholdAlertService}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class MemoryThresholdAlertServiceTests {
+
+	@Test
+	public void testArmThresholds() {
+		MemoryThresholdAlertService testee = new MemoryThresholdAlertService(new DefaultMemoryUsageColors(0.5, 0.75));
+		try {
+			for(MemoryPoolMXBean pool : getMemoryPoolMXBeans()) {
+				long maximum = pool.getUsage().getMax();
+				if(pool.getType() != HEAP || maximum <= 0) {
+					continue;
+				}
+				if(pool.isUsageThresholdSupported()) {
+					assertEquals((long)(maximum * 0.5), pool.getUsageThreshold());
+				}
+				if(pool.isCollectionUsageThresholdSupported()) {
+					assertEquals((long)(maximum * 0.75), pool.getCollectionUsageThreshold());
+					assertEquals((long)(maximum * 0.75), testee.getArmedThreshold(pool.getName(), MemoryThresholdEvent.COLLECTION_USAGE_THRESHOLD));
+				}
+			}
+		} finally {
+			testee.stop();
+		}
+		for(MemoryPoolMXBean pool : getMemoryPoolMXBeans()) {
+			if(pool.getType() == HEAP && pool.isCollectionUsageThresholdSupported()) {
+				assertEquals(0, pool.getCollectionUsageThreshold());
+			}
+		}
+	}
+
+	@Test
+	public void testCollectionThresholdAlert() throws InterruptedException {
+		final CountDownLatch alerts = new CountDownLatch(1);
+		final MemoryThresholdEvent[] received = new MemoryThresholdEvent[1];
+		MemoryThresholdAlertService testee = new MemoryThresholdAlertService(new DefaultMemoryUsageColors(0.0000001, 0.0000002));
+		testee.setDeliveryMode(MemoryUsageMonitor.DELIVER_ON_SAMPLING_THREAD);
+		testee.addMemoryThresholdListener(new MemoryThresholdListener() {
+
+			@Override
+			public void memoryThresholdExceeded(MemoryThresholdEvent event) {
+				if(event.getThresholdType() == MemoryThresholdEvent.COLLECTION_USAGE_THRESHOLD) {
+					received[0] = event;
+					alerts.countDown();
+				}
+			}
+		});
+		try {
+			System.gc();
+			assertTrue(alerts.await(5, TimeUnit.SECONDS));
+			assertEquals(2, received[0].getLevel());
+			assertTrue(received[0].getUsedSize() >= received[0].getThreshold());
+		} finally {
+			testee.stop();
+		}
+	}
+}
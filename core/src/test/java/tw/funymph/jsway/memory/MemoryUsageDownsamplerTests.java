@@ -0,0 +1,87 @@
+/* MemoryUsageDownsamplerTests.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import tw.funymph.jsway.utils.RecentHistory;
+
+/**
+ * This class tests the functionalities of {@link MemoryUsageDownsampler}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class MemoryUsageDownsamplerTests {
+
+	@Test
+	public void testDownsample() {
+		MemoryUsageEventColumns history = new MemoryUsageEventColumns(100);
+		MemoryUsageDownsampler testee = new MemoryUsageDownsampler();
+		long time = 0;
+		for(; time < 100; time++) {
+			add(history, time);
+		}
+		testee.update(history, 10);
+		assertTrue(testee.getPointCount() <= 21);
+		assertExtremes(history, testee);
+		assertEquals(99, testee.getPointSequence(testee.getPointCount() - 1));
+
+		for(; time < 137; time++) {
+			add(history, time);
+			testee.update(history, 10);
+			assertExtremes(history, testee);
+		}
+		assertEquals(37, testee.getFirstSequence());
+		assertTrue(testee.getPointCount() <= 23);
+		for(int p = 1; p < testee.getPointCount(); p++) {
+			assertTrue(testee.getPointSequence(p - 1) < testee.getPointSequence(p));
+		}
+	}
+
+	@Test
+	public void testInPlaceUpdates() {
+		MemoryUsageBucketColumns history = new MemoryUsageBucketColumns(10, 40);
+		MemoryUsageDownsampler testee = new MemoryUsageDownsampler();
+		for(long time = 0; time < 1000; time += 3) {
+			double ratio = 0.5 + 0.4 * Math.sin(time / 11.0);
+			history.add(time, 0, 0, 100, ratio);
+			testee.update(history, 10);
+			assertExtremes(history, testee);
+			assertEquals(history.getLastRatio(history.size() - 1), testee.getPointRatio(testee.getPointCount() - 1), 0);
+			assertEquals(testee.getFirstSequence() + history.size() - 1, testee.getPointSequence(testee.getPointCount() - 1));
+		}
+	}
+
+	private static void add(MemoryUsageEventColumns history, long time) {
+		double ratio = 0.5 + 0.4 * Math.sin(time / 7.0);
+		history.add(time + 1, 0, 0, 100, ratio);
+	}
+
+	private static void assertExtremes(RecentHistory<MemoryUsageEvent> history, MemoryUsageDownsampler testee) {
+		double min = Double.MAX_VALUE, max = -Double.MAX_VALUE;
+		for(int i = 0; i < history.size(); i++) {
+			min = Math.min(min, history.get(i).getMemoryUsageRatio());
+			max = Math.max(max, history.get(i).getMemoryUsageRatio());
+		}
+		double pointMin = Double.MAX_VALUE, pointMax = -Double.MAX_VALUE;
+		for(int p = 0; p < testee.getPointCount(); p++) {
+			pointMin = Math.min(pointMin, testee.getPointRatio(p));
+			pointMax = Math.max(pointMax, testee.getPointRatio(p));
+		}
+		assertEquals(min, pointMin, 0.000001);
+		assertEquals(max, pointMax, 0.000001);
+	}
+}
@@ -0,0 +1,143 @@
+/* MemoryUsageEventColumnsTests.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static org.junit.Assert.*;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+
+import org.junit.Test;
+
+/**
+ * This class tests the functionalities of {@link MemoryUsageEventColumns}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class MemoryUsageEventColumnsTests {
+
+	@Test
+	public void testColumns() {
+		MemoryUsageEventColumns testee = new MemoryUsageEventColumns(3);
+		for(int i = 0; i < 5; i++) {
+			testee.add(new MemoryUsageEvent(i, 100 - i, i, 100, i / 100.0));
+		}
+		assertEquals(3, testee.size());
+		assertEquals(2, testee.getTimeStamp(0));
+		assertEquals(4, testee.getUsedMemorySize(2));
+		assertEquals(0.03, testee.getMemoryUsageRatio(1), 0.0);
+		assertEquals(3, testee.get(1).getTimeStamp());
+
+		long expected = 2;
+		for(MemoryUsageEvent event : testee) {
+			assertEquals(expected, event.getTimeStamp());
+			assertEquals(100 - expected, event.getFreeMemorySize());
+			expected++;
+		}
+	}
+
+	@Test
+	public void testCursor() {
+		MemoryUsageEventColumns testee = new MemoryUsageEventColumns(2);
+		testee.add(1, 9, 1, 10, 0.1);
+		testee.add(2, 8, 2, 10, 0.2);
+		MemoryUsageEventCursor cursor = testee.newCursor().moveTo(1);
+		MemoryUsageEvent copy = testee.copyOf(1);
+		assertEquals(2, cursor.getTimeStamp());
+		testee.add(3, 7, 3, 10, 0.3);
+		testee.add(4, 6, 4, 10, 0.4);
+		assertEquals(4, cursor.getTimeStamp());
+		assertEquals(2, copy.getTimeStamp());
+		assertTrue(testee.contains(new MemoryUsageEvent(3, 7, 3, 10, 0.3)));
+	}
+
+	@Test
+	public void testStableEvents() {
+		MemoryUsageEventColumns testee = new MemoryUsageEventColumns(3);
+		testee.add(1, 9, 1, 10, 0.1);
+		testee.add(2, 8, 2, 10, 0.2);
+		MemoryUsageEvent first = testee.get(0);
+		MemoryUsageEvent second = testee.get(1);
+		assertEquals(1, first.getTimeStamp());
+		assertEquals(2, second.getTimeStamp());
+	}
+
+	@Test
+	public void testIteratorRemove() {
+		MemoryUsageEventColumns testee = new MemoryUsageEventColumns(3);
+		testee.add(1, 9, 1, 10, 0.1);
+		testee.add(2, 8, 2, 10, 0.2);
+		testee.add(3, 7, 3, 10, 0.3);
+		Iterator<MemoryUsageEvent> iterator = testee.iterator();
+		iterator.next();
+		iterator.next();
+		iterator.remove();
+		assertEquals(3, iterator.next().getTimeStamp());
+		assertEquals(2, testee.size());
+		assertEquals(3, testee.getTimeStamp(1));
+
+		iterator = testee.iterator();
+		iterator.next();
+		testee.add(4, 6, 4, 10, 0.4);
+		try {
+			iterator.next();
+			fail();
+		}
+		catch(ConcurrentModificationException e) {
+			// Expected
+		}
+	}
+
+	@Test
+	public void testRatioBase() {
+		MemoryUsageEventColumns testee = new MemoryUsageEventColumns(2);
+		testee.add(1, 9, 1, 10, 0.1);
+		testee.add(new MemoryUsageEvent(2, 8, 2, 10, 0.05, MemoryUsageEvent.RATIO_OF_BUDGET, 40));
+		assertEquals(MemoryUsageEvent.RATIO_OF_COMMITTED, testee.get(0).getRatioBase());
+		assertEquals(10, testee.get(0).getBaseMemorySize());
+		assertEquals(MemoryUsageEvent.RATIO_OF_BUDGET, testee.get(1).getRatioBase());
+		assertEquals(40, testee.copyOf(1).getBaseMemorySize());
+		testee.add(3, 7, 3, 10, 0.3);
+		assertEquals(MemoryUsageEvent.RATIO_OF_BUDGET, testee.get(0).getRatioBase());
+		assertEquals(40, testee.get(0).getBaseMemorySize());
+	}
+
+	@Test
+	public void testChangeCapacity() {
+		MemoryUsageEventColumns testee = new MemoryUsageEventColumns(4);
+		for(int i = 0; i < 6; i++) {
+			testee.add(i, 0, i, 10, i / 10.0);
+		}
+		testee.setMaximumRecentEventCapacity(3);
+		assertEquals(3, testee.size());
+		assertEquals(3, testee.getTimeStamp(0));
+		assertEquals(5, testee.getTimeStamp(2));
+	}
+
+	@Test
+	public void testPoolColumns() {
+		MemoryPoolLayout layout = new MemoryPoolLayout(new String[] { "Eden", "Old" }, new int[] { MemoryPoolLayout.HEAP_POOL, MemoryPoolLayout.HEAP_POOL });
+		MemoryUsageEventColumns testee = new MemoryUsageEventColumns(3);
+		testee.add(1, 9, 1, 10, 0.1);
+		testee.add(new MultiPoolMemoryUsageEvent(2, 8, 2, 10, 0.2, layout, new long[] { 5, 6 }, new long[] { 7, 8 }, new long[] { -1, 100 }));
+		assertEquals(layout, testee.getPoolLayout());
+		assertEquals(-1, testee.getPoolUsedSize(0, 0));
+		assertEquals(6, testee.getPoolUsedSize(1, 1));
+		assertEquals(100, testee.getPoolMaximumSize(1));
+		MemoryPoolUsages cursor = (MemoryPoolUsages)testee.get(1);
+		assertEquals(7, cursor.getPoolCommittedSize(0));
+		MultiPoolMemoryUsageEvent copy = (MultiPoolMemoryUsageEvent)testee.copyOf(1);
+		assertEquals(5, copy.getPoolUsedSize(0));
+	}
+}
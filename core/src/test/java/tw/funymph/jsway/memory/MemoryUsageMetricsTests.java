@@ -0,0 +1,107 @@
+/* MemoryUsageMetricsTests.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static java.lang.management.ManagementFactory.getPlatformMBeanServer;
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+
+import javax.management.ObjectName;
+
+import org.junit.Test;
+
+/**
+ * This class tests the functionalities of {@link MemoryUsageMetrics} and
+ * {@link PrometheusEndpoint}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class MemoryUsageMetricsTests {
+
+	@Test
+	public void testMBean() throws Exception {
+		MemoryUsageMonitor monitor = new MemoryUsageMonitor(10, false, MemoryUsageMonitor.DELIVER_ON_SAMPLING_THREAD);
+		DefaultMemoryUsageEventHistory history = new DefaultMemoryUsageEventHistory(100);
+		monitor.addMemoryUsageUpdateListener(history);
+		MemoryUsageMetrics testee = new MemoryUsageMetrics(monitor, new MemoryUsageStatistics(history));
+		try {
+			Thread.sleep(200);
+			testee.register();
+			ObjectName name = new ObjectName(MemoryUsageMetrics.DEFAULT_OBJECT_NAME);
+			long used = (Long)getPlatformMBeanServer().getAttribute(name, "UsedMemorySize");
+			assertTrue(used > 0);
+			assertTrue((Integer)getPlatformMBeanServer().getAttribute(name, "SampleCount") > 0);
+			double median = (Double)getPlatformMBeanServer().getAttribute(name, "MedianRatio");
+			assertTrue(median > 0 && median <= 1);
+			assertEquals("committed heap", getPlatformMBeanServer().getAttribute(name, "RatioBase"));
+		} finally {
+			testee.unregister();
+			testee.dispose();
+			monitor.stopMonitor();
+		}
+		assertFalse(getPlatformMBeanServer().isRegistered(new ObjectName(MemoryUsageMetrics.DEFAULT_OBJECT_NAME)));
+	}
+
+	@Test
+	public void testPrometheusEndpoint() throws Exception {
+		MemoryUsageMonitor monitor = new MemoryUsageMonitor(10, false, MemoryUsageMonitor.DELIVER_ON_SAMPLING_THREAD);
+		MemoryUsageMetrics metrics = new MemoryUsageMetrics(monitor);
+		PrometheusEndpoint testee = new PrometheusEndpoint(metrics, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 20);
+		try {
+			testee.start();
+			Thread.sleep(100);
+			URL url = new URL("http", "127.0.0.1", testee.getAddress().getPort(), PrometheusEndpoint.DEFAULT_PATH);
+			HttpURLConnection connection = (HttpURLConnection)url.openConnection();
+			assertEquals(200, connection.getResponseCode());
+			assertTrue(connection.getContentType().startsWith("text/plain; version=0.0.4"));
+			String body = read(connection.getInputStream());
+			assertTrue(body.contains("# TYPE jsway_memory_used_bytes gauge\n"));
+			assertTrue(body.contains("jsway_memory_window_ratio_quantile{quantile=\"0.99\"} NaN\n"));
+			assertTrue(body.contains("jsway_memory_recycles_total 0\n"));
+			assertFalse(body.contains("jsway_memory_used_bytes 0\n"));
+
+			connection = (HttpURLConnection)url.openConnection();
+			connection.setRequestMethod("POST");
+			assertEquals(405, connection.getResponseCode());
+		} finally {
+			testee.stop();
+			metrics.dispose();
+			monitor.stopMonitor();
+		}
+	}
+
+	/**
+	 * Read the whole stream as a UTF-8 string.
+	 * 
+	 * @param input the input stream
+	 * @return the content
+	 * @throws Exception if the stream cannot be read
+	 */
+	private static String read(InputStream input) throws Exception {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		byte[] buffer = new byte[4096];
+		int read;
+		while((read = input.read(buffer)) >= 0) {
+			output.write(buffer, 0, read);
+		}
+		input.close();
+		return output.toString("UTF-8");
+	}
+}
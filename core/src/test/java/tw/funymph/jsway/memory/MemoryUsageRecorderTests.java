@@ -0,0 +1,120 @@
+/* MemoryUsageRecorderTests.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static org.junit.Assert.*;
+import static tw.funymph.jsway.memory.MemoryUsageMonitor.DELIVER_ON_SAMPLING_THREAD;
+import static tw.funymph.jsway.memory.MemoryUsageReplayer.AS_FAST_AS_POSSIBLE;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * This class tests the functionalities of {@link MemoryUsageRecorder},
+ * {@link MemoryUsageRecordingReader} and {@link MemoryUsageReplayer}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class MemoryUsageRecorderTests {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testRecording() throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		MemoryUsageRecorder recorder = new MemoryUsageRecorder(output);
+		recorder.memoryUsageUpdated(new MemoryUsageEvent(1000000, 300, 700, 1000, 0.7));
+		recorder.memoryUsageUpdated(new MemoryUsageEvent(1001000, 900, 100, 1000, 0.1));
+		recorder.close();
+		assertEquals(2, recorder.getRecordedCount());
+
+		byte[] bytes = output.toByteArray();
+		MemoryUsageRecordingReader reader = new MemoryUsageRecordingReader(new ByteArrayInputStream(bytes, 0, bytes.length - 1));
+		MemoryUsageEvent event = reader.read();
+		assertEquals(1000000, event.getTimeStamp());
+		assertEquals(700, event.getUsedMemorySize());
+		assertEquals(0.7, event.getMemoryUsageRatio(), 0.0001);
+		assertNull(reader.read());
+	}
+
+	@Test
+	public void testRatioBase() throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		MemoryUsageRecorder recorder = new MemoryUsageRecorder(output);
+		recorder.record(new MemoryUsageEvent(1000, 300, 700, 1000, 0.35, MemoryUsageEvent.RATIO_OF_MAXIMUM, 2000));
+		recorder.record(new MemoryUsageEvent(2000, 200, 800, 1000, 0.8));
+		recorder.record(new MemoryUsageEvent(3000, 100, 900, 1000, 0.6, MemoryUsageEvent.RATIO_OF_BUDGET, 1500));
+		recorder.close();
+
+		MemoryUsageRecordingReader reader = new MemoryUsageRecordingReader(new ByteArrayInputStream(output.toByteArray()));
+		MemoryUsageEvent event = reader.read();
+		assertEquals(MemoryUsageEvent.RATIO_OF_MAXIMUM, event.getRatioBase());
+		assertEquals(2000, event.getBaseMemorySize());
+		event = reader.read();
+		assertEquals(MemoryUsageEvent.RATIO_OF_COMMITTED, event.getRatioBase());
+		assertEquals(1000, event.getBaseMemorySize());
+		event = reader.read();
+		assertEquals(MemoryUsageEvent.RATIO_OF_BUDGET, event.getRatioBase());
+		assertEquals(1500, event.getBaseMemorySize());
+		assertNull(reader.read());
+	}
+
+	@Test
+	public void testUnbasedRecording() throws IOException {
+		byte[] bytes = { 0x4A, 0x53, 0x57, 0x52, 1, 2, 4, 6, 8, 0x3F, 0x00, 0x00, 0x00 };
+		MemoryUsageRecordingReader reader = new MemoryUsageRecordingReader(new ByteArrayInputStream(bytes));
+		MemoryUsageEvent event = reader.read();
+		assertEquals(1, event.getTimeStamp());
+		assertEquals(4, event.getTotalMemorySize());
+		assertEquals(0.5, event.getMemoryUsageRatio(), 0);
+		assertEquals(MemoryUsageEvent.RATIO_OF_COMMITTED, event.getRatioBase());
+		assertEquals(4, event.getBaseMemorySize());
+		assertNull(reader.read());
+	}
+
+	@Test
+	public void testReplay() throws Exception {
+		File recordingFile = folder.newFile("memory.recording");
+		MemoryUsageRecorder recorder = new MemoryUsageRecorder(new FileOutputStream(recordingFile));
+		for(int i = 0; i < 100; i++) {
+			recorder.record(new MemoryUsageEvent(i * 1000L, 100 - i, i, 100, i / 100.0));
+		}
+		recorder.close();
+
+		final List<MemoryUsageEvent> replayed = new ArrayList<MemoryUsageEvent>();
+		MemoryUsageReplayer testee = new MemoryUsageReplayer(recordingFile, AS_FAST_AS_POSSIBLE, DELIVER_ON_SAMPLING_THREAD);
+		testee.addMemoryUsageUpdateListener(new MemoryUsageListener() {
+
+			@Override
+			public void memoryUsageUpdated(MemoryUsageEvent event) {
+				replayed.add(event);
+			}
+		});
+		testee.start();
+		testee.waitFor();
+		assertEquals(100, testee.getReplayedEventCount());
+		assertEquals(100, replayed.size());
+		assertEquals(99000, testee.getLastNotifiedEvent().getTimeStamp());
+	}
+}
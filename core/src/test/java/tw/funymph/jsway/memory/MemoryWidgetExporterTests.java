@@ -0,0 +1,83 @@
+/* MemoryWidgetExporterTests.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static org.junit.Assert.*;
+import static tw.funymph.jsway.memory.MemoryUsageMonitor.DELIVER_ON_SAMPLING_THREAD;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.imageio.ImageIO;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import tw.funymph.jsway.OffscreenRenderer;
+
+/**
+ * This class tests the functionalities of {@link MemoryWidgetExporter} and
+ * the off-screen rendering of the memory widgets.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class MemoryWidgetExporterTests {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testExport() throws Exception {
+		DefaultMemoryUsageEventHistory history = new DefaultMemoryUsageEventHistory(100);
+		DefaultMemoryUsageMonitorBarModel model = new DefaultMemoryUsageMonitorBarModel(null);
+		for(int i = 0; i < 100; i++) {
+			MemoryUsageEvent event = new MemoryUsageEvent(i + 1, 100 - i, i, 100, i / 100.0);
+			history.memoryUsageUpdated(event);
+			model.memoryUsageUpdated(event);
+		}
+		RecentMemoryUsageLineChart chart = new RecentMemoryUsageLineChart(history);
+		BufferedImage image = OffscreenRenderer.render(chart, 320, 160);
+		assertEquals(320, image.getWidth());
+		assertTrue(countColors(image) > 1);
+
+		MemoryWidgetExporter testee = new MemoryWidgetExporter(folder.getRoot(), "memory");
+		testee.addComponent("chart", chart, 320, 160);
+		testee.addComponent("bar", new MemoryUsageMonitorBar(model, null), 150, 20);
+		testee.addIcon("icon", new MemoryUsageIcon(new MemoryUsageMonitor(1000, false, DELIVER_ON_SAMPLING_THREAD)));
+		testee.export();
+		assertEquals(1, testee.getExportedFrameCount());
+		assertEquals(320, ImageIO.read(new File(folder.getRoot(), "memory-chart-000001.png")).getWidth());
+		assertTrue(new File(folder.getRoot(), "memory-bar-000001.png").isFile());
+		assertTrue(new File(folder.getRoot(), "memory-icon-000001.png").isFile());
+
+		testee.setExportMode(MemoryWidgetExporter.IMAGE_STRIP);
+		testee.export();
+		BufferedImage strip = ImageIO.read(new File(folder.getRoot(), "memory-000002.png"));
+		assertEquals(320, strip.getWidth());
+		assertEquals(160 + 20 + 13, strip.getHeight());
+	}
+
+	private static int countColors(BufferedImage image) {
+		Set<Integer> colors = new HashSet<Integer>();
+		for(int y = 0; y < image.getHeight(); y += 4) {
+			for(int x = 0; x < image.getWidth(); x += 4) {
+				colors.add(image.getRGB(x, y));
+			}
+		}
+		return colors.size();
+	}
+}
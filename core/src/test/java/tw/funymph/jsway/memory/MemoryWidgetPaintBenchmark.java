@@ -0,0 +1,98 @@
+/* MemoryWidgetPaintBenchmark.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static java.awt.image.BufferedImage.TYPE_INT_ARGB;
+import static java.lang.System.nanoTime;
+import static java.lang.System.out;
+import static tw.funymph.jsway.OffscreenRenderer.render;
+import static tw.funymph.jsway.memory.RecentMemoryUsageLineChart.FULL_RENDERING;
+import static tw.funymph.jsway.memory.RecentMemoryUsageLineChart.INCREMENTAL_RENDERING;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * A simple benchmark that measures the paint paths of {@link RecentMemoryUsageLineChart}
+ * with the off-screen rendering, so it also runs with <code>java.awt.headless=true</code>.
+ * The benchmark is not run by the test phase; run the main method directly to get
+ * the results.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class MemoryWidgetPaintBenchmark {
+
+	private static final int[] CAPACITIES = { 300, 10000, 200000 };
+
+	private static final int WIDTH = 800;
+	private static final int HEIGHT = 300;
+	private static final int ROUNDS = 5;
+	private static final int PAINTS = 50;
+
+	private static final String RESULT_FORMAT = "%-12s capacity=%-8d paint=%10.2f us/op%n";
+
+	/**
+	 * Run the benchmark.
+	 * 
+	 * @param args not used
+	 */
+	public static void main(String[] args) {
+		for(int capacity : CAPACITIES) {
+			for(int round = 0; round < ROUNDS; round++) {
+				boolean report = (round == ROUNDS - 1);
+				measure("full", FULL_RENDERING, capacity, report);
+				measure("incremental", INCREMENTAL_RENDERING, capacity, report);
+			}
+		}
+	}
+
+	/**
+	 * Measure painting the chart after each new sample.
+	 * 
+	 * @param name the name of the rendering mode
+	 * @param mode the rendering mode
+	 * @param capacity the capacity of the history
+	 * @param report print the result or not (warm-up)
+	 */
+	private static void measure(String name, int mode, int capacity, boolean report) {
+		DefaultMemoryUsageEventHistory history = new DefaultMemoryUsageEventHistory(capacity);
+		long time = 0;
+		for(; time < capacity; time++) {
+			history.memoryUsageUpdated(createEvent(time));
+		}
+		RecentMemoryUsageLineChart chart = new RecentMemoryUsageLineChart(history);
+		chart.setRenderingMode(mode);
+		BufferedImage image = new BufferedImage(WIDTH, HEIGHT, TYPE_INT_ARGB);
+		render(chart, image);
+		long start = nanoTime();
+		for(int i = 0; i < PAINTS; i++) {
+			history.memoryUsageUpdated(createEvent(time++));
+			render(chart, image);
+		}
+		double cost = (double)(nanoTime() - start) / PAINTS / 1000;
+		if(report) {
+			out.printf(RESULT_FORMAT, name, capacity, cost);
+		}
+	}
+
+	/**
+	 * Create a memory usage event with a periodic ratio.
+	 * 
+	 * @param time the time stamp
+	 * @return the created event
+	 */
+	private static MemoryUsageEvent createEvent(long time) {
+		double ratio = 0.5 + 0.4 * Math.sin(time / 50.0);
+		return new MemoryUsageEvent(time + 1, (long)(100 * (1 - ratio)), (long)(100 * ratio), 100, ratio);
+	}
+}
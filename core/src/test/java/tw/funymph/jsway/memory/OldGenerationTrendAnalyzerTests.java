@@ -0,0 +1,87 @@
+/* OldGenerationTrendAnalyzerTests.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * This class tests the functionalities of {@link OldGenerationTrendAnalyzer}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class OldGenerationTrendAnalyzerTests {
+
+	private static final long MAXIMUM = 1000000000L;
+	private static final MemoryPoolLayout LAYOUT = new MemoryPoolLayout(new String[] { "PS Eden Space", "PS Old Gen" },
+			new int[] { MemoryPoolLayout.HEAP_POOL, MemoryPoolLayout.HEAP_POOL });
+
+	@Test
+	public void testLeakSuspected() {
+		OldGenerationTrendAnalyzer testee = new OldGenerationTrendAnalyzer(10);
+		final List<LeakSuspicionEvent> events = new ArrayList<LeakSuspicionEvent>();
+		testee.addLeakSuspicionListener(new LeakSuspicionListener() {
+
+			@Override
+			public void leakSuspected(LeakSuspicionEvent event) {
+				events.add(event);
+			}
+		});
+		// Minor collections that do not touch the old generation are ignored
+		testee.memoryUsageUpdated(createEvent(500, "end of minor GC", 100000000L, 100000000L));
+		assertEquals(0, testee.getSampleCount());
+		// Grows 1 MB per second after every major collection
+		for(int i = 0; i < 4; i++) {
+			testee.memoryUsageUpdated(createEvent(1000 * i, "end of major GC", 300000000L, 100000000L + 1000000L * i));
+		}
+		assertEquals(4, testee.getSampleCount());
+		assertFalse(testee.isLeakSuspected());
+		assertTrue(events.isEmpty());
+		// A mixed collection that shrinks the old generation is also a sample
+		testee.memoryUsageUpdated(createEvent(4000, "end of minor GC", 300000000L, 104000000L));
+		assertTrue(testee.isLeakSuspected());
+		assertEquals(1, events.size());
+		LeakSuspicionEvent event = events.get(0);
+		assertEquals(4000, event.getTimeStamp());
+		assertEquals(0.8, event.getConfidence(), 1e-6);
+		assertEquals(1000000, event.getGrowthRate(), 1e-3);
+		assertEquals(MAXIMUM, event.getMaximumSize());
+		assertEquals(896000, event.getTimeToExhaustion(), 1);
+		assertEquals(0.104, testee.getTrendRatio(4000), 1e-9);
+		assertEquals(0, testee.getWindowStartTime());
+		assertEquals(4000, testee.getLatestSampleTime());
+		// Still suspected, notified only once
+		testee.memoryUsageUpdated(createEvent(5000, "end of major GC", 300000000L, 105000000L));
+		assertEquals(1, events.size());
+		// A flat trend clears the suspicion
+		for(int i = 0; i < 10; i++) {
+			testee.memoryUsageUpdated(createEvent(6000 + 1000 * i, "end of major GC", 300000000L, 100000000L + (i % 2) * 1000000L));
+		}
+		assertFalse(testee.isLeakSuspected());
+		assertTrue(testee.getConfidence() < testee.getConfidenceThreshold());
+		testee.reset();
+		assertEquals(0, testee.getSampleCount());
+		assertEquals(-1, testee.getTimeToExhaustion());
+	}
+
+	private static GarbageCollectionEvent createEvent(long time, String action, long oldBefore, long oldAfter) {
+		return new GarbageCollectionEvent(time, 0, oldAfter, oldAfter, 1.0, "PS MarkSweep", action, "Allocation Failure", time, 10,
+				oldBefore, LAYOUT, new long[] { 50000000L, oldBefore }, new long[] { 0, oldAfter }, new long[] { 50000000L, oldAfter },
+				new long[] { 100000000L, MAXIMUM });
+	}
+}
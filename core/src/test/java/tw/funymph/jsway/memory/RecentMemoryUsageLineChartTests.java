@@ -0,0 +1,81 @@
+/* RecentMemoryUsageLineChartTests.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static org.junit.Assert.*;
+import static tw.funymph.jsway.memory.RecentMemoryUsageLineChart.FULL_RENDERING;
+import static tw.funymph.jsway.memory.RecentMemoryUsageLineChart.INCREMENTAL_RENDERING;
+
+import java.awt.image.BufferedImage;
+
+import org.junit.Test;
+
+import tw.funymph.jsway.OffscreenRenderer;
+
+/**
+ * This class tests the rendering modes of {@link RecentMemoryUsageLineChart}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class RecentMemoryUsageLineChartTests {
+
+	private static final int HEIGHT = 160;
+
+	// Allow the differences of the anti-aliased edges
+	private static final int TOLERANCE = 64;
+
+	@Test
+	public void testIncrementalRendering() {
+		// Samples of 3 ms in buckets of 10 ms: appends, in-place updates, and evictions
+		MemoryUsageTier history = new MemoryUsageTier(10, 20);
+		RecentMemoryUsageLineChart testee = new RecentMemoryUsageLineChart(history);
+		testee.setRenderingMode(INCREMENTAL_RENDERING);
+		RecentMemoryUsageLineChart expected = new RecentMemoryUsageLineChart(history);
+		expected.setRenderingMode(FULL_RENDERING);
+		int width = 320;
+		int lines = 0;
+		for(int time = 0; time < 400; time += 3) {
+			long used = 20 + (time * 7) % 60;
+			history.memoryUsageUpdated(new MemoryUsageEvent(time, 100 - used, used, 100, used / 100.0));
+			if(time > 200) {
+				width = 400;
+			}
+			lines = assertSamePlot("at " + time, OffscreenRenderer.render(expected, width, HEIGHT), OffscreenRenderer.render(testee, width, HEIGHT));
+		}
+		assertTrue(lines > 0);
+	}
+
+	private static int assertSamePlot(String message, BufferedImage expected, BufferedImage actual) {
+		// The plot area is 75% x 70% of the chart in the center
+		int width = (int)(expected.getWidth() * 0.75f);
+		int height = (int)(expected.getHeight() * 0.7f);
+		int originX = (expected.getWidth() - width) / 2;
+		int originY = (expected.getHeight() - height) / 2;
+		int lines = 0;
+		for(int y = originY; y <= originY + height; y++) {
+			for(int x = originX + 3; x <= originX + width; x++) {
+				int expectedPixel = expected.getRGB(x, y);
+				int actualPixel = actual.getRGB(x, y);
+				for(int shift = 0; shift < 32; shift += 8) {
+					int difference = Math.abs(((expectedPixel >> shift) & 0xff) - ((actualPixel >> shift) & 0xff));
+					assertTrue(message + " (" + x + ", " + y + ")", difference <= TOLERANCE);
+				}
+				if((expectedPixel & 0xff) < 0x80) {
+					lines++;
+				}
+			}
+		}
+		return lines;
+	}
+}
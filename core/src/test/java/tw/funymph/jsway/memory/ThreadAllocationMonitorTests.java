@@ -0,0 +1,58 @@
+/* ThreadAllocationMonitorTests.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+import static tw.funymph.jsway.memory.MemoryUsageMonitor.DELIVER_ON_SAMPLING_THREAD;
+
+import org.junit.Test;
+
+/**
+ * This class tests the functionalities of {@link ThreadAllocationMonitor}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class ThreadAllocationMonitorTests {
+
+	@Test
+	public void testMonitor() throws InterruptedException {
+		ThreadAllocationMonitor testee = new ThreadAllocationMonitor(0, DELIVER_ON_SAMPLING_THREAD);
+		assumeTrue(testee.isSupported());
+		ThreadAllocationTableModel model = new ThreadAllocationTableModel();
+		testee.addThreadAllocationListener(model);
+		testee.monitor();
+		byte[][] garbage = new byte[64][];
+		for(int i = 0; i < garbage.length; i++) {
+			garbage[i] = new byte[16384];
+		}
+		Thread.sleep(10);
+		testee.monitor();
+		assertTrue(model.getRowCount() > 0);
+		long self = Thread.currentThread().getId();
+		boolean found = false;
+		for(int row = 0; row < model.getRowCount(); row++) {
+			if(row > 0) {
+				assertTrue((Long)model.getValueAt(row - 1, 0) < (Long)model.getValueAt(row, 0));
+			}
+			if((Long)model.getValueAt(row, 0) == self) {
+				found = true;
+				assertTrue((Double)model.getValueAt(row, 2) > 0);
+				assertTrue((Long)model.getValueAt(row, 3) >= garbage.length * 16384L);
+			}
+		}
+		assertTrue(found);
+		assertTrue(model.getTotalAllocationRate() > 0);
+	}
+}
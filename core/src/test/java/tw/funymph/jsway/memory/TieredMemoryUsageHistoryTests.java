@@ -0,0 +1,113 @@
+/* TieredMemoryUsageHistoryTests.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * This class tests the functionalities of {@link TieredMemoryUsageHistory}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class TieredMemoryUsageHistoryTests {
+
+	@Test
+	public void testBuckets() {
+		MemoryUsageBucketColumns testee = new MemoryUsageBucketColumns(10, 2);
+		testee.add(event(1, 20));
+		testee.add(event(5, 60));
+		testee.add(event(9, 40));
+		assertEquals(1, testee.size());
+		assertEquals(0, testee.getBucketStartTime(0));
+		assertEquals(3, testee.getSampleCount(0));
+		assertEquals(0.2, testee.getMinimumRatio(0), 0.0001);
+		assertEquals(0.6, testee.getMaximumRatio(0), 0.0001);
+		assertEquals(0.4, testee.getAverageRatio(0), 0.0001);
+		assertEquals(0.4, testee.getLastRatio(0), 0.0001);
+
+		MemoryUsageEvent bucket = testee.get(0);
+		assertEquals(9, bucket.getTimeStamp());
+		assertEquals(40, bucket.getUsedMemorySize());
+		assertEquals(20, ((MemoryUsageAggregate)bucket).getMinimumUsedSize());
+		assertEquals(60, ((MemoryUsageAggregate)bucket).getMaximumUsedSize());
+
+		testee.add(event(12, 10));
+		testee.add(event(25, 30));
+		assertEquals(2, testee.size());
+		assertEquals(10, testee.getBucketStartTime(0));
+		assertEquals(20, testee.getBucketStartTime(1));
+		assertEquals(1, testee.getSampleCount(1));
+
+		testee.setMaximumRecentEventCapacity(1);
+		assertEquals(20, testee.getBucketStartTime(0));
+		assertEquals(0.3, testee.getAverageRatio(0), 0.0001);
+	}
+
+	@Test
+	public void testRatioBase() {
+		MemoryUsageBucketColumns testee = new MemoryUsageBucketColumns(10, 2);
+		testee.add(event(1, 20));
+		assertEquals(MemoryUsageEvent.RATIO_OF_COMMITTED, testee.get(0).getRatioBase());
+		assertEquals(100, testee.get(0).getBaseMemorySize());
+		testee.add(new MemoryUsageEvent(5, 60, 40, 100, 0.1, MemoryUsageEvent.RATIO_OF_MAXIMUM, 400));
+		assertEquals(MemoryUsageEvent.RATIO_OF_MAXIMUM, testee.get(0).getRatioBase());
+		assertEquals(400, testee.get(0).getBaseMemorySize());
+		testee.add(new MemoryUsageEvent(15, 50, 50, 100, 0.2, MemoryUsageEvent.RATIO_OF_BUDGET, 250));
+		testee.setMaximumRecentEventCapacity(1);
+		assertEquals(MemoryUsageEvent.RATIO_OF_BUDGET, testee.get(0).getRatioBase());
+		assertEquals(250, testee.get(0).getBaseMemorySize());
+	}
+
+	@Test
+	public void testTiers() {
+		TieredMemoryUsageHistory testee = new TieredMemoryUsageHistory(new long[] { 10, 100 }, new int[] { 5, 5 });
+		for(int time = 0; time < 200; time += 5) {
+			testee.memoryUsageUpdated(event(time, time % 100));
+		}
+		assertEquals(5, testee.getTier(0).getEvents().size());
+		assertEquals(2, testee.getTier(1).getEvents().size());
+		assertEquals(20, testee.getTier(1).getEvents().getSampleCount(0));
+		assertEquals(0.475, testee.getTier(1).getEvents().getAverageRatio(1), 0.0001);
+		assertSame(testee.getTier(0), testee.findTier(50));
+		assertSame(testee.getTier(1), testee.findTier(60));
+		assertSame(testee.getTier(1), testee.findTier(1000));
+	}
+
+	@Test
+	public void testStatisticsOverTier() {
+		MemoryUsageTier tier = new MemoryUsageTier(10, 5);
+		MemoryUsageStatistics statistics = new MemoryUsageStatistics(tier);
+		long[] used = { 70, 10, 50, 30, 90, 20, 60, 40, 80 };
+		for(int time = 0; time < 200; time += 5) {
+			tier.memoryUsageUpdated(event(time, used[(time / 5) % used.length]));
+			double minimum = Double.MAX_VALUE, maximum = -Double.MAX_VALUE, sum = 0;
+			for(MemoryUsageEvent bucket : tier.getEvents()) {
+				minimum = Math.min(minimum, bucket.getMemoryUsageRatio());
+				maximum = Math.max(maximum, bucket.getMemoryUsageRatio());
+				sum += bucket.getMemoryUsageRatio();
+			}
+			assertEquals(tier.getEvents().size(), statistics.getSampleCount());
+			assertEquals(minimum, statistics.getMinimumRatio(), 0.0001);
+			assertEquals(maximum, statistics.getMaximumRatio(), 0.0001);
+			assertEquals(sum / tier.getEvents().size(), statistics.getAverageRatio(), 0.0001);
+		}
+		assertEquals(5, statistics.getSampleCount());
+	}
+
+	private static MemoryUsageEvent event(long time, long used) {
+		return new MemoryUsageEvent(time, 100 - used, used, 100, used / 100.0);
+	}
+}
@@ -0,0 +1,156 @@
+/* TimingMonitorTests.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.memory;
+
+import static javax.swing.SwingUtilities.isEventDispatchThread;
+import static org.junit.Assert.*;
+import static tw.funymph.jsway.memory.MemoryUsageMonitor.DELIVER_ON_EVENT_DISPATCH_THREAD;
+import static tw.funymph.jsway.memory.MemoryUsageMonitor.DELIVER_ON_SAMPLING_THREAD;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+/**
+ * This class tests the sampling thread and the adaptive period of
+ * {@link TimingMonitor}, and the delivery modes of {@link MemoryUsageMonitor}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class TimingMonitorTests {
+
+	@Test
+	public void testSamplingThread() throws InterruptedException {
+		final CountDownLatch sampled = new CountDownLatch(1);
+		final AtomicReference<Thread> samplingThread = new AtomicReference<Thread>();
+		final AtomicBoolean onEventDispatchThread = new AtomicBoolean(true);
+		SamplingEngine engine = new SamplingEngine("Sampling Thread Test Engine");
+		TimingMonitor testee = new TimingMonitor(engine) {
+
+			@Override
+			protected void monitor() {
+				samplingThread.set(Thread.currentThread());
+				onEventDispatchThread.set(isEventDispatchThread());
+				sampled.countDown();
+			}
+		};
+		testee.sampleNow();
+		assertTrue(sampled.await(5, TimeUnit.SECONDS));
+		assertFalse(onEventDispatchThread.get());
+		assertEquals("Sampling Thread Test Engine", samplingThread.get().getName());
+		assertTrue(samplingThread.get().isDaemon());
+		engine.shutdown();
+	}
+
+	@Test
+	public void testDeliveryModes() throws InterruptedException {
+		MemoryUsageMonitor testee = new MemoryUsageMonitor(60000, false, DELIVER_ON_SAMPLING_THREAD);
+		final AtomicReference<Thread> engineThread = new AtomicReference<Thread>();
+		final CountDownLatch probed = new CountDownLatch(1);
+		SamplingEngine.getDefaultEngine().scheduleOnce("Engine Thread Probe", new Runnable() {
+
+			@Override
+			public void run() {
+				engineThread.set(Thread.currentThread());
+				probed.countDown();
+			}
+		}, 0);
+		assertTrue(probed.await(5, TimeUnit.SECONDS));
+
+		DeliveryRecorder recorder = new DeliveryRecorder();
+		testee.addMemoryUsageUpdateListener(recorder);
+		testee.sampleNow();
+		assertTrue(recorder.delivered.await(5, TimeUnit.SECONDS));
+		assertSame(engineThread.get(), recorder.thread);
+		testee.removeMemoryUsageUpdateListener(recorder);
+
+		recorder = new DeliveryRecorder();
+		testee.setDeliveryMode(DELIVER_ON_EVENT_DISPATCH_THREAD);
+		testee.addMemoryUsageUpdateListener(recorder);
+		testee.sampleNow();
+		assertTrue(recorder.delivered.await(5, TimeUnit.SECONDS));
+		assertTrue(recorder.onEventDispatchThread);
+		testee.stopMonitor();
+	}
+
+	@Test
+	public void testAdaptivePeriod() throws InterruptedException {
+		final CountDownLatch samples = new CountDownLatch(8);
+		SamplingEngine engine = new SamplingEngine("Adaptive Test Engine");
+		TimingMonitor testee = new TimingMonitor(engine) {
+
+			@Override
+			protected void monitor() {
+				samples.countDown();
+			}
+
+			@Override
+			protected int adjustPeriod(int current) {
+				return current / 2;
+			}
+		};
+		testee.setMonitorPeriod(400);
+		testee.setAdaptivePeriod(5, 100);
+		testee.startMonitor();
+		assertEquals(100, testee.getCurrentPeriod());
+		assertTrue(samples.await(5, TimeUnit.SECONDS));
+		assertEquals(5, testee.getCurrentPeriod());
+		testee.disableAdaptivePeriod();
+		assertEquals(400, testee.getCurrentPeriod());
+		testee.stopMonitor();
+		engine.shutdown();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidBounds() {
+		new TimingMonitor(new SamplingEngine("Invalid Test Engine")) {
+
+			@Override
+			protected void monitor() {}
+		}.setAdaptivePeriod(100, 10);
+	}
+
+	@Test
+	public void testMemoryUsageAdaptation() {
+		MemoryUsageMonitor testee = new MemoryUsageMonitor();
+		testee.stopMonitor();
+		MemoryUsageEvent previous = new MemoryUsageEvent(1000, 0, 0, 0, 0.2);
+		assertEquals(1500, testee.adaptPeriod(1000, previous, new MemoryUsageEvent(2000, 0, 0, 0, 0.2)));
+		assertEquals(1000, testee.adaptPeriod(1000, previous, new MemoryUsageEvent(2000, 0, 0, 0, 0.21)));
+		assertEquals(500, testee.adaptPeriod(1000, previous, new MemoryUsageEvent(2000, 0, 0, 0, 0.3)));
+		assertEquals(500, testee.adaptPeriod(1000, new MemoryUsageEvent(1000, 0, 0, 0, 0.48), new MemoryUsageEvent(2000, 0, 0, 0, 0.48)));
+		testee.setThresholdColors(null);
+		assertEquals(1500, testee.adaptPeriod(1000, new MemoryUsageEvent(1000, 0, 0, 0, 0.48), new MemoryUsageEvent(2000, 0, 0, 0, 0.48)));
+		assertEquals(1000, testee.adaptPeriod(1000, null, previous));
+	}
+
+	private static class DeliveryRecorder implements MemoryUsageListener {
+
+		private volatile Thread thread;
+		private volatile boolean onEventDispatchThread;
+		private CountDownLatch delivered = new CountDownLatch(1);
+
+		@Override
+		public void memoryUsageUpdated(MemoryUsageEvent event) {
+			if(delivered.getCount() > 0) {
+				thread = Thread.currentThread();
+				onEventDispatchThread = isEventDispatchThread();
+				delivered.countDown();
+			}
+		}
+	}
+}
@@ -0,0 +1,153 @@
+/* ContainerMemoryMonitorTests.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.metric;
+
+import static org.junit.Assert.*;
+import static tw.funymph.jsway.memory.MemoryUsageMonitor.DELIVER_ON_SAMPLING_THREAD;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * This class tests the functionalities of {@link ContainerMemoryMonitor}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class ContainerMemoryMonitorTests {
+
+	private static final int LONG_PERIOD = 60000;
+
+	private static final String STATUS =
+		"Name:\tjava\n" +
+		"VmPeak:\t 4096000 kB\n" +
+		"VmRSS:\t  204800 kB\n" +
+		"RssAnon:\t  102400 kB\n";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testParsing() {
+		assertEquals(1234, ContainerMemoryMonitor.parseNumber(ByteBuffer.wrap("1234\n".getBytes())));
+		assertEquals(-1, ContainerMemoryMonitor.parseNumber(ByteBuffer.wrap("max\n".getBytes())));
+		assertEquals(Long.MAX_VALUE, ContainerMemoryMonitor.parseNumber(ByteBuffer.wrap("99999999999999999999".getBytes())));
+		assertEquals(-1, ContainerMemoryMonitor.parseNumber(null));
+		ByteBuffer status = ByteBuffer.wrap(STATUS.getBytes());
+		assertEquals(204800L * 1024, ContainerMemoryMonitor.parseField(status, "VmRSS:".getBytes()));
+		assertEquals(-1, ContainerMemoryMonitor.parseField(status, "VmSwap:".getBytes()));
+		assertEquals(-1, ContainerMemoryMonitor.parseField(status, "Anon:".getBytes()));
+	}
+
+	@Test
+	public void testCgroupFiles() throws IOException, InterruptedException {
+		File status = write("status", STATUS);
+		File usage = write("memory.current", "536870912\n");
+		File limit = write("memory.max", "max\n");
+		ContainerMemoryMonitor monitor = new ContainerMemoryMonitor(LONG_PERIOD, DELIVER_ON_SAMPLING_THREAD, status, usage, limit);
+		assertTrue(monitor.isSupported());
+		sample(monitor);
+		assertTrue(monitor.getSeries(ContainerMemoryMonitor.HEAP_USED_NAME).getLatestValue() > 0);
+		assertEquals(204800.0 * 1024, monitor.getSeries(ContainerMemoryMonitor.RESIDENT_SET_NAME).getLatestValue(), 0);
+		assertEquals(536870912, monitor.getSeries(ContainerMemoryMonitor.CGROUP_USAGE_NAME).getLatestValue(), 0);
+		assertTrue(monitor.getSeries(ContainerMemoryMonitor.CGROUP_LIMIT_NAME).isEmpty());
+
+		// The files are re-read from the beginning, and the unlimited limit of cgroup v1 is skipped
+		write("memory.current", "268435456\n");
+		write("memory.max", "9223372036854771712\n");
+		sample(monitor);
+		assertEquals(268435456, monitor.getSeries(ContainerMemoryMonitor.CGROUP_USAGE_NAME).getLatestValue(), 0);
+		assertTrue(monitor.getSeries(ContainerMemoryMonitor.CGROUP_LIMIT_NAME).isEmpty());
+		write("memory.max", "1073741824\n");
+		sample(monitor);
+		assertEquals(1073741824, monitor.getSeries(ContainerMemoryMonitor.CGROUP_LIMIT_NAME).getLatestValue(), 0);
+		monitor.stopMonitor();
+	}
+
+	@Test
+	public void testAbsentFiles() {
+		ContainerMemoryMonitor monitor = new ContainerMemoryMonitor(LONG_PERIOD, DELIVER_ON_SAMPLING_THREAD,
+				new File(folder.getRoot(), "status"), null, new File(folder.getRoot(), "memory.max"));
+		assertFalse(monitor.isSupported());
+		assertFalse(monitor.isMonitoring());
+	}
+
+	@Test
+	public void testSystemFiles() throws InterruptedException {
+		ContainerMemoryMonitor monitor = new ContainerMemoryMonitor(LONG_PERIOD, DELIVER_ON_SAMPLING_THREAD);
+		if(!monitor.isSupported()) {
+			return;
+		}
+		sample(monitor);
+		MetricSeries residentSet = monitor.getSeries(ContainerMemoryMonitor.RESIDENT_SET_NAME);
+		if(!residentSet.isEmpty()) {
+			assertTrue(residentSet.getLatestValue() > 0);
+		}
+		monitor.stopMonitor();
+	}
+
+	/**
+	 * Sample the monitor and wait until all of its series are updated. The
+	 * heap series is always appended, and the listeners are notified after
+	 * the values are appended to all series; the latch is counted down only
+	 * when the sample of this call is complete.
+	 * 
+	 * @param monitor the monitor
+	 * @throws InterruptedException if interrupted
+	 */
+	private static void sample(ContainerMemoryMonitor monitor) throws InterruptedException {
+		final MetricSeries heap = monitor.getSeries(ContainerMemoryMonitor.HEAP_USED_NAME);
+		final int expected = heap.size() + 1;
+		final CountDownLatch latch = new CountDownLatch(1);
+		MetricSeriesListener listener = new MetricSeriesListener() {
+
+			@Override
+			public void metricSeriesChanged(MetricSeries series) {
+				if(heap.size() >= expected) {
+					latch.countDown();
+				}
+			}
+		};
+		heap.addMetricSeriesListener(listener);
+		monitor.sampleNow();
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		heap.removeMetricSeriesListener(listener);
+	}
+
+	/**
+	 * Write the content into the file in the temporary folder.
+	 * 
+	 * @param name the name of the file
+	 * @param content the content
+	 * @return the written file
+	 * @throws IOException if failed to write
+	 */
+	private File write(String name, String content) throws IOException {
+		File file = new File(folder.getRoot(), name);
+		FileOutputStream output = new FileOutputStream(file);
+		try {
+			output.write(content.getBytes());
+		} finally {
+			output.close();
+		}
+		return file;
+	}
+}
@@ -0,0 +1,150 @@
+/* MetricMonitorTests.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.metric;
+
+import static org.junit.Assert.*;
+import static tw.funymph.jsway.memory.MemoryUsageMonitor.DELIVER_ON_SAMPLING_THREAD;
+import static tw.funymph.jsway.metric.MetricSeries.UNIT_NONE;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * This class tests the functionalities of {@link MetricMonitor} and its
+ * concrete monitors.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class MetricMonitorTests {
+
+	private static final int LONG_PERIOD = 60000;
+
+	@Test
+	public void testSampling() throws InterruptedException {
+		final double[] sampled = { 1, Double.NaN };
+		MetricMonitor monitor = new MetricMonitor(LONG_PERIOD, DELIVER_ON_SAMPLING_THREAD,
+				new MetricSeries("First", UNIT_NONE), new MetricSeries("Second", UNIT_NONE)) {
+
+			@Override
+			protected boolean sample(double[] values) {
+				System.arraycopy(sampled, 0, values, 0, values.length);
+				return true;
+			}
+		};
+		assertEquals(2, monitor.getSeriesCount());
+		assertSame(monitor.getSeries(1), monitor.getSeries("Second"));
+		assertNull(monitor.getSeries("Third"));
+		final CountDownLatch latch = new CountDownLatch(1);
+		monitor.getSeries(0).addMetricSeriesListener(new MetricSeriesListener() {
+
+			@Override
+			public void metricSeriesChanged(MetricSeries series) {
+				latch.countDown();
+			}
+		});
+		monitor.sampleNow();
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		assertEquals(1, monitor.getSeries(0).size());
+		assertEquals(1, monitor.getSeries(0).getLatestValue(), 0);
+		assertTrue(monitor.getSeries(1).isEmpty());
+	}
+
+	@Test
+	public void testAppendBeforeNotify() throws InterruptedException {
+		final MetricMonitor monitor = new MetricMonitor(LONG_PERIOD, DELIVER_ON_SAMPLING_THREAD,
+				new MetricSeries("First", UNIT_NONE), new MetricSeries("Second", UNIT_NONE)) {
+
+			private int count;
+
+			@Override
+			protected boolean sample(double[] values) {
+				count++;
+				values[0] = count;
+				if(count == 1) {
+					values[1] = count * 10;
+				}
+				return true;
+			}
+		};
+		final int[] observed = new int[2];
+		final CountDownLatch latch = new CountDownLatch(2);
+		monitor.getSeries(0).addMetricSeriesListener(new MetricSeriesListener() {
+
+			@Override
+			public void metricSeriesChanged(MetricSeries series) {
+				observed[(int)latch.getCount() - 1] = monitor.getSeries(1).size();
+				latch.countDown();
+			}
+		});
+		monitor.sampleNow();
+		monitor.sampleNow();
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		assertEquals(1, observed[1]);
+		assertEquals(1, observed[0]);
+		assertEquals(2, monitor.getSeries(0).getLatestValue(), 0);
+		assertEquals(1, monitor.getSeries(1).size());
+		assertEquals(10, monitor.getSeries(1).getLatestValue(), 0);
+	}
+
+	@Test
+	public void testUnsupported() {
+		MetricMonitor monitor = new MetricMonitor(LONG_PERIOD, DELIVER_ON_SAMPLING_THREAD, new MetricSeries("Test", UNIT_NONE)) {
+
+			@Override
+			public boolean isSupported() {
+				return false;
+			}
+
+			@Override
+			protected boolean sample(double[] values) {
+				return false;
+			}
+		};
+		monitor.startMonitor();
+		assertFalse(monitor.isMonitoring());
+	}
+
+	@Test
+	public void testMonitors() throws InterruptedException {
+		MetricMonitor[] monitors = {
+			new ThreadCountMonitor(LONG_PERIOD, DELIVER_ON_SAMPLING_THREAD),
+			new LoadedClassCountMonitor(LONG_PERIOD, DELIVER_ON_SAMPLING_THREAD),
+			new CpuLoadMonitor(LONG_PERIOD, DELIVER_ON_SAMPLING_THREAD),
+			new SystemLoadMonitor(LONG_PERIOD, DELIVER_ON_SAMPLING_THREAD)
+		};
+		final CountDownLatch latch = new CountDownLatch(2);
+		MetricSeriesListener listener = new MetricSeriesListener() {
+
+			@Override
+			public void metricSeriesChanged(MetricSeries series) {
+				latch.countDown();
+			}
+		};
+		monitors[0].getSeries(ThreadCountMonitor.LIVE_THREADS_NAME).addMetricSeriesListener(listener);
+		monitors[1].getSeries(LoadedClassCountMonitor.LOADED_CLASSES_NAME).addMetricSeriesListener(listener);
+		for(MetricMonitor monitor : monitors) {
+			assertEquals(monitor.isSupported(), monitor.isMonitoring());
+			monitor.sampleNow();
+		}
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		MetricSeries live = monitors[0].getSeries(ThreadCountMonitor.LIVE_THREADS_NAME);
+		assertTrue(live.getLatestValue() >= 1);
+		assertTrue(monitors[1].getSeries(0).getLatestValue() > 0);
+		for(MetricMonitor monitor : monitors) {
+			monitor.stopMonitor();
+		}
+	}
+}
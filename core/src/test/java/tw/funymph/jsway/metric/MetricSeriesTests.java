@@ -0,0 +1,99 @@
+/* MetricSeriesTests.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.metric;
+
+import static org.junit.Assert.*;
+import static tw.funymph.jsway.metric.MetricSeries.UNIT_BYTES;
+import static tw.funymph.jsway.metric.MetricSeries.UNIT_NONE;
+import static tw.funymph.jsway.metric.MetricSeries.UNIT_RATIO;
+
+import java.util.Iterator;
+
+import org.junit.Test;
+
+/**
+ * This class tests the functionalities of {@link MetricSeries} and the value
+ * formatting of {@link MetricLineChart}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class MetricSeriesTests {
+
+	@Test
+	public void testRing() {
+		MetricSeries series = new MetricSeries("Test", UNIT_NONE, 0, Double.NaN, 3);
+		assertTrue(series.isEmpty());
+		assertTrue(Double.isNaN(series.getLatestValue()));
+		for(int i = 1; i <= 5; i++) {
+			assertTrue(series.add(i * 100L, i * 1.5));
+		}
+		assertEquals(3, series.size());
+		assertEquals(300L, series.getTimeStamp(0));
+		assertEquals(4.5, series.getValue(0), 0);
+		assertEquals(7.5, series.getLatestValue(), 0);
+		assertEquals(new MetricSample(500L, 7.5), series.getLast());
+		Iterator<MetricSample> iterator = series.iterator();
+		assertEquals(new MetricSample(300L, 4.5), iterator.next());
+		iterator.next();
+		iterator.remove();
+		assertEquals(2, series.size());
+		assertEquals(500L, series.getTimeStamp(1));
+
+		series.add(new MetricSample(600L, 9));
+		series.setMaximumRecentEventCapacity(2);
+		assertEquals(2, series.size());
+		assertEquals(500L, series.getTimeStamp(0));
+		assertEquals(9, series.getLatestValue(), 0);
+		assertEquals(0, series.getLowerBound(), 0);
+		assertTrue(Double.isNaN(series.getUpperBound()));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testIndexOutOfBounds() {
+		MetricSeries series = new MetricSeries("Test", UNIT_NONE);
+		series.add(100L, 1);
+		series.getValue(1);
+	}
+
+	@Test
+	public void testListeners() {
+		MetricSeries series = new MetricSeries("Test", UNIT_RATIO);
+		final int[] notified = new int[1];
+		MetricSeriesListener listener = new MetricSeriesListener() {
+
+			@Override
+			public void metricSeriesChanged(MetricSeries changed) {
+				notified[0]++;
+			}
+		};
+		series.addMetricSeriesListener(listener);
+		series.notifyMetricSeriesListeners();
+		series.removeMetricSeriesListener(listener);
+		series.notifyMetricSeriesListeners();
+		assertEquals(1, notified[0]);
+	}
+
+	@Test
+	public void testFormatting() {
+		assertEquals("42 %", MetricLineChart.formatValue(0.42, UNIT_RATIO));
+		assertEquals("1.5 MB", MetricLineChart.formatValue(1572864, UNIT_BYTES));
+		assertEquals("2.0 GB", MetricLineChart.formatValue(2147483648.0, UNIT_BYTES));
+		assertEquals("12", MetricLineChart.formatValue(12, UNIT_NONE));
+		assertEquals("", MetricLineChart.formatValue(Double.NaN, UNIT_NONE));
+		assertEquals(1, MetricLineChart.getNiceStep(0.7), 0);
+		assertEquals(20, MetricLineChart.getNiceStep(13), 0);
+		assertEquals(50, MetricLineChart.getNiceStep(21), 0);
+		assertEquals(100, MetricLineChart.getNiceStep(51), 0);
+	}
+}
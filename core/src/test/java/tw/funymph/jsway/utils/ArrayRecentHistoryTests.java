@@ -0,0 +1,80 @@
+/* ArrayRecentHistoryTests.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.utils;
+
+import static org.junit.Assert.*;
+
+import java.util.Iterator;
+
+import org.junit.Test;
+
+/**
+ * This class tests the functionalities of {@link ArrayRecentHistory}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class ArrayRecentHistoryTests {
+
+	@Test
+	public void testEviction() {
+		ArrayRecentHistory<Integer> testee = new ArrayRecentHistory<Integer>(3);
+		for(int i = 0; i < 5; i++) {
+			testee.add(i);
+		}
+		assertEquals(3, testee.size());
+		assertEquals(Integer.valueOf(2), testee.get(0));
+		assertEquals(Integer.valueOf(4), testee.get(2));
+		assertEquals(Integer.valueOf(2), testee.getFirst());
+		assertEquals(Integer.valueOf(4), testee.getLast());
+	}
+
+	@Test
+	public void testChangeCapacity() {
+		ArrayRecentHistory<Integer> testee = new ArrayRecentHistory<Integer>(4);
+		for(int i = 0; i < 6; i++) {
+			testee.add(i);
+		}
+		testee.setMaximumRecentEventCapacity(2);
+		assertEquals(2, testee.size());
+		assertEquals(Integer.valueOf(4), testee.get(0));
+		assertEquals(Integer.valueOf(5), testee.get(1));
+		testee.setMaximumRecentEventCapacity(5);
+		testee.add(6);
+		assertEquals(3, testee.size());
+		assertEquals(Integer.valueOf(6), testee.getLast());
+	}
+
+	@Test
+	public void testIteratorRemove() {
+		ArrayRecentHistory<Integer> testee = new ArrayRecentHistory<Integer>(3);
+		for(int i = 0; i < 4; i++) {
+			testee.add(i);
+		}
+		Iterator<Integer> iterator = testee.iterator();
+		iterator.next();
+		iterator.remove();
+		assertEquals(2, testee.size());
+		assertEquals(Integer.valueOf(2), iterator.next());
+		assertTrue(testee.remove(Integer.valueOf(3)));
+		assertEquals(1, testee.size());
+		assertEquals(Integer.valueOf(2), testee.get(0));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testOutOfBounds() {
+		ArrayRecentHistory<Integer> testee = new ArrayRecentHistory<Integer>(3);
+		testee.add(1);
+		testee.get(1);
+	}
+}
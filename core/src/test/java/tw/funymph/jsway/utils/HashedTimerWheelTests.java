@@ -0,0 +1,139 @@
+/* HashedTimerWheelTests.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.utils;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * This class tests the functionalities of {@link HashedTimerWheel}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class HashedTimerWheelTests {
+
+	@Test
+	public void testAlignedTicks() throws InterruptedException {
+		final HashedTimerWheel testee = new HashedTimerWheel("Aligned Test Wheel", 5, 4);
+		final List<Long> first = new CopyOnWriteArrayList<Long>();
+		final List<Long> second = new CopyOnWriteArrayList<Long>();
+		final CountDownLatch latch = new CountDownLatch(5);
+		try {
+			testee.schedule("first", new Runnable() {
+
+				@Override
+				public void run() {
+					first.add(testee.getTick());
+				}
+			}, 30, null);
+			Thread.sleep(17);
+			testee.schedule("second", new Runnable() {
+
+				@Override
+				public void run() {
+					second.add(testee.getTick());
+					latch.countDown();
+				}
+			}, 30, null);
+			assertTrue(latch.await(5, TimeUnit.SECONDS));
+			// The tasks on the same tick run in any order, so let the first one catch up
+			List<Long> ticks = new ArrayList<Long>(second.subList(0, 5));
+			Thread.sleep(50);
+			for(Long tick : ticks) {
+				assertEquals(0, tick % 6);
+				assertTrue(first.contains(tick));
+			}
+			assertTrue(testee.getTickCost("second").getTickCount() >= ticks.size());
+			assertEquals(2, testee.getTickCosts().size());
+		} finally {
+			testee.close();
+		}
+	}
+
+	@Test
+	public void testScheduleOnceAndCancel() throws InterruptedException {
+		HashedTimerWheel testee = new HashedTimerWheel("Once Test Wheel", 5, 8);
+		final CountDownLatch latch = new CountDownLatch(1);
+		try {
+			TickHandle once = testee.scheduleOnce("once", new Runnable() {
+
+				@Override
+				public void run() {
+					latch.countDown();
+				}
+			}, 100, null);
+			TickHandle cancelled = testee.scheduleOnce("cancelled", new Runnable() {
+
+				@Override
+				public void run() {
+					fail();
+				}
+			}, 50, null);
+			cancelled.cancel();
+			assertTrue(latch.await(5, TimeUnit.SECONDS));
+			Thread.sleep(20);
+			assertTrue(once.isDone());
+			assertEquals(1, once.getTickCost().getTickCount());
+			assertEquals(0, testee.getTickCost("cancelled").getTickCount());
+		} finally {
+			testee.close();
+		}
+	}
+
+	@Test
+	public void testLifecycle() throws InterruptedException {
+		HashedTimerWheel testee = HashedTimerWheel.getInstance("Lifecycle Test Wheel");
+		assertSame(testee, HashedTimerWheel.getInstance("Lifecycle Test Wheel"));
+		assertTrue(HashedTimerWheel.getRegisteredNames().contains("Lifecycle Test Wheel"));
+		TickHandle handle = testee.schedule("periodic", new Runnable() {
+
+			@Override
+			public void run() {}
+		}, 10, null);
+		Thread.sleep(100);
+		testee.stop();
+		assertFalse(testee.isStarted());
+		Thread.sleep(30);
+		long stopped = handle.getTickCost().getTickCount();
+		long tick = testee.getTick();
+		Thread.sleep(100);
+		assertEquals(stopped, handle.getTickCost().getTickCount());
+		assertEquals(tick, testee.getTick());
+		testee.start();
+		Thread.sleep(100);
+		assertTrue(handle.getTickCost().getTickCount() > stopped);
+		testee.close();
+		assertTrue(testee.isClosed());
+		assertFalse(HashedTimerWheel.getRegisteredNames().contains("Lifecycle Test Wheel"));
+		assertNotSame(testee, HashedTimerWheel.getInstance("Lifecycle Test Wheel"));
+		HashedTimerWheel.getInstance("Lifecycle Test Wheel").close();
+		try {
+			testee.schedule("closed", new Runnable() {
+
+				@Override
+				public void run() {}
+			}, 10, null);
+			fail();
+		} catch (IllegalStateException e) {
+			// Expected
+		}
+	}
+}
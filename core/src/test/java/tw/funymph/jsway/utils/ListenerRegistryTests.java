@@ -0,0 +1,177 @@
+/* ListenerRegistryTests.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.utils;
+
+import static org.junit.Assert.*;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.junit.Test;
+
+/**
+ * This class tests the functionalities of {@link ListenerRegistry}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class ListenerRegistryTests {
+
+	@Test
+	public void testCopyOnWrite() {
+		final List<Integer> received = new LinkedList<Integer>();
+		final ListenerRegistry<List<Integer>, Integer> testee = createRegistry();
+		final List<Integer> late = new LinkedList<Integer>();
+		testee.add(new LinkedList<Integer>() {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public boolean add(Integer event) {
+				// Modify the registry while firing
+				testee.add(late);
+				testee.remove(this);
+				return received.add(event);
+			}
+		});
+		testee.fire(1);
+		testee.fire(2);
+		assertEquals(1, received.size());
+		assertEquals(1, late.size());
+		assertEquals(1, testee.size());
+	}
+
+	@Test
+	public void testErrorHook() {
+		final List<Object> sources = new LinkedList<Object>();
+		final List<Throwable> errors = new LinkedList<Throwable>();
+		ErrorReporter.setErrorHook(new ErrorHook() {
+
+			@Override
+			public void errorCaught(Object source, Throwable error) {
+				sources.add(source);
+				errors.add(error);
+			}
+		});
+		try {
+			ListenerRegistry<List<Integer>, Integer> testee = createRegistry();
+			List<Integer> failing = new LinkedList<Integer>() {
+
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				public boolean add(Integer event) {
+					throw new IllegalStateException();
+				}
+			};
+			List<Integer> following = new LinkedList<Integer>();
+			testee.add(failing);
+			testee.add(following);
+			testee.fire(1);
+			assertEquals(1, following.size());
+			assertEquals(1, errors.size());
+			assertSame(failing, sources.get(0));
+			assertTrue(errors.get(0) instanceof IllegalStateException);
+		}
+		finally {
+			ErrorReporter.setErrorHook(null);
+		}
+		assertNotNull(ErrorReporter.getErrorHook());
+	}
+
+	@Test
+	public void testMailbox() {
+		ManualExecutor executor = new ManualExecutor();
+		ListenerRegistry<List<Integer>, Integer> testee = createRegistry();
+		List<Integer> asynchronous = new LinkedList<Integer>();
+		List<Integer> synchronous = new LinkedList<Integer>();
+		testee.add(asynchronous, executor);
+		testee.add(synchronous);
+		testee.fire(1);
+		testee.fire(2);
+		testee.fire(3);
+		assertEquals(3, synchronous.size());
+		assertTrue(asynchronous.isEmpty());
+		assertEquals(1, executor.tasks.size());
+		executor.runAll();
+		assertEquals(1, asynchronous.size());
+		assertEquals(3, asynchronous.get(0).intValue());
+		assertEquals(2, testee.getDroppedEventCount(asynchronous));
+
+		testee.fire(4);
+		testee.remove(asynchronous);
+		executor.runAll();
+		assertEquals(1, asynchronous.size());
+	}
+
+	@Test
+	public void testSlowListener() {
+		final List<Object> reported = new LinkedList<Object>();
+		ListenerRegistry<List<Integer>, Integer> testee = createRegistry();
+		List<Integer> slow = new LinkedList<Integer>() {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public boolean add(Integer event) {
+				try {
+					Thread.sleep(20);
+				}
+				catch(InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return super.add(event);
+			}
+		};
+		testee.add(new LinkedList<Integer>());
+		testee.add(slow);
+		testee.setTimeBudget(5);
+		testee.setSlowListenerHook(new SlowListenerHook() {
+
+			@Override
+			public void slowListenerDetected(Object listener, long elapsedTime, long budget) {
+				reported.add(listener);
+			}
+		});
+		testee.fire(1);
+		assertEquals(1, reported.size());
+		assertSame(slow, reported.get(0));
+	}
+
+	private static ListenerRegistry<List<Integer>, Integer> createRegistry() {
+		return new ListenerRegistry<List<Integer>, Integer>() {
+
+			@Override
+			protected void deliver(List<Integer> listener, Integer event) {
+				listener.add(event);
+			}
+		};
+	}
+
+	private static class ManualExecutor implements Executor {
+
+		private List<Runnable> tasks = new LinkedList<Runnable>();
+
+		@Override
+		public void execute(Runnable task) {
+			tasks.add(task);
+		}
+
+		private void runAll() {
+			while(!tasks.isEmpty()) {
+				tasks.remove(0).run();
+			}
+		}
+	}
+}
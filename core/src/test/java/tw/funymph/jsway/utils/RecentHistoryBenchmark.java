@@ -0,0 +1,81 @@
+/* RecentHistoryBenchmark.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.utils;
+
+import static java.lang.System.nanoTime;
+import static java.lang.System.out;
+
+/**
+ * A simple benchmark that compares {@link LinkedRecentHistory} with
+ * {@link ArrayRecentHistory}. The benchmark is not run by the test phase;
+ * run the main method directly to get the results.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class RecentHistoryBenchmark {
+
+	private static final int[] CAPACITIES = { 20, 10000, 1000000 };
+
+	private static final int ROUNDS = 5;
+	private static final int READS = 1000;
+	private static final int MINIMUM_ADDS = 1000000;
+
+	private static final String RESULT_FORMAT = "%-20s capacity=%-8d add+evict=%8.2f ns/op, get=%10.2f ns/op%n";
+
+	private static long blackhole;
+
+	/**
+	 * Run the benchmark.
+	 * 
+	 * @param args not used
+	 */
+	public static void main(String[] args) {
+		for(int capacity : CAPACITIES) {
+			for(int round = 0; round < ROUNDS; round++) {
+				boolean report = (round == ROUNDS - 1);
+				measure("LinkedRecentHistory", new LinkedRecentHistory<Long>(capacity), report);
+				measure("ArrayRecentHistory", new ArrayRecentHistory<Long>(capacity), report);
+			}
+		}
+		out.println(blackhole);
+	}
+
+	/**
+	 * Measure the add (with eviction) and the indexed access of the history.
+	 * 
+	 * @param name the name of the implementation
+	 * @param history the history to be measured
+	 * @param report print the result or not (warm-up)
+	 */
+	private static void measure(String name, RecentHistory<Long> history, boolean report) {
+		int capacity = history.getMaximumRecentEventCapacity();
+		int adds = Math.max(capacity * 2, MINIMUM_ADDS);
+		long start = nanoTime();
+		for(long i = 0; i < adds; i++) {
+			history.add(i);
+		}
+		double addCost = (double)(nanoTime() - start) / adds;
+
+		int step = Math.max(1, capacity / READS);
+		int reads = 0;
+		start = nanoTime();
+		for(int index = 0; index < capacity; index += step, reads++) {
+			blackhole += history.get(index);
+		}
+		double getCost = (double)(nanoTime() - start) / reads;
+		if(report) {
+			out.printf(RESULT_FORMAT, name, capacity, addCost, getCost);
+		}
+	}
+}
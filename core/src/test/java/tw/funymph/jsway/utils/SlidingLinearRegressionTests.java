@@ -0,0 +1,97 @@
+/* SlidingLinearRegressionTests.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.utils;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * This class tests the functionalities of {@link SlidingLinearRegression}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class SlidingLinearRegressionTests {
+
+	@Test
+	public void testSlidingRegression() {
+		SlidingLinearRegression testee = new SlidingLinearRegression(30);
+		assertTrue(Double.isNaN(testee.getSlope()));
+		testee.add(5, 1);
+		assertTrue(Double.isNaN(testee.getSlope()));
+		assertTrue(Double.isNaN(testee.getRSquared()));
+		testee.clear();
+		Random random = new Random(11);
+		double base = 1.7e12;
+		double[] xs = new double[300];
+		double[] ys = new double[300];
+		for(int i = 0; i < xs.length; i++) {
+			xs[i] = base + i * 1000 + random.nextInt(200);
+			ys[i] = 3e8 + 2500 * (xs[i] - base) + random.nextGaussian() * 1e7;
+			testee.add(xs[i], ys[i]);
+			int from = Math.max(0, i - 29);
+			assertFit(xs, ys, from, i + 1, testee);
+		}
+		testee.setCapacity(10);
+		assertFit(xs, ys, xs.length - 10, xs.length, testee);
+		assertEquals(xs[xs.length - 10], testee.getFirstX(), 0);
+		assertEquals(xs[xs.length - 1], testee.getLastX(), 0);
+		assertEquals(ys[ys.length - 1], testee.getLastY(), 0);
+	}
+
+	@Test
+	public void testPerfectLine() {
+		SlidingLinearRegression testee = new SlidingLinearRegression(5);
+		for(int i = 0; i < 8; i++) {
+			testee.add(100 + i, 10 + 2 * i);
+		}
+		assertEquals(5, testee.getCount());
+		assertEquals(2, testee.getSlope(), 1e-9);
+		assertEquals(1, testee.getRSquared(), 1e-9);
+		assertEquals(10 + 2 * 20, testee.predict(120), 1e-9);
+		assertEquals(120, testee.solve(50), 1e-9);
+		for(int i = 0; i < 5; i++) {
+			testee.add(200 + i, 7);
+		}
+		assertEquals(0, testee.getSlope(), 1e-9);
+		assertTrue(Double.isNaN(testee.getRSquared()));
+		assertTrue(Double.isNaN(testee.solve(8)));
+	}
+
+	private static void assertFit(double[] xs, double[] ys, int from, int to, SlidingLinearRegression testee) {
+		int n = to - from;
+		double meanX = 0, meanY = 0;
+		for(int i = from; i < to; i++) {
+			meanX += xs[i] / n;
+			meanY += ys[i] / n;
+		}
+		double sxx = 0, sxy = 0, syy = 0;
+		for(int i = from; i < to; i++) {
+			sxx += (xs[i] - meanX) * (xs[i] - meanX);
+			sxy += (xs[i] - meanX) * (ys[i] - meanY);
+			syy += (ys[i] - meanY) * (ys[i] - meanY);
+		}
+		assertEquals(n, testee.getCount());
+		if(n < 2) {
+			assertTrue(Double.isNaN(testee.getSlope()));
+			return;
+		}
+		double slope = sxy / sxx;
+		assertEquals(slope, testee.getSlope(), Math.abs(slope) * 1e-6);
+		assertEquals(meanY, testee.predict(meanX), Math.abs(meanY) * 1e-6);
+		assertEquals(sxy * sxy / (sxx * syy), testee.getRSquared(), 1e-6);
+	}
+}
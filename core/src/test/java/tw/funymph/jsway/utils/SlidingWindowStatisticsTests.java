@@ -0,0 +1,98 @@
+/* SlidingWindowStatisticsTests.java created on 2026/10/17
+ *
+ * Copyright (c) <2026> Pin-Ying Tu <dbi1463@gmail.com>
+ *
+ * This file is a part of the JavaSway project.
+ * 
+ * The JavaSway project is published under the MIT license.
+ * 
+ * If you want to use the classes of this project in any commercial
+ * product, please contact the author for the license.
+ */
+package tw.funymph.jsway.utils;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * This class tests the functionalities of {@link SlidingWindowStatistics}.
+ * 
+ * @author Pin-Ying Tu
+ * @version 1.2
+ * @since 1.2
+ */
+public class SlidingWindowStatisticsTests {
+
+	@Test
+	public void testSlidingWindow() {
+		SlidingWindowStatistics testee = new SlidingWindowStatistics(50);
+		assertTrue(Double.isNaN(testee.getMinimum()));
+		assertTrue(Double.isNaN(testee.getQuantile(0.5)));
+		Random random = new Random(7);
+		double[] values = new double[500];
+		for(int i = 0; i < values.length; i++) {
+			values[i] = random.nextDouble();
+			testee.add(values[i]);
+			assertWindow(Arrays.copyOfRange(values, Math.max(0, i - 49), i + 1), testee);
+		}
+		testee.setCapacity(20);
+		assertWindow(Arrays.copyOfRange(values, values.length - 20, values.length), testee);
+		testee.clear();
+		assertEquals(0, testee.getCount());
+		assertTrue(Double.isNaN(testee.getMaximum()));
+	}
+
+	@Test
+	public void testReplaceLatest() {
+		SlidingWindowStatistics testee = new SlidingWindowStatistics(5);
+		testee.replaceLatest(0.5);
+		assertWindow(new double[] { 0.5 }, testee);
+		double[] values = { 0.1, 0.7, 0.3, 0.9, 0.2 };
+		for(double value : values) {
+			testee.add(value);
+		}
+		testee.replaceLatest(0.95);
+		assertWindow(new double[] { 0.1, 0.7, 0.3, 0.9, 0.95 }, testee);
+		testee.replaceLatest(0.05);
+		assertWindow(new double[] { 0.1, 0.7, 0.3, 0.9, 0.05 }, testee);
+		testee.add(0.6);
+		testee.replaceLatest(0.8);
+		assertWindow(new double[] { 0.7, 0.3, 0.9, 0.05, 0.8 }, testee);
+
+		// Replace every value many times against a brute-force window
+		testee.clear();
+		Random random = new Random(11);
+		double[] window = new double[300];
+		for(int i = 0; i < window.length; i++) {
+			window[i] = random.nextDouble();
+			testee.add(window[i]);
+			for(int update = 0; update < 3; update++) {
+				window[i] = random.nextDouble();
+				testee.replaceLatest(window[i]);
+				assertWindow(Arrays.copyOfRange(window, Math.max(0, i - 4), i + 1), testee);
+			}
+		}
+	}
+
+	private static void assertWindow(double[] window, SlidingWindowStatistics testee) {
+		double[] sorted = window.clone();
+		Arrays.sort(sorted);
+		double sum = 0;
+		for(double value : window) {
+			sum += value;
+		}
+		assertEquals(window.length, testee.getCount());
+		assertEquals(sorted[0], testee.getMinimum(), 0);
+		assertEquals(sorted[sorted.length - 1], testee.getMaximum(), 0);
+		assertEquals(sum / window.length, testee.getAverage(), 0.000001);
+		assertEquals(window[window.length - 1], testee.getLatest(), 0);
+		for(double quantile : new double[] { 0.5, 0.95, 0.99 }) {
+			double expected = sorted[Math.max(0, (int)Math.ceil(quantile * sorted.length) - 1)];
+			assertEquals(expected, testee.getQuantile(quantile), 0.001);
+		}
+	}
+}
@@ -17,6 +17,7 @@ import static java.awt.BorderLayout.SOUTH;
 
 import java.awt.BorderLayout;
 import java.awt.Color;
+import java.awt.GridLayout;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.util.List;
@@ -30,6 +31,8 @@ import tw.funymph.jsway.StyledToolBar;
 import tw.funymph.jsway.color.AddibleLeveledColors;
 import tw.funymph.jsway.color.ShowColorChooserAction;
 import tw.funymph.jsway.memory.*;
+import tw.funymph.jsway.metric.ContainerMemoryMonitor;
+import tw.funymph.jsway.metric.MetricLineChart;
 import tw.funymph.jsway.property.*;
 import tw.funymph.jsway.property.editor.CategorizedPropertiesDialogPanel;
 import tw.funymph.jsway.property.editor.CategorizedPropertiesEditPanel;
@@ -73,6 +76,7 @@ public class SwayDemoFrame extends JFrame implements ActionListener {
 	private MemoryUsageMonitor monitor;
 	private MemoryUsageMonitorBarModel mointorBarModel;
 	private RecentMemoryUsageLineChart historyLineChart;
+	private MetricLineChart processMemoryChart;
 	private SimpleMultiLanguageSupport colorPropertyText;
 	private SimpleMultiLanguageSupport colorCategoryText;
 	private SimpleMultiLanguageSupport propertiesCategoryText;
@@ -237,7 +241,14 @@ public class SwayDemoFrame extends JFrame implements ActionListener {
 		historyLineChart = new RecentMemoryUsageLineChart(history);
 		historyLineChart.setColors(colors);
 		historyLineChart.setUseColorsToDrawStatisticData(true);
-		pages.add("Recent Memory Usage", historyLineChart);
+		JPanel usagePanel = new JPanel(new GridLayout(0, 1));
+		usagePanel.add(historyLineChart);
+		ContainerMemoryMonitor processMonitor = new ContainerMemoryMonitor();
+		if(processMonitor.isSupported()) {
+			processMemoryChart = new MetricLineChart(processMonitor);
+			usagePanel.add(processMemoryChart);
+		}
+		pages.add("Recent Memory Usage", usagePanel);
 		showTextualColorChooserAction = new ShowColorChooserAction(historyLineChart.getTextualColorProperty());
 		showBackgroundColorChooserAction = new ShowColorChooserAction(historyLineChart.getBackgroundColorProperty());
 		showForegroundColorChooserAction = new ShowColorChooserAction(historyLineChart.getForegroundColorProperty());